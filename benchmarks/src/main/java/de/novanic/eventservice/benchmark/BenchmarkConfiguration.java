@@ -0,0 +1,64 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.benchmark;
+
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+
+/**
+ * Creates the {@link de.novanic.eventservice.config.EventServiceConfiguration} for the benchmarks. The max. waiting time
+ * is 0, so a listen call returns immediately and the timeout time is high enough to avoid timeouts while measuring.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+public final class BenchmarkConfiguration
+{
+    private static final int TIMEOUT_TIME = 24 * 60 * 60 * 1000;
+    private static final int MAX_EVENTS = 1000;
+
+    private BenchmarkConfiguration() {}
+
+    /**
+     * Creates a configuration with the events queued per user/client.
+     * @return configuration
+     */
+    public static EventServiceConfiguration create() {
+        return create(false);
+    }
+
+    /**
+     * Creates a configuration.
+     * @param isSharedEventLog true when the events of a domain should be held in a shared log
+     * @return configuration
+     */
+    public static EventServiceConfiguration create(boolean isSharedEventLog) {
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("BenchmarkConfiguration", 0, 0, TIMEOUT_TIME, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8",
+                MAX_EVENTS);
+        theConfiguration.setSharedEventLog(isSharedEventLog);
+        return theConfiguration;
+    }
+}
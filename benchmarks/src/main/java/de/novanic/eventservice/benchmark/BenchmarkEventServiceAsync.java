@@ -0,0 +1,184 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.benchmark;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.config.RemoteEventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory {@link de.novanic.eventservice.client.event.service.EventServiceAsync} which replaces the server side for
+ * the client benchmarks. All server calls are finished synchronously with success. The listen callback is held back,
+ * so the benchmarks can deliver the events ({@link BenchmarkEventServiceAsync#getListenCallback()}) like a listen
+ * response of the server. The init call can also be held back to measure the queueing of the commands which are
+ * scheduled till the session is initialized.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:06:29
+ */
+public class BenchmarkEventServiceAsync implements EventServiceAsync
+{
+    private final EventServiceConfigurationTransferable myConfiguration;
+    private final boolean isInitDeferred;
+    private AsyncCallback<EventServiceConfigurationTransferable> myInitCallback;
+    private AsyncCallback<List<DomainEvent>> myListenCallback;
+    private long myServerCallCount;
+
+    public BenchmarkEventServiceAsync() {
+        this(false);
+    }
+
+    public BenchmarkEventServiceAsync(boolean isInitDeferred) {
+        myConfiguration = new RemoteEventServiceConfigurationTransferable(0, 20000, 90000, 2, null, DefaultClientConnector.class.getName());
+        this.isInitDeferred = isInitDeferred;
+    }
+
+    /**
+     * Finishes the held back init call.
+     */
+    public void finishInit() {
+        final AsyncCallback<EventServiceConfigurationTransferable> theInitCallback = myInitCallback;
+        myInitCallback = null;
+        theInitCallback.onSuccess(myConfiguration);
+    }
+
+    /**
+     * Returns the callback of the last listen call. The events are delivered to the client with
+     * {@link com.google.gwt.user.client.rpc.AsyncCallback#onSuccess(Object)} which causes the next listen call.
+     * @return callback of the last listen call, NULL when the client doesn't listen
+     */
+    public AsyncCallback<List<DomainEvent>> getListenCallback() {
+        return myListenCallback;
+    }
+
+    /**
+     * Returns the amount of finished server calls (without init and listen calls).
+     * @return amount of finished server calls
+     */
+    public long getServerCallCount() {
+        return myServerCallCount;
+    }
+
+    public void initEventService(AsyncCallback<EventServiceConfigurationTransferable> async) {
+        if(isInitDeferred) {
+            myInitCallback = async;
+        } else {
+            async.onSuccess(myConfiguration);
+        }
+    }
+
+    public void register(Domain aDomain, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void register(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void register(Set<Domain> aDomains, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void register(Set<Domain> aDomains, EventFilter anEventFilter, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void registerUnlistenEvent(UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void registerEventFilter(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void deregisterEventFilter(Domain aDomain, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void getEventFilter(Domain aDomain, AsyncCallback<EventFilter> async) {
+        finish(async, null);
+    }
+
+    public void listen(AsyncCallback<List<DomainEvent>> async) {
+        myListenCallback = async;
+    }
+
+    public void unlisten(AsyncCallback<Void> async) {
+        myListenCallback = null;
+        finish(async, null);
+    }
+
+    public void unlisten(Domain aDomain, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void unlisten(Set<Domain> aDomains, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void isUserRegistered(Domain aDomain, AsyncCallback<Boolean> async) {
+        finish(async, Boolean.TRUE);
+    }
+
+    public void addEvent(Domain aDomain, Event anEvent, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void addEvents(Domain aDomain, List<Event> anEvents, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void addEventUserSpecific(Event anEvent, AsyncCallback<Void> async) {
+        finish(async, null);
+    }
+
+    public void getActiveListenDomains(AsyncCallback<Set<Domain>> async) {
+        finish(async, Collections.<Domain>emptySet());
+    }
+
+    public void executeBatch(List<EventServiceOperation> anOperations, AsyncCallback<List<String>> async) {
+        //all operations are successful (NULL as error message)
+        finish(async, new ArrayList<String>(Collections.<String>nCopies(anOperations.size(), null)));
+    }
+
+    private <R> void finish(AsyncCallback<R> aCallback, R aResult) {
+        myServerCallCount++;
+        if(aCallback != null) {
+            aCallback.onSuccess(aResult);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.benchmark;
+
+import de.novanic.eventservice.client.event.command.ClientCommand;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandScheduler;
+
+/**
+ * {@link de.novanic.eventservice.client.event.command.schedule.ClientCommandScheduler} which executes the commands
+ * directly within the calling thread, so the client side can be measured without a browser (GWT timers).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:06:29
+ */
+public class DirectCommandScheduler implements ClientCommandScheduler
+{
+    public void schedule(ClientCommand<?> aCommand) {
+        schedule(aCommand, 0);
+    }
+
+    public void schedule(ClientCommand<?> aCommand, int aDelay) {
+        aCommand.execute();
+    }
+
+    public void scheduleFinally(ClientCommand<?> aCommand) {
+        aCommand.execute();
+    }
+}
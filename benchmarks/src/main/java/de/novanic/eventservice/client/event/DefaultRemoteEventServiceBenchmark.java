@@ -0,0 +1,147 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event;
+
+import de.novanic.eventservice.benchmark.BenchmarkEvent;
+import de.novanic.eventservice.benchmark.BenchmarkEventServiceAsync;
+import de.novanic.eventservice.benchmark.DirectCommandScheduler;
+import de.novanic.eventservice.client.config.ConfigurationTransferableDependentFactory;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandSchedulerFactory;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.listener.RemoteEventListener;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the client side dispatching of {@link DefaultRemoteEventService} without a browser. The server side is
+ * replaced by a {@link de.novanic.eventservice.benchmark.BenchmarkEventServiceAsync} behind the
+ * {@link GWTRemoteEventConnector}, so the events are delivered through the listen callback of the
+ * {@link DefaultRemoteEventConnector} to the registered listeners like a listen response of the server. The commands
+ * are executed directly ({@link de.novanic.eventservice.benchmark.DirectCommandScheduler}).
+ * The dispatch results are events per microsecond, the listener churn measures a registration and removal of a
+ * listener for a domain with further listeners (copy-on-write listener lists).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:06:29
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DefaultRemoteEventServiceBenchmark
+{
+    static final int BATCH_SIZE = 100;
+
+    private static final Domain BENCHMARK_DOMAIN = DomainFactory.getDomain("benchmark_domain");
+
+    @Param({"1", "10", "100"})
+    private int myListenerCount;
+
+    private BenchmarkEventServiceAsync myEventService;
+    private DefaultRemoteEventService myRemoteEventService;
+    private List<CountingListener> myListeners;
+    private RemoteEventListener myChurnListener;
+    private List<DomainEvent> myEvent;
+    private List<DomainEvent> myEventBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClientCommandSchedulerFactory.getInstance().setClientCommandSchedulerInstance(new DirectCommandScheduler());
+        ConfigurationTransferableDependentFactory.reset();
+
+        myEventService = new BenchmarkEventServiceAsync();
+        myRemoteEventService = createRemoteEventService(myEventService);
+        myListeners = new ArrayList<CountingListener>(myListenerCount);
+        for(int i = 0; i < myListenerCount; i++) {
+            CountingListener theListener = new CountingListener();
+            myRemoteEventService.addListener(BENCHMARK_DOMAIN, theListener);
+            myListeners.add(theListener);
+        }
+        if(myEventService.getListenCallback() == null) {
+            throw new IllegalStateException("The client doesn't listen after the registration of the listeners!");
+        }
+        myChurnListener = new CountingListener();
+
+        final DomainEvent theDomainEvent = new DefaultDomainEvent(new BenchmarkEvent(), BENCHMARK_DOMAIN);
+        myEvent = Collections.singletonList(theDomainEvent);
+        myEventBatch = new ArrayList<DomainEvent>(BATCH_SIZE);
+        for(int i = 0; i < BATCH_SIZE; i++) {
+            myEventBatch.add(theDomainEvent);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        final long theEventCount = myListeners.get(0).myEventCount;
+        for(CountingListener theListener: myListeners) {
+            if(theListener.myEventCount != theEventCount) {
+                throw new IllegalStateException("The listeners received different amounts of events!");
+            }
+        }
+        ClientCommandSchedulerFactory.getInstance().reset();
+        ConfigurationTransferableDependentFactory.reset();
+    }
+
+    @Benchmark
+    public void dispatchEvent() {
+        myEventService.getListenCallback().onSuccess(myEvent);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void dispatchEventBatch() {
+        myEventService.getListenCallback().onSuccess(myEventBatch);
+    }
+
+    @Benchmark
+    public void addAndRemoveListener() {
+        myRemoteEventService.addListener(BENCHMARK_DOMAIN, myChurnListener);
+        myRemoteEventService.removeListener(BENCHMARK_DOMAIN, myChurnListener);
+    }
+
+    static DefaultRemoteEventService createRemoteEventService(final EventServiceAsync anEventService) {
+        return new DefaultRemoteEventService(new GWTRemoteEventConnector(new EventServiceCreator() {
+            public EventServiceAsync createEventService() {
+                return anEventService;
+            }
+        }) {}) {};
+    }
+
+    private static final class CountingListener implements RemoteEventListener
+    {
+        private long myEventCount;
+
+        public void apply(Event anEvent) {
+            myEventCount++;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event;
+
+import de.novanic.eventservice.benchmark.BenchmarkEvent;
+import de.novanic.eventservice.benchmark.BenchmarkEventServiceAsync;
+import de.novanic.eventservice.benchmark.DirectCommandScheduler;
+import de.novanic.eventservice.client.config.ConfigurationTransferableDependentFactory;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandSchedulerFactory;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the command queue of {@link RemoteEventServiceAccessor} with
+ * {@link DefaultRemoteEventService#addEvent(de.novanic.eventservice.client.event.domain.Domain, Event)}.
+ * The server side is replaced by a {@link de.novanic.eventservice.benchmark.BenchmarkEventServiceAsync} and the
+ * commands are executed directly ({@link de.novanic.eventservice.benchmark.DirectCommandScheduler}).
+ * The "addEvent" benchmark measures the commands of an initialized session, the "queueUntilInit" benchmark queues
+ * {@link RemoteEventServiceAccessorBenchmark#COMMAND_COUNT} commands while the init call is pending and executes them
+ * when the init call is finished. The results are commands per microsecond.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:06:29
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class RemoteEventServiceAccessorBenchmark
+{
+    static final int COMMAND_COUNT = 1000;
+
+    private static final Domain BENCHMARK_DOMAIN = DomainFactory.getDomain("benchmark_domain");
+
+    private BenchmarkEventServiceAsync myEventService;
+    private DefaultRemoteEventService myRemoteEventService;
+    private Event myEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClientCommandSchedulerFactory.getInstance().setClientCommandSchedulerInstance(new DirectCommandScheduler());
+        ConfigurationTransferableDependentFactory.reset();
+
+        myEventService = new BenchmarkEventServiceAsync();
+        myRemoteEventService = DefaultRemoteEventServiceBenchmark.createRemoteEventService(myEventService);
+        myEvent = new BenchmarkEvent();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ClientCommandSchedulerFactory.getInstance().reset();
+        ConfigurationTransferableDependentFactory.reset();
+    }
+
+    @Benchmark
+    public void addEvent() {
+        myRemoteEventService.addEvent(BENCHMARK_DOMAIN, myEvent);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMAND_COUNT)
+    public long queueUntilInit() {
+        BenchmarkEventServiceAsync theEventService = new BenchmarkEventServiceAsync(true);
+        DefaultRemoteEventService theRemoteEventService = DefaultRemoteEventServiceBenchmark.createRemoteEventService(theEventService);
+        for(int i = 0; i < COMMAND_COUNT; i++) {
+            theRemoteEventService.addEvent(BENCHMARK_DOMAIN, myEvent);
+        }
+        theEventService.finishInit();
+        if(theEventService.getServerCallCount() != COMMAND_COUNT) {
+            throw new IllegalStateException("Only " + theEventService.getServerCallCount() + " of " + COMMAND_COUNT + " commands were executed!");
+        }
+        return theEventService.getServerCallCount();
+    }
+}
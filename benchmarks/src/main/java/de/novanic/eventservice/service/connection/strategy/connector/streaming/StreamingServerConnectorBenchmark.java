@@ -0,0 +1,115 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.connection.strategy.connector.streaming;
+
+import de.novanic.eventservice.benchmark.BenchmarkConfiguration;
+import de.novanic.eventservice.benchmark.BenchmarkEvent;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import org.openjdk.jmh.annotations.*;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and escaping of events by the {@link StreamingServerConnector}. Every operation streams
+ * a block of events to a response which discards the written data. The max. waiting time is 0, so the listen call
+ * returns after the events are streamed.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class StreamingServerConnectorBenchmark
+{
+    private static final Domain BENCHMARK_DOMAIN = DomainFactory.getDomain("benchmark_domain");
+
+    @Param({"1", "100"})
+    private int myEventCount;
+
+    @Param({"16", "1024"})
+    private int myPayloadLength;
+
+    private StreamingServerConnector myStreamingServerConnector;
+    private HttpServletResponse myResponse;
+    private UserInfo myUserInfo;
+    private BenchmarkEvent myEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws EventServiceException {
+        myStreamingServerConnector = new StreamingServerConnector(BenchmarkConfiguration.create());
+        myResponse = createResponse();
+        myUserInfo = new UserInfo("benchmark_user");
+
+        StringBuilder thePayload = new StringBuilder(myPayloadLength);
+        while(thePayload.length() < myPayloadLength) {
+            thePayload.append(BenchmarkEvent.DEFAULT_PAYLOAD);
+        }
+        thePayload.setLength(myPayloadLength);
+        myEvent = new BenchmarkEvent(thePayload.toString());
+    }
+
+    @Benchmark
+    public List<DomainEvent> listen() throws EventServiceException {
+        for(int i = 0; i < myEventCount; i++) {
+            myUserInfo.addEvent(BENCHMARK_DOMAIN, myEvent);
+        }
+        myStreamingServerConnector.prepare(myResponse);
+        return myStreamingServerConnector.listen(myUserInfo);
+    }
+
+    /**
+     * Creates a response which discards the written data.
+     * @return response
+     */
+    private static HttpServletResponse createResponse() {
+        final ServletOutputStream theOutputStream = new ServletOutputStream() {
+            public void write(int aByte) throws IOException {}
+
+            public void write(byte[] aBytes, int anOffset, int aLength) throws IOException {}
+        };
+        return (HttpServletResponse)Proxy.newProxyInstance(StreamingServerConnectorBenchmark.class.getClassLoader(),
+                new Class<?>[] {HttpServletResponse.class}, new InvocationHandler() {
+                    public Object invoke(Object aProxy, Method aMethod, Object[] anArguments) {
+                        if("getOutputStream".equals(aMethod.getName())) {
+                            return theOutputStream;
+                        }
+                        return null;
+                    }
+                });
+    }
+}
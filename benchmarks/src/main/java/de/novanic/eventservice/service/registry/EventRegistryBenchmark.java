@@ -0,0 +1,112 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry;
+
+import de.novanic.eventservice.benchmark.BenchmarkConfiguration;
+import de.novanic.eventservice.benchmark.BenchmarkEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the fan-out of {@link DefaultEventRegistry#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)}
+ * depending on the amount of users of the domain and the amount of users with an EventFilter.
+ * The events are added in batches (single shot) and the queues of the users are cleared before every batch, so the
+ * heap doesn't grow while measuring. The result is the time per batch of {@link EventRegistryBenchmark#BATCH_SIZE} events.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 20, batchSize = EventRegistryBenchmark.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = EventRegistryBenchmark.BATCH_SIZE)
+public class EventRegistryBenchmark
+{
+    static final int BATCH_SIZE = 100;
+
+    private static final Domain BENCHMARK_DOMAIN = DomainFactory.getDomain("benchmark_domain");
+
+    @Param({"10", "1000", "10000"})
+    private int myUserCount;
+
+    @Param({"0", "50", "100"})
+    private int myFilteredUserPercentage;
+
+    @Param({"false", "true"})
+    private boolean isSharedEventLog;
+
+    private EventRegistry myEventRegistry;
+    private UserManager myUserManager;
+    private Event myEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EventServiceConfiguration theConfiguration = BenchmarkConfiguration.create(isSharedEventLog);
+        myUserManager = new DefaultUserManager(theConfiguration.getTimeoutTime());
+        myEventRegistry = new DefaultEventRegistry(theConfiguration, myUserManager) {};
+        myEvent = new BenchmarkEvent();
+
+        final int theFilteredUserCount = myUserCount * myFilteredUserPercentage / 100;
+        for(int i = 0; i < myUserCount; i++) {
+            myEventRegistry.registerUser(BENCHMARK_DOMAIN, "user_" + i, (i < theFilteredUserCount) ? new PassEventFilter() : null);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearEvents() {
+        for(UserInfo theUserInfo: myUserManager.getUsers()) {
+            while(!theUserInfo.retrieveEvents(Integer.MAX_VALUE).isEmpty()) {}
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        myUserManager.reset();
+    }
+
+    @Benchmark
+    public void addEvent() {
+        myEventRegistry.addEvent(BENCHMARK_DOMAIN, myEvent);
+    }
+
+    /**
+     * EventFilter which is evaluated for every event and lets pass all events.
+     */
+    private static class PassEventFilter implements EventFilter
+    {
+        public boolean match(Event anEvent) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the register/unregister churn of {@link DomainUserMapping}. The mapping is filled with users which are
+ * registered to several domains and every operation registers and unregisters one user for one domain. The benchmark
+ * is executed with several threads to cover the contention on the domain maps.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(4)
+public class DomainUserMappingBenchmark
+{
+    private static final int CHURN_USER_COUNT = 1024;
+
+    @Param({"1", "10"})
+    private int myDomainCount;
+
+    @Param({"1000", "10000"})
+    private int myUserCount;
+
+    private DomainUserMapping myDomainUserMapping;
+    private Domain[] myDomains;
+    private UserInfo[] myChurnUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        myDomainUserMapping = new DomainUserMapping();
+        myDomains = new Domain[myDomainCount];
+        for(int i = 0; i < myDomainCount; i++) {
+            myDomains[i] = DomainFactory.getDomain("benchmark_domain_" + i);
+        }
+        for(int i = 0; i < myUserCount; i++) {
+            UserInfo theUserInfo = new UserInfo("user_" + i);
+            for(Domain theDomain: myDomains) {
+                myDomainUserMapping.addUser(theDomain, theUserInfo);
+            }
+        }
+        myChurnUsers = new UserInfo[CHURN_USER_COUNT];
+        for(int i = 0; i < CHURN_USER_COUNT; i++) {
+            myChurnUsers[i] = new UserInfo("churn_user_" + i);
+        }
+    }
+
+    /**
+     * The state of a benchmark thread which selects the next user and domain for the churn.
+     */
+    @State(Scope.Thread)
+    public static class ChurnState
+    {
+        private int myIndex;
+
+        private int next() {
+            return myIndex++;
+        }
+    }
+
+    @Benchmark
+    public boolean registerUnregister(ChurnState aChurnState) {
+        final int theIndex = aChurnState.next();
+        final UserInfo theUserInfo = myChurnUsers[theIndex & (CHURN_USER_COUNT - 1)];
+        final Domain theDomain = myDomains[theIndex % myDomains.length];
+        myDomainUserMapping.addUser(theDomain, theUserInfo);
+        return myDomainUserMapping.removeUser(theDomain, theUserInfo);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a timeout sweep of the {@link UserActivityScheduler} ({@link UserActivityScheduler#checkTimeouts()})
+ * over many users/clients. No user/client has a timeout, so the users/clients are kept for all sweeps and the
+ * result is the time to check all users/clients.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class UserActivitySchedulerBenchmark
+{
+    private static final long TIMEOUT_INTERVAL = 24L * 60L * 60L * 1000L;
+
+    @Param({"10000", "100000"})
+    private int myUserCount;
+
+    private UserManager myUserManager;
+    private UserActivityScheduler myUserActivityScheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        myUserManager = new DefaultUserManager(TIMEOUT_INTERVAL);
+        for(int i = 0; i < myUserCount; i++) {
+            myUserManager.addUser("user_" + i);
+        }
+        //the scheduler isn't started, the sweeps are triggered by the benchmark
+        myUserActivityScheduler = myUserManager.getUserActivityScheduler();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        myUserManager.reset();
+    }
+
+    @Benchmark
+    public void checkTimeouts() {
+        myUserActivityScheduler.checkTimeouts();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.benchmark.BenchmarkEvent;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures {@link UserInfo#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)}
+ * and {@link UserInfo#retrieveEvents(int)} with several producers and one consumer (multi-producer single-consumer)
+ * like the EventRegistry (publisher threads) and the listen call of a client.
+ * The producers wait when more than {@link UserInfoBenchmark#MAX_PENDING_EVENTS} events are pending, so the queue
+ * doesn't grow unbounded when the consumer is slower than the producers.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:17:20
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class UserInfoBenchmark
+{
+    private static final int MAX_PENDING_EVENTS = 100000;
+    private static final int MAX_EVENTS = 1000;
+    private static final Domain BENCHMARK_DOMAIN = DomainFactory.getDomain("benchmark_domain");
+
+    private UserInfo myUserInfo;
+    private AtomicInteger myPendingEventCount;
+    private Event myEvent;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        myUserInfo = new UserInfo("benchmark_user");
+        myPendingEventCount = new AtomicInteger();
+        myEvent = new BenchmarkEvent();
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public void addEvent(Control aControl) {
+        while(myPendingEventCount.get() > MAX_PENDING_EVENTS && !aControl.stopMeasurement) {
+            Thread.yield();
+        }
+        myUserInfo.addEvent(BENCHMARK_DOMAIN, myEvent);
+        myPendingEventCount.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public List<DomainEvent> retrieveEvents() {
+        List<DomainEvent> theEvents = myUserInfo.retrieveEvents(MAX_EVENTS);
+        myPendingEventCount.addAndGet(-theEvents.size());
+        return theEvents;
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public List<DomainEvent> addAndRetrieveEvent() {
+        myUserInfo.addEvent(BENCHMARK_DOMAIN, myEvent);
+        return myUserInfo.retrieveEvents(MAX_EVENTS);
+    }
+}
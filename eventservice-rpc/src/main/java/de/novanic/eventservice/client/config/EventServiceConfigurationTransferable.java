@@ -60,6 +60,19 @@ public interface EventServiceConfigurationTransferable extends Serializable
      */
     Integer getReconnectAttemptCount();
 
+    /**
+     * Returns the base delay before a reconnect attempt (in milliseconds). The delay is doubled with every further
+     * attempt (exponential backoff) and a random part of it is used (full jitter).
+     * @return base delay before a reconnect attempt, NULL when the reconnect is executed directly
+     */
+    Integer getReconnectDelay();
+
+    /**
+     * Returns the max. delay before a reconnect attempt (in milliseconds). The exponential backoff doesn't exceed that delay.
+     * @return max. delay before a reconnect attempt, NULL when the backoff isn't limited
+     */
+    Integer getReconnectDelayMax();
+
     /**
      * Returns the connection / client id.
      * @return connection / client id
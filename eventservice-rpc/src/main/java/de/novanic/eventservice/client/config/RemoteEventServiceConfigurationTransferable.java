@@ -37,6 +37,8 @@ public class RemoteEventServiceConfigurationTransferable implements EventService
     private Integer myMaxWaitingTime;
     private Integer myTimeoutTime;
     private Integer myReconnectAttemptCount;
+    private Integer myReconnectDelay;
+    private Integer myReconnectDelayMax;
     private String myConnectionId;
     private String myConnectionStrategyClientConnector;
 
@@ -56,6 +58,25 @@ public class RemoteEventServiceConfigurationTransferable implements EventService
      */
     public RemoteEventServiceConfigurationTransferable(int aMinWaitingTime, int aMaxWaitingTime, int aTimeoutTime, int aReconnectAttemptCount,
                                                        String aConnectionId, String aConnectionStrategyClientConnector) {
+        this(aMinWaitingTime, aMaxWaitingTime, aTimeoutTime, aReconnectAttemptCount, null, null, aConnectionId, aConnectionStrategyClientConnector);
+    }
+
+    /**
+     * Creates a new RemoteEventServiceConfigurationTransferable.
+     * @param aMinWaitingTime min waiting time before listen returns (in milliseconds)
+     * @param aMaxWaitingTime max waiting time before listen returns, when no events recognized (in milliseconds)
+     * @param aTimeoutTime timeout time for a listen cycle (in milliseconds)
+     * @param aReconnectAttemptCount number of reconnect attempts to execute
+     * @param aReconnectDelay base delay before a reconnect attempt (in milliseconds, optional, can be NULL)
+     * @param aReconnectDelayMax max. delay before a reconnect attempt (in milliseconds, optional, can be NULL)
+     * @param aConnectionId unique id to identify the client
+     * @param aConnectionStrategyClientConnector class name of the configured connection strategy (client side part)
+     */
+    public RemoteEventServiceConfigurationTransferable(int aMinWaitingTime, int aMaxWaitingTime, int aTimeoutTime, int aReconnectAttemptCount,
+                                                       Integer aReconnectDelay, Integer aReconnectDelayMax,
+                                                       String aConnectionId, String aConnectionStrategyClientConnector) {
+        myReconnectDelay = aReconnectDelay;
+        myReconnectDelayMax = aReconnectDelayMax;
         myMinWaitingTime = aMinWaitingTime;
         myMaxWaitingTime = aMaxWaitingTime;
         myTimeoutTime = aTimeoutTime;
@@ -97,6 +118,23 @@ public class RemoteEventServiceConfigurationTransferable implements EventService
         return myReconnectAttemptCount;
     }
 
+    /**
+     * Returns the base delay before a reconnect attempt (in milliseconds). The delay is doubled with every further
+     * attempt (exponential backoff) and a random part of it is used (full jitter).
+     * @return base delay before a reconnect attempt, NULL when the reconnect is executed directly
+     */
+    public Integer getReconnectDelay() {
+        return myReconnectDelay;
+    }
+
+    /**
+     * Returns the max. delay before a reconnect attempt (in milliseconds). The exponential backoff doesn't exceed that delay.
+     * @return max. delay before a reconnect attempt, NULL when the backoff isn't limited
+     */
+    public Integer getReconnectDelayMax() {
+        return myReconnectDelayMax;
+    }
+
     /**
      * Returns the connection / client id.
      * @return connection / client id
@@ -138,6 +176,12 @@ public class RemoteEventServiceConfigurationTransferable implements EventService
         if(myTimeoutTime != null ? !myTimeoutTime.equals(theOther.myTimeoutTime) : theOther.myTimeoutTime != null) {
             return false;
         }
+        if(myReconnectDelay != null ? !myReconnectDelay.equals(theOther.myReconnectDelay) : theOther.myReconnectDelay != null) {
+            return false;
+        }
+        if(myReconnectDelayMax != null ? !myReconnectDelayMax.equals(theOther.myReconnectDelayMax) : theOther.myReconnectDelayMax != null) {
+            return false;
+        }
         return true;
     }
 
@@ -146,6 +190,8 @@ public class RemoteEventServiceConfigurationTransferable implements EventService
         theResult = 31 * theResult + (myMaxWaitingTime != null ? myMaxWaitingTime.hashCode() : 0);
         theResult = 31 * theResult + (myTimeoutTime != null ? myTimeoutTime.hashCode() : 0);
         theResult = 31 * theResult + (myReconnectAttemptCount != null ? myReconnectAttemptCount.hashCode() : 0);
+        theResult = 31 * theResult + (myReconnectDelay != null ? myReconnectDelay.hashCode() : 0);
+        theResult = 31 * theResult + (myReconnectDelayMax != null ? myReconnectDelayMax.hashCode() : 0);
         theResult = 31 * theResult + (myConnectionId != null ? myConnectionId.hashCode() : 0);
         return theResult;
     }
@@ -123,4 +123,16 @@ public interface RemoteEventConnector
      * @param aCallback callback
      */
     void deregisterEventFilter(Domain aDomain, AsyncCallback<Void> aCallback);
+
+    /**
+     * Starts collecting the following server calls (registrations, events, deactivations, etc.) instead of executing them
+     * directly. The collected calls are executed with one server call by {@link #finishBatch()}.
+     */
+    void startBatch();
+
+    /**
+     * Executes all server calls which were collected since {@link #startBatch()} with one server call and
+     * returns to the direct execution of server calls.
+     */
+    void finishBatch();
 }
\ No newline at end of file
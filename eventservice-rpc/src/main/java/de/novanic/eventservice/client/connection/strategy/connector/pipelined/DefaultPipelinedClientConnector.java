@@ -0,0 +1,205 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.strategy.connector.pipelined;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link ConnectionStrategyClientConnector} listens for occurred events ({@link de.novanic.eventservice.client.event.Event})
+ * of the server side and has the task to encode / process the transferred events at the client side.
+ *
+ * The {@link de.novanic.eventservice.client.connection.strategy.connector.pipelined.DefaultPipelinedClientConnector} is an
+ * abstract implementation of pipelined long-polling and needs an implementation to send the sequence number of a listen request
+ * to the server side (see {@link DefaultPipelinedClientConnector#SEQUENCE_HEADER}).
+ *
+ * Pipelined long-polling means that a second listen request is kept in flight. Events which occur while the client processes
+ * the response of a listen request are returned by the second listen request without waiting for a full round trip. The
+ * server side ensures that only one listen request holds the events at a time and the responses are passed to the callback
+ * in the order of the listen requests.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+public abstract class DefaultPipelinedClientConnector implements ConnectionStrategyClientConnector
+{
+    /**
+     * Request header which contains the sequence number of a pipelined listen request.
+     */
+    public static final String SEQUENCE_HEADER = "X-GWTEventService-Listen-Sequence";
+
+    private static final int PIPELINE_DEPTH = 2;
+
+    private final Map<Long, ListenResult> myListenResults;
+    private AsyncCallback<List<DomainEvent>> myCallback;
+    private long myNextRequestSequenceNumber;
+    private long myNextResultSequenceNumber;
+    private int myPipelineGeneration;
+    private boolean isInitialized;
+
+    /**
+     * Creates a new {@link de.novanic.eventservice.client.connection.strategy.connector.pipelined.DefaultPipelinedClientConnector}.
+     */
+    protected DefaultPipelinedClientConnector() {
+        myListenResults = new HashMap<Long, ListenResult>();
+    }
+
+    /**
+     * Initializes the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} with
+     * the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}.
+     * @param anEventService the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     */
+    public void init(EventServiceAsync anEventService) {
+        isInitialized = true;
+    }
+
+    /**
+     * Deactivates the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector}.
+     * The responses of the listen requests which are still in flight are ignored.
+     */
+    public void deactivate() {
+        myCallback = null;
+        myListenResults.clear();
+        myNextResultSequenceNumber = myNextRequestSequenceNumber;
+        myPipelineGeneration++;
+    }
+
+    /**
+     * Checks if the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized.
+     * @return true when the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized, otherwise false
+     */
+    public boolean isInitialized() {
+        return isInitialized;
+    }
+
+    /**
+     * The listen method implements the listen / connection strategy to receive occurred events. The occurred events
+     * will be passed to the {@link de.novanic.eventservice.client.event.listener.EventNotification} and to the callback.
+     *
+     * That implementation sends listen requests until two listen requests are in flight. The callback is notified with
+     * the response of the oldest listen request. When that response is already available, the callback is notified directly.
+     * @param anEventNotification {@link de.novanic.eventservice.client.event.listener.EventNotification} which will be notified about occurred / received events
+     * @param aCallback The callback will be notified about occurred / received events.
+     */
+    public void listen(EventNotification anEventNotification, AsyncCallback<List<DomainEvent>> aCallback) {
+        myCallback = aCallback;
+        while(myNextRequestSequenceNumber - myNextResultSequenceNumber < PIPELINE_DEPTH) {
+            final long theSequenceNumber = myNextRequestSequenceNumber++;
+            listen(theSequenceNumber, new PipelinedListenCallback(theSequenceNumber, myPipelineGeneration));
+        }
+        notifyCallback();
+    }
+
+    /**
+     * Returns the count of the listen requests which are in flight or which responses aren't passed to the callback.
+     * @return count of pending listen requests
+     */
+    public int getPendingListenCount() {
+        return (int)(myNextRequestSequenceNumber - myNextResultSequenceNumber);
+    }
+
+    /**
+     * That method has to be implemented by the extending implementation to send a listen request with the sequence number
+     * (see {@link DefaultPipelinedClientConnector#SEQUENCE_HEADER}).
+     * @param aSequenceNumber sequence number of the listen request
+     * @param aCallback callback for the response of the listen request
+     */
+    protected abstract void listen(long aSequenceNumber, AsyncCallback<List<DomainEvent>> aCallback);
+
+    /**
+     * Stores the response of a listen request and notifies the callback when the response is the next one in order.
+     * @param aSequenceNumber sequence number of the listen request
+     * @param aPipelineGeneration generation of the pipeline of the listen request
+     * @param aListenResult response of the listen request
+     */
+    private void addListenResult(long aSequenceNumber, int aPipelineGeneration, ListenResult aListenResult) {
+        if(aPipelineGeneration == myPipelineGeneration) {
+            myListenResults.put(aSequenceNumber, aListenResult);
+            notifyCallback();
+        }
+    }
+
+    /**
+     * Notifies the callback about the response of the oldest pending listen request, when that response is available.
+     */
+    private void notifyCallback() {
+        if(myCallback != null) {
+            final ListenResult theListenResult = myListenResults.remove(myNextResultSequenceNumber);
+            if(theListenResult != null) {
+                myNextResultSequenceNumber++;
+                final AsyncCallback<List<DomainEvent>> theCallback = myCallback;
+                myCallback = null;
+                if(theListenResult.myThrowable != null) {
+                    theCallback.onFailure(theListenResult.myThrowable);
+                } else {
+                    theCallback.onSuccess(theListenResult.myEvents);
+                }
+            }
+        }
+    }
+
+    /**
+     * Response of a listen request (events or failure).
+     */
+    private static final class ListenResult
+    {
+        private final List<DomainEvent> myEvents;
+        private final Throwable myThrowable;
+
+        private ListenResult(List<DomainEvent> anEvents, Throwable aThrowable) {
+            myEvents = anEvents;
+            myThrowable = aThrowable;
+        }
+    }
+
+    /**
+     * Callback for a single listen request of the pipeline.
+     */
+    private class PipelinedListenCallback implements AsyncCallback<List<DomainEvent>>
+    {
+        private final long mySequenceNumber;
+        private final int myPipelineGeneration;
+
+        private PipelinedListenCallback(long aSequenceNumber, int aPipelineGeneration) {
+            mySequenceNumber = aSequenceNumber;
+            myPipelineGeneration = aPipelineGeneration;
+        }
+
+        public void onSuccess(List<DomainEvent> anEvents) {
+            addListenResult(mySequenceNumber, myPipelineGeneration, new ListenResult(anEvents, null));
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            addListenResult(mySequenceNumber, myPipelineGeneration, new ListenResult(null, aThrowable));
+        }
+    }
+}
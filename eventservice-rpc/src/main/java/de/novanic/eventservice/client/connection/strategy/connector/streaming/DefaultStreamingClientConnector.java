@@ -24,7 +24,10 @@ package de.novanic.eventservice.client.connection.strategy.connector.streaming;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
 import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.listener.SelectiveEventNotification;
 import de.novanic.eventservice.client.event.service.EventServiceAsync;
 
 import java.util.ArrayList;
@@ -49,6 +52,25 @@ public abstract class DefaultStreamingClientConnector implements ConnectionStrat
 {
 	protected static final String CYCLE_TAG = "cycle";
 
+    /**
+     * Request parameter to request the streaming connection strategy. The server side streams the events to requests with
+     * that parameter, also when another connection strategy is configured (see adaptive connection strategies).
+     */
+    public static final String STRATEGY_PARAMETER = "strategy";
+
+    /**
+     * Value of the request parameter {@link DefaultStreamingClientConnector#STRATEGY_PARAMETER} to request the streaming
+     * connection strategy.
+     */
+    public static final String STREAMING_STRATEGY = "streaming";
+
+    /**
+     * Tag to enclose the length of the domain name which is streamed as a header in front of each serialized event
+     * ("#&lt;length&gt;#&lt;domain name&gt;&lt;serialized event&gt;", "##&lt;serialized event&gt;" for user-specific events).
+     * The header allows to skip the de-serialization of events for domains without listeners.
+     */
+    public static final char DOMAIN_HEADER_TAG = '#';
+
     private EventNotification myEventNotification;
     private AsyncCallback<List<DomainEvent>> myCallback;
     private boolean isInitialized;
@@ -98,17 +120,44 @@ public abstract class DefaultStreamingClientConnector implements ConnectionStrat
      * and notifies the callback and the {@link de.novanic.eventservice.client.event.listener.EventNotification} about the occurred
      * event, itself. The callback isn't notified about events when the cycle ({@link de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector#CYCLE_TAG})
      * is triggered, because the events were already processed to the EventNotification before.
+     * The event isn't de-serialized when the domain header of the event (see {@link DefaultStreamingClientConnector#DOMAIN_HEADER_TAG})
+     * shows that the {@link de.novanic.eventservice.client.event.listener.SelectiveEventNotification} isn't interested in the domain.
      * @param anEvent event or cycle tag ({@link de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector#CYCLE_TAG})
      */
     public void receiveEvent(String anEvent) {
     	if(CYCLE_TAG.equals(anEvent)) {
     		myCallback.onSuccess(new ArrayList<DomainEvent>(0));
     	} else {
-            DomainEvent theDeserializedEvent = deserializeEvent(anEvent);
+            String theSerializedEvent = anEvent;
+            if(anEvent != null && anEvent.length() > 0 && anEvent.charAt(0) == DOMAIN_HEADER_TAG) {
+                final int theHeaderEnd = anEvent.indexOf(DOMAIN_HEADER_TAG, 1);
+                Domain theDomain = null;
+                int theEventStart = theHeaderEnd + 1;
+                if(theHeaderEnd > 1) {
+                    final int theDomainNameLength = Integer.parseInt(anEvent.substring(1, theHeaderEnd));
+                    theDomain = DomainFactory.getDomain(anEvent.substring(theEventStart, theEventStart + theDomainNameLength));
+                    theEventStart += theDomainNameLength;
+                }
+                if(!isInterested(theDomain)) {
+                    return;
+                }
+                theSerializedEvent = anEvent.substring(theEventStart);
+            }
+            DomainEvent theDeserializedEvent = deserializeEvent(theSerializedEvent);
             myEventNotification.onNotify(theDeserializedEvent);
     	}
     }
 
+    /**
+     * Checks if the {@link de.novanic.eventservice.client.event.listener.EventNotification} processes the events of the domain.
+     * @param aDomain domain of the event, NULL for user-specific events
+     * @return true when the events of the domain are processed, otherwise false
+     */
+    private boolean isInterested(Domain aDomain) {
+        return !(myEventNotification instanceof SelectiveEventNotification)
+                || ((SelectiveEventNotification)myEventNotification).isInterested(aDomain);
+    }
+
     /**
      * That de-serialization method has to be implemented by the extending implementation to de-serialize occurred events.
      * @param anEvent event to de-serialize
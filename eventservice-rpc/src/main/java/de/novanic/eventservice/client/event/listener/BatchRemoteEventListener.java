@@ -0,0 +1,48 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event.listener;
+
+import de.novanic.eventservice.client.event.Event;
+
+import java.util.List;
+
+/**
+ * A BatchRemoteEventListener receives all events of a domain which arrived with one server response (or with the
+ * stream chunks of one event loop) with one call, instead of one call per event. The events are dispatched deferred,
+ * after the events of the response were processed, so that expensive updates (for example of the UI) can be executed
+ * once for all events.
+ * The single event method ({@link RemoteEventListener#apply(de.novanic.eventservice.client.event.Event)}) isn't called
+ * for a BatchRemoteEventListener (see {@link AbstractBatchRemoteEventListener}). Because of the deferred dispatch, events
+ * which arrived before the listener was removed can be dispatched after the removal.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:15:47
+ */
+public interface BatchRemoteEventListener extends RemoteEventListener
+{
+    /**
+     * Processes all events of a domain which arrived together.
+     * @param anEvents events to process (in the order of arrival)
+     */
+    void apply(List<Event> anEvents);
+}
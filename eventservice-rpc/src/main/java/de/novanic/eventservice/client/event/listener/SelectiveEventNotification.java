@@ -0,0 +1,43 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event.listener;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+
+/**
+ * A {@link de.novanic.eventservice.client.event.listener.SelectiveEventNotification} is an
+ * {@link de.novanic.eventservice.client.event.listener.EventNotification} which can tell in advance if the events of a domain
+ * are processed. That allows a connector to skip the de-serialization of events which would be ignored anyway.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:26:44
+ */
+public interface SelectiveEventNotification extends EventNotification
+{
+    /**
+     * Checks if the events of the domain are processed by the notification.
+     * @param aDomain domain of the events, NULL for user-specific events
+     * @return true when the events of the domain are processed, otherwise false (the events can be skipped)
+     */
+    boolean isInterested(Domain aDomain);
+}
@@ -152,6 +152,14 @@ public interface EventService extends RemoteService
      */
     void addEvent(Domain aDomain, Event anEvent);
 
+    /**
+     * Adds events for all users in the domain. The events are added with one server call and the users/clients of
+     * the domain are informed once about all events. The call has no effect when the list is NULL or empty.
+     * @param aDomain domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    void addEvents(Domain aDomain, List<Event> anEvents);
+
     /**
      * Adds an event only for the current user.
      * @param anEvent event to add to the user
@@ -163,4 +171,12 @@ public interface EventService extends RemoteService
      * @return collection of domain names
      */
     Set<Domain> getActiveListenDomains();
+
+    /**
+     * Executes the operations in the specified order with one server call. A failed operation doesn't stop the execution
+     * of the following operations.
+     * @param anOperations operations to execute
+     * @return list with one entry per operation, NULL when the operation was executed successfully, otherwise the error message
+     */
+    List<String> executeBatch(List<EventServiceOperation> anOperations);
 }
\ No newline at end of file
@@ -160,6 +160,15 @@ public interface EventServiceAsync
      */
     void addEvent(Domain aDomain, Event anEvent, AsyncCallback<Void> async);
 
+    /**
+     * Adds events for all users in the domain. The events are added with one server call and the users/clients of
+     * the domain are informed once about all events. The call has no effect when the list is NULL or empty.
+     *
+     * @param aDomain domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    void addEvents(Domain aDomain, List<Event> anEvents, AsyncCallback<Void> async);
+
     /**
      * Adds an event only for the current user.
      *
@@ -173,4 +182,12 @@ public interface EventServiceAsync
      * @return collection of domain names
      */
     void getActiveListenDomains(AsyncCallback<Set<Domain>> async);
+
+    /**
+     * Executes the operations in the specified order with one server call. A failed operation doesn't stop the execution
+     * of the following operations.
+     *
+     * @param anOperations operations to execute
+     */
+    void executeBatch(List<EventServiceOperation> anOperations, AsyncCallback<List<String>> async);
 }
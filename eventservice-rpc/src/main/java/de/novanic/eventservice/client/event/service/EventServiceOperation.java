@@ -0,0 +1,242 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event.service;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * An EventServiceOperation describes a single call of the {@link de.novanic.eventservice.client.event.service.EventService}
+ * which can be transferred together with other operations via
+ * {@link de.novanic.eventservice.client.event.service.EventService#executeBatch(java.util.List)}. That makes it possible
+ * to execute many registrations / events with one server call.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:42:03
+ */
+public class EventServiceOperation implements Serializable
+{
+    /**
+     * Types of the operations which can be executed with a batch.
+     */
+    public enum OperationType implements Serializable {
+        REGISTER, REGISTER_EVENT_FILTER, DEREGISTER_EVENT_FILTER, REGISTER_UNLISTEN_EVENT, UNLISTEN, ADD_EVENT, ADD_EVENT_USER_SPECIFIC
+    }
+
+    private OperationType myOperationType;
+    private Domain myDomain;
+    private Set<Domain> myDomains;
+    private EventFilter myEventFilter;
+    private Event myEvent;
+    private UnlistenEventListener.Scope myUnlistenScope;
+    private UnlistenEvent myUnlistenEvent;
+
+    /**
+     * @deprecated That constructor is only for serialization! Please use the static factory methods instead.
+     */
+    @Deprecated
+    public EventServiceOperation() {}
+
+    private EventServiceOperation(OperationType anOperationType, Domain aDomain) {
+        myOperationType = anOperationType;
+        myDomain = aDomain;
+    }
+
+    /**
+     * Creates an operation to register listen for a domain.
+     * @param aDomain domain to listen to
+     * @param anEventFilter EventFilter to filter events (optional)
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#register(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.filter.EventFilter)
+     */
+    public static EventServiceOperation register(Domain aDomain, EventFilter anEventFilter) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.REGISTER, aDomain);
+        theOperation.myEventFilter = anEventFilter;
+        return theOperation;
+    }
+
+    /**
+     * Creates an operation to register an {@link de.novanic.eventservice.client.event.filter.EventFilter} for a domain.
+     * @param aDomain domain to register the EventFilter to
+     * @param anEventFilter EventFilter to filter events for the domain
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#registerEventFilter(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.filter.EventFilter)
+     */
+    public static EventServiceOperation registerEventFilter(Domain aDomain, EventFilter anEventFilter) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.REGISTER_EVENT_FILTER, aDomain);
+        theOperation.myEventFilter = anEventFilter;
+        return theOperation;
+    }
+
+    /**
+     * Creates an operation to deregister the {@link de.novanic.eventservice.client.event.filter.EventFilter} of a domain.
+     * @param aDomain domain to drop the EventFilters from
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#deregisterEventFilter(de.novanic.eventservice.client.event.domain.Domain)
+     */
+    public static EventServiceOperation deregisterEventFilter(Domain aDomain) {
+        return new EventServiceOperation(OperationType.DEREGISTER_EVENT_FILTER, aDomain);
+    }
+
+    /**
+     * Creates an operation to register an {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent}.
+     * @param anUnlistenScope scope of the unlisten events to receive
+     * @param anUnlistenEvent {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent} which should
+     * be transferred to other users/clients when a timeout occurs or a domain is leaved.
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#registerUnlistenEvent(de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener.Scope, de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent)
+     */
+    public static EventServiceOperation registerUnlistenEvent(UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.REGISTER_UNLISTEN_EVENT, null);
+        theOperation.myUnlistenScope = anUnlistenScope;
+        theOperation.myUnlistenEvent = anUnlistenEvent;
+        return theOperation;
+    }
+
+    /**
+     * Creates an operation to unlisten for events of a domain.
+     * @param aDomain the domain to unlisten
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#unlisten(de.novanic.eventservice.client.event.domain.Domain)
+     */
+    public static EventServiceOperation unlisten(Domain aDomain) {
+        return new EventServiceOperation(OperationType.UNLISTEN, aDomain);
+    }
+
+    /**
+     * Creates an operation to unlisten for events of the domains.
+     * @param aDomains set of domains to unlisten
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#unlisten(java.util.Set)
+     */
+    public static EventServiceOperation unlisten(Set<Domain> aDomains) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.UNLISTEN, null);
+        theOperation.myDomains = aDomains;
+        return theOperation;
+    }
+
+    /**
+     * Creates an operation to add an event for all users in the domain.
+     * @param aDomain domain to add the event
+     * @param anEvent event to add
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)
+     */
+    public static EventServiceOperation addEvent(Domain aDomain, Event anEvent) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.ADD_EVENT, aDomain);
+        theOperation.myEvent = anEvent;
+        return theOperation;
+    }
+
+    /**
+     * Creates an operation to add an event only for the current user.
+     * @param anEvent event to add to the user
+     * @return operation
+     * @see de.novanic.eventservice.client.event.service.EventService#addEventUserSpecific(de.novanic.eventservice.client.event.Event)
+     */
+    public static EventServiceOperation addEventUserSpecific(Event anEvent) {
+        EventServiceOperation theOperation = new EventServiceOperation(OperationType.ADD_EVENT_USER_SPECIFIC, null);
+        theOperation.myEvent = anEvent;
+        return theOperation;
+    }
+
+    public OperationType getOperationType() {
+        return myOperationType;
+    }
+
+    public Domain getDomain() {
+        return myDomain;
+    }
+
+    /**
+     * Returns the domains of an unlisten operation for more than one domain.
+     * @return domains or NULL when the operation is related to a single domain
+     */
+    public Set<Domain> getDomains() {
+        return myDomains;
+    }
+
+    public EventFilter getEventFilter() {
+        return myEventFilter;
+    }
+
+    public Event getEvent() {
+        return myEvent;
+    }
+
+    public UnlistenEventListener.Scope getUnlistenScope() {
+        return myUnlistenScope;
+    }
+
+    public UnlistenEvent getUnlistenEvent() {
+        return myUnlistenEvent;
+    }
+
+    public boolean equals(Object anObject) {
+        if(this == anObject) {
+            return true;
+        }
+        if(anObject == null || getClass() != anObject.getClass()) {
+            return false;
+        }
+
+        EventServiceOperation theOperation = (EventServiceOperation)anObject;
+        return myOperationType == theOperation.myOperationType
+                && isEqual(myDomain, theOperation.myDomain)
+                && isEqual(myDomains, theOperation.myDomains)
+                && isEqual(myEventFilter, theOperation.myEventFilter)
+                && isEqual(myEvent, theOperation.myEvent)
+                && myUnlistenScope == theOperation.myUnlistenScope
+                && isEqual(myUnlistenEvent, theOperation.myUnlistenEvent);
+    }
+
+    public int hashCode() {
+        int theResult = myOperationType != null ? myOperationType.hashCode() : 0;
+        theResult = 31 * theResult + (myDomain != null ? myDomain.hashCode() : 0);
+        theResult = 31 * theResult + (myDomains != null ? myDomains.hashCode() : 0);
+        theResult = 31 * theResult + (myEvent != null ? myEvent.hashCode() : 0);
+        return theResult;
+    }
+
+    private static boolean isEqual(Object anObject_1, Object anObject_2) {
+        return anObject_1 != null ? anObject_1.equals(anObject_2) : anObject_2 == null;
+    }
+
+    public String toString() {
+        StringBuilder theStringBuilder = new StringBuilder(60);
+        theStringBuilder.append("EventServiceOperation (").append(myOperationType);
+        if(myDomain != null) {
+            theStringBuilder.append(" - ").append(myDomain.getName());
+        } else if(myDomains != null) {
+            theStringBuilder.append(" - ").append(myDomains.size()).append(" domains");
+        }
+        theStringBuilder.append(')');
+        return theStringBuilder.toString();
+    }
+}
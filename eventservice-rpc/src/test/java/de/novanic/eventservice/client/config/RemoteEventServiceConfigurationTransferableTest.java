@@ -42,6 +42,8 @@ public class RemoteEventServiceConfigurationTransferableTest
         assertNull(theConfiguration.getMaxWaitingTime());
         assertNull(theConfiguration.getTimeoutTime());
         assertNull(theConfiguration.getReconnectAttemptCount());
+        assertNull(theConfiguration.getReconnectDelay());
+        assertNull(theConfiguration.getReconnectDelayMax());
         assertNull(theConfiguration.getConnectionId());
         assertNull(theConfiguration.getConnectionStrategyClientConnector());
     }
@@ -55,6 +57,18 @@ public class RemoteEventServiceConfigurationTransferableTest
         assertEquals(Integer.valueOf(4), theConfiguration.getReconnectAttemptCount());
         assertEquals("5", theConfiguration.getConnectionId());
         assertEquals("client_connector", theConfiguration.getConnectionStrategyClientConnector());
+        assertNull(theConfiguration.getReconnectDelay());
+        assertNull(theConfiguration.getReconnectDelayMax());
+    }
+
+    @Test
+    public void testInit_ReconnectDelay() {
+        EventServiceConfigurationTransferable theConfiguration = new RemoteEventServiceConfigurationTransferable(1, 2, 3, 4, 500, 8000, "5", "client_connector");
+        assertEquals(Integer.valueOf(4), theConfiguration.getReconnectAttemptCount());
+        assertEquals(Integer.valueOf(500), theConfiguration.getReconnectDelay());
+        assertEquals(Integer.valueOf(8000), theConfiguration.getReconnectDelayMax());
+        assertEquals("5", theConfiguration.getConnectionId());
+        assertEquals("client_connector", theConfiguration.getConnectionStrategyClientConnector());
     }
 
     @Test
@@ -73,5 +87,8 @@ public class RemoteEventServiceConfigurationTransferableTest
         assertFalse(theConfiguration.equals(new RemoteEventServiceConfigurationTransferable(1, 2, 9, 4, "5", null)));
         assertFalse(theConfiguration.equals(new RemoteEventServiceConfigurationTransferable(1, 2, 3, 9, "5", null)));
         assertFalse(theConfiguration.equals(new RemoteEventServiceConfigurationTransferable(1, 2, 3, 4, "9", null)));
+        assertFalse(theConfiguration.equals(new RemoteEventServiceConfigurationTransferable(1, 2, 3, 4, 500, null, "5", null)));
+        assertFalse(theConfiguration.equals(new RemoteEventServiceConfigurationTransferable(1, 2, 3, 4, null, 8000, "5", null)));
+        assertEquals(theConfiguration, new RemoteEventServiceConfigurationTransferable(1, 2, 3, 4, null, null, "5", null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.strategy.connector.pipelined;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.DefaultDomainEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+@RunWith(JUnit4.class)
+public class DefaultPipelinedClientConnectorTest
+{
+    private DummyPipelinedClientConnector myClientConnector;
+
+    @Before
+    public void setUp() {
+        myClientConnector = new DummyPipelinedClientConnector();
+        myClientConnector.init(null);
+    }
+
+    @Test
+    public void testInit() {
+        assertTrue(myClientConnector.isInitialized());
+        assertFalse(new DummyPipelinedClientConnector().isInitialized());
+    }
+
+    @Test
+    public void testListen() {
+        RecordingCallback theCallback = new RecordingCallback();
+        myClientConnector.listen(null, theCallback);
+
+        //two listen requests are in flight
+        assertEquals(2, myClientConnector.myListenCallbacks.size());
+        assertEquals(Long.valueOf(0), myClientConnector.mySequenceNumbers.get(0));
+        assertEquals(Long.valueOf(1), myClientConnector.mySequenceNumbers.get(1));
+        assertEquals(2, myClientConnector.getPendingListenCount());
+
+        List<DomainEvent> theEvents = createEvents();
+        myClientConnector.myListenCallbacks.get(0).onSuccess(theEvents);
+        assertEquals(1, theCallback.myEventLists.size());
+        assertSame(theEvents, theCallback.myEventLists.get(0));
+        assertEquals(1, myClientConnector.getPendingListenCount());
+
+        //the next listen call refills the pipeline
+        myClientConnector.listen(null, theCallback);
+        assertEquals(3, myClientConnector.myListenCallbacks.size());
+        assertEquals(Long.valueOf(2), myClientConnector.mySequenceNumbers.get(2));
+        assertEquals(2, myClientConnector.getPendingListenCount());
+    }
+
+    @Test
+    public void testListen_Order() {
+        RecordingCallback theCallback = new RecordingCallback();
+        myClientConnector.listen(null, theCallback);
+
+        //the response of the second listen request arrives first
+        List<DomainEvent> theEvents_2 = createEvents();
+        myClientConnector.myListenCallbacks.get(1).onSuccess(theEvents_2);
+        assertTrue(theCallback.myEventLists.isEmpty());
+
+        List<DomainEvent> theEvents_1 = createEvents();
+        myClientConnector.myListenCallbacks.get(0).onSuccess(theEvents_1);
+        assertEquals(1, theCallback.myEventLists.size());
+        assertSame(theEvents_1, theCallback.myEventLists.get(0));
+
+        //the already available response is passed directly with the next listen call
+        myClientConnector.listen(null, theCallback);
+        assertEquals(2, theCallback.myEventLists.size());
+        assertSame(theEvents_2, theCallback.myEventLists.get(1));
+        assertEquals(3, myClientConnector.myListenCallbacks.size());
+    }
+
+    @Test
+    public void testListen_Failure() {
+        RecordingCallback theCallback = new RecordingCallback();
+        myClientConnector.listen(null, theCallback);
+
+        final Exception theException = new Exception("test");
+        myClientConnector.myListenCallbacks.get(0).onFailure(theException);
+        assertTrue(theCallback.myEventLists.isEmpty());
+        assertEquals(1, theCallback.myThrowables.size());
+        assertSame(theException, theCallback.myThrowables.get(0));
+    }
+
+    @Test
+    public void testDeactivate() {
+        RecordingCallback theCallback = new RecordingCallback();
+        myClientConnector.listen(null, theCallback);
+
+        myClientConnector.deactivate();
+        assertEquals(0, myClientConnector.getPendingListenCount());
+
+        //the responses of the listen requests before the deactivation are ignored
+        myClientConnector.myListenCallbacks.get(0).onSuccess(createEvents());
+        myClientConnector.myListenCallbacks.get(1).onSuccess(createEvents());
+        assertTrue(theCallback.myEventLists.isEmpty());
+
+        myClientConnector.listen(null, theCallback);
+        assertEquals(4, myClientConnector.myListenCallbacks.size());
+        assertEquals(Long.valueOf(2), myClientConnector.mySequenceNumbers.get(2));
+
+        List<DomainEvent> theEvents = createEvents();
+        myClientConnector.myListenCallbacks.get(2).onSuccess(theEvents);
+        assertEquals(1, theCallback.myEventLists.size());
+        assertSame(theEvents, theCallback.myEventLists.get(0));
+    }
+
+    private static List<DomainEvent> createEvents() {
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DefaultDomainEvent(null));
+        return theEvents;
+    }
+
+    private static class DummyPipelinedClientConnector extends DefaultPipelinedClientConnector
+    {
+        private final List<Long> mySequenceNumbers = new ArrayList<Long>();
+        private final List<AsyncCallback<List<DomainEvent>>> myListenCallbacks = new ArrayList<AsyncCallback<List<DomainEvent>>>();
+
+        protected void listen(long aSequenceNumber, AsyncCallback<List<DomainEvent>> aCallback) {
+            mySequenceNumbers.add(aSequenceNumber);
+            myListenCallbacks.add(aCallback);
+        }
+    }
+
+    private static class RecordingCallback implements AsyncCallback<List<DomainEvent>>
+    {
+        private final List<List<DomainEvent>> myEventLists = new ArrayList<List<DomainEvent>>();
+        private final List<Throwable> myThrowables = new ArrayList<Throwable>();
+
+        public void onSuccess(List<DomainEvent> aResult) {
+            myEventLists.add(aResult);
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            myThrowables.add(aThrowable);
+        }
+    }
+}
@@ -26,7 +26,10 @@ import de.novanic.eventservice.client.connection.strategy.connector.ConnectionSt
 import de.novanic.eventservice.client.event.DefaultDomainEvent;
 import de.novanic.eventservice.client.event.DomainEvent;
 import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.listener.SelectiveEventNotification;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -93,15 +96,70 @@ public class DefaultStreamingClientConnectorTest
         assertTrue("No events are expected from the callback, because the events are processed directly at streaming, so no events should be received/processed with the connection cycle.", theDummyCallback.myReceivedEvents.isEmpty());
     }
 
+    @Test
+    public void testReceiveEvent_DomainHeader() {
+        final DummyStreamingClientConnector theStreamingClientConnector = new DummyStreamingClientConnector();
+        theStreamingClientConnector.init(null);
+
+        final DummySelectiveEventNotification theEventNotification = new DummySelectiveEventNotification(DomainFactory.getDomain("test_domain"));
+        theStreamingClientConnector.listen(theEventNotification, new DummyCallback());
+        theEventNotification.myNotifiedEvent = null;
+
+        //the event is skipped without de-serialization, because the notification isn't interested in the domain
+        theStreamingClientConnector.receiveEvent("#13#test_domain_2[1,2,3]");
+        assertEquals(DomainFactory.getDomain("test_domain_2"), theEventNotification.myCheckedDomain);
+        assertNull(theStreamingClientConnector.myDeserializedEvent);
+        assertNull(theEventNotification.myNotifiedEvent);
+
+        //the header is removed before the de-serialization
+        theStreamingClientConnector.receiveEvent("#11#test_domain[1,2,3]");
+        assertEquals(DomainFactory.getDomain("test_domain"), theEventNotification.myCheckedDomain);
+        assertEquals("[1,2,3]", theStreamingClientConnector.myDeserializedEvent);
+        assertSame(theStreamingClientConnector.myDummyEvent, theEventNotification.myNotifiedEvent);
+    }
+
+    @Test
+    public void testReceiveEvent_DomainHeader_UserSpecific() {
+        final DummyStreamingClientConnector theStreamingClientConnector = new DummyStreamingClientConnector();
+        theStreamingClientConnector.init(null);
+
+        final DummySelectiveEventNotification theEventNotification = new DummySelectiveEventNotification(null);
+        theEventNotification.myCheckedDomain = DomainFactory.getDomain("test_domain");
+        theStreamingClientConnector.listen(theEventNotification, new DummyCallback());
+        theEventNotification.myNotifiedEvent = null;
+
+        theStreamingClientConnector.receiveEvent("##[1,2,3]");
+        assertNull(theEventNotification.myCheckedDomain);
+        assertEquals("[1,2,3]", theStreamingClientConnector.myDeserializedEvent);
+        assertSame(theStreamingClientConnector.myDummyEvent, theEventNotification.myNotifiedEvent);
+    }
+
+    @Test
+    public void testReceiveEvent_DomainHeader_NotSelective() {
+        final DummyStreamingClientConnector theStreamingClientConnector = new DummyStreamingClientConnector();
+        theStreamingClientConnector.init(null);
+
+        final DummyEventNotification theEventNotification = new DummyEventNotification();
+        theStreamingClientConnector.listen(theEventNotification, new DummyCallback());
+        theEventNotification.myNotifiedEvent = null;
+
+        //all events are de-serialized, because the notification can't tell in advance if the events are processed
+        theStreamingClientConnector.receiveEvent("#13#test_domain_2[1,2,3]");
+        assertEquals("[1,2,3]", theStreamingClientConnector.myDeserializedEvent);
+        assertSame(theStreamingClientConnector.myDummyEvent, theEventNotification.myNotifiedEvent);
+    }
+
     private class DummyStreamingClientConnector extends DefaultStreamingClientConnector
     {
         private DomainEvent myDummyEvent;
+        private String myDeserializedEvent;
 
         private DummyStreamingClientConnector() {
             myDummyEvent = new DefaultDomainEvent(new Event(){});
         }
 
         protected DomainEvent deserializeEvent(String anEvent) {
+            myDeserializedEvent = anEvent;
             return myDummyEvent;
         }
 
@@ -119,7 +177,7 @@ public class DefaultStreamingClientConnectorTest
 
     private class DummyEventNotification implements EventNotification
     {
-        private DomainEvent myNotifiedEvent;
+        protected DomainEvent myNotifiedEvent;
 
         public void onNotify(DomainEvent aDomainEvent) {
             myNotifiedEvent = aDomainEvent;
@@ -128,6 +186,21 @@ public class DefaultStreamingClientConnectorTest
         public void onAbort() {}
     }
 
+    private class DummySelectiveEventNotification extends DummyEventNotification implements SelectiveEventNotification
+    {
+        private Domain myInterestingDomain;
+        private Domain myCheckedDomain;
+
+        private DummySelectiveEventNotification(Domain anInterestingDomain) {
+            myInterestingDomain = anInterestingDomain;
+        }
+
+        public boolean isInterested(Domain aDomain) {
+            myCheckedDomain = aDomain;
+            return (aDomain == null) ? myInterestingDomain == null : aDomain.equals(myInterestingDomain);
+        }
+    }
+
     private class DummyCallback implements AsyncCallback<List<DomainEvent>>
     {
         private boolean isOnSuccessCalled;
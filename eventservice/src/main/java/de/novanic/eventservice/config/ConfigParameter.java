@@ -83,7 +83,129 @@ public enum ConfigParameter
      * The maximum amount of events prevents the listening logic from endless seeking of events (for example when more events are concurrently added than the listen thread can process).
      * <br>Default value: {@value de.novanic.eventservice.config.loader.DefaultConfigurationLoader#DEFAULT_MAX_EVENTS}
      */
-    MAX_EVENTS("events.max");
+    MAX_EVENTS("events.max"),
+
+    /**
+     * Address (host:port) of a standalone registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}).
+     * When the address is configured, the {@link de.novanic.eventservice.service.registry.EventRegistry} is accessed with
+     * {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry} instead of holding the users and events
+     * within the web application.
+     * <br>Default value: NULL (the registry is embedded in the web application)
+     */
+    REMOTE_REGISTRY_ADDRESS("registry.remote.address"),
+
+    /**
+     * Time in milliseconds without a listen call (no activity) of a user/client, after which the queued events of the
+     * user/client are moved to the disk ({@link de.novanic.eventservice.service.registry.user.UserEventSpill}).
+     * The time should be greater than the max. waiting time.
+     * <br>Default value: NULL (the events of inactive users/clients aren't moved to the disk)
+     */
+    EVENTS_SPILL_TIME("events.spill.time"),
+
+    /**
+     * Amount of queued events of a user/client, after which the queued events of the user/client are moved to the disk
+     * ({@link de.novanic.eventservice.service.registry.user.UserEventSpill}).
+     * <br>Default value: NULL (the events aren't moved to the disk because of the amount)
+     */
+    EVENTS_SPILL_MAX("events.spill.max"),
+
+    /**
+     * Directory for the files of the events which are moved to the disk.
+     * <br>Default value: NULL (the temporary directory of the system is used)
+     */
+    EVENTS_SPILL_DIRECTORY("events.spill.directory"),
+
+    /**
+     * Activates the shared event log. When it is activated, the events of a domain are appended to one log of the domain
+     * ({@link de.novanic.eventservice.service.registry.domain.DomainEventLog}) and every user/client of the domain reads the
+     * log with an own cursor, instead of holding a copy of every event per user/client. That is recommended for
+     * domains with many users/clients.
+     * <br>Default value: NULL (false, the events are queued per user/client)
+     */
+    EVENTS_SHARED_LOG("events.shared.log"),
+
+    /**
+     * Class name of a {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor} which gets informed
+     * about the publishing of events, the evaluation of EventFilters, the listen calls and the timeout handling
+     * (for example to record the operations with the Java Flight Recorder).
+     * <br>Default value: NULL (the operations aren't monitored)
+     */
+    MONITOR("monitor"),
+
+    /**
+     * File to record the operations of the EventRegistry (registrations, EventFilter changes, events, listen calls,
+     * unlisten calls and timeouts) with their time. The recorded file can be replayed against another EventRegistry
+     * with the {@link de.novanic.eventservice.service.registry.record.EventRegistryReplayer} to validate performance
+     * changes with a real workload.
+     * <br>Default value: NULL (the operations aren't recorded)
+     */
+    RECORD_FILE("record.file"),
+
+    /**
+     * Base delay in milliseconds before a reconnect attempt of the client side. The delay is doubled with every further
+     * reconnect attempt (exponential backoff) and the client waits a random time between zero and that delay (full jitter),
+     * so that the reconnects of many clients (for example after a restart of the server) are spread.
+     * <br>Default value: NULL (the reconnect attempts are executed directly)
+     */
+    RECONNECT_DELAY("reconnect.delay"),
+
+    /**
+     * Max. delay in milliseconds before a reconnect attempt of the client side. The exponential backoff of
+     * {@link #RECONNECT_DELAY} doesn't exceed that delay. It is also sent as the retry hint to the clients when the
+     * server is overloaded ({@link #MAX_LISTEN_REQUESTS}).
+     * <br>Default value: NULL (the backoff isn't limited, the max. waiting time is sent as the retry hint)
+     */
+    RECONNECT_DELAY_MAX("reconnect.delay.max"),
+
+    /**
+     * Max. amount of concurrent listen requests. When the amount is reached, further listen requests are rejected with
+     * the HTTP status code 503 (service unavailable) and a retry hint, after which the client should reconnect.
+     * <br>Default value: NULL (the amount of listen requests isn't limited)
+     */
+    MAX_LISTEN_REQUESTS("listen.max"),
+
+    /**
+     * Histories of domains ({@link de.novanic.eventservice.service.registry.domain.DomainEventHistory}). The last events
+     * of the domains are recorded and transferred to users/clients which are registered to the domain afterwards.
+     * The histories are separated by a comma and every history is declared as "domain:max. events" or
+     * "domain:max. events:max. age in milliseconds" (for example "chat:100:60000,ticker:10").
+     * <br>Default value: NULL (no history is recorded)
+     */
+    EVENTS_HISTORY("events.history"),
+
+    /**
+     * Shared secret of a standalone registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}).
+     * Every connection has to prove the knowledge of the secret before any request is accepted, so the secret is required
+     * for the registry process and for the web applications ({@link #REMOTE_REGISTRY_ADDRESS}).
+     * <br>Default value: NULL (a standalone registry process can't be used)
+     */
+    REMOTE_REGISTRY_SECRET("registry.remote.secret"),
+
+    /**
+     * Package prefixes of further classes which can be transferred to and from a standalone registry process, separated
+     * by a comma (for example "com.example.events.,com.example.model."). Events, EventFilters, the classes of GWTEventService
+     * and common classes of the JDK (Strings, numbers, collections) are always accepted, any other class is rejected
+     * before it is de-serialized.
+     * <br>Default value: NULL (only the always accepted classes can be transferred)
+     */
+    REMOTE_REGISTRY_CLASSES("registry.remote.classes"),
+
+    /**
+     * Address (host:port) of an upstream registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer})
+     * whose events are relayed into the local registry ({@link de.novanic.eventservice.service.registry.relay.EventRelay}).
+     * The relay is registered as one client at the upstream registry process and republishes the events of the relayed
+     * domains ({@link ConfigParameter#RELAY_DOMAINS}) to the own clients. The connection is authenticated with
+     * {@link ConfigParameter#REMOTE_REGISTRY_SECRET}.
+     * <br>Default value: NULL (no events are relayed)
+     */
+    RELAY_UPSTREAM_ADDRESS("relay.upstream.address"),
+
+    /**
+     * Domains which are relayed from the upstream registry process ({@link ConfigParameter#RELAY_UPSTREAM_ADDRESS}),
+     * separated by a comma (for example "chat,ticker").
+     * <br>Default value: NULL (required when an upstream registry process is configured)
+     */
+    RELAY_DOMAINS("relay.domains");
 
     // --- Constants ---
 
@@ -24,9 +24,12 @@ package de.novanic.eventservice.config;
 import de.novanic.eventservice.client.config.ConfigurationException;
 import de.novanic.eventservice.service.connection.id.ConnectionIdGenerator;
 import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link de.novanic.eventservice.config.ConfigurationDependentFactory} can create instances from a configuration
@@ -43,6 +46,8 @@ public final class ConfigurationDependentFactory
 
     private ConnectionIdGenerator myConnectionIdGenerator;
     private ConnectionStrategyServerConnector myConnectionStrategyServerConnector;
+    private final Map<Class<?>, ConnectionStrategyServerConnector> myConnectionStrategyServerConnectors = new ConcurrentHashMap<Class<?>, ConnectionStrategyServerConnector>();
+    private EventServiceMonitor myEventServiceMonitor;
 
     /**
      * Initializes the {@link de.novanic.eventservice.config.ConfigurationDependentFactory}. That constructor is only called one time,
@@ -128,6 +133,52 @@ public final class ConfigurationDependentFactory
         return myConnectionStrategyServerConnector;
     }
 
+    /**
+     * Returns the server side part / connector of a specific connection strategy. The configured connector is returned when
+     * it has the requested type, otherwise a connector of the requested type is created (one instance per type). That
+     * allows to serve different connection strategies concurrently (for example for adaptive client connectors).
+     * @param aConnectorClass type of the server side connector
+     * @param <T> type of the server side connector
+     * @return server side part / connector of the requested connection strategy
+     */
+    public <T extends ConnectionStrategyServerConnector> T getConnectionStrategyServerConnector(Class<T> aConnectorClass) {
+        final ConnectionStrategyServerConnector theConfiguredConnector = getConnectionStrategyServerConnector();
+        if(aConnectorClass.isInstance(theConfiguredConnector)) {
+            return aConnectorClass.cast(theConfiguredConnector);
+        }
+        ConnectionStrategyServerConnector theConnector = myConnectionStrategyServerConnectors.get(aConnectorClass);
+        if(theConnector == null) {
+            synchronized(this) {
+                theConnector = myConnectionStrategyServerConnectors.get(aConnectorClass);
+                if(theConnector == null) {
+                    theConnector = createObject(aConnectorClass.getName());
+                    myConnectionStrategyServerConnectors.put(aConnectorClass, theConnector);
+                }
+            }
+        }
+        return aConnectorClass.cast(theConnector);
+    }
+
+    /**
+     * Returns the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}.
+     * @see de.novanic.eventservice.config.ConfigParameter#MONITOR
+     * @return the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}, NULL when no monitor is configured
+     */
+    public EventServiceMonitor getEventServiceMonitor() {
+        if(myEventServiceMonitor == null) {
+            synchronized(this) {
+                if(myEventServiceMonitor == null) {
+                    try {
+                        myEventServiceMonitor = createObject(myConfiguration.getMonitorClassName());
+                    } catch(ClassCastException e) {
+                        throw new ConfigurationException(myConfiguration.getMonitorClassName() + " should have another type!", e);
+                    }
+                }
+            }
+        }
+        return myEventServiceMonitor;
+    }
+
     /**
      * Creates and initializes an object of a specific type.
      */
@@ -183,5 +234,6 @@ public final class ConfigurationDependentFactory
         myConfiguration = null;
         ConfigurationDependentFactoryHolder.INSTANCE.myConnectionIdGenerator = null;
         ConfigurationDependentFactoryHolder.INSTANCE.myConnectionStrategyServerConnector = null;
+        ConfigurationDependentFactoryHolder.INSTANCE.myConnectionStrategyServerConnectors.clear();
     }
 }
\ No newline at end of file
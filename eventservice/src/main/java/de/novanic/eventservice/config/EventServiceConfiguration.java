@@ -106,6 +106,111 @@ public interface EventServiceConfiguration
      */
     Integer getMaxEvents();
 
+    /**
+     * Returns the address (host:port) of a standalone registry process or NULL when the registry is embedded in the web application.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS
+     * @return address of the standalone registry process
+     */
+    String getRemoteRegistryAddress();
+
+    /**
+     * Returns the time in milliseconds without activity of a user/client, after which the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_TIME
+     * @return time without activity until the events are moved to the disk, NULL when not configured
+     */
+    Integer getSpillTime();
+
+    /**
+     * Returns the amount of queued events of a user/client, after which the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_MAX
+     * @return amount of queued events until the events are moved to the disk, NULL when not configured
+     */
+    Integer getSpillMaxEvents();
+
+    /**
+     * Returns the directory for the files of the events which are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_DIRECTORY
+     * @return directory for the moved events, NULL when the temporary directory of the system should be used
+     */
+    String getSpillDirectory();
+
+    /**
+     * Returns if the events of a domain are held in a shared log which is read by all users/clients of the domain.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SHARED_LOG
+     * @return true when the shared event log is activated, NULL or false when the events are queued per user/client
+     */
+    Boolean isSharedEventLog();
+
+    /**
+     * Returns the class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}.
+     * @see de.novanic.eventservice.config.ConfigParameter#MONITOR
+     * @return class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}, NULL when the operations aren't monitored
+     */
+    String getMonitorClassName();
+
+    /**
+     * Returns the file to record the operations of the EventRegistry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RECORD_FILE
+     * @return file to record the operations of the EventRegistry, NULL when the operations aren't recorded
+     */
+    String getRecordFile();
+
+    /**
+     * Returns the declaration of the domain histories ("domain:max. events[:max. age]", separated by a comma).
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_HISTORY
+     * @return declaration of the domain histories, NULL when no history is recorded
+     */
+    String getDomainHistories();
+
+    /**
+     * Returns the shared secret to authenticate the connections to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET
+     * @return shared secret of the registry process, NULL when it isn't configured
+     */
+    String getRemoteRegistrySecret();
+
+    /**
+     * Returns the package prefixes of further classes which can be transferred to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_CLASSES
+     * @return package prefixes separated by a comma, NULL when only the always accepted classes can be transferred
+     */
+    String getRemoteRegistryClasses();
+
+    /**
+     * Returns the address (host:port) of the upstream registry process which is relayed into the local registry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_UPSTREAM_ADDRESS
+     * @return address of the upstream registry process (host:port), NULL when no events are relayed
+     */
+    String getRelayUpstreamAddress();
+
+    /**
+     * Returns the domains which are relayed from the upstream registry process, separated by a comma.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_DOMAINS
+     * @return relayed domains, separated by a comma
+     */
+    String getRelayDomains();
+
+    /**
+     * Returns the base delay before a reconnect attempt of the client side (in milliseconds).
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY
+     * @return base delay before a reconnect attempt, NULL when the reconnect attempts are executed directly
+     */
+    Integer getReconnectDelay();
+
+    /**
+     * Returns the max. delay before a reconnect attempt of the client side (in milliseconds).
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY_MAX
+     * @return max. delay before a reconnect attempt, NULL when the backoff isn't limited
+     */
+    Integer getReconnectDelayMax();
+
+    /**
+     * Returns the max. amount of concurrent listen requests.
+     * @see de.novanic.eventservice.config.ConfigParameter#MAX_LISTEN_REQUESTS
+     * @return max. amount of concurrent listen requests, NULL when the amount isn't limited
+     */
+    Integer getMaxListenRequests();
+
     /**
      * Returns the configurations as a {@link java.util.Map} with {@link de.novanic.eventservice.config.ConfigParameter}
      * instances as the key.
@@ -45,7 +45,8 @@ public class RemoteEventServiceConfiguration implements EventServiceConfiguratio
     private Map<ConfigParameter, Object> myConfigMap;
 
     /**
-     * Creates a new RemoteEventServiceConfiguration.
+     * Creates a new RemoteEventServiceConfiguration. The optional configuration parameters aren't set and can be set
+     * with the according setter methods.
      * @param aConfigDescription description of the configuration (for example the location)
      * @param aMinWaitingTime min waiting time before listen returns (in milliseconds)
      * @param aMaxWaitingTime max waiting time before listen returns, when no events recognized (in milliseconds)
@@ -55,6 +56,7 @@ public class RemoteEventServiceConfiguration implements EventServiceConfiguratio
      * @param aConnectionStrategyClientClassName class name of the configured connection strategy (client side part)
      * @param aConnectionStrategyServerClassName class name of the configured connection strategy (server side part)
      * @param aConnectionStrategyEncoding encoding / charset which is used by the connection strategies
+     * @param aMaxEvents maximum amount of events which should be transferred to the client at once
      */
     public RemoteEventServiceConfiguration(String aConfigDescription, Integer aMinWaitingTime, Integer aMaxWaitingTime, Integer aTimeoutTime,
                                            Integer aReconnectAttemptCount,
@@ -71,6 +73,21 @@ public class RemoteEventServiceConfiguration implements EventServiceConfiguratio
         myConfigMap.put(ConfigParameter.CONNECTION_STRATEGY_SERVER_CONNECTOR, aConnectionStrategyServerClassName);
         myConfigMap.put(ConfigParameter.CONNECTION_STRATEGY_ENCODING, aConnectionStrategyEncoding);
         myConfigMap.put(ConfigParameter.MAX_EVENTS, aMaxEvents);
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_ADDRESS, null);
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_TIME, null);
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_MAX, null);
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_DIRECTORY, null);
+        myConfigMap.put(ConfigParameter.EVENTS_SHARED_LOG, null);
+        myConfigMap.put(ConfigParameter.MONITOR, null);
+        myConfigMap.put(ConfigParameter.RECORD_FILE, null);
+        myConfigMap.put(ConfigParameter.RECONNECT_DELAY, null);
+        myConfigMap.put(ConfigParameter.RECONNECT_DELAY_MAX, null);
+        myConfigMap.put(ConfigParameter.MAX_LISTEN_REQUESTS, null);
+        myConfigMap.put(ConfigParameter.EVENTS_HISTORY, null);
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_SECRET, null);
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_CLASSES, null);
+        myConfigMap.put(ConfigParameter.RELAY_UPSTREAM_ADDRESS, null);
+        myConfigMap.put(ConfigParameter.RELAY_DOMAINS, null);
     }
 
     /**
@@ -162,6 +179,276 @@ public class RemoteEventServiceConfiguration implements EventServiceConfiguratio
         return (Integer)myConfigMap.get(ConfigParameter.MAX_EVENTS);
     }
 
+    /**
+     * Returns the address (host:port) of a standalone registry process or NULL when the registry is embedded in the web application.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS
+     * @return address of the standalone registry process
+     */
+    public String getRemoteRegistryAddress() {
+        return (String)myConfigMap.get(ConfigParameter.REMOTE_REGISTRY_ADDRESS);
+    }
+
+    /**
+     * Returns the time in milliseconds without activity of a user/client, after which the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_TIME
+     * @return time without activity until the events are moved to the disk, NULL when not configured
+     */
+    public Integer getSpillTime() {
+        return (Integer)myConfigMap.get(ConfigParameter.EVENTS_SPILL_TIME);
+    }
+
+    /**
+     * Returns the amount of queued events of a user/client, after which the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_MAX
+     * @return amount of queued events until the events are moved to the disk, NULL when not configured
+     */
+    public Integer getSpillMaxEvents() {
+        return (Integer)myConfigMap.get(ConfigParameter.EVENTS_SPILL_MAX);
+    }
+
+    /**
+     * Returns the directory for the files of the events which are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_DIRECTORY
+     * @return directory for the moved events, NULL when the temporary directory of the system should be used
+     */
+    public String getSpillDirectory() {
+        return (String)myConfigMap.get(ConfigParameter.EVENTS_SPILL_DIRECTORY);
+    }
+
+    /**
+     * Returns if the events of a domain are held in a shared log which is read by all users/clients of the domain.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SHARED_LOG
+     * @return true when the shared event log is activated, NULL or false when the events are queued per user/client
+     */
+    public Boolean isSharedEventLog() {
+        return (Boolean)myConfigMap.get(ConfigParameter.EVENTS_SHARED_LOG);
+    }
+
+    /**
+     * Returns the class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}.
+     * @see de.novanic.eventservice.config.ConfigParameter#MONITOR
+     * @return class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}, NULL when the operations aren't monitored
+     */
+    public String getMonitorClassName() {
+        return (String)myConfigMap.get(ConfigParameter.MONITOR);
+    }
+
+    /**
+     * Returns the file to record the operations of the EventRegistry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RECORD_FILE
+     * @return file to record the operations of the EventRegistry, NULL when the operations aren't recorded
+     */
+    public String getRecordFile() {
+        return (String)myConfigMap.get(ConfigParameter.RECORD_FILE);
+    }
+
+    /**
+     * Returns the base delay before a reconnect attempt of the client side (in milliseconds).
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY
+     * @return base delay before a reconnect attempt, NULL when the reconnect attempts are executed directly
+     */
+    public Integer getReconnectDelay() {
+        return (Integer)myConfigMap.get(ConfigParameter.RECONNECT_DELAY);
+    }
+
+    /**
+     * Returns the max. delay before a reconnect attempt of the client side (in milliseconds).
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY_MAX
+     * @return max. delay before a reconnect attempt, NULL when the backoff isn't limited
+     */
+    public Integer getReconnectDelayMax() {
+        return (Integer)myConfigMap.get(ConfigParameter.RECONNECT_DELAY_MAX);
+    }
+
+    /**
+     * Returns the max. amount of concurrent listen requests.
+     * @see de.novanic.eventservice.config.ConfigParameter#MAX_LISTEN_REQUESTS
+     * @return max. amount of concurrent listen requests, NULL when the amount isn't limited
+     */
+    public Integer getMaxListenRequests() {
+        return (Integer)myConfigMap.get(ConfigParameter.MAX_LISTEN_REQUESTS);
+    }
+
+    /**
+     * Returns the declaration of the domain histories ("domain:max. events[:max. age]", separated by a comma).
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_HISTORY
+     * @return declaration of the domain histories, NULL when no history is recorded
+     */
+    public String getDomainHistories() {
+        return (String)myConfigMap.get(ConfigParameter.EVENTS_HISTORY);
+    }
+
+    /**
+     * Returns the shared secret to authenticate the connections to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET
+     * @return shared secret of the registry process, NULL when it isn't configured
+     */
+    public String getRemoteRegistrySecret() {
+        return (String)myConfigMap.get(ConfigParameter.REMOTE_REGISTRY_SECRET);
+    }
+
+    /**
+     * Returns the package prefixes of further classes which can be transferred to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_CLASSES
+     * @return package prefixes separated by a comma, NULL when only the always accepted classes can be transferred
+     */
+    public String getRemoteRegistryClasses() {
+        return (String)myConfigMap.get(ConfigParameter.REMOTE_REGISTRY_CLASSES);
+    }
+
+    /**
+     * Returns the address (host:port) of the upstream registry process which is relayed into the local registry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_UPSTREAM_ADDRESS
+     * @return address of the upstream registry process (host:port), NULL when no events are relayed
+     */
+    public String getRelayUpstreamAddress() {
+        return (String)myConfigMap.get(ConfigParameter.RELAY_UPSTREAM_ADDRESS);
+    }
+
+    /**
+     * Returns the domains which are relayed from the upstream registry process, separated by a comma.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_DOMAINS
+     * @return relayed domains, separated by a comma
+     */
+    public String getRelayDomains() {
+        return (String)myConfigMap.get(ConfigParameter.RELAY_DOMAINS);
+    }
+
+    /**
+     * Sets the address (host:port) of a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS
+     * @param aRemoteRegistryAddress address (host:port) of a standalone registry process, can be NULL
+     */
+    public void setRemoteRegistryAddress(String aRemoteRegistryAddress) {
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_ADDRESS, aRemoteRegistryAddress);
+    }
+
+    /**
+     * Sets the time without activity of a user/client until the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_TIME
+     * @param aSpillTime time without activity of a user/client until the queued events are moved to the disk, can be NULL
+     */
+    public void setSpillTime(Integer aSpillTime) {
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_TIME, aSpillTime);
+    }
+
+    /**
+     * Sets the amount of queued events of a user/client until the queued events are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_MAX
+     * @param aSpillMaxEvents amount of queued events of a user/client until the queued events are moved to the disk, can be NULL
+     */
+    public void setSpillMaxEvents(Integer aSpillMaxEvents) {
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_MAX, aSpillMaxEvents);
+    }
+
+    /**
+     * Sets the directory for the events which are moved to the disk.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_DIRECTORY
+     * @param aSpillDirectory directory for the events which are moved to the disk, can be NULL
+     */
+    public void setSpillDirectory(String aSpillDirectory) {
+        myConfigMap.put(ConfigParameter.EVENTS_SPILL_DIRECTORY, aSpillDirectory);
+    }
+
+    /**
+     * Sets if the events of a domain should be held in a shared log which is read by all users/clients of the domain.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SHARED_LOG
+     * @param isSharedEventLog true when the events of a domain should be held in a shared log, can be NULL
+     */
+    public void setSharedEventLog(Boolean isSharedEventLog) {
+        myConfigMap.put(ConfigParameter.EVENTS_SHARED_LOG, isSharedEventLog);
+    }
+
+    /**
+     * Sets the class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}.
+     * @see de.novanic.eventservice.config.ConfigParameter#MONITOR
+     * @param aMonitorClassName class name of the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}, can be NULL
+     */
+    public void setMonitorClassName(String aMonitorClassName) {
+        myConfigMap.put(ConfigParameter.MONITOR, aMonitorClassName);
+    }
+
+    /**
+     * Sets the file to record the operations of the EventRegistry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RECORD_FILE
+     * @param aRecordFile file to record the operations of the EventRegistry, can be NULL
+     */
+    public void setRecordFile(String aRecordFile) {
+        myConfigMap.put(ConfigParameter.RECORD_FILE, aRecordFile);
+    }
+
+    /**
+     * Sets the base delay before a reconnect attempt of the client side.
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY
+     * @param aReconnectDelay base delay before a reconnect attempt of the client side, can be NULL
+     */
+    public void setReconnectDelay(Integer aReconnectDelay) {
+        myConfigMap.put(ConfigParameter.RECONNECT_DELAY, aReconnectDelay);
+    }
+
+    /**
+     * Sets the max. delay before a reconnect attempt of the client side.
+     * @see de.novanic.eventservice.config.ConfigParameter#RECONNECT_DELAY_MAX
+     * @param aReconnectDelayMax max. delay before a reconnect attempt of the client side, can be NULL
+     */
+    public void setReconnectDelayMax(Integer aReconnectDelayMax) {
+        myConfigMap.put(ConfigParameter.RECONNECT_DELAY_MAX, aReconnectDelayMax);
+    }
+
+    /**
+     * Sets the max. amount of concurrent listen requests.
+     * @see de.novanic.eventservice.config.ConfigParameter#MAX_LISTEN_REQUESTS
+     * @param aMaxListenRequests max. amount of concurrent listen requests, can be NULL
+     */
+    public void setMaxListenRequests(Integer aMaxListenRequests) {
+        myConfigMap.put(ConfigParameter.MAX_LISTEN_REQUESTS, aMaxListenRequests);
+    }
+
+    /**
+     * Sets the declaration of the domain histories.
+     * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_HISTORY
+     * @param aDomainHistories declaration of the domain histories, can be NULL
+     */
+    public void setDomainHistories(String aDomainHistories) {
+        myConfigMap.put(ConfigParameter.EVENTS_HISTORY, aDomainHistories);
+    }
+
+    /**
+     * Sets the shared secret to authenticate the connections to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET
+     * @param aRemoteRegistrySecret shared secret to authenticate the connections to a standalone registry process, can be NULL
+     */
+    public void setRemoteRegistrySecret(String aRemoteRegistrySecret) {
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_SECRET, aRemoteRegistrySecret);
+    }
+
+    /**
+     * Sets the package prefixes of further classes which can be transferred to a standalone registry process.
+     * @see de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_CLASSES
+     * @param aRemoteRegistryClasses package prefixes of further classes which can be transferred to a standalone registry process, can be NULL
+     */
+    public void setRemoteRegistryClasses(String aRemoteRegistryClasses) {
+        myConfigMap.put(ConfigParameter.REMOTE_REGISTRY_CLASSES, aRemoteRegistryClasses);
+    }
+
+    /**
+     * Sets the address (host:port) of the upstream registry process which is relayed into the local registry.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_UPSTREAM_ADDRESS
+     * @param aRelayUpstreamAddress address (host:port) of the upstream registry process which is relayed into the local registry, can be NULL
+     */
+    public void setRelayUpstreamAddress(String aRelayUpstreamAddress) {
+        myConfigMap.put(ConfigParameter.RELAY_UPSTREAM_ADDRESS, aRelayUpstreamAddress);
+    }
+
+    /**
+     * Sets the domains which are relayed from the upstream registry process, separated by a comma.
+     * @see de.novanic.eventservice.config.ConfigParameter#RELAY_DOMAINS
+     * @param aRelayDomains domains which are relayed from the upstream registry process, separated by a comma, can be NULL
+     */
+    public void setRelayDomains(String aRelayDomains) {
+        myConfigMap.put(ConfigParameter.RELAY_DOMAINS, aRelayDomains);
+    }
+
     /**
      * Returns the configurations as a {@link java.util.Map} with {@link de.novanic.eventservice.config.ConfigParameter}
      * instances as the key.
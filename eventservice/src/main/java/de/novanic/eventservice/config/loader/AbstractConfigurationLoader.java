@@ -38,7 +38,7 @@ public abstract class AbstractConfigurationLoader implements ConfigurationLoader
      */
     public EventServiceConfiguration load() {
         if(isAvailable()) {
-            return new RemoteEventServiceConfiguration(getConfigDescription(),
+            final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration(getConfigDescription(),
                     readIntParameterValue(ConfigParameter.MIN_WAITING_TIME_TAG),
                     readIntParameterValue(ConfigParameter.MAX_WAITING_TIME_TAG),
                     readIntParameterValue(ConfigParameter.TIMEOUT_TIME_TAG),
@@ -47,8 +47,23 @@ public abstract class AbstractConfigurationLoader implements ConfigurationLoader
                     readParameterValue(ConfigParameter.CONNECTION_STRATEGY_CLIENT_CONNECTOR),
                     readParameterValue(ConfigParameter.CONNECTION_STRATEGY_SERVER_CONNECTOR),
                     readParameterValue(ConfigParameter.CONNECTION_STRATEGY_ENCODING),
-                    readIntParameterValue(ConfigParameter.MAX_EVENTS)
-            );
+                    readIntParameterValue(ConfigParameter.MAX_EVENTS));
+            theConfiguration.setRemoteRegistryAddress(readParameterValue(ConfigParameter.REMOTE_REGISTRY_ADDRESS));
+            theConfiguration.setSpillTime(readIntParameterValue(ConfigParameter.EVENTS_SPILL_TIME));
+            theConfiguration.setSpillMaxEvents(readIntParameterValue(ConfigParameter.EVENTS_SPILL_MAX));
+            theConfiguration.setSpillDirectory(readParameterValue(ConfigParameter.EVENTS_SPILL_DIRECTORY));
+            theConfiguration.setSharedEventLog(readBooleanParameterValue(ConfigParameter.EVENTS_SHARED_LOG));
+            theConfiguration.setMonitorClassName(readParameterValue(ConfigParameter.MONITOR));
+            theConfiguration.setRecordFile(readParameterValue(ConfigParameter.RECORD_FILE));
+            theConfiguration.setReconnectDelay(readIntParameterValue(ConfigParameter.RECONNECT_DELAY));
+            theConfiguration.setReconnectDelayMax(readIntParameterValue(ConfigParameter.RECONNECT_DELAY_MAX));
+            theConfiguration.setMaxListenRequests(readIntParameterValue(ConfigParameter.MAX_LISTEN_REQUESTS));
+            theConfiguration.setDomainHistories(readParameterValue(ConfigParameter.EVENTS_HISTORY));
+            theConfiguration.setRemoteRegistrySecret(readParameterValue(ConfigParameter.REMOTE_REGISTRY_SECRET));
+            theConfiguration.setRemoteRegistryClasses(readParameterValue(ConfigParameter.REMOTE_REGISTRY_CLASSES));
+            theConfiguration.setRelayUpstreamAddress(readParameterValue(ConfigParameter.RELAY_UPSTREAM_ADDRESS));
+            theConfiguration.setRelayDomains(readParameterValue(ConfigParameter.RELAY_DOMAINS));
+            return theConfiguration;
         }
         return null;
     }
@@ -96,6 +111,19 @@ public abstract class AbstractConfigurationLoader implements ConfigurationLoader
         return null;
     }
 
+    /**
+     * Reads the boolean value of the parameter ("true" in any case means true, any other value means false).
+     * @param aConfigParameter parameter
+     * @return boolean parameter value, NULL when the parameter isn't configured
+     */
+    private Boolean readBooleanParameterValue(ConfigParameter aConfigParameter) {
+        final String theParameterValue = readParameterValue(aConfigParameter);
+        if(isParameterValueDefined(theParameterValue)) {
+            return Boolean.valueOf(theParameterValue.trim());
+        }
+        return null;
+    }
+
     /**
      * Checks if the parameter is available.
      * @param aParameterValue value to check
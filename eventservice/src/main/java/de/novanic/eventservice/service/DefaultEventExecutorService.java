@@ -28,6 +28,8 @@ import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.domain.Domain;
 
+import java.util.List;
+
 /**
  * DefaultEventExecutorService can be used to add events via the server side.
  *
@@ -83,6 +85,15 @@ public class DefaultEventExecutorService implements EventExecutorService
         myEventRegistry.addEvent(aDomain, anEvent);
     }
 
+    /**
+     * Adds events for all users. The call has no effect when the list is NULL or empty.
+     * @param aDomain the domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        myEventRegistry.addEvents(aDomain, anEvents);
+    }
+
     /**
      * Adds an event for a specific user
      * @param anEvent event to add
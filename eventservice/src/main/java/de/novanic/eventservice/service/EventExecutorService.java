@@ -25,6 +25,8 @@ import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.domain.Domain;
 
+import java.util.List;
+
 /**
  * EventExecutorService can be used to add events via the server side.
  *
@@ -54,6 +56,13 @@ public interface EventExecutorService
      */
     void addEvent(Domain aDomain, Event anEvent);
 
+    /**
+     * Adds events for all users. The call has no effect when the list is NULL or empty.
+     * @param aDomain the domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    void addEvents(Domain aDomain, List<Event> anEvents);
+
     /**
      * Adds an event for a specific user
      * @param anEvent event to add
@@ -0,0 +1,139 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service;
+
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistryFactory;
+import de.novanic.eventservice.service.registry.record.RecordingEventRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * The EventServiceDiagnosticsServlet is an optional servlet which returns the diagnostics report of the
+ * {@link de.novanic.eventservice.service.registry.EventRegistry} as JSON on a GET request (see
+ * {@link de.novanic.eventservice.service.registry.statistics.EventRegistryDiagnostics}). A user/client (for example a
+ * slow consumer which hoards events) can be evicted with a POST request and the parameter "evict" (user id).
+ * The eviction has the same effect as an unlisten of the user/client.
+ * <br>
+ * The servlet isn't mapped by default and should be secured, for example:
+ * <pre>
+ * &lt;servlet&gt;
+ *     &lt;servlet-name&gt;EventServiceDiagnostics&lt;/servlet-name&gt;
+ *     &lt;servlet-class&gt;de.novanic.eventservice.service.EventServiceDiagnosticsServlet&lt;/servlet-class&gt;
+ *     &lt;init-param&gt;
+ *         &lt;param-name&gt;topCount&lt;/param-name&gt;
+ *         &lt;param-value&gt;10&lt;/param-value&gt;
+ *     &lt;/init-param&gt;
+ *     &lt;init-param&gt;
+ *         &lt;param-name&gt;slowConsumerTime&lt;/param-name&gt;
+ *         &lt;param-value&gt;30000&lt;/param-value&gt;
+ *     &lt;/init-param&gt;
+ * &lt;/servlet&gt;
+ * </pre>
+ * The init parameters can be overridden per request with request parameters of the same names.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:41:53
+ */
+public class EventServiceDiagnosticsServlet extends HttpServlet
+{
+    private static final Logger LOG = LoggerFactory.getLogger(EventServiceDiagnosticsServlet.class);
+
+    public static final String TOP_COUNT_PARAMETER = "topCount";
+    public static final String SLOW_CONSUMER_TIME_PARAMETER = "slowConsumerTime";
+    public static final String EVICT_PARAMETER = "evict";
+
+    private static final int DEFAULT_TOP_COUNT = 10;
+    private static final long DEFAULT_SLOW_CONSUMER_TIME = 30000;
+
+    private int myTopCount = DEFAULT_TOP_COUNT;
+    private long mySlowConsumerTime = DEFAULT_SLOW_CONSUMER_TIME;
+
+    public void init() throws ServletException {
+        myTopCount = (int)parseLong(getInitParameter(TOP_COUNT_PARAMETER), DEFAULT_TOP_COUNT);
+        mySlowConsumerTime = parseLong(getInitParameter(SLOW_CONSUMER_TIME_PARAMETER), DEFAULT_SLOW_CONSUMER_TIME);
+    }
+
+    /**
+     * Writes the diagnostics report (JSON).
+     */
+    protected void doGet(HttpServletRequest aRequest, HttpServletResponse aResponse) throws ServletException, IOException {
+        EventRegistry theEventRegistry = EventRegistryFactory.getInstance().getEventRegistry();
+        if(theEventRegistry instanceof RecordingEventRegistry) {
+            theEventRegistry = ((RecordingEventRegistry)theEventRegistry).getEventRegistry();
+        }
+        if(!(theEventRegistry instanceof DefaultEventRegistry)) {
+            aResponse.sendError(HttpServletResponse.SC_NOT_IMPLEMENTED, "Diagnostics are not supported by " + theEventRegistry.getClass().getName() + '!');
+            return;
+        }
+        final int theTopCount = (int)parseLong(aRequest.getParameter(TOP_COUNT_PARAMETER), myTopCount);
+        final long theSlowConsumerTime = parseLong(aRequest.getParameter(SLOW_CONSUMER_TIME_PARAMETER), mySlowConsumerTime);
+
+        writeJSON(aResponse, ((DefaultEventRegistry)theEventRegistry).getDiagnostics().createReport(theTopCount, theSlowConsumerTime));
+    }
+
+    /**
+     * Evicts the user/client of the parameter "evict".
+     */
+    protected void doPost(HttpServletRequest aRequest, HttpServletResponse aResponse) throws ServletException, IOException {
+        final String theUserId = aRequest.getParameter(EVICT_PARAMETER);
+        if(theUserId == null) {
+            aResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "The parameter \"" + EVICT_PARAMETER + "\" is required!");
+            return;
+        }
+        final EventRegistry theEventRegistry = EventRegistryFactory.getInstance().getEventRegistry();
+        final boolean isRegistered = theEventRegistry.isUserRegistered(theUserId);
+        if(isRegistered) {
+            LOG.info("{}: evicted by the diagnostics.", theUserId);
+            theEventRegistry.unlisten(theUserId);
+        }
+        writeJSON(aResponse, "{\"evicted\":" + isRegistered + '}');
+    }
+
+    private static void writeJSON(HttpServletResponse aResponse, String aJSON) throws IOException {
+        aResponse.setContentType("application/json;charset=utf-8");
+        aResponse.setHeader("Cache-Control", "no-cache, no-store");
+        PrintWriter theWriter = aResponse.getWriter();
+        theWriter.write(aJSON);
+        theWriter.flush();
+    }
+
+    private static long parseLong(String aValue, long aDefaultValue) {
+        if(aValue != null) {
+            try {
+                return Long.parseLong(aValue.trim());
+            } catch(NumberFormatException e) {
+                LOG.warn("Invalid diagnostics parameter value \"{}\"!", aValue);
+            }
+        }
+        return aDefaultValue;
+    }
+}
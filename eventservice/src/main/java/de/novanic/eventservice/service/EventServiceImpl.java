@@ -24,14 +24,19 @@ package de.novanic.eventservice.service;
 import com.google.gwt.user.server.rpc.RemoteServiceServlet;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.novanic.eventservice.config.ConfigurationDependentFactory;
 import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
 import de.novanic.eventservice.client.config.RemoteEventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.strategy.connector.pipelined.DefaultPipelinedClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector;
 import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
 import de.novanic.eventservice.client.event.service.EventService;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.DomainEvent;
@@ -40,7 +45,10 @@ import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListe
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector;
 import de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector;
+import de.novanic.eventservice.service.exception.ServiceOverloadedException;
 import de.novanic.eventservice.service.registry.EventRegistry;
 import de.novanic.eventservice.service.registry.EventRegistryFactory;
 import de.novanic.eventservice.config.EventServiceConfigurationFactory;
@@ -68,6 +76,7 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
     private static final Logger LOG = LoggerFactory.getLogger(EventServiceImpl.class);
     private EventRegistry myEventRegistry;
     private ConfigurationDependentFactory myConfigurationDependentFactory;
+    private final AtomicInteger myListenRequestCount = new AtomicInteger();
 
     /**
      * The init method should be called automatically before the servlet can be used and should called only one time.
@@ -89,7 +98,9 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
     }
 
     /**
-     * The GET method is used to stream data to the clients.
+     * The GET method is used to stream data to the clients. The events are also streamed when another connection strategy
+     * is configured and the client requests the streaming connection strategy (see
+     * {@link de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector#STRATEGY_PARAMETER}).
      * @param aRequest request
      * @param aResponse response (with the stream)
      * @throws ServletException
@@ -97,6 +108,10 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
      */
     protected void doGet(HttpServletRequest aRequest, HttpServletResponse aResponse) throws ServletException, IOException {
         ConnectionStrategyServerConnector theConnectionStrategyServerConnector = myConfigurationDependentFactory.getConnectionStrategyServerConnector();
+        if(!(theConnectionStrategyServerConnector instanceof StreamingServerConnector)
+                && DefaultStreamingClientConnector.STREAMING_STRATEGY.equals(aRequest.getParameter(DefaultStreamingClientConnector.STRATEGY_PARAMETER))) {
+            theConnectionStrategyServerConnector = myConfigurationDependentFactory.getConnectionStrategyServerConnector(StreamingServerConnector.class);
+        }
         if(theConnectionStrategyServerConnector instanceof StreamingServerConnector) {
             final String theClientId = getClientId(aRequest);
             StreamingServerConnector theStreamingServerConnector = (StreamingServerConnector)theConnectionStrategyServerConnector;
@@ -105,6 +120,8 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
                 theStreamingServerConnector = (StreamingServerConnector)theStreamingServerConnector.clone();
                 theStreamingServerConnector.prepare(aResponse);
                 listen(theStreamingServerConnector, theClientId);
+            } catch(ServiceOverloadedException e) {
+                writeRetryHint(aResponse, e);
             } catch(EventServiceException e) {
                 throw new ServletException("Error on streaming events to the client\"" + theClientId + "\"!", e);
             } catch(CloneNotSupportedException e) {
@@ -132,7 +149,9 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
         }
         LOG.info("Client \"{}\" initialized.", theClientId);
         return new RemoteEventServiceConfigurationTransferable(theConfiguration.getMinWaitingTime(), theConfiguration.getMaxWaitingTime(),
-                theConfiguration.getTimeoutTime(), theConfiguration.getReconnectAttemptCount(), theClientIdTransferable, theConfiguration.getConnectionStrategyClientConnectorClassName());
+                theConfiguration.getTimeoutTime(), theConfiguration.getReconnectAttemptCount(),
+                theConfiguration.getReconnectDelay(), theConfiguration.getReconnectDelayMax(),
+                theClientIdTransferable, theConfiguration.getConnectionStrategyClientConnectorClassName());
     }
 
     /**
@@ -226,29 +245,139 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
      * The default listening method is long-polling, but that can be changed with changing the connection strategy.
      * The connection strategy can be configured with {@link de.novanic.eventservice.config.ConfigParameter#CONNECTION_STRATEGY_CLIENT_CONNECTOR}
      * for the client side part / connector and {@link de.novanic.eventservice.config.ConfigParameter#CONNECTION_STRATEGY_SERVER_CONNECTOR}.
+     * Pipelined listen requests (with a sequence number) are processed with pipelined long-polling
+     * (see {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}).
      * @return list of events
      */
     public List<DomainEvent> listen() {
         final String theClientId = getClientId();
         ConnectionStrategyServerConnector theConnectionStrategyServerConnector = myConfigurationDependentFactory.getConnectionStrategyServerConnector();
+        final String theSequenceNumber = getListenSequenceNumber();
+        if(theSequenceNumber != null) {
+            //pipelined listen requests are ordered with the sequence number
+            theConnectionStrategyServerConnector = createPipelinedServerConnector(theSequenceNumber, theClientId);
+        } else if(theConnectionStrategyServerConnector instanceof StreamingServerConnector) {
+            //the events can't be streamed with a server call, the server call is answered with long-polling (for example for adaptive client connectors)
+            theConnectionStrategyServerConnector = myConfigurationDependentFactory.getConnectionStrategyServerConnector(LongPollingServerConnector.class);
+        }
         LOG.debug("Listen (client id \"{}\").", theClientId);
         return listen(theConnectionStrategyServerConnector, theClientId);
     }
 
+    /**
+     * Returns the sequence number of a pipelined listen request
+     * (see {@link de.novanic.eventservice.client.connection.strategy.connector.pipelined.DefaultPipelinedClientConnector#SEQUENCE_HEADER}).
+     * @return sequence number of the listen request, NULL when the listen request isn't pipelined
+     */
+    private String getListenSequenceNumber() {
+        final HttpServletRequest theRequest = getThreadLocalRequest();
+        if(theRequest != null) {
+            return theRequest.getHeader(DefaultPipelinedClientConnector.SEQUENCE_HEADER);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}
+     * for a pipelined listen request. The usual long-polling connector is returned when the sequence number is invalid.
+     * @param aSequenceNumber sequence number of the listen request
+     * @param aClientId client / user
+     * @return server side connector for the pipelined listen request
+     */
+    private ConnectionStrategyServerConnector createPipelinedServerConnector(String aSequenceNumber, String aClientId) {
+        final PipelinedLongPollingServerConnector theServerConnector = myConfigurationDependentFactory.getConnectionStrategyServerConnector(PipelinedLongPollingServerConnector.class);
+        try {
+            //The pipelined server connector has to be cloned, because it isn't stateless (a prepare method is required).
+            final PipelinedLongPollingServerConnector thePreparedServerConnector = (PipelinedLongPollingServerConnector)theServerConnector.clone();
+            thePreparedServerConnector.prepare(Long.parseLong(aSequenceNumber));
+            return thePreparedServerConnector;
+        } catch(NumberFormatException e) {
+            LOG.warn("Invalid listen sequence number \"{}\" (client id \"{}\")!", aSequenceNumber, aClientId);
+        } catch(CloneNotSupportedException e) {
+            LOG.error("Error on cloning \"" + PipelinedLongPollingServerConnector.class.getName() + "\" for client \"" + aClientId + "\"!", e);
+        }
+        return theServerConnector;
+    }
+
     /**
      * The listen method returns all events for the user (events for all domains where the user is registered and user
      * specific events). If no events are available, the method waits a defined time before the events are returned.
      * The client side calls the method with a defined interval to receive all events. If the client doesn't call the
      * method in that interval, the user will be removed from the EventRegistry. The timeout time and the waiting time
      * can be configured with {@link de.novanic.eventservice.config.EventServiceConfiguration}.
+     * When the max. amount of concurrent listen requests is reached ({@link de.novanic.eventservice.config.ConfigParameter#MAX_LISTEN_REQUESTS}),
+     * the listen request is rejected with a {@link de.novanic.eventservice.service.exception.ServiceOverloadedException}.
      * @param aServerEventListener {@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector} for the listening method
      * @param aClientId client / user
      * @return list of events
      */
     private List<DomainEvent> listen(ConnectionStrategyServerConnector aServerEventListener, String aClientId) {
         LOG.debug("Listen (client id \"{}\").", aClientId);
-        return myEventRegistry.listen(aServerEventListener, aClientId);
-    }    
+        final EventServiceConfiguration theConfiguration = myEventRegistry.getConfiguration();
+        final Integer theMaxListenRequests = theConfiguration.getMaxListenRequests();
+        if(myListenRequestCount.incrementAndGet() > (theMaxListenRequests != null ? theMaxListenRequests : Integer.MAX_VALUE)) {
+            myListenRequestCount.decrementAndGet();
+            LOG.debug("Listen rejected, because the max. amount of listen requests is reached (client id \"{}\").", aClientId);
+            throw new ServiceOverloadedException(getRetryAfterTime(theConfiguration));
+        }
+        try {
+            return myEventRegistry.listen(aServerEventListener, aClientId);
+        } finally {
+            myListenRequestCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the time after which a rejected client should retry the listen request. That is the max. reconnect delay
+     * or the max. waiting time (the duration of a listen cycle) when no max. reconnect delay is configured.
+     * @param aConfiguration configuration
+     * @return time after which a rejected client should retry the listen request (in milliseconds)
+     */
+    private static int getRetryAfterTime(EventServiceConfiguration aConfiguration) {
+        Integer theRetryAfterTime = aConfiguration.getReconnectDelayMax();
+        if(theRetryAfterTime == null) {
+            theRetryAfterTime = aConfiguration.getMaxWaitingTime();
+        }
+        return (theRetryAfterTime != null) ? theRetryAfterTime : 0;
+    }
+
+    /**
+     * Answers requests which are rejected because of an overload ({@link de.novanic.eventservice.service.exception.ServiceOverloadedException})
+     * with the retry hint. Other unexpected failures are handled by the super class.
+     * @param aThrowable unexpected failure
+     */
+    protected void doUnexpectedFailure(Throwable aThrowable) {
+        Throwable theCause = aThrowable;
+        while(theCause != null && !(theCause instanceof ServiceOverloadedException)) {
+            theCause = theCause.getCause();
+        }
+        if(theCause != null) {
+            try {
+                writeRetryHint(getThreadLocalResponse(), (ServiceOverloadedException)theCause);
+            } catch(IOException e) {
+                LOG.error("Error on writing the retry hint!", e);
+            }
+        } else {
+            super.doUnexpectedFailure(aThrowable);
+        }
+    }
+
+    /**
+     * Writes the retry hint of a rejected request. The response gets the status code 503 (service unavailable) with the
+     * Retry-After header (in seconds) and the time to wait in milliseconds as the content, because the client side can't
+     * access the headers of a failed server call.
+     * @param aResponse response
+     * @param aServiceOverloadedException exception with the retry hint
+     * @throws IOException
+     */
+    private static void writeRetryHint(HttpServletResponse aResponse, ServiceOverloadedException aServiceOverloadedException) throws IOException {
+        final int theRetryAfterTime = aServiceOverloadedException.getRetryAfter();
+        aResponse.reset();
+        aResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        aResponse.setHeader("Retry-After", String.valueOf((theRetryAfterTime + 999) / 1000));
+        aResponse.setContentType("text/plain");
+        aResponse.getOutputStream().write(String.valueOf(theRetryAfterTime).getBytes("utf-8"));
+    }
 
     /**
      * Unlisten for events (for the current user) in all domains (deregisters the user from all domains).
@@ -300,6 +429,16 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
         myEventRegistry.addEvent(aDomain, anEvent);
     }
 
+    /**
+     * Adds events for all users in the domain. The events are added with one server call and the users/clients of
+     * the domain are informed once about all events. The call has no effect when the list is NULL or empty.
+     * @param aDomain domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        myEventRegistry.addEvents(aDomain, anEvents);
+    }
+
     /**
      * Adds an event only for the current user.
      * @param anEvent event to add to the user
@@ -318,6 +457,63 @@ public class EventServiceImpl extends RemoteServiceServlet implements EventServi
         return myEventRegistry.getListenDomains(theClientId);
     }
 
+    /**
+     * Executes the operations in the specified order with one server call. A failed operation doesn't stop the execution
+     * of the following operations.
+     * @param anOperations operations to execute
+     * @return list with one entry per operation, NULL when the operation was executed successfully, otherwise the error message
+     */
+    public List<String> executeBatch(List<EventServiceOperation> anOperations) {
+        List<String> theResults = new ArrayList<String>(anOperations.size());
+        for(EventServiceOperation theOperation: anOperations) {
+            String theError = null;
+            try {
+                execute(theOperation);
+            } catch(RuntimeException e) {
+                LOG.error("Error on executing \"" + theOperation + "\" of a batch!", e);
+                theError = (e.getMessage() != null) ? e.getMessage() : e.getClass().getName();
+            }
+            theResults.add(theError);
+        }
+        return theResults;
+    }
+
+    /**
+     * Executes a single operation of a batch with the corresponding service method.
+     * @param anOperation operation to execute
+     */
+    private void execute(EventServiceOperation anOperation) {
+        switch(anOperation.getOperationType()) {
+            case REGISTER:
+                register(anOperation.getDomain(), anOperation.getEventFilter());
+                break;
+            case REGISTER_EVENT_FILTER:
+                registerEventFilter(anOperation.getDomain(), anOperation.getEventFilter());
+                break;
+            case DEREGISTER_EVENT_FILTER:
+                deregisterEventFilter(anOperation.getDomain());
+                break;
+            case REGISTER_UNLISTEN_EVENT:
+                registerUnlistenEvent(anOperation.getUnlistenScope(), anOperation.getUnlistenEvent());
+                break;
+            case UNLISTEN:
+                if(anOperation.getDomains() != null) {
+                    unlisten(anOperation.getDomains());
+                } else {
+                    unlisten(anOperation.getDomain());
+                }
+                break;
+            case ADD_EVENT:
+                addEvent(anOperation.getDomain(), anOperation.getEvent());
+                break;
+            case ADD_EVENT_USER_SPECIFIC:
+                addEventUserSpecific(anOperation.getEvent());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported operation \"" + anOperation.getOperationType() + "\"!");
+        }
+    }
+
     /**
      * Registers the {@link de.novanic.eventservice.config.loader.WebDescriptorConfigurationLoader},
      * loads the first available configuration (with {@link de.novanic.eventservice.config.EventServiceConfigurationFactory})
@@ -27,6 +27,7 @@ import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.List;
 
 /**
  * RemoteEventServiceServlet is an implementation of {@link de.novanic.eventservice.service.EventExecutorService} as a servlet
@@ -64,6 +65,15 @@ public abstract class RemoteEventServiceServlet extends RemoteServiceServlet imp
         getEventExecutorService().addEvent(aDomain, anEvent);
     }
 
+    /**
+     * Adds events for all users in the domain. The call has no effect when the list is NULL or empty.
+     * @param aDomain domain to add the events
+     * @param anEvents events to add (can be NULL)
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        getEventExecutorService().addEvents(aDomain, anEvents);
+    }
+
     /**
      * Adds an event for a specific user
      * @param anEvent event to add
@@ -21,11 +21,13 @@
  */
 package de.novanic.eventservice.service.connection.strategy.connector;
 
+import de.novanic.eventservice.client.event.DomainEvent;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.service.EventServiceException;
 import de.novanic.eventservice.service.registry.user.UserInfo;
 
 import java.io.UnsupportedEncodingException;
+import java.util.List;
 
 /**
  * {@link ConnectionStrategyServerConnectorAdapter} is an abstract default implementation of {@link ConnectionStrategyServerConnector}
@@ -79,7 +81,19 @@ public abstract class ConnectionStrategyServerConnectorAdapter implements Connec
      * @throws EventServiceException can occur when the waiting was interrupted by an error
      */
     protected boolean waitMaxWaitingTime(UserInfo aUserInfo) throws EventServiceException {
-        final int theMaxWaitingTime = myConfiguration.getMaxWaitingTime();
+        return waitMaxWaitingTime(aUserInfo, myConfiguration.getMaxWaitingTime());
+    }
+
+    /**
+     * Waits for the specified max. waiting time and returns whether the max. waiting time
+     * was exceed or was interrupted by an occurred event (notification).
+     * @param aUserInfo user
+     * @param aMaxWaitingTime max. time to wait
+     * @return true when the max. waiting time was exceed, otherwise (interrupted by a notification) false
+     * @throws EventServiceException can occur when the waiting was interrupted by an error
+     */
+    protected boolean waitMaxWaitingTime(UserInfo aUserInfo, long aMaxWaitingTime) throws EventServiceException {
+        final long theMaxWaitingTime = aMaxWaitingTime;
         if(theMaxWaitingTime <= 0) {
             return true;
         }
@@ -100,6 +114,27 @@ public abstract class ConnectionStrategyServerConnectorAdapter implements Connec
         return false;
     }
 
+    /**
+     * Returns and removes the events of the user (limited by the configured max. events). The delivery latencies of the
+     * events are recorded for the connector (see {@link de.novanic.eventservice.service.registry.user.UserInfo#retrieveEvents(int, String)}),
+     * so the events should be transferred directly afterwards.
+     * @see de.novanic.eventservice.config.ConfigParameter#MAX_EVENTS
+     * @param aUserInfo user
+     * @return events of the user
+     */
+    protected List<DomainEvent> retrieveEvents(UserInfo aUserInfo) {
+        return aUserInfo.retrieveEvents(myConfiguration.getMaxEvents(), getClass().getName());
+    }
+
+    /**
+     * Returns the amount of bytes which were written to the client by the listen call of the connector.
+     * @return amount of written bytes, -1 when the connector doesn't write the events itself (for example when the
+     * events are returned and serialized by GWT-RPC)
+     */
+    public long getWrittenByteCount() {
+        return -1;
+    }
+
     /**
      * Waits for a specified time.
      * @param aWaitingTime time to wait
@@ -0,0 +1,116 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.connection.strategy.connector.longpolling;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.service.registry.user.ListenPipeline;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector} implements
+ * pipelined long-polling. The client keeps a second listen request in flight, so events which occur while the client processes
+ * the response of a listen request are returned by the next listen request without waiting for a full round trip.
+ *
+ * The listen requests of a user are ordered by their sequence numbers (see {@link de.novanic.eventservice.service.registry.user.ListenPipeline}).
+ * Only one listen request holds the events at a time, the newer listen request parks while the older listen request is
+ * draining the events. Listen requests without a sequence number are processed like usual long-polling requests.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+public class PipelinedLongPollingServerConnector extends LongPollingServerConnector implements Cloneable
+{
+    private long mySequenceNumber;
+
+    /**
+     * Creates a new {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}.
+     * The {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector} implements
+     * the pipelined long-polling event listen method.
+     * @param aConfiguration configuration
+     */
+    public PipelinedLongPollingServerConnector(EventServiceConfiguration aConfiguration) {
+        super(aConfiguration);
+        mySequenceNumber = -1;
+    }
+
+    /**
+     * Prepares the {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}
+     * with the sequence number of the listen request. Therefore that method must be called before the listening for events starts.
+     * @param aSequenceNumber sequence number of the listen request
+     */
+    public void prepare(long aSequenceNumber) {
+        mySequenceNumber = aSequenceNumber;
+    }
+
+    /**
+     * Listens for occurring events with the long-polling strategy. The listen request waits for its turn before it listens
+     * for the events. When another listen request still holds the events after the max. waiting time, no events are returned.
+     * The time which was spent for waiting for the turn is subtracted from the max. waiting time, so the listen request
+     * doesn't wait longer than the max. waiting time in total.
+     * @param aUserInfo {@link de.novanic.eventservice.service.registry.user.UserInfo} which holds new occurred events
+     * @return occurred events
+     * @throws EventServiceException
+     */
+    public List<DomainEvent> listen(UserInfo aUserInfo) throws EventServiceException {
+        if(mySequenceNumber < 0) {
+            return super.listen(aUserInfo);
+        }
+        final ListenPipeline theListenPipeline = aUserInfo.getListenPipeline();
+        final long theMaxWaitingTime = getConfiguration().getMaxWaitingTime();
+        final long theStartTime = PlatformUtil.getCurrentTime();
+        try {
+            if(!theListenPipeline.acquire(mySequenceNumber, theMaxWaitingTime)) {
+                return new ArrayList<DomainEvent>(0);
+            }
+        } catch(InterruptedException e) {
+            throw new EventServiceException("Error on waiting for the turn of the listen request!", e);
+        }
+        try {
+            waitMinWaitingTime();
+            final long theRemainingWaitingTime = theMaxWaitingTime - (PlatformUtil.getCurrentTime() - theStartTime);
+            if(theRemainingWaitingTime > 0) {
+                waitMaxWaitingTime(aUserInfo, theRemainingWaitingTime);
+            }
+            return retrieveEvents(aUserInfo);
+        } finally {
+            theListenPipeline.release(mySequenceNumber);
+        }
+    }
+
+    /**
+     * A {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector} has to be
+     * cloneable, because it isn't stateless caused by the sequence number of the listen request
+     * (see {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector#prepare(long)}).
+     * @return the cloned {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}
+     * @throws CloneNotSupportedException
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+}
@@ -24,7 +24,9 @@ package de.novanic.eventservice.service.connection.strategy.connector.streaming;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.server.rpc.SerializationPolicy;
 import com.google.gwt.user.server.rpc.impl.ServerSerializationStreamWriter;
+import de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector;
 import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.service.EventServiceException;
 import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnectorAdapter;
@@ -59,6 +61,7 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
     private HttpServletResponse myResponse;
     private OutputStream myOutputStream;
     private SerializationPolicy mySerializationPolicy;
+    private long myWrittenByteCount;
 
     /**
      * Creates a new {@link de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector}.
@@ -93,6 +96,7 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
      */
     public void prepare(HttpServletResponse aResponse) throws EventServiceException {
         myResponse = aResponse;
+        myWrittenByteCount = 0;
         try {
             myOutputStream = aResponse.getOutputStream();
         } catch(IOException e) {
@@ -120,13 +124,13 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
         try {
             //loops until the max. waiting time is exceed
             do {
-                List<DomainEvent> theCurrentEvents = aUserInfo.retrieveEvents(getConfiguration().getMaxEvents());
+                List<DomainEvent> theCurrentEvents = retrieveEvents(aUserInfo);
                 if(!theCurrentEvents.isEmpty()) {
                     aUserInfo.reportUserActivity();
                     theEvents.addAll(theCurrentEvents);
                     for(DomainEvent theEvent: theCurrentEvents) {
-                        //serialization and escaping
-                        String theSerializedEvent = serialize(theEvent);
+                        //serialization and escaping (the domain header allows the client to skip events without de-serialization)
+                        String theSerializedEvent = createDomainHeader(theEvent.getDomain()) + serialize(theEvent);
                         theSerializedEvent = escapeSerializedData(theSerializedEvent);
                         //writing to the stream
                         printStatement(encode(theSerializedEvent), myOutputStream);
@@ -150,6 +154,15 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
         return theEvents;
     }
 
+    /**
+     * Returns the amount of bytes which were written to the stream since the preparation of the connector
+     * ({@link de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector#prepare(javax.servlet.http.HttpServletResponse)}).
+     * @return amount of written bytes
+     */
+    public long getWrittenByteCount() {
+        return myWrittenByteCount;
+    }
+
     /**
      * A {@link de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector} has to be
      * cloneable, because it isn't stateless caused by the necessary for a client dependent response
@@ -182,6 +195,25 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
 		}
     }
 
+    /**
+     * Creates the domain header which is streamed in front of the serialized event
+     * (see {@link de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector#DOMAIN_HEADER_TAG}).
+     * @param aDomain domain of the event, NULL for user-specific events
+     * @return domain header
+     */
+    private static String createDomainHeader(Domain aDomain) {
+        final StringBuilder theHeader = new StringBuilder();
+        theHeader.append(DefaultStreamingClientConnector.DOMAIN_HEADER_TAG);
+        if(aDomain != null) {
+            theHeader.append(aDomain.getName().length())
+                    .append(DefaultStreamingClientConnector.DOMAIN_HEADER_TAG)
+                    .append(aDomain.getName());
+        } else {
+            theHeader.append(DefaultStreamingClientConnector.DOMAIN_HEADER_TAG);
+        }
+        return theHeader.toString();
+    }
+
     /**
      * Escapes the serialized data.
      * @param aSerializedData serialized data to escape
@@ -205,6 +237,7 @@ public class StreamingServerConnector extends ConnectionStrategyServerConnectorA
             anOutputStream.write(SCRIPT_TAG_PREFIX);
             anOutputStream.write(aStatement);
             anOutputStream.write(SCRIPT_TAG_SUFFIX);
+            myWrittenByteCount += SCRIPT_TAG_PREFIX.length + aStatement.length + SCRIPT_TAG_SUFFIX.length;
         } catch(IOException e) {
             throw new EventServiceException("Error on printing statement \"" + new String(aStatement) + "\"!", e);
         } finally {
@@ -0,0 +1,52 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.exception;
+
+/**
+ * ServiceOverloadedException is an exception that should be thrown when a request is rejected, because the service is
+ * overloaded. It holds the time after which the client should retry the request (retry hint).
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:00:29
+ */
+public class ServiceOverloadedException extends RuntimeException
+{
+    private final int myRetryAfter;
+
+    public ServiceOverloadedException(int aRetryAfter) {
+        this("The service is overloaded! Retry after " + aRetryAfter + "ms.", aRetryAfter);
+    }
+
+    public ServiceOverloadedException(String aMessage, int aRetryAfter) {
+        super(aMessage);
+        myRetryAfter = aRetryAfter;
+    }
+
+    /**
+     * Returns the time after which the client should retry the request.
+     * @return time after which the client should retry the request (in milliseconds)
+     */
+    public int getRetryAfter() {
+        return myRetryAfter;
+    }
+}
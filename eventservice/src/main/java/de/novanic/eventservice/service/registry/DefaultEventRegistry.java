@@ -21,24 +21,35 @@
  */
 package de.novanic.eventservice.service.registry;
 
+import de.novanic.eventservice.client.config.ConfigurationException;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.DomainEvent;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.ConfigurationDependentFactory;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
 import de.novanic.eventservice.service.EventServiceException;
 import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnectorAdapter;
 import de.novanic.eventservice.service.registry.user.*;
 import de.novanic.eventservice.service.registry.domain.ListenDomainAccessor;
+import de.novanic.eventservice.service.registry.domain.DomainEventHistory;
+import de.novanic.eventservice.service.registry.domain.DomainEventLog;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import de.novanic.eventservice.service.registry.statistics.EventRegistryDiagnostics;
+import de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics;
 import de.novanic.eventservice.service.UserTimeoutListener;
 import de.novanic.eventservice.event.listener.unlisten.UnlistenEventFilter;
+import de.novanic.eventservice.util.PlatformUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The EventRegistry handles the users/clients and the events per domain. Users can be registered for a domain/context
@@ -48,6 +59,14 @@ import java.util.*;
  *
  * <br>The client id is required, because the connection to every client must be kept open.
  *
+ * <br>When the shared event log is activated ({@link de.novanic.eventservice.config.ConfigParameter#EVENTS_SHARED_LOG}),
+ * the events of a domain are appended once to a log of the domain ({@link de.novanic.eventservice.service.registry.domain.DomainEventLog})
+ * and every user holds only a cursor for the log, instead of a copy of every event. The unlisten events are still
+ * added to every user, because the EventFilters of the unlisten events depend on the registrations at the time of the event.
+ *
+ * <br>The statistics of the EventRegistry are recorded by {@link de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics},
+ * which can be registered as an MBean (JMX).
+ *
  * @see de.novanic.eventservice.service.EventServiceImpl
  *
  * @author sstrohschein
@@ -62,6 +81,12 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
     private final DomainUserMapping myDomainUserMapping;
     private final UserManager myUserManager;
     private final UserActivityScheduler myUserActivityScheduler;
+    private final ConcurrentMap<Domain, DomainEventHistory> myDomainHistories;
+    private final ConcurrentMap<Domain, DomainEventLog> myDomainLogs;
+    private final boolean isSharedEventLog;
+    private final EventRegistryStatistics myStatistics;
+    private final EventRegistryDiagnostics myDiagnostics;
+    private final EventServiceMonitor myMonitor;
 
     /**
      * Creates a new EventRegistry with a configuration ({@link de.novanic.eventservice.config.EventServiceConfiguration}).
@@ -70,12 +95,34 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
      * @see de.novanic.eventservice.service.registry.EventRegistryFactory#getEventRegistry()
      */
     protected DefaultEventRegistry(EventServiceConfiguration aConfiguration) {
+        this(aConfiguration, UserManagerFactory.getInstance().getUserManager(aConfiguration));
+    }
+
+    /**
+     * Creates a new EventRegistry with a configuration ({@link de.novanic.eventservice.config.EventServiceConfiguration})
+     * and an own {@link de.novanic.eventservice.service.registry.user.UserManager}. That is required when more than one
+     * EventRegistry is used within one JVM (for example an upstream node and a relay node, see
+     * {@link de.novanic.eventservice.service.registry.relay.EventRelay}).
+     * @param aConfiguration configuration
+     * @param aUserManager {@link de.novanic.eventservice.service.registry.user.UserManager} which manages the users of the EventRegistry
+     */
+    protected DefaultEventRegistry(EventServiceConfiguration aConfiguration, UserManager aUserManager) {
         myConfiguration = aConfiguration;
         myDomainUserMapping = new DomainUserMapping();
-        myUserManager = UserManagerFactory.getInstance().getUserManager(aConfiguration);
+        myDomainHistories = new ConcurrentHashMap<Domain, DomainEventHistory>();
+        myDomainLogs = new ConcurrentHashMap<Domain, DomainEventLog>();
+        isSharedEventLog = Boolean.TRUE.equals(aConfiguration.isSharedEventLog());
+        myUserManager = aUserManager;
+        myStatistics = new EventRegistryStatistics(myUserManager, myDomainUserMapping);
+        myDiagnostics = new EventRegistryDiagnostics(myUserManager, myDomainUserMapping, myStatistics);
+        myMonitor = createMonitor(aConfiguration);
         myUserActivityScheduler = myUserManager.getUserActivityScheduler();
         myUserActivityScheduler.addTimeoutListener(new TimeoutListener());
+        if(myMonitor != null) {
+            myUserActivityScheduler.setEventServiceMonitor(myMonitor);
+        }
         myUserManager.activateUserActivityScheduler();
+        registerDomainHistories(aConfiguration.getDomainHistories());
 
         LOG.info("Configuration changed - {}", aConfiguration.toString());
     }
@@ -123,7 +170,9 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
     /**
      * Registers a user for listening for the corresponding domain. From now all events for the domain are recognized and
      * will be returned when listen ({@link DefaultEventRegistry#listen(de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector , String)}) is called. The {@link de.novanic.eventservice.client.event.filter.EventFilter}
-     * is optional and can be NULL.
+     * is optional and can be NULL. When a history is registered for the domain
+     * ({@link DefaultEventRegistry#registerDomainHistory(de.novanic.eventservice.client.event.domain.Domain, int, long)}),
+     * the recorded events are added to the user with the registration.
      * @param aDomain the domain to listen
      * @param aUserId the user to register
      * @param anEventFilter EventFilter to filter the domain events (optional, can be NULL)
@@ -131,20 +180,65 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
     public void registerUser(final Domain aDomain, final String aUserId, EventFilter anEventFilter) {
         //create UserInfo
         UserInfo theUserInfo = myUserManager.addUser(aUserId);
+        theUserInfo.setDeliveryLatencyStatistics(myStatistics.getDeliveryLatencyStatistics());
+        theUserInfo.setEventServiceMonitor(myMonitor);
 
         //register UserInfo for the Domain
         if(aDomain != null) {
-            myDomainUserMapping.addUser(aDomain, theUserInfo);
+            if(!registerUserWithHistory(aDomain, theUserInfo, anEventFilter)) {
+                //the cursor is created before the user is added to the domain, so no event which is added to the domain
+                //after the registration can be missed
+                addDomainCursor(aDomain, theUserInfo);
+                myDomainUserMapping.addUser(aDomain, theUserInfo);
 
-            LOG.debug("User \"{}\" registered for domain \"{}\".", aUserId, aDomain);
+                LOG.debug("User \"{}\" registered for domain \"{}\".", aUserId, aDomain);
 
-            //set EventFilter
-            setEventFilter(aDomain, theUserInfo, anEventFilter);
+                //set EventFilter
+                setEventFilter(aDomain, theUserInfo, anEventFilter);
+            }
         } else {
             LOG.debug("User \"{}\" registered.", aUserId);
         }
     }
 
+    /**
+     * Registers a user for a domain with a history and adds the recorded events of the history to the user. The registration
+     * and the replay are executed with the monitor of the history, so no event can be added to the domain in the meantime
+     * (see {@link DefaultEventRegistry#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)}).
+     * The recorded events are only added when the user wasn't already registered for the domain.
+     * @param aDomain the domain to listen
+     * @param aUserInfo the user to register
+     * @param anEventFilter EventFilter to filter the domain events (optional, can be NULL)
+     * @return true when the user is registered with the history, false when no history is registered for the domain
+     */
+    private boolean registerUserWithHistory(Domain aDomain, UserInfo aUserInfo, EventFilter anEventFilter) {
+        while(true) {
+            final DomainEventHistory theDomainHistory = getDomainHistory(aDomain);
+            if(theDomainHistory == null) {
+                return false;
+            }
+            synchronized(theDomainHistory) {
+                //the history could be replaced or deregistered in the meantime
+                if(theDomainHistory == getDomainHistory(aDomain)) {
+                    //the EventFilter is set before, because it has to be applied to the recorded events
+                    setEventFilter(aDomain, aUserInfo, anEventFilter);
+                    if(!myDomainUserMapping.isUserContained(aDomain, aUserInfo)) {
+                        myDomainUserMapping.addUser(aDomain, aUserInfo);
+
+                        LOG.debug("User \"{}\" registered for domain \"{}\" (with history).", aUserInfo, aDomain);
+
+                        for(Event theEvent: theDomainHistory.getEvents()) {
+                            addEvent(aDomain, aUserInfo, theEvent);
+                        }
+                        //the cursor is positioned behind the replayed events
+                        addDomainCursor(aDomain, aUserInfo);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
     /**
      * The {@link de.novanic.eventservice.client.event.filter.EventFilter} for a user domain combination can be set or
      * changed with that method. The {@link de.novanic.eventservice.client.event.filter.EventFilter} can be removed
@@ -221,13 +315,29 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
         LOG.debug("{}: listen (UserInfo {}).", aUserId, theUserInfo);
         if(theUserInfo != null) {
             myUserActivityScheduler.reportUserActivity(theUserInfo);
+            myStatistics.startListen(aServerEventListener);
+            final EventServiceMonitor.ListenOperation theListenOperation = (myMonitor != null)
+                    ? myMonitor.startListen(aUserId, aServerEventListener.getClass().getName())
+                    : null;
+            int theEventCount = 0;
+            theUserInfo.startListening();
             try {
-                return aServerEventListener.listen(theUserInfo);
+                final List<DomainEvent> theEvents = aServerEventListener.listen(theUserInfo);
+                if(theEvents != null) {
+                    theEventCount = theEvents.size();
+                    myStatistics.addDeliveredEvents(theEventCount);
+                }
+                return theEvents;
             } catch(EventServiceException e) {
                 if(LOG.isErrorEnabled()) {
                     LOG.error("Error on listening for user \"" + theUserInfo + "\" with \"" + aServerEventListener.getClass().getName() + "\"!", e);
                 }
             } finally {
+                theUserInfo.finishListening();
+                if(theListenOperation != null) {
+                    theListenOperation.finish(theEventCount, getWrittenByteCount(aServerEventListener));
+                }
+                myStatistics.finishListen(aServerEventListener);
                 myUserActivityScheduler.reportUserActivity(theUserInfo);
             }
         }
@@ -291,6 +401,7 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
      */
     private boolean removeUser(Domain aDomain, UserInfo aUserInfo) {
         boolean isUserRemoved = myDomainUserMapping.removeUser(aDomain, aUserInfo);
+        aUserInfo.removeDomainCursor(aDomain);
         if(isUserRemoved) {
             LOG.debug("User \"{}\" removed from domain \"{}\".", aUserInfo, aDomain);
         }
@@ -372,13 +483,184 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
      */
     public void addEvent(Domain aDomain, Event anEvent) {
         LOG.debug("Event \"{}\" added to domain \"{}\".", anEvent, aDomain);
+        myStatistics.addPublishedEvent(aDomain);
+        final EventServiceMonitor.PublishOperation thePublishOperation = (myMonitor != null) ? myMonitor.startPublish(aDomain, anEvent) : null;
+        boolean isAdded = false;
+        while(!isAdded) {
+            final DomainEventHistory theDomainHistory = getDomainHistory(aDomain);
+            if(theDomainHistory != null) {
+                //recording and delivery have to be atomic to the registration of new users (replay of the history)
+                synchronized(theDomainHistory) {
+                    //the history could be replaced or deregistered in the meantime
+                    if(theDomainHistory == getDomainHistory(aDomain)) {
+                        theDomainHistory.addEvent(anEvent);
+                        addEventToDomainUsers(aDomain, anEvent);
+                        isAdded = true;
+                    }
+                }
+            } else {
+                addEventToDomainUsers(aDomain, anEvent);
+                isAdded = true;
+            }
+        }
+        if(thePublishOperation != null) {
+            thePublishOperation.finish(myDomainUserMapping.getUserCount(aDomain));
+        }
+    }
+
+    /**
+     * Adds events to a domain. The users of the domain are determined once for all events, the accepted events are
+     * enqueued together per user and every waiting listen request is only informed once. The call has no effect
+     * when the list is NULL or empty.
+     * @param aDomain domain for the events
+     * @param anEvents events to add (can be NULL)
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        if(anEvents == null || anEvents.isEmpty()) {
+            return;
+        }
+        LOG.debug("{} events added to domain \"{}\".", anEvents.size(), aDomain);
+        myStatistics.addPublishedEvents(aDomain, anEvents.size());
+        List<EventServiceMonitor.PublishOperation> thePublishOperations = null;
+        if(myMonitor != null) {
+            thePublishOperations = new ArrayList<EventServiceMonitor.PublishOperation>(anEvents.size());
+            for(Event theEvent: anEvents) {
+                thePublishOperations.add(myMonitor.startPublish(aDomain, theEvent));
+            }
+        }
+        boolean isAdded = false;
+        while(!isAdded) {
+            final DomainEventHistory theDomainHistory = getDomainHistory(aDomain);
+            if(theDomainHistory != null) {
+                //recording and delivery have to be atomic to the registration of new users (replay of the history)
+                synchronized(theDomainHistory) {
+                    //the history could be replaced or deregistered in the meantime
+                    if(theDomainHistory == getDomainHistory(aDomain)) {
+                        for(Event theEvent: anEvents) {
+                            theDomainHistory.addEvent(theEvent);
+                        }
+                        addEventsToDomainUsers(aDomain, anEvents);
+                        isAdded = true;
+                    }
+                }
+            } else {
+                addEventsToDomainUsers(aDomain, anEvents);
+                isAdded = true;
+            }
+        }
+        if(thePublishOperations != null) {
+            final int theUserCount = myDomainUserMapping.getUserCount(aDomain);
+            for(EventServiceMonitor.PublishOperation thePublishOperation: thePublishOperations) {
+                thePublishOperation.finish(theUserCount);
+            }
+        }
+    }
+
+    /**
+     * Adds events to all users of a domain with one traversal of the users.
+     * @param aDomain domain for the events
+     * @param anEvents events to add
+     */
+    private void addEventsToDomainUsers(Domain aDomain, List<Event> anEvents) {
+        final Set<UserInfo> theDomainUsers = myDomainUserMapping.getUsers(aDomain);
+        //if the domain doesn't exist/no users assigned, no users must be notified for the events...
+        if(theDomainUsers != null) {
+            if(isSharedEventLog(aDomain)) {
+                getDomainLog(aDomain).addEvents(anEvents);
+                for(UserInfo theUserInfo: theDomainUsers) {
+                    theUserInfo.notifyEventListening();
+                }
+            } else {
+                for(UserInfo theUserInfo: theDomainUsers) {
+                    final List<Event> theAcceptedEvents = getAcceptedEvents(aDomain, theUserInfo, anEvents);
+                    theUserInfo.addEvents(aDomain, theAcceptedEvents);
+                    LOG.debug("{} events for user \"{}\".", theAcceptedEvents.size(), theUserInfo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the events which aren't filtered by the {@link de.novanic.eventservice.client.event.filter.EventFilter}
+     * of the user for the domain.
+     * @param aDomain domain of the events
+     * @param aUserInfo user
+     * @param anEvents events
+     * @return accepted events (the passed list when no event is filtered)
+     */
+    private List<Event> getAcceptedEvents(Domain aDomain, UserInfo aUserInfo, List<Event> anEvents) {
+        if(aUserInfo.getEventFilter(aDomain) == null) {
+            return anEvents;
+        }
+        List<Event> theAcceptedEvents = new ArrayList<Event>(anEvents.size());
+        for(Event theEvent: anEvents) {
+            if(!aUserInfo.isEventFiltered(aDomain, theEvent)) {
+                theAcceptedEvents.add(theEvent);
+            } else {
+                myStatistics.addFilteredEvent();
+            }
+        }
+        return theAcceptedEvents;
+    }
+
+    /**
+     * Adds an event to all users of a domain.
+     * @param aDomain domain for the event
+     * @param anEvent event to add
+     */
+    private void addEventToDomainUsers(Domain aDomain, Event anEvent) {
         final Set<UserInfo> theDomainUsers = myDomainUserMapping.getUsers(aDomain);
         //if the domain doesn't exist/no users assigned, no users must be notified for the event...
         if(theDomainUsers != null) {
-            for(UserInfo theUserInfo: theDomainUsers) {
-                addEvent(aDomain, theUserInfo, anEvent);
+            if(isSharedEventLog(aDomain)) {
+                //the event is held once by the log and the EventFilters are evaluated when the users read the log
+                getDomainLog(aDomain).addEvent(anEvent);
+                for(UserInfo theUserInfo: theDomainUsers) {
+                    theUserInfo.notifyEventListening();
+                }
+            } else {
+                for(UserInfo theUserInfo: theDomainUsers) {
+                    addEvent(aDomain, theUserInfo, anEvent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a cursor for the shared log of the domain to the user (when the shared event log is activated for the domain).
+     * @param aDomain domain
+     * @param aUserInfo user
+     */
+    private void addDomainCursor(Domain aDomain, UserInfo aUserInfo) {
+        if(isSharedEventLog(aDomain)) {
+            aUserInfo.addDomainCursor(getDomainLog(aDomain).createCursor());
+        }
+    }
+
+    /**
+     * Checks if the events of the domain are held in a shared log.
+     * @param aDomain domain
+     * @return true when the events of the domain are held in a shared log, otherwise false
+     */
+    private boolean isSharedEventLog(Domain aDomain) {
+        return isSharedEventLog && !DomainFactory.UNLISTEN_DOMAIN.equals(aDomain);
+    }
+
+    /**
+     * Returns the shared log of the domain. The log is created when it doesn't exist.
+     * @param aDomain domain
+     * @return shared log of the domain
+     */
+    private DomainEventLog getDomainLog(Domain aDomain) {
+        DomainEventLog theDomainLog = myDomainLogs.get(aDomain);
+        if(theDomainLog == null) {
+            theDomainLog = new DomainEventLog(aDomain);
+            final DomainEventLog theExistingDomainLog = myDomainLogs.putIfAbsent(aDomain, theDomainLog);
+            if(theExistingDomainLog != null) {
+                theDomainLog = theExistingDomainLog;
             }
         }
+        return theDomainLog;
     }
 
     /**
@@ -399,7 +681,12 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
     private void addEventUserSpecific(UserInfo aUserInfo, Event anEvent) {
         if(aUserInfo != null) {
             LOG.debug("User specific event \"{}\" added to client id \"{}\".", anEvent, aUserInfo);
+            myStatistics.addPublishedEvent(DomainFactory.USER_SPECIFIC_DOMAIN);
+            final EventServiceMonitor.PublishOperation thePublishOperation = (myMonitor != null) ? myMonitor.startPublish(DomainFactory.USER_SPECIFIC_DOMAIN, anEvent) : null;
             addEvent(DomainFactory.USER_SPECIFIC_DOMAIN, aUserInfo, anEvent);
+            if(thePublishOperation != null) {
+                thePublishOperation.finish(1);
+            }
         }
     }
 
@@ -419,6 +706,49 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
         theUserInfo.setUnlistenEvent(anUnlistenEvent);
     }
 
+    /**
+     * Activates a history for a domain. The last events of the domain (limited by the maximum amount of events and
+     * optionally by the maximum age) are recorded and transferred to users/clients which are registered to the domain
+     * afterwards ({@link DefaultEventRegistry#registerUser(de.novanic.eventservice.client.event.domain.Domain, String, de.novanic.eventservice.client.event.filter.EventFilter)}).
+     * An already activated history of the domain is replaced (the recorded events get lost). The history can also be
+     * configured ({@link de.novanic.eventservice.config.ConfigParameter#EVENTS_HISTORY}).
+     * @param aDomain domain to record the events for
+     * @param aMaxEvents maximum amount of events which are recorded
+     * @param aMaxAge maximum age of the recorded events in milliseconds (0 or less means that the events don't expire)
+     */
+    public void registerDomainHistory(Domain aDomain, int aMaxEvents, long aMaxAge) {
+        if(aDomain != null) {
+            replaceDomainHistory(aDomain, new DomainEventHistory(aMaxEvents, aMaxAge));
+            LOG.debug("History registered for domain \"{}\" (max. events: {}).", aDomain, aMaxEvents);
+        }
+    }
+
+    /**
+     * Deactivates the history of a domain (see {@link DefaultEventRegistry#registerDomainHistory(de.novanic.eventservice.client.event.domain.Domain, int, long)}).
+     * @param aDomain domain to stop recording events for
+     */
+    public void deregisterDomainHistory(Domain aDomain) {
+        if(aDomain != null && replaceDomainHistory(aDomain, null) != null) {
+            LOG.debug("History deregistered for domain \"{}\".", aDomain);
+        }
+    }
+
+    /**
+     * Returns the statistics of the EventRegistry.
+     * @return statistics of the EventRegistry
+     */
+    public EventRegistryStatistics getStatistics() {
+        return myStatistics;
+    }
+
+    /**
+     * Returns the diagnostics of the EventRegistry.
+     * @return diagnostics of the EventRegistry
+     */
+    public EventRegistryDiagnostics getDiagnostics() {
+        return myDiagnostics;
+    }
+
     /**
      * Returns the initialized {@link de.novanic.eventservice.config.EventServiceConfiguration}
      * @return configuration {@link de.novanic.eventservice.config.EventServiceConfiguration}
@@ -427,6 +757,30 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
         return myConfiguration;
     }
 
+    /**
+     * Creates the configured {@link de.novanic.eventservice.service.registry.monitor.EventServiceMonitor}.
+     * @param aConfiguration configuration
+     * @return configured monitor, NULL when no monitor is configured
+     */
+    private static EventServiceMonitor createMonitor(EventServiceConfiguration aConfiguration) {
+        if(aConfiguration.getMonitorClassName() != null) {
+            return ConfigurationDependentFactory.getInstance(aConfiguration).getEventServiceMonitor();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the amount of bytes which were written by the connector.
+     * @param aServerEventListener connector
+     * @return amount of written bytes, -1 when it is unknown
+     */
+    private static long getWrittenByteCount(ConnectionStrategyServerConnector aServerEventListener) {
+        if(aServerEventListener instanceof ConnectionStrategyServerConnectorAdapter) {
+            return ((ConnectionStrategyServerConnectorAdapter)aServerEventListener).getWrittenByteCount();
+        }
+        return -1;
+    }
+
     /**
      * Adds an event to a user in a domain.
      * @param aDomain domain for the event
@@ -434,21 +788,86 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
      * @param anEvent event to add
      */
     private void addEvent(Domain aDomain, UserInfo aUserInfo, Event anEvent) {
-        if(isEventValid(anEvent, aUserInfo.getEventFilter(aDomain))) {
+        if(!aUserInfo.isEventFiltered(aDomain, anEvent)) {
             aUserInfo.addEvent(aDomain, anEvent);
             LOG.debug("{} for user \"{}\".", anEvent, aUserInfo);
+        } else {
+            myStatistics.addFilteredEvent();
         }
     }
 
     /**
-     * Checks if the EventFilter recognizes the event as valid. When no EventFilter is available (NULL),
-     * the event is always valid.
-     * @param anEvent event
-     * @param anEventFilter EventFilter to check the event
-     * @return true when the event is valid, false when the event isn't valid (filtered by the EventFilter)
+     * Registers the configured histories ({@link de.novanic.eventservice.config.ConfigParameter#EVENTS_HISTORY}).
+     * @param aDomainHistories declaration of the domain histories ("domain:max. events[:max. age]", separated by a comma), can be NULL
+     * @throws de.novanic.eventservice.client.config.ConfigurationException when a history isn't declared correctly
      */
-    private boolean isEventValid(Event anEvent, EventFilter anEventFilter) {
-        return (anEventFilter == null || !(anEventFilter.match(anEvent)));
+    private void registerDomainHistories(String aDomainHistories) {
+        if(aDomainHistories != null) {
+            for(String theDomainHistory: aDomainHistories.split(",")) {
+                final String[] theDomainHistoryParts = theDomainHistory.trim().split(":");
+                if(theDomainHistoryParts.length < 2 || theDomainHistoryParts.length > 3 || theDomainHistoryParts[0].trim().length() == 0) {
+                    throw new ConfigurationException("The domain history \"" + theDomainHistory
+                            + "\" has to be declared as \"domain:max. events\" or \"domain:max. events:max. age\"!");
+                }
+                try {
+                    final int theMaxEvents = Integer.parseInt(theDomainHistoryParts[1].trim());
+                    final long theMaxAge = (theDomainHistoryParts.length > 2) ? Long.parseLong(theDomainHistoryParts[2].trim()) : 0;
+                    registerDomainHistory(DomainFactory.getDomain(theDomainHistoryParts[0].trim()), theMaxEvents, theMaxAge);
+                } catch(NumberFormatException e) {
+                    throw new ConfigurationException("The max. events and the max. age of the domain history \"" + theDomainHistory
+                            + "\" were expected to be numeric!", e);
+                } catch(IllegalArgumentException e) {
+                    throw new ConfigurationException("The domain history \"" + theDomainHistory + "\" is invalid!", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the history of a domain. The replacement is executed with the monitor of the previous history, so the
+     * events which are currently added to the domain are recorded and delivered before. The events which are added
+     * afterwards recognize the replacement (see {@link DefaultEventRegistry#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)}).
+     * @param aDomain domain
+     * @param aDomainHistory new history of the domain, NULL to remove the history
+     * @return previous history of the domain, NULL when no history was registered
+     */
+    private DomainEventHistory replaceDomainHistory(Domain aDomain, DomainEventHistory aDomainHistory) {
+        synchronized(myDomainHistories) {
+            final DomainEventHistory thePreviousDomainHistory = myDomainHistories.get(aDomain);
+            if(thePreviousDomainHistory != null) {
+                synchronized(thePreviousDomainHistory) {
+                    putDomainHistory(aDomain, aDomainHistory);
+                }
+            } else {
+                putDomainHistory(aDomain, aDomainHistory);
+            }
+            return thePreviousDomainHistory;
+        }
+    }
+
+    /**
+     * Puts the history of a domain to the registered histories.
+     * @param aDomain domain
+     * @param aDomainHistory history of the domain, NULL to remove the history
+     */
+    private void putDomainHistory(Domain aDomain, DomainEventHistory aDomainHistory) {
+        if(aDomainHistory != null) {
+            myDomainHistories.put(aDomain, aDomainHistory);
+        } else {
+            myDomainHistories.remove(aDomain);
+        }
+    }
+
+    /**
+     * Returns the history of the domain or NULL when no history is registered for the domain.
+     * @param aDomain domain
+     * @return history of the domain, NULL when no history is registered
+     */
+    private DomainEventHistory getDomainHistory(Domain aDomain) {
+        if(aDomain != null) {
+            return myDomainHistories.get(aDomain);
+        }
+        return null;
     }
 
     /**
@@ -507,7 +926,14 @@ public class DefaultEventRegistry implements EventRegistry, ListenDomainAccessor
          */
         public void onTimeout(UserInfo aUserInfo) {
             LOG.debug("{}: timeout.", aUserInfo.getUserId());
+            myStatistics.addTimeout();
+            final EventServiceMonitor.TimeoutOperation theTimeoutOperation = (myMonitor != null)
+                    ? myMonitor.startTimeout(aUserInfo.getUserId(), PlatformUtil.getCurrentTime() - aUserInfo.getLastActivityTime())
+                    : null;
             unlisten(aUserInfo, true);
+            if(theTimeoutOperation != null) {
+                theTimeoutOperation.finish();
+            }
         }
     }
 }
@@ -161,6 +161,15 @@ public interface EventRegistry
      */
     void addEvent(Domain aDomain, Event anEvent);
 
+    /**
+     * Adds events to a domain. That is more efficient than adding the events one by one, because the users of the
+     * domain are determined once and every waiting user/client is only informed once about the new events.
+     * The call has no effect when the list is NULL or empty.
+     * @param aDomain domain for the events
+     * @param anEvents events to add (can be NULL)
+     */
+    void addEvents(Domain aDomain, List<Event> anEvents);
+
     /**
      * Adds an event directly to a user. The user must be registered to any domain.
      * @param aUserId user
@@ -180,6 +189,24 @@ public interface EventRegistry
      */
     void registerUnlistenEvent(String aUserId, UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent);
 
+    /**
+     * Activates a history for a domain. The last events of the domain (limited by the maximum amount of events and
+     * optionally by the maximum age) are recorded and transferred to users/clients which are registered to the domain
+     * afterwards ({@link EventRegistry#registerUser(de.novanic.eventservice.client.event.domain.Domain, String, de.novanic.eventservice.client.event.filter.EventFilter)}).
+     * The replay is atomic with the registration, so no event is duplicated or missed between the replay and the live delivery.
+     * An already activated history of the domain is replaced (the recorded events get lost).
+     * @param aDomain domain to record the events for
+     * @param aMaxEvents maximum amount of events which are recorded
+     * @param aMaxAge maximum age of the recorded events in milliseconds (0 or less means that the events don't expire)
+     */
+    void registerDomainHistory(Domain aDomain, int aMaxEvents, long aMaxAge);
+
+    /**
+     * Deactivates the history of a domain (see {@link EventRegistry#registerDomainHistory(de.novanic.eventservice.client.event.domain.Domain, int, long)}).
+     * @param aDomain domain to stop recording events for
+     */
+    void deregisterDomainHistory(Domain aDomain);
+
     /**
      * Returns the initialized {@link de.novanic.eventservice.config.EventServiceConfiguration}
      * @return configuration {@link de.novanic.eventservice.config.EventServiceConfiguration}
@@ -21,9 +21,25 @@
  */
 package de.novanic.eventservice.service.registry;
 
+import de.novanic.eventservice.client.config.ConfigurationException;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.ConfigParameter;
 import de.novanic.eventservice.config.EventServiceConfigurationFactory;
 import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.registry.record.EventRegistryRecorder;
+import de.novanic.eventservice.service.registry.record.RecordingEventRegistry;
+import de.novanic.eventservice.service.registry.relay.EventRelay;
+import de.novanic.eventservice.service.registry.remote.RemoteEventRegistry;
 import de.novanic.eventservice.service.registry.user.UserManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * The EventRegistryFactory is used to create the EventRegistry and to ensure that only one instance of
@@ -36,7 +52,10 @@ import de.novanic.eventservice.service.registry.user.UserManagerFactory;
  */
 public class EventRegistryFactory
 {
+    private static final Logger LOG = LoggerFactory.getLogger(EventRegistryFactory.class);
+
     private volatile EventRegistry myEventRegistry;
+    private EventRelay myEventRelay;
 
     /**
      * The EventRegistryFactory should be created via the getInstance method.
@@ -63,6 +82,14 @@ public class EventRegistryFactory
     /**
      * This method should be used to create an instance of EventRegistry.
      * EventRegistry is a singleton, so this method returns always the same instance of EventRegistry.
+     * When a standalone registry process is configured ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS}),
+     * a {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry} is created to access the registry process.
+     * Otherwise the statistics of the created {@link DefaultEventRegistry} are registered as an MBean (JMX, see
+     * {@link de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics}).
+     * When an upstream registry process is configured ({@link de.novanic.eventservice.config.ConfigParameter#RELAY_UPSTREAM_ADDRESS}),
+     * its events are relayed into the created {@link DefaultEventRegistry} with an {@link de.novanic.eventservice.service.registry.relay.EventRelay}.
+     * When a record file is configured ({@link de.novanic.eventservice.config.ConfigParameter#RECORD_FILE}), the operations
+     * of the EventRegistry are recorded with a {@link de.novanic.eventservice.service.registry.record.RecordingEventRegistry}.
      * @return EventRegistry (singleton)
      */
     public EventRegistry getEventRegistry() {
@@ -70,7 +97,19 @@ public class EventRegistryFactory
             synchronized(this) {
                 if(myEventRegistry == null) {
                     EventServiceConfiguration theConfiguration = getEventServiceConfiguration();
-                    myEventRegistry = new DefaultEventRegistry(theConfiguration);
+                    if(theConfiguration.getRemoteRegistryAddress() != null) {
+                        myEventRegistry = new RemoteEventRegistry(theConfiguration);
+                    } else {
+                        DefaultEventRegistry theEventRegistry = new DefaultEventRegistry(theConfiguration);
+                        if(theConfiguration.getRelayUpstreamAddress() != null) {
+                            myEventRelay = createEventRelay(theConfiguration, theEventRegistry);
+                        }
+                        theEventRegistry.getStatistics().register();
+                        myEventRegistry = theEventRegistry;
+                    }
+                    if(theConfiguration.getRecordFile() != null) {
+                        myEventRegistry = createRecordingEventRegistry(myEventRegistry, theConfiguration.getRecordFile());
+                    }
                 }
             }
         }
@@ -79,11 +118,81 @@ public class EventRegistryFactory
 
     public void resetEventRegistry() {
         synchronized(this) {
+            if(myEventRelay != null) {
+                myEventRelay.stop();
+                ((RemoteEventRegistry)myEventRelay.getUpstreamEventRegistry()).close();
+                myEventRelay = null;
+            }
+            if(myEventRegistry instanceof RecordingEventRegistry) {
+                RecordingEventRegistry theRecordingEventRegistry = (RecordingEventRegistry)myEventRegistry;
+                theRecordingEventRegistry.close();
+                myEventRegistry = theRecordingEventRegistry.getEventRegistry();
+            }
+            if(myEventRegistry instanceof RemoteEventRegistry) {
+                ((RemoteEventRegistry)myEventRegistry).close();
+            } else {
+                if(myEventRegistry instanceof DefaultEventRegistry) {
+                    ((DefaultEventRegistry)myEventRegistry).getStatistics().unregister();
+                }
+                UserManagerFactory.getInstance().getUserManager().reset();
+            }
             myEventRegistry = null;
-            UserManagerFactory.getInstance().getUserManager().reset();
         }
     }
 
+    /**
+     * Creates and starts the {@link de.novanic.eventservice.service.registry.relay.EventRelay} which relays the configured
+     * domains ({@link de.novanic.eventservice.config.ConfigParameter#RELAY_DOMAINS}) of the upstream registry process into
+     * the local EventRegistry.
+     * @param aConfiguration configuration
+     * @param aLocalEventRegistry local EventRegistry
+     * @return started {@link de.novanic.eventservice.service.registry.relay.EventRelay}
+     * @throws ConfigurationException occurs when no domains to relay are configured
+     */
+    private EventRelay createEventRelay(EventServiceConfiguration aConfiguration, EventRegistry aLocalEventRegistry) {
+        Set<Domain> theDomains = new HashSet<Domain>();
+        if(aConfiguration.getRelayDomains() != null) {
+            for(String theDomainName: aConfiguration.getRelayDomains().split(",")) {
+                theDomainName = theDomainName.trim();
+                if(theDomainName.length() > 0) {
+                    theDomains.add(DomainFactory.getDomain(theDomainName));
+                }
+            }
+        }
+        if(theDomains.isEmpty()) {
+            throw new ConfigurationException("No domains to relay are configured (parameter \""
+                    + ConfigParameter.RELAY_DOMAINS.declarationFQ() + "\")!");
+        }
+        EventRegistry theUpstreamEventRegistry = new RemoteEventRegistry(aConfiguration, aConfiguration.getRelayUpstreamAddress(),
+                aConfiguration.getRemoteRegistrySecret());
+        EventRelay theEventRelay = new EventRelay(theUpstreamEventRegistry, aLocalEventRegistry, "relay-" + UUID.randomUUID(), theDomains);
+        theEventRelay.start();
+        return theEventRelay;
+    }
+
+    /**
+     * Wraps the EventRegistry to record its operations to a file. The timeouts are only recorded when the users are managed
+     * within that process (not for a {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry}).
+     * The EventRegistry is returned unchanged when the file couldn't be created.
+     * @param anEventRegistry EventRegistry to record
+     * @param aRecordFile file for the recording
+     * @return recording EventRegistry
+     */
+    private EventRegistry createRecordingEventRegistry(EventRegistry anEventRegistry, String aRecordFile) {
+        EventRegistryRecorder theRecorder;
+        try {
+            theRecorder = new EventRegistryRecorder(new File(aRecordFile));
+        } catch(IOException e) {
+            LOG.error("The operations of the EventRegistry couldn't be recorded to \"" + aRecordFile + "\"!", e);
+            return anEventRegistry;
+        }
+        if(anEventRegistry instanceof DefaultEventRegistry) {
+            UserManagerFactory.getInstance().getUserManager().getUserActivityScheduler().addTimeoutListener(theRecorder);
+        }
+        LOG.info("The operations of the EventRegistry are recorded to \"{}\".", aRecordFile);
+        return new RecordingEventRegistry(anEventRegistry, theRecorder);
+    }
+
     /**
      * Loads the {@link de.novanic.eventservice.config.EventServiceConfiguration} with {@link de.novanic.eventservice.config.EventServiceConfigurationFactory}.
      * @return configuration ({@link de.novanic.eventservice.config.EventServiceConfiguration})
@@ -0,0 +1,123 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.domain;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The DomainEventHistory is a fixed-size ring buffer which holds the last events of a domain. Users/clients which are
+ * registered to the domain later ("late joiners") receive the recorded events with the registration, so no separate
+ * server call is required to load the current state.
+ * The history is limited by a maximum amount of events and optionally by a maximum age of the events.
+ *
+ * The history isn't thread-safe by itself. The {@link de.novanic.eventservice.service.registry.EventRegistry} has to
+ * synchronize the recording of events and the replay to new users with the same monitor (the history instance) to
+ * ensure that no event is missed or duplicated between the replay and the live delivery.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:02:44
+ */
+public class DomainEventHistory
+{
+    private final Event[] myEvents;
+    private final long[] myEventTimes;
+    private final long myMaxAge;
+    private int myHeadIndex;
+    private int mySize;
+
+    /**
+     * Creates a new DomainEventHistory.
+     * @param aMaxEvents maximum amount of events which are held (must be greater than 0)
+     * @param aMaxAge maximum age of the held events in milliseconds (0 or less means that the events don't expire)
+     */
+    public DomainEventHistory(int aMaxEvents, long aMaxAge) {
+        if(aMaxEvents <= 0) {
+            throw new IllegalArgumentException("The maximum amount of events of a domain history must be greater than 0!");
+        }
+        myEvents = new Event[aMaxEvents];
+        myEventTimes = new long[aMaxEvents];
+        myMaxAge = aMaxAge;
+    }
+
+    /**
+     * Records an event. When the history is full, the oldest event is overwritten.
+     * @param anEvent event to record
+     */
+    public void addEvent(Event anEvent) {
+        final int theIndex = (myHeadIndex + mySize) % myEvents.length;
+        myEvents[theIndex] = anEvent;
+        myEventTimes[theIndex] = PlatformUtil.getCurrentTime();
+        if(mySize < myEvents.length) {
+            mySize++;
+        } else {
+            myHeadIndex = (myHeadIndex + 1) % myEvents.length;
+        }
+    }
+
+    /**
+     * Returns the recorded events in the order of their occurrence. Expired events are removed from the history.
+     * @return recorded events (oldest first)
+     */
+    public List<Event> getEvents() {
+        removeExpiredEvents();
+        List<Event> theEvents = new ArrayList<Event>(mySize);
+        for(int i = 0; i < mySize; i++) {
+            theEvents.add(myEvents[(myHeadIndex + i) % myEvents.length]);
+        }
+        return theEvents;
+    }
+
+    /**
+     * Returns the maximum amount of events which are held.
+     * @return maximum amount of events
+     */
+    public int getMaxEvents() {
+        return myEvents.length;
+    }
+
+    /**
+     * Returns the maximum age of the held events in milliseconds (0 or less means that the events don't expire).
+     * @return maximum age of the held events
+     */
+    public long getMaxAge() {
+        return myMaxAge;
+    }
+
+    /**
+     * Removes all events which are older than the configured maximum age.
+     */
+    private void removeExpiredEvents() {
+        if(myMaxAge > 0) {
+            final long theExpirationTime = PlatformUtil.getCurrentTime() - myMaxAge;
+            while(mySize > 0 && myEventTimes[myHeadIndex] < theExpirationTime) {
+                myEvents[myHeadIndex] = null;
+                myHeadIndex = (myHeadIndex + 1) % myEvents.length;
+                mySize--;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.domain;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The DomainEventLog is an append-only log of the events of a domain which is shared by all users/clients of the domain.
+ * Every user/client reads the log with an own {@link de.novanic.eventservice.service.registry.domain.DomainEventLog.Cursor},
+ * so an event is only held once for all users/clients instead of once per user/client. The EventFilters of the users/clients
+ * are evaluated when the events are read (see {@link de.novanic.eventservice.service.registry.user.UserInfo#retrieveEvents(int)}).
+ *
+ * The log only references the last entry. The entries are linked from the oldest to the newest one, so the entries
+ * which are already read by all cursors aren't referenced anymore and the log is truncated up to the slowest cursor
+ * by the garbage collector.
+ *
+ * Every entry gets a sequence number which is unique over all logs. That sequence number is used to merge the events
+ * of several domains in the order of their occurrence. Additionally every entry gets an index within the log, which is
+ * used to determine the amount of unread events of a cursor.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:14:48
+ */
+public class DomainEventLog
+{
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final Domain myDomain;
+    private volatile Entry myTail;
+
+    /**
+     * Creates a new empty DomainEventLog for the domain.
+     * @param aDomain domain of the events
+     */
+    public DomainEventLog(Domain aDomain) {
+        myDomain = aDomain;
+        myTail = new Entry(null, SEQUENCE.get(), 0, System.nanoTime());
+    }
+
+    /**
+     * Appends an event to the log.
+     * @param anEvent event to append
+     */
+    public synchronized void addEvent(Event anEvent) {
+        final Entry theEntry = new Entry(anEvent, SEQUENCE.incrementAndGet(), myTail.myIndex + 1, System.nanoTime());
+        myTail.myNext = theEntry;
+        myTail = theEntry;
+    }
+
+    /**
+     * Appends the events to the log. The events are appended without interruption by other events.
+     * @param anEvents events to append
+     */
+    public synchronized void addEvents(List<Event> anEvents) {
+        for(Event theEvent: anEvents) {
+            addEvent(theEvent);
+        }
+    }
+
+    /**
+     * Creates a new {@link de.novanic.eventservice.service.registry.domain.DomainEventLog.Cursor} which is positioned
+     * at the end of the log. The cursor reads all events which are appended afterwards.
+     * @return new {@link de.novanic.eventservice.service.registry.domain.DomainEventLog.Cursor}
+     */
+    public Cursor createCursor() {
+        return new Cursor(myTail);
+    }
+
+    /**
+     * Returns the domain of the events.
+     * @return domain of the events
+     */
+    public Domain getDomain() {
+        return myDomain;
+    }
+
+    /**
+     * An entry of the log. The next entry is set once, when the following event is appended.
+     */
+    private static final class Entry
+    {
+        private final Event myEvent;
+        private final long mySequence;
+        private final long myIndex;
+        private final long myAppendTime;
+        private volatile Entry myNext;
+
+        private Entry(Event anEvent, long aSequence, long anIndex, long anAppendTime) {
+            myEvent = anEvent;
+            mySequence = aSequence;
+            myIndex = anIndex;
+            myAppendTime = anAppendTime;
+        }
+    }
+
+    /**
+     * The Cursor is the read position of a user/client in the log. A cursor isn't thread-safe and has to be used by one
+     * thread at a time.
+     */
+    public final class Cursor
+    {
+        private Entry myPosition;
+
+        private Cursor(Entry aPosition) {
+            myPosition = aPosition;
+        }
+
+        /**
+         * Checks if an unread event is available.
+         * @return true when an unread event is available, otherwise false
+         */
+        public boolean hasNext() {
+            return myPosition.myNext != null;
+        }
+
+        /**
+         * Returns the amount of unread events. The amount is only an estimation when the cursor is used concurrently.
+         * @return amount of unread events
+         */
+        public long getUnreadEventCount() {
+            return myTail.myIndex - myPosition.myIndex;
+        }
+
+        /**
+         * Returns the sequence number of the next unread event.
+         * @return sequence number of the next unread event, {@link Long#MAX_VALUE} when no unread event is available
+         */
+        public long getNextSequence() {
+            final Entry theNext = myPosition.myNext;
+            if(theNext != null) {
+                return theNext.mySequence;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * Returns the time ({@link System#nanoTime()}) when the next unread event was appended to the log.
+         * @return time when the next unread event was appended, {@link Long#MAX_VALUE} when no unread event is available
+         */
+        public long getNextAppendTime() {
+            final Entry theNext = myPosition.myNext;
+            if(theNext != null) {
+                return theNext.myAppendTime;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * Returns the next unread event and moves the cursor behind that event.
+         * @return next unread event, NULL when no unread event is available
+         */
+        public Event next() {
+            final Entry theNext = myPosition.myNext;
+            if(theNext != null) {
+                myPosition = theNext;
+                return theNext.myEvent;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the time ({@link System#nanoTime()}) when the last read event (see {@link Cursor#next()}) was appended to the log.
+         * @return time when the last read event was appended
+         */
+        public long getAppendTime() {
+            return myPosition.myAppendTime;
+        }
+
+        /**
+         * Returns the domain of the log.
+         * @return domain of the log
+         */
+        public Domain getDomain() {
+            return myDomain;
+        }
+    }
+}
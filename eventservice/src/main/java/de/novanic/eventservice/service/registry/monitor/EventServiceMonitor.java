@@ -0,0 +1,143 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.monitor;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+
+/**
+ * An EventServiceMonitor gets informed about the operations of the {@link de.novanic.eventservice.service.registry.EventRegistry}:
+ * the publishing of events, the evaluation of EventFilters, the listen calls, the sweeps of the
+ * {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler} and the timeout handling.
+ * It can be configured with {@link de.novanic.eventservice.config.ConfigParameter#MONITOR}.
+ * <br>
+ * Every operation is started with a start method and is finished with the finish method of the returned operation.
+ * The start methods should return NULL when the operation isn't recorded (for example when no recording is active),
+ * so nothing else is done for the monitoring.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+public interface EventServiceMonitor
+{
+    /**
+     * Starts the publishing of an event to a domain.
+     * @param aDomain domain of the event ({@link de.novanic.eventservice.client.event.domain.DomainFactory#USER_SPECIFIC_DOMAIN} for user specific events)
+     * @param anEvent event
+     * @return operation to finish, NULL when the operation isn't recorded
+     */
+    PublishOperation startPublish(Domain aDomain, Event anEvent);
+
+    /**
+     * Starts the evaluation of an EventFilter.
+     * @param aUserId user of the EventFilter
+     * @param aDomain domain of the EventFilter
+     * @param anEvent event to evaluate
+     * @return operation to finish, NULL when the operation isn't recorded
+     */
+    FilterOperation startFilterEvaluation(String aUserId, Domain aDomain, Event anEvent);
+
+    /**
+     * Starts a listen call. The duration of the listen call is the waiting time for events.
+     * @param aUserId user of the listen call
+     * @param aConnectorName class name of the {@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector}
+     * @return operation to finish, NULL when the operation isn't recorded
+     */
+    ListenOperation startListen(String aUserId, String aConnectorName);
+
+    /**
+     * Starts a sweep of the {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler} which checks
+     * all users/clients for a timeout.
+     * @return operation to finish, NULL when the operation isn't recorded
+     */
+    SweepOperation startTimeoutSweep();
+
+    /**
+     * Starts the timeout handling of a user/client (unlisten of the user/client).
+     * @param aUserId user/client with a timeout
+     * @param anInactiveTime time in milliseconds without activity of the user/client
+     * @return operation to finish, NULL when the operation isn't recorded
+     */
+    TimeoutOperation startTimeout(String aUserId, long anInactiveTime);
+
+    /**
+     * Publishing of an event.
+     */
+    interface PublishOperation
+    {
+        /**
+         * Finishes the publishing.
+         * @param aUserCount amount of users/clients of the domain
+         */
+        void finish(int aUserCount);
+    }
+
+    /**
+     * Evaluation of an EventFilter.
+     */
+    interface FilterOperation
+    {
+        /**
+         * Finishes the evaluation.
+         * @param isFiltered true when the event is filtered
+         */
+        void finish(boolean isFiltered);
+    }
+
+    /**
+     * Listen call of a user/client.
+     */
+    interface ListenOperation
+    {
+        /**
+         * Finishes the listen call.
+         * @param anEventCount amount of the returned events
+         * @param aWrittenByteCount amount of bytes written by the connector, -1 when it is unknown
+         */
+        void finish(int anEventCount, long aWrittenByteCount);
+    }
+
+    /**
+     * Sweep of the {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler}.
+     */
+    interface SweepOperation
+    {
+        /**
+         * Finishes the sweep.
+         * @param aUserCount amount of the checked users/clients
+         * @param aTimeoutCount amount of the users/clients with a timeout
+         */
+        void finish(int aUserCount, int aTimeoutCount);
+    }
+
+    /**
+     * Timeout handling of a user/client.
+     */
+    interface TimeoutOperation
+    {
+        /**
+         * Finishes the timeout handling.
+         */
+        void finish();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+
+/**
+ * A recorded operation of an {@link de.novanic.eventservice.service.registry.EventRegistry} which is read from a
+ * recording ({@link de.novanic.eventservice.service.registry.record.EventRegistryRecording}). Only the arguments of the
+ * operation are set.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public class EventRegistryRecord
+{
+    private final RecordedOperation myOperation;
+    private final long myTime;
+    private final Domain myDomain;
+    private final String myUserId;
+    private final Event myEvent;
+    private final EventFilter myEventFilter;
+    private final int myEventCount;
+    private final long myMaxAge;
+    private final boolean myIsComplete;
+
+    public EventRegistryRecord(RecordedOperation anOperation, long aTime, Domain aDomain, String aUserId,
+                               Event anEvent, EventFilter anEventFilter, int anEventCount, long aMaxAge, boolean isComplete) {
+        myOperation = anOperation;
+        myTime = aTime;
+        myDomain = aDomain;
+        myUserId = aUserId;
+        myEvent = anEvent;
+        myEventFilter = anEventFilter;
+        myEventCount = anEventCount;
+        myMaxAge = aMaxAge;
+        myIsComplete = isComplete;
+    }
+
+    public RecordedOperation getOperation() {
+        return myOperation;
+    }
+
+    /**
+     * Returns the time of the operation (milliseconds).
+     * @return time of the operation
+     */
+    public long getTime() {
+        return myTime;
+    }
+
+    public Domain getDomain() {
+        return myDomain;
+    }
+
+    public String getUserId() {
+        return myUserId;
+    }
+
+    public Event getEvent() {
+        return myEvent;
+    }
+
+    public EventFilter getEventFilter() {
+        return myEventFilter;
+    }
+
+    /**
+     * Returns the amount of the delivered events of a listen call ({@link RecordedOperation#LISTEN}, -1 when the listen
+     * call didn't return events) or the maximum amount of events of a domain history ({@link RecordedOperation#REGISTER_DOMAIN_HISTORY}).
+     * @return amount of events
+     */
+    public int getEventCount() {
+        return myEventCount;
+    }
+
+    /**
+     * Returns the maximum age of the events of a domain history ({@link RecordedOperation#REGISTER_DOMAIN_HISTORY}).
+     * @return maximum age of the events in milliseconds
+     */
+    public long getMaxAge() {
+        return myMaxAge;
+    }
+
+    /**
+     * Checks if all arguments could be read. The event or the EventFilter can't be read when the class isn't available.
+     * @return true when all arguments could be read, otherwise false
+     */
+    public boolean isComplete() {
+        return myIsComplete;
+    }
+
+    public String toString() {
+        return myOperation + " (" + myTime + ')';
+    }
+}
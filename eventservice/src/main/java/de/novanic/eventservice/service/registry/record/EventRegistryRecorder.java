@@ -0,0 +1,368 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.service.UserTimeoutListener;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.util.PlatformUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link EventRegistryRecorder} writes the operations of an {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * with their timestamps to a compact binary recording. The recording can be read with
+ * {@link de.novanic.eventservice.service.registry.record.EventRegistryRecording} and replayed with
+ * {@link de.novanic.eventservice.service.registry.record.EventRegistryReplayer} to reproduce a production load.
+ *
+ * <br>Format: a header (magic number, version and start time) followed by the records. A record consists of the
+ * operation code, the time since the previous record in milliseconds (variable length) and the arguments of the operation.
+ * User ids and domain names are written only once and referenced by an index afterwards. Events and
+ * {@link de.novanic.eventservice.client.event.filter.EventFilter}s are written with Java serialization.
+ *
+ * <br>The recording is stopped (and logged) when an error occurs, so a failing recording doesn't affect the
+ * {@link de.novanic.eventservice.service.registry.EventRegistry}.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public class EventRegistryRecorder implements UserTimeoutListener
+{
+    private static final Logger LOG = LoggerFactory.getLogger(EventRegistryRecorder.class);
+
+    static final int MAGIC_NUMBER = 0x47455252;
+    static final int VERSION = 1;
+
+    /**
+     * The serialization handles are released after that amount of records, otherwise all written events would be
+     * referenced by the stream.
+     */
+    private static final int RESET_INTERVAL = 1000;
+
+    private final ObjectOutputStream myOutputStream;
+    private final Map<String, Integer> myStringIndexes;
+    private long myLastTime;
+    private long myRecordCount;
+    private boolean isClosed;
+
+    /**
+     * Creates a new {@link EventRegistryRecorder} which writes the recording to a file. An existing file is overwritten.
+     * @param aFile file for the recording
+     * @throws IOException when the file couldn't be created
+     */
+    public EventRegistryRecorder(File aFile) throws IOException {
+        this(new FileOutputStream(aFile));
+    }
+
+    /**
+     * Creates a new {@link EventRegistryRecorder} which writes the recording to a stream.
+     * @param anOutputStream stream for the recording
+     * @throws IOException when the header couldn't be written
+     */
+    public EventRegistryRecorder(OutputStream anOutputStream) throws IOException {
+        myOutputStream = new ObjectOutputStream(new BufferedOutputStream(anOutputStream));
+        myStringIndexes = new HashMap<String, Integer>();
+        myLastTime = PlatformUtil.getCurrentTime();
+        myOutputStream.writeInt(MAGIC_NUMBER);
+        myOutputStream.writeInt(VERSION);
+        myOutputStream.writeLong(myLastTime);
+    }
+
+    /**
+     * Records the registration of a user for a domain.
+     * @param aDomain domain
+     * @param aUserId user
+     * @param anEventFilter EventFilter of the registration (can be NULL)
+     */
+    public synchronized void recordRegisterUser(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        try {
+            if(startRecord(RecordedOperation.REGISTER_USER)) {
+                writeDomain(aDomain);
+                writeString(aUserId);
+                myOutputStream.writeObject(anEventFilter);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records a changed EventFilter.
+     * @param aDomain domain
+     * @param aUserId user
+     * @param anEventFilter new EventFilter
+     */
+    public synchronized void recordSetEventFilter(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        try {
+            if(startRecord(RecordedOperation.SET_EVENT_FILTER)) {
+                writeDomain(aDomain);
+                writeString(aUserId);
+                myOutputStream.writeObject(anEventFilter);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records a removed EventFilter.
+     * @param aDomain domain
+     * @param aUserId user
+     */
+    public synchronized void recordRemoveEventFilter(Domain aDomain, String aUserId) {
+        try {
+            if(startRecord(RecordedOperation.REMOVE_EVENT_FILTER)) {
+                writeDomain(aDomain);
+                writeString(aUserId);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records an event which is added to a domain.
+     * @param aDomain domain of the event
+     * @param anEvent event
+     */
+    public synchronized void recordAddEvent(Domain aDomain, Event anEvent) {
+        try {
+            if(startRecord(RecordedOperation.ADD_EVENT)) {
+                writeDomain(aDomain);
+                myOutputStream.writeObject(anEvent);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records an event which is added directly to a user.
+     * @param aUserId user
+     * @param anEvent event
+     */
+    public synchronized void recordAddEventUserSpecific(String aUserId, Event anEvent) {
+        try {
+            if(startRecord(RecordedOperation.ADD_EVENT_USER_SPECIFIC)) {
+                writeString(aUserId);
+                myOutputStream.writeObject(anEvent);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records a finished listen call.
+     * @param aUserId user
+     * @param anEventCount amount of the delivered events (-1 when the listen call didn't return events)
+     */
+    public synchronized void recordListen(String aUserId, int anEventCount) {
+        try {
+            if(startRecord(RecordedOperation.LISTEN)) {
+                writeString(aUserId);
+                writeVariableLength(Math.max(anEventCount, -1) + 1);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records the stop of listening for all domains.
+     * @param aUserId user
+     */
+    public synchronized void recordUnlisten(String aUserId) {
+        recordUser(RecordedOperation.UNLISTEN, aUserId);
+    }
+
+    /**
+     * Records the stop of listening for a domain.
+     * @param aDomain domain
+     * @param aUserId user
+     */
+    public synchronized void recordUnlisten(Domain aDomain, String aUserId) {
+        try {
+            if(startRecord(RecordedOperation.UNLISTEN_FROM_DOMAIN)) {
+                writeDomain(aDomain);
+                writeString(aUserId);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records the activation of a domain history.
+     * @param aDomain domain
+     * @param aMaxEvents maximum amount of events
+     * @param aMaxAge maximum age of the events in milliseconds
+     */
+    public synchronized void recordRegisterDomainHistory(Domain aDomain, int aMaxEvents, long aMaxAge) {
+        try {
+            if(startRecord(RecordedOperation.REGISTER_DOMAIN_HISTORY)) {
+                writeDomain(aDomain);
+                myOutputStream.writeInt(aMaxEvents);
+                myOutputStream.writeLong(aMaxAge);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records the deactivation of a domain history.
+     * @param aDomain domain
+     */
+    public synchronized void recordDeregisterDomainHistory(Domain aDomain) {
+        try {
+            if(startRecord(RecordedOperation.DEREGISTER_DOMAIN_HISTORY)) {
+                writeDomain(aDomain);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records the timeout of a user. The recorder can be registered as {@link de.novanic.eventservice.service.UserTimeoutListener}
+     * at the {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler}.
+     * @param aUserInfo the inactive user
+     */
+    public synchronized void onTimeout(UserInfo aUserInfo) {
+        recordUser(RecordedOperation.TIMEOUT, aUserInfo.getUserId());
+    }
+
+    /**
+     * Returns the amount of the written records.
+     * @return amount of the written records
+     */
+    public synchronized long getRecordCount() {
+        return myRecordCount;
+    }
+
+    /**
+     * Checks if the recording is stopped (closed or stopped because of an error).
+     * @return true when the recording is stopped, otherwise false
+     */
+    public synchronized boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Writes the buffered records and closes the recording.
+     */
+    public synchronized void close() {
+        if(!isClosed) {
+            isClosed = true;
+            try {
+                myOutputStream.close();
+            } catch(IOException e) {
+                LOG.error("Error on closing the recording of the EventRegistry!", e);
+            }
+        }
+    }
+
+    private void recordUser(RecordedOperation anOperation, String aUserId) {
+        try {
+            if(startRecord(anOperation)) {
+                writeString(aUserId);
+                finishRecord();
+            }
+        } catch(IOException e) {
+            stop(e);
+        }
+    }
+
+    private boolean startRecord(RecordedOperation anOperation) throws IOException {
+        if(isClosed) {
+            return false;
+        }
+        final long theTime = PlatformUtil.getCurrentTime();
+        myOutputStream.writeByte(anOperation.getCode());
+        writeVariableLength(Math.max(theTime - myLastTime, 0));
+        myLastTime = Math.max(theTime, myLastTime);
+        return true;
+    }
+
+    private void finishRecord() throws IOException {
+        if(++myRecordCount % RESET_INTERVAL == 0) {
+            myOutputStream.reset();
+            myOutputStream.flush();
+        }
+    }
+
+    private void writeDomain(Domain aDomain) throws IOException {
+        writeString(aDomain != null ? aDomain.getName() : null);
+    }
+
+    /**
+     * Writes a string as a reference. The reference 0 is NULL, a new string is written after its reference.
+     * @param aString string to write
+     * @throws IOException when the string couldn't be written
+     */
+    private void writeString(String aString) throws IOException {
+        if(aString == null) {
+            writeVariableLength(0);
+        } else {
+            Integer theIndex = myStringIndexes.get(aString);
+            if(theIndex != null) {
+                writeVariableLength(theIndex);
+            } else {
+                theIndex = myStringIndexes.size() + 1;
+                myStringIndexes.put(aString, theIndex);
+                writeVariableLength(theIndex);
+                myOutputStream.writeUTF(aString);
+            }
+        }
+    }
+
+    private void writeVariableLength(long aValue) throws IOException {
+        long theValue = aValue;
+        while((theValue & ~0x7FL) != 0) {
+            myOutputStream.writeByte((int)((theValue & 0x7F) | 0x80));
+            theValue >>>= 7;
+        }
+        myOutputStream.writeByte((int)theValue);
+    }
+
+    private void stop(IOException anException) {
+        LOG.error("The recording of the EventRegistry is stopped, because of an error!", anException);
+        close();
+    }
+}
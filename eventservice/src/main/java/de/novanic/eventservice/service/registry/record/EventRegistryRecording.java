@@ -0,0 +1,200 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link EventRegistryRecording} reads a recording which was written by
+ * {@link de.novanic.eventservice.service.registry.record.EventRegistryRecorder}. The records are read one by one,
+ * so a recording can be larger than the memory.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public class EventRegistryRecording implements Closeable
+{
+    private final ObjectInputStream myInputStream;
+    private final long myStartTime;
+    private final List<String> myStrings;
+    private long myTime;
+
+    /**
+     * Opens a recording file.
+     * @param aFile recording file
+     * @throws IOException when the file couldn't be read or isn't a recording
+     */
+    public EventRegistryRecording(File aFile) throws IOException {
+        this(new FileInputStream(aFile));
+    }
+
+    /**
+     * Opens a recording.
+     * @param anInputStream stream of the recording
+     * @throws IOException when the stream couldn't be read or isn't a recording
+     */
+    public EventRegistryRecording(InputStream anInputStream) throws IOException {
+        myInputStream = new ObjectInputStream(new BufferedInputStream(anInputStream));
+        if(myInputStream.readInt() != EventRegistryRecorder.MAGIC_NUMBER) {
+            myInputStream.close();
+            throw new IOException("The stream doesn't contain a recording of an EventRegistry!");
+        }
+        final int theVersion = myInputStream.readInt();
+        if(theVersion != EventRegistryRecorder.VERSION) {
+            myInputStream.close();
+            throw new IOException("The version " + theVersion + " of the recording isn't supported!");
+        }
+        myStartTime = myInputStream.readLong();
+        myTime = myStartTime;
+        myStrings = new ArrayList<String>();
+    }
+
+    /**
+     * Returns the time when the recording was started (milliseconds).
+     * @return start time of the recording
+     */
+    public long getStartTime() {
+        return myStartTime;
+    }
+
+    /**
+     * Reads the next record.
+     * @return next record or NULL when the end of the recording is reached (a recording which was not closed ends with
+     * the last completely written record)
+     * @throws IOException when the recording couldn't be read
+     */
+    public EventRegistryRecord next() throws IOException {
+        try {
+            final byte theCode = myInputStream.readByte();
+            final RecordedOperation theOperation = RecordedOperation.getOperation(theCode);
+            if(theOperation == null) {
+                throw new IOException("Unknown operation code " + theCode + '!');
+            }
+            myTime += readVariableLength();
+
+            Domain theDomain = null;
+            String theUserId = null;
+            Object theObject = null;
+            int theEventCount = 0;
+            long theMaxAge = 0;
+            boolean isComplete = true;
+            switch(theOperation) {
+                case REGISTER_USER:
+                case SET_EVENT_FILTER:
+                    theDomain = readDomain();
+                    theUserId = readString();
+                    try {
+                        theObject = myInputStream.readObject();
+                    } catch(ClassNotFoundException e) {
+                        isComplete = false;
+                    }
+                    break;
+                case REMOVE_EVENT_FILTER:
+                case UNLISTEN_FROM_DOMAIN:
+                    theDomain = readDomain();
+                    theUserId = readString();
+                    break;
+                case ADD_EVENT:
+                    theDomain = readDomain();
+                    try {
+                        theObject = myInputStream.readObject();
+                    } catch(ClassNotFoundException e) {
+                        isComplete = false;
+                    }
+                    break;
+                case ADD_EVENT_USER_SPECIFIC:
+                    theUserId = readString();
+                    try {
+                        theObject = myInputStream.readObject();
+                    } catch(ClassNotFoundException e) {
+                        isComplete = false;
+                    }
+                    break;
+                case LISTEN:
+                    theUserId = readString();
+                    theEventCount = (int)readVariableLength() - 1;
+                    break;
+                case UNLISTEN:
+                case TIMEOUT:
+                    theUserId = readString();
+                    break;
+                case REGISTER_DOMAIN_HISTORY:
+                    theDomain = readDomain();
+                    theEventCount = myInputStream.readInt();
+                    theMaxAge = myInputStream.readLong();
+                    break;
+                case DEREGISTER_DOMAIN_HISTORY:
+                    theDomain = readDomain();
+                    break;
+            }
+            return new EventRegistryRecord(theOperation, myTime, theDomain, theUserId,
+                    theObject instanceof Event ? (Event)theObject : null,
+                    theObject instanceof EventFilter ? (EventFilter)theObject : null,
+                    theEventCount, theMaxAge, isComplete);
+        } catch(EOFException e) {
+            return null;
+        }
+    }
+
+    public void close() throws IOException {
+        myInputStream.close();
+    }
+
+    private Domain readDomain() throws IOException {
+        final String theDomainName = readString();
+        if(theDomainName != null) {
+            return DomainFactory.getDomain(theDomainName);
+        }
+        return null;
+    }
+
+    private String readString() throws IOException {
+        final int theIndex = (int)readVariableLength();
+        if(theIndex == 0) {
+            return null;
+        }
+        if(theIndex > myStrings.size()) {
+            myStrings.add(myInputStream.readUTF());
+        }
+        return myStrings.get(theIndex - 1);
+    }
+
+    private long readVariableLength() throws IOException {
+        long theValue = 0;
+        int theShift = 0;
+        byte theByte;
+        do {
+            theByte = myInputStream.readByte();
+            theValue |= (long)(theByte & 0x7F) << theShift;
+            theShift += 7;
+        } while((theByte & 0x80) != 0);
+        return theValue;
+    }
+}
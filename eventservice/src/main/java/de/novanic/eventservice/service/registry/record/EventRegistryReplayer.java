@@ -0,0 +1,204 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistry;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link EventRegistryReplayer} feeds a recording ({@link de.novanic.eventservice.service.registry.record.EventRegistryRecording})
+ * into an {@link de.novanic.eventservice.service.registry.EventRegistry}, to reproduce a recorded production load.
+ * The records are replayed with the recorded timing (optionally accelerated) or as fast as possible.
+ *
+ * <br>Timeouts are replayed as they are recorded (as unlisten of the user), so the replayed registry should be created
+ * with a timeout time which is longer than the recording. Listen calls are replayed with the configured
+ * {@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector}, which should
+ * return immediately (a maximum waiting time of 0), otherwise the replay is blocked by the listen calls.
+ *
+ * <br>Records which can't be replayed, because the class of the event or EventFilter isn't available, are skipped and counted.
+ * A recording can be replayed from the command line with the RecordingReplay tool of the loadgen module.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public class EventRegistryReplayer
+{
+    private final EventRegistry myEventRegistry;
+    private final ConnectionStrategyServerConnector myServerConnector;
+    private final Map<RecordedOperation, Long> myOperationCounts;
+    private long mySkippedRecordCount;
+    private long myRecordedDeliveredEventCount;
+    private long myDeliveredEventCount;
+    private long myMaxLag;
+    private long myDuration;
+
+    /**
+     * Creates a new {@link EventRegistryReplayer}.
+     * @param anEventRegistry {@link de.novanic.eventservice.service.registry.EventRegistry} to replay the recording into
+     * @param aServerConnector connector to replay the listen calls (should return immediately)
+     */
+    public EventRegistryReplayer(EventRegistry anEventRegistry, ConnectionStrategyServerConnector aServerConnector) {
+        myEventRegistry = anEventRegistry;
+        myServerConnector = aServerConnector;
+        myOperationCounts = new EnumMap<RecordedOperation, Long>(RecordedOperation.class);
+    }
+
+    /**
+     * Replays all records of a recording.
+     * @param aRecording recording to replay
+     * @param aSpeed speed of the replay (1 is the recorded speed, 10 is ten times faster, 0 or less replays the records
+     * as fast as possible)
+     * @throws IOException when the recording couldn't be read
+     */
+    public void replay(EventRegistryRecording aRecording, double aSpeed) throws IOException {
+        final long theStartTime = System.nanoTime();
+        EventRegistryRecord theRecord;
+        while((theRecord = aRecording.next()) != null) {
+            if(aSpeed > 0) {
+                final long theDueTime = (long)((theRecord.getTime() - aRecording.getStartTime()) * 1000000L / aSpeed);
+                final long theDelay = theDueTime - (System.nanoTime() - theStartTime);
+                if(theDelay > 0) {
+                    try {
+                        Thread.sleep(theDelay / 1000000L, (int)(theDelay % 1000000L));
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                } else {
+                    myMaxLag = Math.max(myMaxLag, -theDelay / 1000000L);
+                }
+            }
+            replay(theRecord);
+        }
+        myDuration = (System.nanoTime() - theStartTime) / 1000000L;
+    }
+
+    /**
+     * Executes a record with the {@link de.novanic.eventservice.service.registry.EventRegistry}.
+     * @param aRecord record to replay
+     */
+    private void replay(EventRegistryRecord aRecord) {
+        if(!aRecord.isComplete()) {
+            mySkippedRecordCount++;
+            return;
+        }
+        switch(aRecord.getOperation()) {
+            case REGISTER_USER:
+                myEventRegistry.registerUser(aRecord.getDomain(), aRecord.getUserId(), aRecord.getEventFilter());
+                break;
+            case SET_EVENT_FILTER:
+                myEventRegistry.setEventFilter(aRecord.getDomain(), aRecord.getUserId(), aRecord.getEventFilter());
+                break;
+            case REMOVE_EVENT_FILTER:
+                myEventRegistry.removeEventFilter(aRecord.getDomain(), aRecord.getUserId());
+                break;
+            case ADD_EVENT:
+                myEventRegistry.addEvent(aRecord.getDomain(), aRecord.getEvent());
+                break;
+            case ADD_EVENT_USER_SPECIFIC:
+                myEventRegistry.addEventUserSpecific(aRecord.getUserId(), aRecord.getEvent());
+                break;
+            case LISTEN:
+                List<DomainEvent> theEvents = myEventRegistry.listen(myServerConnector, aRecord.getUserId());
+                if(theEvents != null) {
+                    myDeliveredEventCount += theEvents.size();
+                }
+                if(aRecord.getEventCount() > 0) {
+                    myRecordedDeliveredEventCount += aRecord.getEventCount();
+                }
+                break;
+            case UNLISTEN:
+            case TIMEOUT:
+                myEventRegistry.unlisten(aRecord.getUserId());
+                break;
+            case UNLISTEN_FROM_DOMAIN:
+                myEventRegistry.unlisten(aRecord.getDomain(), aRecord.getUserId());
+                break;
+            case REGISTER_DOMAIN_HISTORY:
+                myEventRegistry.registerDomainHistory(aRecord.getDomain(), aRecord.getEventCount(), aRecord.getMaxAge());
+                break;
+            case DEREGISTER_DOMAIN_HISTORY:
+                myEventRegistry.deregisterDomainHistory(aRecord.getDomain());
+                break;
+        }
+        final Long theCount = myOperationCounts.get(aRecord.getOperation());
+        myOperationCounts.put(aRecord.getOperation(), theCount != null ? theCount + 1 : 1L);
+    }
+
+    /**
+     * Returns the amount of the replayed records of an operation.
+     * @param anOperation operation
+     * @return amount of the replayed records of the operation
+     */
+    public long getOperationCount(RecordedOperation anOperation) {
+        final Long theCount = myOperationCounts.get(anOperation);
+        return theCount != null ? theCount : 0;
+    }
+
+    /**
+     * Returns the amount of the records which were skipped, because the event or EventFilter couldn't be read.
+     * @return amount of the skipped records
+     */
+    public long getSkippedRecordCount() {
+        return mySkippedRecordCount;
+    }
+
+    /**
+     * Returns the amount of the events which were delivered by the recorded listen calls.
+     * @return amount of the recorded delivered events
+     */
+    public long getRecordedDeliveredEventCount() {
+        return myRecordedDeliveredEventCount;
+    }
+
+    /**
+     * Returns the amount of the events which were delivered by the replayed listen calls.
+     * @return amount of the replayed delivered events
+     */
+    public long getDeliveredEventCount() {
+        return myDeliveredEventCount;
+    }
+
+    /**
+     * Returns the maximum delay of a record behind the recorded timing (milliseconds). A lag shows that the
+     * {@link de.novanic.eventservice.service.registry.EventRegistry} couldn't keep up with the replayed load.
+     * @return maximum lag in milliseconds
+     */
+    public long getMaxLag() {
+        return myMaxLag;
+    }
+
+    /**
+     * Returns the duration of the last replay (milliseconds).
+     * @return duration of the replay in milliseconds
+     */
+    public long getDuration() {
+        return myDuration;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+/**
+ * Operations of the {@link de.novanic.eventservice.service.registry.EventRegistry} which are recorded by the
+ * {@link de.novanic.eventservice.service.registry.record.EventRegistryRecorder}. The code of an operation is written to
+ * the recording, so the codes must not be changed when operations are added.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public enum RecordedOperation
+{
+    REGISTER_USER(1),
+
+    SET_EVENT_FILTER(2),
+
+    REMOVE_EVENT_FILTER(3),
+
+    ADD_EVENT(4),
+
+    ADD_EVENT_USER_SPECIFIC(5),
+
+    LISTEN(6),
+
+    UNLISTEN(7),
+
+    UNLISTEN_FROM_DOMAIN(8),
+
+    TIMEOUT(9),
+
+    REGISTER_DOMAIN_HISTORY(10),
+
+    DEREGISTER_DOMAIN_HISTORY(11);
+
+    private final byte myCode;
+
+    private RecordedOperation(int aCode) {
+        myCode = (byte)aCode;
+    }
+
+    /**
+     * Returns the code which identifies the operation within a recording.
+     * @return code of the operation
+     */
+    public byte getCode() {
+        return myCode;
+    }
+
+    /**
+     * Returns the operation of a code.
+     * @param aCode code of the operation
+     * @return operation of the code or NULL when the code is unknown
+     */
+    public static RecordedOperation getOperation(byte aCode) {
+        for(RecordedOperation theOperation: values()) {
+            if(theOperation.myCode == aCode) {
+                return theOperation;
+            }
+        }
+        return null;
+    }
+}
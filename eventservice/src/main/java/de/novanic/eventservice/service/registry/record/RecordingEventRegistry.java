@@ -0,0 +1,185 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistry;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link RecordingEventRegistry} records the operations of an {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * with an {@link de.novanic.eventservice.service.registry.record.EventRegistryRecorder} and delegates all calls to the
+ * recorded {@link de.novanic.eventservice.service.registry.EventRegistry}. The operations are recorded after they are
+ * executed, so a listen call is recorded when it returns (with the amount of the delivered events).
+ * It is created by the {@link de.novanic.eventservice.service.registry.EventRegistryFactory} when a record file is
+ * configured ({@link de.novanic.eventservice.config.ConfigParameter#RECORD_FILE}).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+public class RecordingEventRegistry implements EventRegistry
+{
+    private final EventRegistry myEventRegistry;
+    private final EventRegistryRecorder myRecorder;
+
+    /**
+     * Creates a new {@link RecordingEventRegistry}.
+     * @param anEventRegistry {@link de.novanic.eventservice.service.registry.EventRegistry} to record
+     * @param aRecorder recorder to write the operations
+     */
+    public RecordingEventRegistry(EventRegistry anEventRegistry, EventRegistryRecorder aRecorder) {
+        myEventRegistry = anEventRegistry;
+        myRecorder = aRecorder;
+    }
+
+    /**
+     * Returns the recorded {@link de.novanic.eventservice.service.registry.EventRegistry}.
+     * @return recorded {@link de.novanic.eventservice.service.registry.EventRegistry}
+     */
+    public EventRegistry getEventRegistry() {
+        return myEventRegistry;
+    }
+
+    public EventRegistryRecorder getRecorder() {
+        return myRecorder;
+    }
+
+    public boolean isUserRegistered(String aUserId) {
+        return myEventRegistry.isUserRegistered(aUserId);
+    }
+
+    public boolean isUserRegistered(Domain aDomain, String aUserId) {
+        return myEventRegistry.isUserRegistered(aDomain, aUserId);
+    }
+
+    public void registerUser(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        myEventRegistry.registerUser(aDomain, aUserId, anEventFilter);
+        myRecorder.recordRegisterUser(aDomain, aUserId, anEventFilter);
+    }
+
+    public void setEventFilter(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        myEventRegistry.setEventFilter(aDomain, aUserId, anEventFilter);
+        myRecorder.recordSetEventFilter(aDomain, aUserId, anEventFilter);
+    }
+
+    public EventFilter getEventFilter(Domain aDomain, String aUserId) {
+        return myEventRegistry.getEventFilter(aDomain, aUserId);
+    }
+
+    public void removeEventFilter(Domain aDomain, String aUserId) {
+        myEventRegistry.removeEventFilter(aDomain, aUserId);
+        myRecorder.recordRemoveEventFilter(aDomain, aUserId);
+    }
+
+    public List<DomainEvent> listen(ConnectionStrategyServerConnector aServerEventListener, String aUserId) {
+        final List<DomainEvent> theEvents = myEventRegistry.listen(aServerEventListener, aUserId);
+        myRecorder.recordListen(aUserId, theEvents != null ? theEvents.size() : -1);
+        return theEvents;
+    }
+
+    public void unlisten(Domain aDomain, String aUserId) {
+        myEventRegistry.unlisten(aDomain, aUserId);
+        myRecorder.recordUnlisten(aDomain, aUserId);
+    }
+
+    public void unlisten(String aUserId) {
+        myEventRegistry.unlisten(aUserId);
+        myRecorder.recordUnlisten(aUserId);
+    }
+
+    public Set<Domain> getListenDomains(String aUserId) {
+        return myEventRegistry.getListenDomains(aUserId);
+    }
+
+    public Set<Domain> getListenDomains() {
+        return myEventRegistry.getListenDomains();
+    }
+
+    public Set<String> getRegisteredUserIds() {
+        return myEventRegistry.getRegisteredUserIds();
+    }
+
+    public Set<String> getRegisteredUserIds(Domain aDomain) {
+        return myEventRegistry.getRegisteredUserIds(aDomain);
+    }
+
+    public void addEvent(Domain aDomain, Event anEvent) {
+        myEventRegistry.addEvent(aDomain, anEvent);
+        myRecorder.recordAddEvent(aDomain, anEvent);
+    }
+
+    /**
+     * Adds the events to the domain. The events are recorded one by one, so a replay adds them one by one.
+     * The call has no effect when the list is NULL or empty.
+     * @param aDomain domain for the events
+     * @param anEvents events to add (can be NULL)
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        if(anEvents == null) {
+            return;
+        }
+        myEventRegistry.addEvents(aDomain, anEvents);
+        for(Event theEvent: anEvents) {
+            myRecorder.recordAddEvent(aDomain, theEvent);
+        }
+    }
+
+    public void addEventUserSpecific(String aUserId, Event anEvent) {
+        myEventRegistry.addEventUserSpecific(aUserId, anEvent);
+        myRecorder.recordAddEventUserSpecific(aUserId, anEvent);
+    }
+
+    public void registerUnlistenEvent(String aUserId, UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent) {
+        myEventRegistry.registerUnlistenEvent(aUserId, anUnlistenScope, anUnlistenEvent);
+    }
+
+    public void registerDomainHistory(Domain aDomain, int aMaxEvents, long aMaxAge) {
+        myEventRegistry.registerDomainHistory(aDomain, aMaxEvents, aMaxAge);
+        myRecorder.recordRegisterDomainHistory(aDomain, aMaxEvents, aMaxAge);
+    }
+
+    public void deregisterDomainHistory(Domain aDomain) {
+        myEventRegistry.deregisterDomainHistory(aDomain);
+        myRecorder.recordDeregisterDomainHistory(aDomain);
+    }
+
+    public EventServiceConfiguration getConfiguration() {
+        return myEventRegistry.getConfiguration();
+    }
+
+    /**
+     * Closes the recording.
+     */
+    public void close() {
+        myRecorder.close();
+    }
+}
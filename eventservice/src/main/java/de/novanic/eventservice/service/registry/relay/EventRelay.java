@@ -0,0 +1,227 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.relay;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link EventRelay} connects a local {@link de.novanic.eventservice.service.registry.EventRegistry} to an upstream
+ * {@link de.novanic.eventservice.service.registry.EventRegistry}. The relay is registered as one single user/client
+ * to the relayed domains of the upstream node and republishes all received events into the local
+ * {@link de.novanic.eventservice.service.registry.EventRegistry}, where they are distributed to the own users/clients.
+ * That allows a tree-shaped fan-out, because the upstream node has only to serve the relays instead of all clients.
+ *
+ * <br>The events are received with a long-polling listen, so all events which are occurred in the meantime are transferred
+ * with one listen call and the events of a domain are republished together. When the relay user is removed at the
+ * upstream node (for example by a timeout) or the upstream node isn't available, the relay registers itself again.
+ *
+ * <br>A relay is created by the {@link de.novanic.eventservice.service.registry.EventRegistryFactory} when an upstream
+ * node is configured ({@link de.novanic.eventservice.config.ConfigParameter#RELAY_UPSTREAM_ADDRESS}).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:02:44
+ */
+public class EventRelay
+{
+    private static final Logger LOG = LoggerFactory.getLogger(EventRelay.class);
+    private static final long RETRY_DELAY = 1000;
+
+    private final EventRegistry myUpstreamEventRegistry;
+    private final EventRegistry myLocalEventRegistry;
+    private final String myRelayId;
+    private final Set<Domain> myDomains;
+    private final ConnectionStrategyServerConnector myServerConnector;
+    private volatile Thread myRelayThread;
+    private volatile boolean isActive;
+
+    /**
+     * Creates a new {@link EventRelay}. The relay must be started with {@link EventRelay#start()}.
+     * @param anUpstreamEventRegistry {@link de.novanic.eventservice.service.registry.EventRegistry} of the upstream node
+     * @param aLocalEventRegistry local {@link de.novanic.eventservice.service.registry.EventRegistry} to republish the events
+     * @param aRelayId user/client id of the relay at the upstream node
+     * @param aDomains domains to relay
+     */
+    public EventRelay(EventRegistry anUpstreamEventRegistry, EventRegistry aLocalEventRegistry, String aRelayId, Set<Domain> aDomains) {
+        myUpstreamEventRegistry = anUpstreamEventRegistry;
+        myLocalEventRegistry = aLocalEventRegistry;
+        myRelayId = aRelayId;
+        myDomains = Collections.unmodifiableSet(new HashSet<Domain>(aDomains));
+        myServerConnector = new LongPollingServerConnector(anUpstreamEventRegistry.getConfiguration());
+    }
+
+    /**
+     * Registers the relay for the relayed domains at the upstream node and starts to republish the events.
+     * When the upstream node isn't available, the registration is retried by the relay thread.
+     * The call has no effect when the relay is already started.
+     */
+    public synchronized void start() {
+        if(!isActive) {
+            isActive = true;
+            try {
+                register();
+            } catch(RuntimeException e) {
+                LOG.error("Relay \"" + myRelayId + "\" couldn't be registered at the upstream node. The registration is retried.", e);
+            }
+            myRelayThread = new Thread(new RelayRunnable(), "EventRelay-" + myRelayId);
+            myRelayThread.setDaemon(true);
+            myRelayThread.start();
+            LOG.info("Relay \"{}\" started for domains {}.", myRelayId, myDomains);
+        }
+    }
+
+    /**
+     * Stops the relay and deregisters the relay from the upstream node.
+     */
+    public synchronized void stop() {
+        if(isActive) {
+            isActive = false;
+            myRelayThread.interrupt();
+            myRelayThread = null;
+            try {
+                myUpstreamEventRegistry.unlisten(myRelayId);
+            } catch(RuntimeException e) {
+                LOG.error("Relay \"" + myRelayId + "\" couldn't be deregistered from the upstream node!", e);
+            }
+            LOG.info("Relay \"{}\" stopped.", myRelayId);
+        }
+    }
+
+    /**
+     * Checks if the relay is started.
+     * @return true when the relay is started, otherwise false
+     */
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Returns the relayed domains.
+     * @return relayed domains
+     */
+    public Set<Domain> getDomains() {
+        return myDomains;
+    }
+
+    /**
+     * Returns the {@link de.novanic.eventservice.service.registry.EventRegistry} of the upstream node.
+     * @return {@link de.novanic.eventservice.service.registry.EventRegistry} of the upstream node
+     */
+    public EventRegistry getUpstreamEventRegistry() {
+        return myUpstreamEventRegistry;
+    }
+
+    /**
+     * Returns the user/client id of the relay at the upstream node.
+     * @return user/client id of the relay
+     */
+    public String getRelayId() {
+        return myRelayId;
+    }
+
+    /**
+     * Registers the relay for all relayed domains at the upstream node.
+     */
+    private void register() {
+        for(Domain theDomain: myDomains) {
+            myUpstreamEventRegistry.registerUser(theDomain, myRelayId, null);
+        }
+    }
+
+    /**
+     * Receives the events of the upstream node (one batch per call) and republishes them into the local
+     * {@link de.novanic.eventservice.service.registry.EventRegistry}. Consecutive events of the same domain are
+     * republished together, so the order of the events is kept.
+     * @return true when the relay is still registered at the upstream node, otherwise false
+     */
+    private boolean relay() {
+        List<DomainEvent> theEvents = myUpstreamEventRegistry.listen(myServerConnector, myRelayId);
+        if(theEvents == null) {
+            return false;
+        }
+        Domain theBatchDomain = null;
+        List<Event> theBatch = new ArrayList<Event>();
+        for(DomainEvent theDomainEvent: theEvents) {
+            final Domain theDomain = theDomainEvent.getDomain();
+            if(myDomains.contains(theDomain)) {
+                if(!theDomain.equals(theBatchDomain)) {
+                    republish(theBatchDomain, theBatch);
+                    theBatchDomain = theDomain;
+                    theBatch = new ArrayList<Event>();
+                }
+                theBatch.add(theDomainEvent.getEvent());
+            }
+        }
+        republish(theBatchDomain, theBatch);
+        return true;
+    }
+
+    /**
+     * Republishes the events of a domain into the local {@link de.novanic.eventservice.service.registry.EventRegistry}.
+     * @param aDomain domain of the events
+     * @param anEvents events to republish
+     */
+    private void republish(Domain aDomain, List<Event> anEvents) {
+        if(!anEvents.isEmpty()) {
+            myLocalEventRegistry.addEvents(aDomain, anEvents);
+        }
+    }
+
+    /**
+     * Loop of the relay thread. It is running until the relay is stopped.
+     */
+    private class RelayRunnable implements Runnable
+    {
+        public void run() {
+            while(isActive) {
+                try {
+                    if(!relay() && isActive) {
+                        LOG.info("Relay \"{}\" isn't registered at the upstream node. The relay is registered again.", myRelayId);
+                        register();
+                    }
+                } catch(RuntimeException e) {
+                    if(isActive) {
+                        LOG.error("Error on relaying events (relay \"" + myRelayId + "\")!", e);
+                        try {
+                            Thread.sleep(RETRY_DELAY);
+                        } catch(InterruptedException e1) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
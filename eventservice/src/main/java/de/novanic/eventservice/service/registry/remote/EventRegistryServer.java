@@ -0,0 +1,382 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistryFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@link EventRegistryServer} makes an {@link de.novanic.eventservice.service.registry.EventRegistry} available for
+ * other processes, so the users, the event queues and the fan-out of the events can be hold within a standalone process.
+ * The web applications access the registry process with {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry}
+ * (configured with {@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS}). That isolates the
+ * memory consumption and the garbage collection of the registry from the web applications.
+ *
+ * <br>The server listens only on the loopback interface. Every connection has to be authenticated with the shared secret
+ * ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET}, see {@link RemoteEventRegistryHandshake})
+ * before any request is read and only accepted classes are de-serialized ({@link RemoteEventRegistryObjectInputStream}).
+ * The requests of a connection are executed in the order of arrival, except listen requests which are executed
+ * concurrently, because they are waiting for events (long-polling). Every request is answered, so the failures of
+ * asynchronous requests are reported to the client.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+public class EventRegistryServer
+{
+    private static final Logger LOG = LoggerFactory.getLogger(EventRegistryServer.class);
+
+    public static final int DEFAULT_PORT = 4712;
+
+    private final EventRegistry myEventRegistry;
+    private final ConnectionStrategyServerConnector myServerConnector;
+    private final int myPort;
+    private final byte[] mySecret;
+    private final String myAcceptedClasses;
+    private final Queue<ConnectionHandler> myConnectionHandlers;
+    private ServerSocket myServerSocket;
+    private ExecutorService myListenExecutor;
+    private volatile boolean isActive;
+
+    /**
+     * Creates a new {@link EventRegistryServer} with the shared secret of the configuration
+     * ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET}). The server must be started with
+     * {@link EventRegistryServer#start()}.
+     * @param anEventRegistry {@link de.novanic.eventservice.service.registry.EventRegistry} to provide
+     * @param aPort port to listen (0 to use any free port)
+     * @throws de.novanic.eventservice.client.config.ConfigurationException occurs when no shared secret is configured
+     */
+    public EventRegistryServer(EventRegistry anEventRegistry, int aPort) {
+        this(anEventRegistry, aPort, anEventRegistry.getConfiguration().getRemoteRegistrySecret());
+    }
+
+    /**
+     * Creates a new {@link EventRegistryServer}. The server must be started with {@link EventRegistryServer#start()}.
+     * @param anEventRegistry {@link de.novanic.eventservice.service.registry.EventRegistry} to provide
+     * @param aPort port to listen (0 to use any free port)
+     * @param aSecret shared secret to authenticate the connections
+     * @throws de.novanic.eventservice.client.config.ConfigurationException occurs when no shared secret is specified
+     */
+    public EventRegistryServer(EventRegistry anEventRegistry, int aPort, String aSecret) {
+        mySecret = RemoteEventRegistryHandshake.readSecret(aSecret);
+        myAcceptedClasses = anEventRegistry.getConfiguration().getRemoteRegistryClasses();
+        myEventRegistry = anEventRegistry;
+        myServerConnector = new LongPollingServerConnector(anEventRegistry.getConfiguration());
+        myPort = aPort;
+        myConnectionHandlers = new ConcurrentLinkedQueue<ConnectionHandler>();
+    }
+
+    /**
+     * Starts the server. The call has no effect when the server is already started.
+     * @throws IOException occurs when the port couldn't be bound
+     */
+    public synchronized void start() throws IOException {
+        if(!isActive) {
+            myServerSocket = new ServerSocket(myPort, 50, InetAddress.getByName(null));
+            myListenExecutor = Executors.newCachedThreadPool();
+            isActive = true;
+            new Thread(new AcceptRunnable(myServerSocket), "EventRegistryServer-" + getPort()).start();
+            LOG.info("Registry server started (port {}).", getPort());
+        }
+    }
+
+    /**
+     * Stops the server and closes all connections.
+     */
+    public synchronized void stop() {
+        if(isActive) {
+            isActive = false;
+            close(myServerSocket);
+            for(ConnectionHandler theConnectionHandler: myConnectionHandlers) {
+                theConnectionHandler.close();
+            }
+            myConnectionHandlers.clear();
+            myListenExecutor.shutdownNow();
+            LOG.info("Registry server stopped (port {}).", getPort());
+        }
+    }
+
+    /**
+     * Checks if the server is started.
+     * @return true when the server is started, otherwise false
+     */
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Returns the port of the server. When the server was created with the port 0, the port is assigned with the start
+     * of the server.
+     * @return port of the server
+     */
+    public int getPort() {
+        if(myServerSocket != null) {
+            return myServerSocket.getLocalPort();
+        }
+        return myPort;
+    }
+
+    /**
+     * Starts a standalone registry process. The port can be specified as the first argument (default: {@value #DEFAULT_PORT}).
+     * The {@link de.novanic.eventservice.service.registry.EventRegistry} is initialized with the available configuration
+     * (see {@link de.novanic.eventservice.config.EventServiceConfigurationFactory}).
+     * @param anArguments arguments (optional: port)
+     * @throws IOException occurs when the port couldn't be bound
+     */
+    public static void main(String[] anArguments) throws IOException {
+        int thePort = DEFAULT_PORT;
+        if(anArguments.length > 0) {
+            thePort = Integer.parseInt(anArguments[0]);
+        }
+        EventRegistry theEventRegistry = EventRegistryFactory.getInstance().getEventRegistry();
+        if(theEventRegistry instanceof RemoteEventRegistry) {
+            LOG.error("The registry process is configured to use another registry process (parameter \"registry.remote.address\")!");
+            return;
+        }
+        new EventRegistryServer(theEventRegistry, thePort).start();
+    }
+
+    /**
+     * Executes the requested operation with the {@link de.novanic.eventservice.service.registry.EventRegistry}.
+     * @param aRequest request
+     * @return result of the operation (NULL for operations without a result)
+     */
+    @SuppressWarnings("unchecked")
+    private Object execute(RemoteEventRegistryRequest aRequest) {
+        switch(aRequest.getOperation()) {
+            case IS_USER_REGISTERED:
+                return myEventRegistry.isUserRegistered((String)aRequest.getArgument(0));
+            case IS_USER_REGISTERED_FOR_DOMAIN:
+                return myEventRegistry.isUserRegistered((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1));
+            case REGISTER_USER:
+                myEventRegistry.registerUser((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1), (EventFilter)aRequest.getArgument(2));
+                return null;
+            case SET_EVENT_FILTER:
+                myEventRegistry.setEventFilter((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1), (EventFilter)aRequest.getArgument(2));
+                return null;
+            case GET_EVENT_FILTER:
+                return myEventRegistry.getEventFilter((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1));
+            case REMOVE_EVENT_FILTER:
+                myEventRegistry.removeEventFilter((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1));
+                return null;
+            case LISTEN:
+                List<DomainEvent> theEvents = myEventRegistry.listen(myServerConnector, (String)aRequest.getArgument(0));
+                if(theEvents != null) {
+                    return new ArrayList<DomainEvent>(theEvents);
+                }
+                return null;
+            case UNLISTEN:
+                myEventRegistry.unlisten((String)aRequest.getArgument(0));
+                return null;
+            case UNLISTEN_FROM_DOMAIN:
+                myEventRegistry.unlisten((Domain)aRequest.getArgument(0), (String)aRequest.getArgument(1));
+                return null;
+            case GET_LISTEN_DOMAINS:
+                return new HashSet<Domain>(myEventRegistry.getListenDomains());
+            case GET_LISTEN_DOMAINS_OF_USER:
+                return new HashSet<Domain>(myEventRegistry.getListenDomains((String)aRequest.getArgument(0)));
+            case GET_REGISTERED_USER_IDS:
+                return new HashSet<String>(myEventRegistry.getRegisteredUserIds());
+            case GET_REGISTERED_USER_IDS_OF_DOMAIN:
+                return new HashSet<String>(myEventRegistry.getRegisteredUserIds((Domain)aRequest.getArgument(0)));
+            case ADD_EVENT:
+                myEventRegistry.addEvent((Domain)aRequest.getArgument(0), (Event)aRequest.getArgument(1));
+                return null;
+            case ADD_EVENTS:
+                myEventRegistry.addEvents((Domain)aRequest.getArgument(0), (List<Event>)aRequest.getArgument(1));
+                return null;
+            case ADD_EVENT_USER_SPECIFIC:
+                myEventRegistry.addEventUserSpecific((String)aRequest.getArgument(0), (Event)aRequest.getArgument(1));
+                return null;
+            case REGISTER_UNLISTEN_EVENT:
+                myEventRegistry.registerUnlistenEvent((String)aRequest.getArgument(0), (UnlistenEventListener.Scope)aRequest.getArgument(1), (UnlistenEvent)aRequest.getArgument(2));
+                return null;
+            case REGISTER_DOMAIN_HISTORY:
+                myEventRegistry.registerDomainHistory((Domain)aRequest.getArgument(0), (Integer)aRequest.getArgument(1), (Long)aRequest.getArgument(2));
+                return null;
+            case DEREGISTER_DOMAIN_HISTORY:
+                myEventRegistry.deregisterDomainHistory((Domain)aRequest.getArgument(0));
+                return null;
+            default:
+                throw new RemoteEventRegistryException("Unsupported operation \"" + aRequest.getOperation() + "\"!");
+        }
+    }
+
+    /**
+     * Closes the server socket and ignores errors.
+     * @param aServerSocket server socket to close
+     */
+    private static void close(ServerSocket aServerSocket) {
+        try {
+            aServerSocket.close();
+        } catch(IOException e) {
+            LOG.debug("Error on closing server socket!", e);
+        }
+    }
+
+    /**
+     * Closes the socket and ignores errors.
+     * @param aSocket socket to close
+     */
+    private static void close(Socket aSocket) {
+        try {
+            aSocket.close();
+        } catch(IOException e) {
+            LOG.debug("Error on closing socket!", e);
+        }
+    }
+
+    /**
+     * Accepts new connections until the server is stopped.
+     */
+    private class AcceptRunnable implements Runnable
+    {
+        private final ServerSocket myAcceptServerSocket;
+
+        private AcceptRunnable(ServerSocket aServerSocket) {
+            myAcceptServerSocket = aServerSocket;
+        }
+
+        public void run() {
+            while(isActive) {
+                try {
+                    Socket theSocket = myAcceptServerSocket.accept();
+                    ConnectionHandler theConnectionHandler = new ConnectionHandler(theSocket);
+                    myConnectionHandlers.add(theConnectionHandler);
+                    Thread theConnectionThread = new Thread(theConnectionHandler, "EventRegistryServer-Connection-" + theSocket.getPort());
+                    theConnectionThread.setDaemon(true);
+                    theConnectionThread.start();
+                } catch(IOException e) {
+                    if(isActive) {
+                        LOG.error("Error on accepting a connection!", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads and executes the requests of one connection and writes the responses of the synchronous requests.
+     */
+    private class ConnectionHandler implements Runnable
+    {
+        private final Socket mySocket;
+        private ObjectOutputStream myOutputStream;
+
+        private ConnectionHandler(Socket aSocket) {
+            mySocket = aSocket;
+        }
+
+        public void run() {
+            try {
+                //nothing is de-serialized before the connection is authenticated
+                RemoteEventRegistryHandshake.accept(mySocket, mySecret);
+                synchronized(this) {
+                    myOutputStream = new ObjectOutputStream(new BufferedOutputStream(mySocket.getOutputStream()));
+                    myOutputStream.flush();
+                }
+                ObjectInputStream theInputStream = new RemoteEventRegistryObjectInputStream(new BufferedInputStream(mySocket.getInputStream()), myAcceptedClasses);
+                while(isActive) {
+                    final RemoteEventRegistryRequest theRequest = (RemoteEventRegistryRequest)theInputStream.readObject();
+                    if(RemoteEventRegistryOperation.LISTEN == theRequest.getOperation()) {
+                        //listen requests are waiting for events, therefore the following requests shouldn't be blocked
+                        myListenExecutor.execute(new Runnable() {
+                            public void run() {
+                                process(theRequest);
+                            }
+                        });
+                    } else {
+                        process(theRequest);
+                    }
+                }
+            } catch(RemoteEventRegistryException e) {
+                LOG.warn(e.getMessage());
+            } catch(InvalidClassException e) {
+                LOG.warn("Connection closed, because a class was rejected: " + e.getMessage());
+            } catch(EOFException e) {
+                LOG.debug("Connection closed by the client.");
+            } catch(SocketException e) {
+                LOG.debug("Connection closed.", e);
+            } catch(Exception e) {
+                LOG.error("Error on reading requests!", e);
+            } finally {
+                myConnectionHandlers.remove(this);
+                close();
+            }
+        }
+
+        /**
+         * Executes the request and sends the response. The response of an asynchronous request confirms the execution.
+         * @param aRequest request
+         */
+        private void process(RemoteEventRegistryRequest aRequest) {
+            RemoteEventRegistryResponse theResponse;
+            try {
+                theResponse = new RemoteEventRegistryResponse(aRequest.getRequestId(), execute(aRequest), null);
+            } catch(RuntimeException e) {
+                LOG.error("Error on executing request \"" + aRequest + "\"!", e);
+                theResponse = new RemoteEventRegistryResponse(aRequest.getRequestId(), null, e.toString());
+            }
+            respond(theResponse);
+        }
+
+        /**
+         * Writes the response. The responses of concurrently executed listen requests are written one after another.
+         * @param aResponse response
+         */
+        private synchronized void respond(RemoteEventRegistryResponse aResponse) {
+            try {
+                myOutputStream.writeObject(aResponse);
+                myOutputStream.reset();
+                myOutputStream.flush();
+            } catch(IOException e) {
+                LOG.debug("Error on writing the response of request " + aResponse.getRequestId() + '!', e);
+                close();
+            }
+        }
+
+        private void close() {
+            EventRegistryServer.close(mySocket);
+        }
+    }
+}
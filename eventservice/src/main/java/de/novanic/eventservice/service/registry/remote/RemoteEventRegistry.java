@@ -0,0 +1,562 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import de.novanic.eventservice.client.config.ConfigurationException;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link RemoteEventRegistry} implements the {@link de.novanic.eventservice.service.registry.EventRegistry} as a
+ * thin client of a standalone registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}).
+ * The users, the event queues and the fan-out of the events are hold by the registry process, the web application only
+ * forwards the calls.
+ *
+ * <br>All calls share one connection which is authenticated with the shared secret
+ * ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET}). The requests are pipelined: the
+ * publishing of events (for example {@link RemoteEventRegistry#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)})
+ * doesn't wait for the response and all requests which are queued in the meantime are written and flushed together.
+ * When such an asynchronous request fails or isn't confirmed before the connection is closed, the failure is logged
+ * and reported to the {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}s
+ * together with the failed request, the calls of other callers aren't affected. All other calls wait for their response, but not longer than the timeout time
+ * ({@link de.novanic.eventservice.config.ConfigParameter#TIMEOUT_TIME_TAG}, additionally the waiting time for listen calls).
+ * Listen requests are waiting for events at the registry process (long-polling), so only the
+ * {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector} is supported.
+ * A lost connection is established again with the next call.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+public class RemoteEventRegistry implements EventRegistry
+{
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteEventRegistry.class);
+    private static final long DEFAULT_RESPONSE_TIMEOUT = 90000;
+
+    private final EventServiceConfiguration myConfiguration;
+    private final String myHost;
+    private final int myPort;
+    private final byte[] mySecret;
+    private final AtomicLong myRequestIdCounter;
+    private final List<RemoteEventRegistryFailureListener> myFailureListeners;
+    private Connection myConnection;
+
+    /**
+     * Creates a new {@link RemoteEventRegistry} for the registry process which is configured with
+     * {@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_ADDRESS} (host:port) and
+     * {@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET}.
+     * @param aConfiguration configuration
+     * @throws ConfigurationException occurs when the address isn't valid, no shared secret is configured or another connection strategy than long-polling is configured
+     */
+    public RemoteEventRegistry(EventServiceConfiguration aConfiguration) {
+        this(aConfiguration, aConfiguration.getRemoteRegistryAddress(), aConfiguration.getRemoteRegistrySecret());
+    }
+
+    /**
+     * Creates a new {@link RemoteEventRegistry} for the registry process.
+     * @param aConfiguration configuration
+     * @param anAddress address of the registry process (host:port)
+     * @param aSecret shared secret of the registry process
+     * @throws ConfigurationException occurs when the address isn't valid, no shared secret is specified or another connection strategy than long-polling is configured
+     */
+    public RemoteEventRegistry(EventServiceConfiguration aConfiguration, String anAddress, String aSecret) {
+        this(aConfiguration, readHost(anAddress), readPort(anAddress), aSecret);
+    }
+
+    /**
+     * Creates a new {@link RemoteEventRegistry} for the registry process.
+     * @param aConfiguration configuration
+     * @param aHost host of the registry process
+     * @param aPort port of the registry process
+     * @param aSecret shared secret of the registry process
+     * @throws ConfigurationException occurs when no shared secret is specified or another connection strategy than long-polling is configured
+     */
+    public RemoteEventRegistry(EventServiceConfiguration aConfiguration, String aHost, int aPort, String aSecret) {
+        final String theServerConnectorClassName = aConfiguration.getConnectionStrategyServerConnectorClassName();
+        if(theServerConnectorClassName != null && !LongPollingServerConnector.class.getName().equals(theServerConnectorClassName)) {
+            throw new ConfigurationException("The connection strategy \"" + theServerConnectorClassName + "\" isn't supported by "
+                    + RemoteEventRegistry.class.getName() + "! Only " + LongPollingServerConnector.class.getName() + " is supported.");
+        }
+        mySecret = RemoteEventRegistryHandshake.readSecret(aSecret);
+        myConfiguration = aConfiguration;
+        myHost = aHost;
+        myPort = aPort;
+        myRequestIdCounter = new AtomicLong();
+        myFailureListeners = new CopyOnWriteArrayList<RemoteEventRegistryFailureListener>();
+        LOG.info("Registry process \"{}:{}\" is used.", aHost, aPort);
+    }
+
+    public boolean isUserRegistered(String aUserId) {
+        return (Boolean)execute(RemoteEventRegistryOperation.IS_USER_REGISTERED, aUserId);
+    }
+
+    public boolean isUserRegistered(Domain aDomain, String aUserId) {
+        return (Boolean)execute(RemoteEventRegistryOperation.IS_USER_REGISTERED_FOR_DOMAIN, aDomain, aUserId);
+    }
+
+    public void registerUser(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        execute(RemoteEventRegistryOperation.REGISTER_USER, aDomain, aUserId, anEventFilter);
+    }
+
+    public void setEventFilter(Domain aDomain, String aUserId, EventFilter anEventFilter) {
+        execute(RemoteEventRegistryOperation.SET_EVENT_FILTER, aDomain, aUserId, anEventFilter);
+    }
+
+    public EventFilter getEventFilter(Domain aDomain, String aUserId) {
+        return (EventFilter)execute(RemoteEventRegistryOperation.GET_EVENT_FILTER, aDomain, aUserId);
+    }
+
+    public void removeEventFilter(Domain aDomain, String aUserId) {
+        execute(RemoteEventRegistryOperation.REMOVE_EVENT_FILTER, aDomain, aUserId);
+    }
+
+    /**
+     * The listen method returns all events for the user. The waiting for events (long-polling) is executed by the
+     * registry process, therefore the {@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector}
+     * isn't used.
+     * @param aServerEventListener {@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector} (not used)
+     * @param aUserId user
+     * @return list of events
+     */
+    @SuppressWarnings("unchecked")
+    public List<DomainEvent> listen(ConnectionStrategyServerConnector aServerEventListener, String aUserId) {
+        return (List<DomainEvent>)execute(RemoteEventRegistryOperation.LISTEN, aUserId);
+    }
+
+    public void unlisten(Domain aDomain, String aUserId) {
+        execute(RemoteEventRegistryOperation.UNLISTEN_FROM_DOMAIN, aDomain, aUserId);
+    }
+
+    public void unlisten(String aUserId) {
+        execute(RemoteEventRegistryOperation.UNLISTEN, aUserId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<Domain> getListenDomains(String aUserId) {
+        return (Set<Domain>)execute(RemoteEventRegistryOperation.GET_LISTEN_DOMAINS_OF_USER, aUserId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<Domain> getListenDomains() {
+        return (Set<Domain>)execute(RemoteEventRegistryOperation.GET_LISTEN_DOMAINS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> getRegisteredUserIds() {
+        return (Set<String>)execute(RemoteEventRegistryOperation.GET_REGISTERED_USER_IDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> getRegisteredUserIds(Domain aDomain) {
+        return (Set<String>)execute(RemoteEventRegistryOperation.GET_REGISTERED_USER_IDS_OF_DOMAIN, aDomain);
+    }
+
+    public void addEvent(Domain aDomain, Event anEvent) {
+        execute(RemoteEventRegistryOperation.ADD_EVENT, aDomain, anEvent);
+    }
+
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        if(anEvents == null || anEvents.isEmpty()) {
+            return;
+        }
+        execute(RemoteEventRegistryOperation.ADD_EVENTS, aDomain, new ArrayList<Event>(anEvents));
+    }
+
+    public void addEventUserSpecific(String aUserId, Event anEvent) {
+        execute(RemoteEventRegistryOperation.ADD_EVENT_USER_SPECIFIC, aUserId, anEvent);
+    }
+
+    public void registerUnlistenEvent(String aUserId, UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent) {
+        execute(RemoteEventRegistryOperation.REGISTER_UNLISTEN_EVENT, aUserId, anUnlistenScope, anUnlistenEvent);
+    }
+
+    public void registerDomainHistory(Domain aDomain, int aMaxEvents, long aMaxAge) {
+        execute(RemoteEventRegistryOperation.REGISTER_DOMAIN_HISTORY, aDomain, aMaxEvents, aMaxAge);
+    }
+
+    public void deregisterDomainHistory(Domain aDomain) {
+        execute(RemoteEventRegistryOperation.DEREGISTER_DOMAIN_HISTORY, aDomain);
+    }
+
+    public EventServiceConfiguration getConfiguration() {
+        return myConfiguration;
+    }
+
+    /**
+     * Adds a {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener} which gets
+     * informed about the failures of the asynchronous requests.
+     * @param aFailureListener listener to add
+     */
+    public void addFailureListener(RemoteEventRegistryFailureListener aFailureListener) {
+        myFailureListeners.add(aFailureListener);
+    }
+
+    /**
+     * Removes a {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}.
+     * @param aFailureListener listener to remove
+     */
+    public void removeFailureListener(RemoteEventRegistryFailureListener aFailureListener) {
+        myFailureListeners.remove(aFailureListener);
+    }
+
+    /**
+     * Closes the connection to the registry process. A new connection is established with the next call.
+     */
+    public synchronized void close() {
+        if(myConnection != null) {
+            myConnection.close();
+            myConnection = null;
+        }
+    }
+
+    /**
+     * Sends the request to the registry process and waits for the response when the operation is synchronous.
+     * The failures of asynchronous operations are reported to the {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}s.
+     * @param anOperation operation to execute
+     * @param anArguments arguments of the operation
+     * @return result of the operation (NULL for asynchronous operations)
+     * @throws RemoteEventRegistryException occurs when the registry process isn't available, doesn't respond in time
+     * or reports an error
+     */
+    private Object execute(RemoteEventRegistryOperation anOperation, Object... anArguments) {
+        RemoteEventRegistryRequest theRequest = new RemoteEventRegistryRequest(myRequestIdCounter.incrementAndGet(), anOperation, anArguments);
+        return getConnection().execute(theRequest, getResponseTimeout(anOperation));
+    }
+
+    /**
+     * Returns the max. time to wait for the response of an operation. That is the timeout time, because the client
+     * would be removed by a timeout in the meantime anyway. Listen calls are additionally waiting for events.
+     * @param anOperation operation
+     * @return max. time to wait for the response in milliseconds
+     */
+    private long getResponseTimeout(RemoteEventRegistryOperation anOperation) {
+        long theResponseTimeout = getConfigurationValue(myConfiguration.getTimeoutTime(), DEFAULT_RESPONSE_TIMEOUT);
+        if(RemoteEventRegistryOperation.LISTEN == anOperation) {
+            theResponseTimeout += getConfigurationValue(myConfiguration.getMinWaitingTime(), 0)
+                    + getConfigurationValue(myConfiguration.getMaxWaitingTime(), 0);
+        }
+        return theResponseTimeout;
+    }
+
+    private static long getConfigurationValue(Integer aValue, long aDefaultValue) {
+        if(aValue != null && aValue > 0) {
+            return aValue;
+        }
+        return aDefaultValue;
+    }
+
+    /**
+     * Returns the current connection or establishes a new connection when no connection is available.
+     * @return connection to the registry process
+     * @throws RemoteEventRegistryException occurs when the registry process isn't available
+     */
+    private synchronized Connection getConnection() {
+        if(myConnection == null || myConnection.isClosed()) {
+            try {
+                myConnection = new Connection(new Socket(myHost, myPort), mySecret, myConfiguration.getRemoteRegistryClasses(), myFailureListeners);
+            } catch(IOException e) {
+                throw new RemoteEventRegistryException("The registry process \"" + myHost + ':' + myPort + "\" isn't available!", e);
+            }
+        }
+        return myConnection;
+    }
+
+    /**
+     * Reads the host of an address (host:port).
+     * @param anAddress address
+     * @return host
+     */
+    private static String readHost(String anAddress) {
+        return anAddress.substring(0, getPortSeparatorIndex(anAddress));
+    }
+
+    /**
+     * Reads the port of an address (host:port).
+     * @param anAddress address
+     * @return port
+     */
+    private static int readPort(String anAddress) {
+        try {
+            return Integer.parseInt(anAddress.substring(getPortSeparatorIndex(anAddress) + 1).trim());
+        } catch(NumberFormatException e) {
+            throw new ConfigurationException("The port of the registry address \"" + anAddress + "\" isn't numeric!", e);
+        }
+    }
+
+    private static int getPortSeparatorIndex(String anAddress) {
+        final int theSeparatorIndex = (anAddress != null) ? anAddress.lastIndexOf(':') : -1;
+        if(theSeparatorIndex <= 0) {
+            throw new ConfigurationException("The registry address \"" + anAddress + "\" is invalid! Expected: host:port");
+        }
+        return theSeparatorIndex;
+    }
+
+    /**
+     * A connection to the registry process. The requests are written by a writer thread which writes all queued requests
+     * at once and the responses are read by a reader thread which assigns them to the waiting calls. The failures of
+     * asynchronous requests are reported to the {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}s.
+     */
+    private static class Connection
+    {
+        private final Socket mySocket;
+        private final ObjectOutputStream myOutputStream;
+        private final ObjectInputStream myInputStream;
+        private final BlockingQueue<RemoteEventRegistryRequest> myRequestQueue;
+        private final ConcurrentMap<Long, PendingResponse> myPendingResponses;
+        private final List<RemoteEventRegistryFailureListener> myFailureListeners;
+        private final Thread myWriterThread;
+        private volatile boolean isClosed;
+
+        private Connection(Socket aSocket, byte[] aSecret, String anAcceptedClasses, List<RemoteEventRegistryFailureListener> aFailureListeners) throws IOException {
+            mySocket = aSocket;
+            mySocket.setTcpNoDelay(true);
+            try {
+                RemoteEventRegistryHandshake.connect(aSocket, aSecret);
+                myOutputStream = new ObjectOutputStream(new BufferedOutputStream(aSocket.getOutputStream()));
+                myOutputStream.flush();
+                myInputStream = new RemoteEventRegistryObjectInputStream(new BufferedInputStream(aSocket.getInputStream()), anAcceptedClasses);
+            } catch(IOException e) {
+                aSocket.close();
+                throw e;
+            } catch(RuntimeException e) {
+                aSocket.close();
+                throw e;
+            }
+            myFailureListeners = aFailureListeners;
+            myRequestQueue = new LinkedBlockingQueue<RemoteEventRegistryRequest>();
+            myPendingResponses = new ConcurrentHashMap<Long, PendingResponse>();
+
+            myWriterThread = startThread(new WriterRunnable(), "RemoteEventRegistry-Writer");
+            startThread(new ReaderRunnable(), "RemoteEventRegistry-Reader");
+        }
+
+        private Object execute(RemoteEventRegistryRequest aRequest, long aResponseTimeout) {
+            PendingResponse thePendingResponse = new PendingResponse(aRequest);
+            myPendingResponses.put(aRequest.getRequestId(), thePendingResponse);
+            try {
+                enqueue(aRequest);
+            } catch(RemoteEventRegistryException e) {
+                myPendingResponses.remove(aRequest.getRequestId());
+                throw e;
+            }
+            if(aRequest.getOperation().isAsynchronous()) {
+                return null;
+            }
+            RemoteEventRegistryResponse theResponse;
+            try {
+                theResponse = thePendingResponse.await(aResponseTimeout);
+            } finally {
+                myPendingResponses.remove(aRequest.getRequestId());
+            }
+            if(theResponse == null) {
+                throw new RemoteEventRegistryException("The connection to the registry process was closed (request \"" + aRequest + "\")!");
+            }
+            if(theResponse.isError()) {
+                throw new RemoteEventRegistryException("Error on executing request \"" + aRequest + "\": " + theResponse.getErrorMessage());
+            }
+            return theResponse.getResult();
+        }
+
+        private void enqueue(RemoteEventRegistryRequest aRequest) {
+            if(isClosed) {
+                throw new RemoteEventRegistryException("The connection to the registry process is closed (request \"" + aRequest + "\")!");
+            }
+            myRequestQueue.add(aRequest);
+        }
+
+        private boolean isClosed() {
+            return isClosed;
+        }
+
+        private void close() {
+            if(!isClosed) {
+                isClosed = true;
+                try {
+                    mySocket.close();
+                } catch(IOException e) {
+                    LOG.debug("Error on closing the connection to the registry process!", e);
+                }
+                myWriterThread.interrupt();
+                for(PendingResponse thePendingResponse: myPendingResponses.values()) {
+                    if(thePendingResponse.isAsynchronous()) {
+                        reportAsynchronousFailure(thePendingResponse.getRequest(), new RemoteEventRegistryException(
+                                "The connection to the registry process was closed before the asynchronous request \""
+                                        + thePendingResponse.getRequest() + "\" was confirmed!"));
+                    } else {
+                        thePendingResponse.cancel();
+                    }
+                }
+                myPendingResponses.clear();
+            }
+        }
+
+        /**
+         * Reports the failure of an asynchronous request to the {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}s.
+         * @param aRequest failed request
+         * @param aFailure failure of the request
+         */
+        private void reportAsynchronousFailure(RemoteEventRegistryRequest aRequest, RemoteEventRegistryException aFailure) {
+            LOG.error(aFailure.getMessage());
+            for(RemoteEventRegistryFailureListener theFailureListener: myFailureListeners) {
+                try {
+                    theFailureListener.onFailure(aRequest, aFailure);
+                } catch(RuntimeException e) {
+                    LOG.error("Error on reporting the failure of request \"" + aRequest + "\"!", e);
+                }
+            }
+        }
+
+        private static Thread startThread(Runnable aRunnable, String aName) {
+            Thread theThread = new Thread(aRunnable, aName);
+            theThread.setDaemon(true);
+            theThread.start();
+            return theThread;
+        }
+
+        /**
+         * Writes the queued requests. All requests which are queued at the time of writing are flushed together.
+         */
+        private class WriterRunnable implements Runnable
+        {
+            public void run() {
+                List<RemoteEventRegistryRequest> theRequests = new ArrayList<RemoteEventRegistryRequest>();
+                try {
+                    while(!isClosed) {
+                        theRequests.add(myRequestQueue.take());
+                        myRequestQueue.drainTo(theRequests);
+                        for(RemoteEventRegistryRequest theRequest: theRequests) {
+                            myOutputStream.writeObject(theRequest);
+                        }
+                        myOutputStream.reset();
+                        myOutputStream.flush();
+                        theRequests.clear();
+                    }
+                } catch(InterruptedException e) {
+                    LOG.debug("Writer of the registry connection interrupted.");
+                } catch(IOException e) {
+                    if(!isClosed) {
+                        LOG.error("Error on writing requests to the registry process!", e);
+                    }
+                } finally {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Reads the responses and notifies the waiting calls.
+         */
+        private class ReaderRunnable implements Runnable
+        {
+            public void run() {
+                try {
+                    while(!isClosed) {
+                        RemoteEventRegistryResponse theResponse = (RemoteEventRegistryResponse)myInputStream.readObject();
+                        PendingResponse thePendingResponse = myPendingResponses.remove(theResponse.getRequestId());
+                        if(thePendingResponse != null) {
+                            if(!thePendingResponse.isAsynchronous()) {
+                                thePendingResponse.complete(theResponse);
+                            } else if(theResponse.isError()) {
+                                reportAsynchronousFailure(thePendingResponse.getRequest(), new RemoteEventRegistryException("Error on executing request \""
+                                        + thePendingResponse.getRequest() + "\": " + theResponse.getErrorMessage()));
+                            }
+                        }
+                    }
+                } catch(Exception e) {
+                    if(!isClosed) {
+                        LOG.error("Error on reading responses of the registry process!", e);
+                    }
+                } finally {
+                    close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds the response of a request until it has arrived.
+     */
+    private static class PendingResponse
+    {
+        private final RemoteEventRegistryRequest myRequest;
+        private final CountDownLatch myLatch;
+        private volatile RemoteEventRegistryResponse myResponse;
+
+        private PendingResponse(RemoteEventRegistryRequest aRequest) {
+            myRequest = aRequest;
+            myLatch = new CountDownLatch(1);
+        }
+
+        private RemoteEventRegistryRequest getRequest() {
+            return myRequest;
+        }
+
+        private boolean isAsynchronous() {
+            return myRequest.getOperation().isAsynchronous();
+        }
+
+        private void complete(RemoteEventRegistryResponse aResponse) {
+            myResponse = aResponse;
+            myLatch.countDown();
+        }
+
+        private void cancel() {
+            myLatch.countDown();
+        }
+
+        /**
+         * Waits for the response.
+         * @param aTimeout max. time to wait in milliseconds
+         * @return response, NULL when the connection was closed
+         * @throws RemoteEventRegistryException occurs when the response doesn't arrive in time
+         */
+        private RemoteEventRegistryResponse await(long aTimeout) {
+            try {
+                if(!myLatch.await(aTimeout, TimeUnit.MILLISECONDS)) {
+                    throw new RemoteEventRegistryException("The registry process hasn't responded within " + aTimeout + "ms (request \"" + myRequest + "\")!");
+                }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RemoteEventRegistryException("Waiting for the response of the registry process interrupted!", e);
+            }
+            return myResponse;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+/**
+ * A RemoteEventRegistryFailureListener gets informed about the failures of the asynchronous requests of a
+ * {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry} (for example the publishing of events),
+ * because the callers of these requests don't wait for the response (see
+ * {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistry#addFailureListener(RemoteEventRegistryFailureListener)}).
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:52:18
+ */
+public interface RemoteEventRegistryFailureListener
+{
+    /**
+     * The method onFailure is called when an asynchronous request has failed or couldn't be confirmed, because the
+     * connection to the registry process was closed.
+     * @param aRequest failed request
+     * @param aFailure failure of the request
+     */
+    void onFailure(RemoteEventRegistryRequest aRequest, RemoteEventRegistryException aFailure);
+}
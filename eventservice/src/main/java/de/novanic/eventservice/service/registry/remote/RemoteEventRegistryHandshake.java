@@ -0,0 +1,149 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import de.novanic.eventservice.client.config.ConfigurationException;
+import de.novanic.eventservice.config.ConfigParameter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * The {@link RemoteEventRegistryHandshake} authenticates a connection to a standalone registry process
+ * ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}) with a shared secret
+ * ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_SECRET}). The handshake is executed with the
+ * raw socket streams before any object is de-serialized.
+ *
+ * <br>The registry process sends a random challenge, the client answers with the HMAC (SHA-256) of the challenge which
+ * is calculated with the shared secret and the registry process confirms the answer. The secret itself is never transferred.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:58:12
+ */
+public final class RemoteEventRegistryHandshake
+{
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int CHALLENGE_LENGTH = 32;
+    private static final int HANDSHAKE_TIMEOUT = 10000;
+    private static final int ACCEPTED = 1;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private RemoteEventRegistryHandshake() {}
+
+    /**
+     * Checks the shared secret and returns it as bytes.
+     * @param aSecret shared secret
+     * @return shared secret as bytes
+     * @throws ConfigurationException occurs when no secret is configured
+     */
+    public static byte[] readSecret(String aSecret) {
+        if(aSecret == null || aSecret.trim().length() == 0) {
+            throw new ConfigurationException("A shared secret is required for the registry process (parameter \""
+                    + ConfigParameter.REMOTE_REGISTRY_SECRET.declarationFQ() + "\")!");
+        }
+        try {
+            return aSecret.trim().getBytes("UTF-8");
+        } catch(UnsupportedEncodingException e) {
+            throw new ConfigurationException("The shared secret of the registry process couldn't be encoded!", e);
+        }
+    }
+
+    /**
+     * Executes the handshake at the registry process (server side).
+     * @param aSocket accepted socket
+     * @param aSecret shared secret
+     * @throws IOException occurs when the connection fails
+     * @throws RemoteEventRegistryException occurs when the client doesn't know the shared secret
+     */
+    public static void accept(Socket aSocket, byte[] aSecret) throws IOException {
+        final int theSocketTimeout = aSocket.getSoTimeout();
+        aSocket.setSoTimeout(HANDSHAKE_TIMEOUT);
+
+        final byte[] theChallenge = new byte[CHALLENGE_LENGTH];
+        RANDOM.nextBytes(theChallenge);
+
+        DataOutputStream theOutputStream = new DataOutputStream(aSocket.getOutputStream());
+        theOutputStream.write(theChallenge);
+        theOutputStream.flush();
+
+        DataInputStream theInputStream = new DataInputStream(aSocket.getInputStream());
+        final byte[] theExpectedAnswer = calculateAnswer(theChallenge, aSecret);
+        final byte[] theAnswer = new byte[theExpectedAnswer.length];
+        theInputStream.readFully(theAnswer);
+        if(!MessageDigest.isEqual(theExpectedAnswer, theAnswer)) {
+            throw new RemoteEventRegistryException("The connection from \"" + aSocket.getRemoteSocketAddress() + "\" was rejected, because the shared secret is wrong!");
+        }
+        theOutputStream.write(ACCEPTED);
+        theOutputStream.flush();
+
+        aSocket.setSoTimeout(theSocketTimeout);
+    }
+
+    /**
+     * Executes the handshake at the client side.
+     * @param aSocket connected socket
+     * @param aSecret shared secret
+     * @throws IOException occurs when the connection fails
+     * @throws RemoteEventRegistryException occurs when the registry process rejects the shared secret
+     */
+    public static void connect(Socket aSocket, byte[] aSecret) throws IOException {
+        final int theSocketTimeout = aSocket.getSoTimeout();
+        aSocket.setSoTimeout(HANDSHAKE_TIMEOUT);
+
+        DataInputStream theInputStream = new DataInputStream(aSocket.getInputStream());
+        final byte[] theChallenge = new byte[CHALLENGE_LENGTH];
+        theInputStream.readFully(theChallenge);
+
+        DataOutputStream theOutputStream = new DataOutputStream(aSocket.getOutputStream());
+        theOutputStream.write(calculateAnswer(theChallenge, aSecret));
+        theOutputStream.flush();
+
+        if(theInputStream.read() != ACCEPTED) {
+            throw new RemoteEventRegistryException("The registry process has rejected the connection, because the shared secret is wrong!");
+        }
+
+        aSocket.setSoTimeout(theSocketTimeout);
+    }
+
+    /**
+     * Calculates the answer (HMAC) of a challenge.
+     * @param aChallenge challenge
+     * @param aSecret shared secret
+     * @return answer of the challenge
+     */
+    private static byte[] calculateAnswer(byte[] aChallenge, byte[] aSecret) {
+        try {
+            Mac theMac = Mac.getInstance(HMAC_ALGORITHM);
+            theMac.init(new SecretKeySpec(aSecret, HMAC_ALGORITHM));
+            return theMac.doFinal(aChallenge);
+        } catch(GeneralSecurityException e) {
+            throw new RemoteEventRegistryException("The answer of the challenge couldn't be calculated!", e);
+        }
+    }
+}
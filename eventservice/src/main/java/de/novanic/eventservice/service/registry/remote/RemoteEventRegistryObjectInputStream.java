@@ -0,0 +1,137 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link RemoteEventRegistryObjectInputStream} de-serializes the requests and responses of the connections to a
+ * standalone registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}). Only
+ * accepted classes are resolved, every other class is rejected before an instance is created:
+ * <ul>
+ *  <li>Events and EventFilters</li>
+ *  <li>the classes of GWTEventService</li>
+ *  <li>Strings, numbers, atomic values and the common collections of the JDK</li>
+ *  <li>the classes of the configured packages ({@link de.novanic.eventservice.config.ConfigParameter#REMOTE_REGISTRY_CLASSES})</li>
+ * </ul>
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 01:04:37
+ */
+public class RemoteEventRegistryObjectInputStream extends ObjectInputStream
+{
+    private static final String EVENTSERVICE_PACKAGE = "de.novanic.eventservice.";
+
+    private static final Set<String> ACCEPTED_CLASS_NAMES = new HashSet<String>(Arrays.asList(
+            Object.class.getName(), String.class.getName(), Enum.class.getName(), Number.class.getName(),
+            Boolean.class.getName(), Byte.class.getName(), Character.class.getName(), Short.class.getName(),
+            Integer.class.getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(),
+            java.math.BigInteger.class.getName(), java.math.BigDecimal.class.getName(),
+            AtomicBoolean.class.getName(), AtomicInteger.class.getName(), AtomicLong.class.getName(),
+            Date.class.getName(), ArrayList.class.getName(), LinkedList.class.getName(),
+            HashSet.class.getName(), LinkedHashSet.class.getName(), TreeSet.class.getName(),
+            HashMap.class.getName(), LinkedHashMap.class.getName(), TreeMap.class.getName(),
+            "java.util.Arrays$ArrayList",
+            "java.util.Collections$EmptyList", "java.util.Collections$EmptySet", "java.util.Collections$EmptyMap",
+            "java.util.Collections$SingletonList", "java.util.Collections$SingletonSet", "java.util.Collections$SingletonMap",
+            "java.util.Collections$UnmodifiableCollection", "java.util.Collections$UnmodifiableList",
+            "java.util.Collections$UnmodifiableRandomAccessList", "java.util.Collections$UnmodifiableSet",
+            "java.util.Collections$UnmodifiableMap"));
+
+    private final List<String> myAcceptedPackages;
+
+    /**
+     * Creates a new {@link RemoteEventRegistryObjectInputStream}.
+     * @param anInputStream stream to read
+     * @param anAcceptedPackages package prefixes of further accepted classes, separated by a comma (optional, can be NULL)
+     * @throws IOException occurs when the stream header couldn't be read
+     */
+    public RemoteEventRegistryObjectInputStream(InputStream anInputStream, String anAcceptedPackages) throws IOException {
+        super(anInputStream);
+        myAcceptedPackages = new ArrayList<String>();
+        myAcceptedPackages.add(EVENTSERVICE_PACKAGE);
+        if(anAcceptedPackages != null) {
+            for(String theAcceptedPackage: anAcceptedPackages.split(",")) {
+                theAcceptedPackage = theAcceptedPackage.trim();
+                if(theAcceptedPackage.length() > 0) {
+                    myAcceptedPackages.add(theAcceptedPackage);
+                }
+            }
+        }
+    }
+
+    protected Class<?> resolveClass(ObjectStreamClass anObjectStreamClass) throws IOException, ClassNotFoundException {
+        //the class is loaded without initialization
+        final Class<?> theClass = super.resolveClass(anObjectStreamClass);
+        if(!isAccepted(theClass)) {
+            throw new InvalidClassException(anObjectStreamClass.getName(), "The class isn't accepted by the registry connection!");
+        }
+        return theClass;
+    }
+
+    protected Class<?> resolveProxyClass(String[] anInterfaces) throws IOException {
+        throw new InvalidClassException(Arrays.toString(anInterfaces), "Proxy classes aren't accepted by the registry connection!");
+    }
+
+    /**
+     * Checks if the class is accepted.
+     * @param aClass class to check
+     * @return true when the class is accepted, otherwise false
+     */
+    private boolean isAccepted(Class<?> aClass) {
+        Class<?> theClass = aClass;
+        while(theClass.isArray()) {
+            theClass = theClass.getComponentType();
+        }
+        if(theClass.isPrimitive()) {
+            return true;
+        }
+        return isAcceptedName(theClass.getName())
+                || Event.class.isAssignableFrom(theClass)
+                || EventFilter.class.isAssignableFrom(theClass);
+    }
+
+    /**
+     * Checks if the class name is accepted (always accepted classes and accepted packages).
+     * @param aClassName class name to check
+     * @return true when the class name is accepted, otherwise false
+     */
+    private boolean isAcceptedName(String aClassName) {
+        if(ACCEPTED_CLASS_NAMES.contains(aClassName)) {
+            return true;
+        }
+        for(String theAcceptedPackage: myAcceptedPackages) {
+            if(aClassName.startsWith(theAcceptedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
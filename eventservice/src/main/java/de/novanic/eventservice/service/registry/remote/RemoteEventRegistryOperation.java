@@ -0,0 +1,89 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+/**
+ * Operations of the {@link de.novanic.eventservice.service.registry.EventRegistry} which can be requested at a standalone
+ * registry process ({@link de.novanic.eventservice.service.registry.remote.EventRegistryServer}). Asynchronous operations
+ * don't return a result, so the caller doesn't wait for the response and the requests can be pipelined. The response
+ * confirms the execution and a failure is reported to the failure listeners
+ * ({@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryFailureListener}). Operations which change registrations
+ * are executed synchronous, so their failures reach the caller directly.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+public enum RemoteEventRegistryOperation
+{
+    IS_USER_REGISTERED(false),
+
+    IS_USER_REGISTERED_FOR_DOMAIN(false),
+
+    REGISTER_USER(false),
+
+    SET_EVENT_FILTER(false),
+
+    GET_EVENT_FILTER(false),
+
+    REMOVE_EVENT_FILTER(false),
+
+    LISTEN(false),
+
+    UNLISTEN(false),
+
+    UNLISTEN_FROM_DOMAIN(false),
+
+    GET_LISTEN_DOMAINS(false),
+
+    GET_LISTEN_DOMAINS_OF_USER(false),
+
+    GET_REGISTERED_USER_IDS(false),
+
+    GET_REGISTERED_USER_IDS_OF_DOMAIN(false),
+
+    ADD_EVENT(true),
+
+    ADD_EVENTS(true),
+
+    ADD_EVENT_USER_SPECIFIC(true),
+
+    REGISTER_UNLISTEN_EVENT(false),
+
+    REGISTER_DOMAIN_HISTORY(false),
+
+    DEREGISTER_DOMAIN_HISTORY(false);
+
+    private final boolean myIsAsynchronous;
+
+    private RemoteEventRegistryOperation(boolean isAsynchronous) {
+        myIsAsynchronous = isAsynchronous;
+    }
+
+    /**
+     * Checks if the operation is executed asynchronous (without waiting for the response).
+     * @return true when the operation is executed asynchronous, otherwise false
+     */
+    public boolean isAsynchronous() {
+        return myIsAsynchronous;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import java.io.Serializable;
+
+/**
+ * A request to execute an operation ({@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryOperation})
+ * at a standalone registry process. The request id is used to assign the response, because requests are pipelined
+ * and the responses can arrive in another order (for example when a listen request waits for events).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+public class RemoteEventRegistryRequest implements Serializable
+{
+    private final long myRequestId;
+    private final RemoteEventRegistryOperation myOperation;
+    private final Object[] myArguments;
+
+    /**
+     * Creates a new request.
+     * @param aRequestId id of the request (unique per connection)
+     * @param anOperation operation to execute
+     * @param anArguments arguments of the operation
+     */
+    public RemoteEventRegistryRequest(long aRequestId, RemoteEventRegistryOperation anOperation, Object... anArguments) {
+        myRequestId = aRequestId;
+        myOperation = anOperation;
+        myArguments = anArguments;
+    }
+
+    /**
+     * Returns the id of the request.
+     * @return request id
+     */
+    public long getRequestId() {
+        return myRequestId;
+    }
+
+    /**
+     * Returns the operation to execute.
+     * @return operation
+     */
+    public RemoteEventRegistryOperation getOperation() {
+        return myOperation;
+    }
+
+    /**
+     * Returns the argument at the position.
+     * @param anIndex position of the argument
+     * @return argument
+     */
+    public Object getArgument(int anIndex) {
+        return myArguments[anIndex];
+    }
+
+    public String toString() {
+        return myOperation + " (" + myRequestId + ')';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import java.io.Serializable;
+
+/**
+ * The response to a synchronous {@link de.novanic.eventservice.service.registry.remote.RemoteEventRegistryRequest}.
+ * It contains the result of the operation or the error message when the operation has failed.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+public class RemoteEventRegistryResponse implements Serializable
+{
+    private final long myRequestId;
+    private final Object myResult;
+    private final String myErrorMessage;
+
+    /**
+     * Creates a new response.
+     * @param aRequestId id of the answered request
+     * @param aResult result of the operation (can be NULL)
+     * @param anErrorMessage error message when the operation has failed, otherwise NULL
+     */
+    public RemoteEventRegistryResponse(long aRequestId, Object aResult, String anErrorMessage) {
+        myRequestId = aRequestId;
+        myResult = aResult;
+        myErrorMessage = anErrorMessage;
+    }
+
+    /**
+     * Returns the id of the answered request.
+     * @return request id
+     */
+    public long getRequestId() {
+        return myRequestId;
+    }
+
+    /**
+     * Returns the result of the operation.
+     * @return result of the operation (can be NULL)
+     */
+    public Object getResult() {
+        return myResult;
+    }
+
+    /**
+     * Returns the error message when the operation has failed.
+     * @return error message, NULL when the operation was successful
+     */
+    public String getErrorMessage() {
+        return myErrorMessage;
+    }
+
+    /**
+     * Checks if the operation has failed.
+     * @return true when the operation has failed, otherwise false
+     */
+    public boolean isError() {
+        return myErrorMessage != null;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The DeliveryLatencyStatistics records the latencies of the event delivery, from the adding of an event to a user/client
+ * (see {@link de.novanic.eventservice.service.registry.user.UserInfo#addEvent(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)})
+ * until the event is retrieved by the connector, which writes the event to the client
+ * ({@link de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector}).
+ * The latencies are recorded per domain and per connector in {@link de.novanic.eventservice.service.registry.statistics.LatencyHistogram}s.
+ * The latencies of the user specific events (without a domain) are recorded as {@link DeliveryLatencyStatistics#USER_SPECIFIC_DOMAIN_NAME}.
+ * The amount of domains with an own histogram is limited ({@link DeliveryLatencyStatistics#DEFAULT_MAX_TRACKED_DOMAINS}),
+ * the latencies of further domains are recorded together as {@link DeliveryLatencyStatistics#OTHER_DOMAINS_NAME}.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:34:23
+ */
+public class DeliveryLatencyStatistics
+{
+    /**
+     * Name which is used for the latencies of the user specific events (without a domain).
+     */
+    public static final String USER_SPECIFIC_DOMAIN_NAME = "user_specific";
+
+    /**
+     * Name which is used for the latencies of the domains which exceed the maximum amount of tracked domains.
+     */
+    public static final String OTHER_DOMAINS_NAME = "other_domains";
+
+    /**
+     * Default maximum amount of domains with an own histogram.
+     */
+    public static final int DEFAULT_MAX_TRACKED_DOMAINS = 1000;
+
+    private final int myMaxTrackedDomains;
+    private final ConcurrentMap<String, LatencyHistogram> myDomainHistograms;
+    private final ConcurrentMap<String, LatencyHistogram> myConnectorHistograms;
+
+    /**
+     * Creates a new DeliveryLatencyStatistics without recorded latencies (see {@link DeliveryLatencyStatistics#DEFAULT_MAX_TRACKED_DOMAINS}).
+     */
+    public DeliveryLatencyStatistics() {
+        this(DEFAULT_MAX_TRACKED_DOMAINS);
+    }
+
+    /**
+     * Creates a new DeliveryLatencyStatistics without recorded latencies.
+     * @param aMaxTrackedDomains maximum amount of domains with an own histogram, the latencies of further domains are
+     * recorded as {@link DeliveryLatencyStatistics#OTHER_DOMAINS_NAME}
+     */
+    public DeliveryLatencyStatistics(int aMaxTrackedDomains) {
+        myMaxTrackedDomains = aMaxTrackedDomains;
+        myDomainHistograms = new ConcurrentHashMap<String, LatencyHistogram>();
+        myConnectorHistograms = new ConcurrentHashMap<String, LatencyHistogram>();
+    }
+
+    /**
+     * Records the delivery latency of an event.
+     * @param aDomain domain of the event
+     * @param aConnectorName name of the connector which delivers the event (optional, can be NULL)
+     * @param aLatency latency in nanoseconds
+     */
+    public void recordDelivery(Domain aDomain, String aConnectorName, long aLatency) {
+        final long theLatency = aLatency / 1000;
+        getHistogram(myDomainHistograms, getTrackedKey(myDomainHistograms, getDomainName(aDomain), myMaxTrackedDomains)).record(theLatency);
+        if(aConnectorName != null) {
+            getHistogram(myConnectorHistograms, aConnectorName).record(theLatency);
+        }
+    }
+
+    /**
+     * Returns the histogram of the delivery latencies of a domain.
+     * @param aDomain domain
+     * @return histogram of the domain, NULL when no latency is recorded for the domain or when the latencies of the
+     * domain are recorded as {@link DeliveryLatencyStatistics#OTHER_DOMAINS_NAME}
+     */
+    public LatencyHistogram getDomainHistogram(Domain aDomain) {
+        return myDomainHistograms.get(getDomainName(aDomain));
+    }
+
+    /**
+     * Returns the histogram of the delivery latencies of a connector.
+     * @param aConnectorName name of the connector
+     * @return histogram of the connector, NULL when no latency is recorded for the connector
+     */
+    public LatencyHistogram getConnectorHistogram(String aConnectorName) {
+        return myConnectorHistograms.get(aConnectorName);
+    }
+
+    /**
+     * Returns the window snapshots ({@link LatencyHistogram#getWindowSnapshot(long)}) of the domains.
+     * @param aWindowTime time of a window in nanoseconds
+     * @return window snapshots of the domains, sorted by the domain names
+     */
+    public SortedMap<String, LatencyHistogram.Snapshot> getDomainWindowSnapshots(long aWindowTime) {
+        return getWindowSnapshots(myDomainHistograms, aWindowTime);
+    }
+
+    /**
+     * Returns the window snapshots ({@link LatencyHistogram#getWindowSnapshot(long)}) of the connectors.
+     * @param aWindowTime time of a window in nanoseconds
+     * @return window snapshots of the connectors, sorted by the connector names
+     */
+    public SortedMap<String, LatencyHistogram.Snapshot> getConnectorWindowSnapshots(long aWindowTime) {
+        return getWindowSnapshots(myConnectorHistograms, aWindowTime);
+    }
+
+    /**
+     * Returns the window snapshots of histograms.
+     * @param aHistograms histograms
+     * @param aWindowTime time of a window in nanoseconds
+     * @return window snapshots, sorted by the names of the histograms
+     */
+    private static SortedMap<String, LatencyHistogram.Snapshot> getWindowSnapshots(Map<String, LatencyHistogram> aHistograms, long aWindowTime) {
+        SortedMap<String, LatencyHistogram.Snapshot> theSnapshots = new TreeMap<String, LatencyHistogram.Snapshot>();
+        for(Map.Entry<String, LatencyHistogram> theEntry: aHistograms.entrySet()) {
+            theSnapshots.put(theEntry.getKey(), theEntry.getValue().getWindowSnapshot(aWindowTime));
+        }
+        return theSnapshots;
+    }
+
+    /**
+     * Returns the name of a domain.
+     * @param aDomain domain (NULL for user specific events)
+     * @return name of the domain
+     */
+    static String getDomainName(Domain aDomain) {
+        if(aDomain != null) {
+            return aDomain.getName();
+        }
+        return USER_SPECIFIC_DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the key under which a value is recorded. A new key is only tracked separately as long as the maximum
+     * amount of tracked keys isn't reached, otherwise {@link DeliveryLatencyStatistics#OTHER_DOMAINS_NAME} is returned.
+     * The limit can be exceeded slightly by concurrent recordings of new keys.
+     * @param aValues recorded values
+     * @param aKey key of the value
+     * @param aMaxTrackedKeys maximum amount of tracked keys
+     * @return key under which the value is recorded
+     */
+    static String getTrackedKey(Map<String, ?> aValues, String aKey, int aMaxTrackedKeys) {
+        if(aValues.size() >= aMaxTrackedKeys && !aValues.containsKey(aKey)) {
+            return OTHER_DOMAINS_NAME;
+        }
+        return aKey;
+    }
+
+    /**
+     * Returns the histogram for a key. The histogram is created when it doesn't exist.
+     * @param aHistograms histograms
+     * @param aKey key of the histogram
+     * @return histogram for the key
+     */
+    private static LatencyHistogram getHistogram(ConcurrentMap<String, LatencyHistogram> aHistograms, String aKey) {
+        LatencyHistogram theHistogram = aHistograms.get(aKey);
+        if(theHistogram == null) {
+            theHistogram = new LatencyHistogram();
+            final LatencyHistogram theExistingHistogram = aHistograms.putIfAbsent(aKey, theHistogram);
+            if(theExistingHistogram != null) {
+                theHistogram = theExistingHistogram;
+            }
+        }
+        return theHistogram;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.registry.user.DomainUserMapping;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.util.*;
+
+/**
+ * The EventRegistryDiagnostics creates a diagnostics report (JSON) of an {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * on request. The report contains:
+ * <ul>
+ * <li>users: the users/clients with the most queued events (queue depth) and their oldest queued event</li>
+ * <li>oldestEvents: the users/clients with the oldest queued events</li>
+ * <li>domains: the domains with the most users/clients and their event rates</li>
+ * <li>filterTimes: the users/clients whose EventFilters take the most time</li>
+ * <li>slowConsumers: the users/clients which haven't retrieved all queued events (see {@link UserInfo#getLastDrainTime()})
+ * for the slow consumer time, with the rate in which their events accumulate</li>
+ * </ul>
+ * The data is tracked continuously by {@link de.novanic.eventservice.service.registry.user.UserInfo} and
+ * {@link de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics} and is only collected when a
+ * report is created, so the diagnostics can be kept activated in production.
+ * The event rates of the domains are calculated for the time since the previous report.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:41:53
+ */
+public class EventRegistryDiagnostics
+{
+    private final UserManager myUserManager;
+    private final DomainUserMapping myDomainUserMapping;
+    private final EventRegistryStatistics myStatistics;
+    private Map<String, Long> myLastDomainPublishedEventCounts;
+    private long myLastReportTime;
+
+    /**
+     * Creates a new EventRegistryDiagnostics.
+     * @param aUserManager {@link de.novanic.eventservice.service.registry.user.UserManager} which manages the users of the EventRegistry
+     * @param aDomainUserMapping allocation of the users to the domains
+     * @param aStatistics statistics of the EventRegistry
+     */
+    public EventRegistryDiagnostics(UserManager aUserManager, DomainUserMapping aDomainUserMapping, EventRegistryStatistics aStatistics) {
+        myUserManager = aUserManager;
+        myDomainUserMapping = aDomainUserMapping;
+        myStatistics = aStatistics;
+        myLastDomainPublishedEventCounts = new HashMap<String, Long>();
+        myLastReportTime = PlatformUtil.getCurrentTime();
+    }
+
+    /**
+     * Creates the diagnostics report (JSON).
+     * @param aTopCount maximum amount of entries per list
+     * @param aSlowConsumerTime time in milliseconds after which a user/client without retrieving all queued events is
+     * reported as a slow consumer
+     * @return diagnostics report (JSON)
+     */
+    public synchronized String createReport(int aTopCount, long aSlowConsumerTime) {
+        final long theTime = PlatformUtil.getCurrentTime();
+        final List<UserSample> theUserSamples = createUserSamples(theTime);
+
+        StringBuilder theReport = new StringBuilder(4096);
+        theReport.append("{\"time\":").append(theTime);
+        theReport.append(",\"userCount\":").append(theUserSamples.size());
+        theReport.append(",\"totalQueueDepth\":").append(getTotalQueueDepth(theUserSamples));
+
+        theReport.append(",\"users\":[");
+        appendUsers(theReport, getTop(theUserSamples, UserSample.QUEUE_DEPTH_ORDER, aTopCount));
+        theReport.append("],\"oldestEvents\":[");
+        appendUsers(theReport, getTop(theUserSamples, UserSample.OLDEST_EVENT_AGE_ORDER, aTopCount));
+        theReport.append("],\"domains\":[");
+        appendDomains(theReport, theTime, aTopCount);
+        theReport.append("],\"filterTimes\":[");
+        appendFilterTimes(theReport, getTop(theUserSamples, UserSample.FILTER_TIME_ORDER, aTopCount));
+        theReport.append("],\"slowConsumers\":[");
+        appendUsers(theReport, getTop(getSlowConsumers(theUserSamples, aSlowConsumerTime), UserSample.QUEUE_DEPTH_ORDER, aTopCount));
+        theReport.append("]}");
+
+        myLastReportTime = theTime;
+        return theReport.toString();
+    }
+
+    /**
+     * Collects the diagnostics data of all users/clients.
+     * @param aTime time of the report
+     * @return diagnostics data of all users/clients
+     */
+    private List<UserSample> createUserSamples(long aTime) {
+        final Collection<UserInfo> theUsers = myUserManager.getUsers();
+        List<UserSample> theUserSamples = new ArrayList<UserSample>(theUsers.size());
+        for(UserInfo theUserInfo: theUsers) {
+            theUserSamples.add(new UserSample(theUserInfo, aTime));
+        }
+        return theUserSamples;
+    }
+
+    /**
+     * Returns the users/clients which haven't retrieved all queued events for the slow consumer time.
+     * @param aUserSamples diagnostics data of the users/clients
+     * @param aSlowConsumerTime slow consumer time in milliseconds
+     * @return slow consumers
+     */
+    private static List<UserSample> getSlowConsumers(List<UserSample> aUserSamples, long aSlowConsumerTime) {
+        List<UserSample> theSlowConsumers = new ArrayList<UserSample>();
+        for(UserSample theUserSample: aUserSamples) {
+            if(theUserSample.myQueueDepth > 0 && theUserSample.myLastDrainAge >= aSlowConsumerTime) {
+                theSlowConsumers.add(theUserSample);
+            }
+        }
+        return theSlowConsumers;
+    }
+
+    private static long getTotalQueueDepth(List<UserSample> aUserSamples) {
+        long theTotalQueueDepth = 0;
+        for(UserSample theUserSample: aUserSamples) {
+            theTotalQueueDepth += theUserSample.myQueueDepth;
+        }
+        return theTotalQueueDepth;
+    }
+
+    /**
+     * Sorts the diagnostics data and returns the first entries.
+     * @param aUserSamples diagnostics data of the users/clients
+     * @param aComparator order
+     * @param aTopCount maximum amount of entries
+     * @return first entries
+     */
+    private static List<UserSample> getTop(List<UserSample> aUserSamples, Comparator<UserSample> aComparator, int aTopCount) {
+        List<UserSample> theSortedUserSamples = new ArrayList<UserSample>(aUserSamples);
+        Collections.sort(theSortedUserSamples, aComparator);
+        return theSortedUserSamples.subList(0, Math.min(Math.max(aTopCount, 0), theSortedUserSamples.size()));
+    }
+
+    private static void appendUsers(StringBuilder aReport, List<UserSample> aUserSamples) {
+        for(int i = 0; i < aUserSamples.size(); i++) {
+            final UserSample theUserSample = aUserSamples.get(i);
+            appendSeparator(aReport, i);
+            aReport.append("{\"userId\":");
+            appendString(aReport, theUserSample.myUserId);
+            aReport.append(",\"queueDepth\":").append(theUserSample.myQueueDepth);
+            aReport.append(",\"oldestEventAge\":").append(theUserSample.myOldestEventAge);
+            aReport.append(",\"lastDrainAge\":").append(theUserSample.myLastDrainAge);
+            aReport.append(",\"accumulationRate\":").append(theUserSample.getAccumulationRate());
+            aReport.append(",\"spilled\":").append(theUserSample.isSpilled);
+            aReport.append('}');
+        }
+    }
+
+    private static void appendFilterTimes(StringBuilder aReport, List<UserSample> aUserSamples) {
+        int i = 0;
+        for(UserSample theUserSample: aUserSamples) {
+            if(theUserSample.myFilterEvaluationCount > 0) {
+                appendSeparator(aReport, i++);
+                aReport.append("{\"userId\":");
+                appendString(aReport, theUserSample.myUserId);
+                aReport.append(",\"filterEvaluations\":").append(theUserSample.myFilterEvaluationCount);
+                aReport.append(",\"filterTime\":").append(theUserSample.myFilterTime / 1000);
+                aReport.append('}');
+            }
+        }
+    }
+
+    /**
+     * Appends the domains with the most users/clients and their event rates (since the previous report).
+     * @param aReport report
+     * @param aTime time of the report
+     * @param aTopCount maximum amount of domains
+     */
+    private void appendDomains(StringBuilder aReport, long aTime, int aTopCount) {
+        final Map<String, Long> thePublishedEventCounts = myStatistics.getDomainPublishedEventCounts();
+
+        final Map<String, Integer> theSubscriberCounts = new HashMap<String, Integer>();
+        List<String> theDomainNames = new ArrayList<String>();
+        for(Domain theDomain: myDomainUserMapping.getDomains()) {
+            theSubscriberCounts.put(theDomain.getName(), myDomainUserMapping.getUserCount(theDomain));
+            theDomainNames.add(theDomain.getName());
+        }
+        Collections.sort(theDomainNames, new Comparator<String>() {
+            public int compare(String aDomainName, String aDomainName_2) {
+                return theSubscriberCounts.get(aDomainName_2).compareTo(theSubscriberCounts.get(aDomainName));
+            }
+        });
+
+        final long theElapsedTime = Math.max(1, aTime - myLastReportTime);
+        for(int i = 0; i < theDomainNames.size() && i < aTopCount; i++) {
+            final String theDomainName = theDomainNames.get(i);
+            final long thePublishedEventCount = getCount(thePublishedEventCounts, theDomainName);
+            final long theLastPublishedEventCount = getCount(myLastDomainPublishedEventCounts, theDomainName);
+
+            appendSeparator(aReport, i);
+            aReport.append("{\"domain\":");
+            appendString(aReport, theDomainName);
+            aReport.append(",\"subscribers\":").append(theSubscriberCounts.get(theDomainName));
+            aReport.append(",\"publishedEvents\":").append(thePublishedEventCount);
+            aReport.append(",\"eventRate\":").append((thePublishedEventCount - theLastPublishedEventCount) * 1000 / theElapsedTime);
+            aReport.append('}');
+        }
+        myLastDomainPublishedEventCounts = thePublishedEventCounts;
+    }
+
+    private static long getCount(Map<String, Long> aCounts, String aKey) {
+        final Long theCount = aCounts.get(aKey);
+        return (theCount != null) ? theCount : 0;
+    }
+
+    private static void appendSeparator(StringBuilder aReport, int anIndex) {
+        if(anIndex > 0) {
+            aReport.append(',');
+        }
+    }
+
+    /**
+     * Appends a string value (JSON). The quotes, backslashes and control characters are escaped.
+     * @param aReport report
+     * @param aValue string value
+     */
+    private static void appendString(StringBuilder aReport, String aValue) {
+        aReport.append('"');
+        for(int i = 0; i < aValue.length(); i++) {
+            final char theChar = aValue.charAt(i);
+            if(theChar == '"' || theChar == '\\') {
+                aReport.append('\\').append(theChar);
+            } else if(theChar < 0x20) {
+                aReport.append(String.format("\\u%04x", (int)theChar));
+            } else {
+                aReport.append(theChar);
+            }
+        }
+        aReport.append('"');
+    }
+
+    /**
+     * The diagnostics data of a user/client at the time of the report.
+     */
+    private static final class UserSample
+    {
+        private static final Comparator<UserSample> QUEUE_DEPTH_ORDER = new Comparator<UserSample>() {
+            public int compare(UserSample aUserSample, UserSample aUserSample_2) {
+                return compareDescending(aUserSample.myQueueDepth, aUserSample_2.myQueueDepth);
+            }
+        };
+        private static final Comparator<UserSample> OLDEST_EVENT_AGE_ORDER = new Comparator<UserSample>() {
+            public int compare(UserSample aUserSample, UserSample aUserSample_2) {
+                return compareDescending(aUserSample.myOldestEventAge, aUserSample_2.myOldestEventAge);
+            }
+        };
+        private static final Comparator<UserSample> FILTER_TIME_ORDER = new Comparator<UserSample>() {
+            public int compare(UserSample aUserSample, UserSample aUserSample_2) {
+                return compareDescending(aUserSample.myFilterTime, aUserSample_2.myFilterTime);
+            }
+        };
+
+        private final String myUserId;
+        private final int myQueueDepth;
+        private final long myOldestEventAge;
+        private final long myLastDrainAge;
+        private final long myFilterEvaluationCount;
+        private final long myFilterTime;
+        private final boolean isSpilled;
+
+        private UserSample(UserInfo aUserInfo, long aTime) {
+            myUserId = aUserInfo.getUserId();
+            myQueueDepth = aUserInfo.getEventCount();
+            myOldestEventAge = aUserInfo.getOldestEventAge();
+            myLastDrainAge = Math.max(0, aTime - aUserInfo.getLastDrainTime());
+            myFilterEvaluationCount = aUserInfo.getFilterEvaluationCount();
+            myFilterTime = aUserInfo.getFilterTime();
+            isSpilled = aUserInfo.isEventsSpilled();
+        }
+
+        /**
+         * Returns the rate of the events which are accumulated since all events were retrieved the last time.
+         * @return accumulated events per second
+         */
+        private long getAccumulationRate() {
+            return myQueueDepth * 1000L / Math.max(1, myLastDrainAge);
+        }
+
+        private static int compareDescending(long aValue, long aValue_2) {
+            return (aValue < aValue_2) ? 1 : ((aValue == aValue_2) ? 0 : -1);
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.user.DomainUserMapping;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The EventRegistryStatistics records the statistics of an {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * and exposes them as an MBean (JMX, see {@link EventRegistryStatisticsMBean}). The recorded values are held by
+ * {@link de.novanic.eventservice.service.registry.statistics.StripedCounter}s, so the recording doesn't slow down
+ * the publishing and listening threads. The amount of users, domains and queued events is determined when the
+ * according attribute is read. The delivery latencies are recorded by the {@link de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics}
+ * and are exposed as window snapshots. The rates and the exposed latencies are calculated over fixed windows
+ * ({@link EventRegistryStatistics#WINDOW_TIME}), so the values don't depend on how many readers (JMX clients) read them.
+ * The windows of the rates are completed by the recording as well, so the rates don't depend on how often they are read.
+ * The amount of domains which are counted separately is limited like the latencies (see
+ * {@link DeliveryLatencyStatistics#DEFAULT_MAX_TRACKED_DOMAINS}).
+ *
+ * <br>When the shared event log is activated ({@link de.novanic.eventservice.config.ConfigParameter#EVENTS_SHARED_LOG}),
+ * the EventFilters are evaluated when the events are read by the users/clients and these filtered events aren't recorded.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:26:09
+ */
+public class EventRegistryStatistics implements EventRegistryStatisticsMBean
+{
+    private static final Logger LOG = LoggerFactory.getLogger(EventRegistryStatistics.class);
+
+    /**
+     * Domain and type of the MBeans which are registered by {@link EventRegistryStatistics#register()}. The name of
+     * every MBean contains additionally a context (class loader, for example of the web application) and an instance key
+     * (see {@link EventRegistryStatistics#getObjectName()}).
+     */
+    public static final String OBJECT_NAME = "de.novanic.eventservice:type=EventRegistryStatistics";
+
+    /**
+     * Time of the windows (in nanoseconds) over which the rates and the exposed delivery latencies are calculated.
+     */
+    public static final long WINDOW_TIME = 10000000000L;
+
+    private static final String CONTEXT = Integer.toHexString(System.identityHashCode(EventRegistryStatistics.class.getClassLoader()));
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+    private final String myObjectName;
+    private final UserManager myUserManager;
+    private final DomainUserMapping myDomainUserMapping;
+    private final Rate myPublishedEvents;
+    private final Rate myDeliveredEvents;
+    private final Rate myFilteredEvents;
+    private final StripedCounter myTimeouts;
+    private final ConcurrentMap<String, StripedCounter> myParkedListens;
+    private final ConcurrentMap<String, StripedCounter> myDomainPublishedEvents;
+    private final DeliveryLatencyStatistics myDeliveryLatencyStatistics;
+
+    /**
+     * Creates a new EventRegistryStatistics.
+     * @param aUserManager {@link de.novanic.eventservice.service.registry.user.UserManager} which manages the users of the EventRegistry
+     * @param aDomainUserMapping allocation of the users to the domains
+     */
+    public EventRegistryStatistics(UserManager aUserManager, DomainUserMapping aDomainUserMapping) {
+        myUserManager = aUserManager;
+        myDomainUserMapping = aDomainUserMapping;
+        myPublishedEvents = new Rate();
+        myDeliveredEvents = new Rate();
+        myFilteredEvents = new Rate();
+        myTimeouts = new StripedCounter();
+        myParkedListens = new ConcurrentHashMap<String, StripedCounter>();
+        myDomainPublishedEvents = new ConcurrentHashMap<String, StripedCounter>();
+        myDeliveryLatencyStatistics = new DeliveryLatencyStatistics();
+        myObjectName = OBJECT_NAME + ",context=" + CONTEXT + ",instance=" + INSTANCE_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * Returns the name of the MBean which is registered by {@link EventRegistryStatistics#register()}.
+     * @return name of the MBean
+     */
+    public String getObjectName() {
+        return myObjectName;
+    }
+
+    /**
+     * Returns the statistics of the delivery latencies.
+     * @return statistics of the delivery latencies
+     */
+    public DeliveryLatencyStatistics getDeliveryLatencyStatistics() {
+        return myDeliveryLatencyStatistics;
+    }
+
+    /**
+     * Records a published event (event which is added to a domain or to a user/client directly).
+     * @param aDomain domain of the event (NULL for user specific events)
+     */
+    public void addPublishedEvent(Domain aDomain) {
+        myPublishedEvents.add(1, System.nanoTime());
+        getDomainCounter(aDomain).increment();
+    }
+
+    /**
+     * Records published events of a domain (see {@link #addPublishedEvent(de.novanic.eventservice.client.event.domain.Domain)}).
+     * @param aDomain domain of the events (NULL for user specific events)
+     * @param anEventCount amount of published events
+     */
+    public void addPublishedEvents(Domain aDomain, int anEventCount) {
+        myPublishedEvents.add(anEventCount, System.nanoTime());
+        getDomainCounter(aDomain).add(anEventCount);
+    }
+
+    /**
+     * Records events which are delivered to a user/client.
+     * @param anEventCount amount of delivered events
+     */
+    public void addDeliveredEvents(int anEventCount) {
+        myDeliveredEvents.add(anEventCount, System.nanoTime());
+    }
+
+    /**
+     * Records an event which is filtered by the EventFilter of a user/client.
+     */
+    public void addFilteredEvent() {
+        myFilteredEvents.add(1, System.nanoTime());
+    }
+
+    /**
+     * Records a user/client which is removed because of a timeout.
+     */
+    public void addTimeout() {
+        myTimeouts.increment();
+    }
+
+    /**
+     * Records the start of a listen request. Every call has to be followed by a call of
+     * {@link EventRegistryStatistics#finishListen(de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector)}.
+     * @param aServerConnector connector which handles the listen request
+     */
+    public void startListen(ConnectionStrategyServerConnector aServerConnector) {
+        getCounter(myParkedListens, aServerConnector.getClass().getName()).increment();
+    }
+
+    /**
+     * Records the end of a listen request.
+     * @param aServerConnector connector which handled the listen request
+     */
+    public void finishListen(ConnectionStrategyServerConnector aServerConnector) {
+        getCounter(myParkedListens, aServerConnector.getClass().getName()).decrement();
+    }
+
+    /**
+     * Returns the amount of published events per domain. The user specific events are counted as
+     * {@link DeliveryLatencyStatistics#USER_SPECIFIC_DOMAIN_NAME} and the domains which exceed the maximum amount of
+     * tracked domains as {@link DeliveryLatencyStatistics#OTHER_DOMAINS_NAME}.
+     * @return amount of published events per domain, sorted by the domain names
+     */
+    public SortedMap<String, Long> getDomainPublishedEventCounts() {
+        SortedMap<String, Long> theDomainPublishedEventCounts = new TreeMap<String, Long>();
+        for(Map.Entry<String, StripedCounter> theEntry: myDomainPublishedEvents.entrySet()) {
+            theDomainPublishedEventCounts.put(theEntry.getKey(), theEntry.getValue().sum());
+        }
+        return theDomainPublishedEventCounts;
+    }
+
+    public int getUserCount() {
+        return myUserManager.getUserCount();
+    }
+
+    public int getDomainCount() {
+        return myDomainUserMapping.getDomains().size();
+    }
+
+    public String[] getDomainSubscriberCounts() {
+        SortedMap<String, Integer> theDomainSubscriberCounts = new TreeMap<String, Integer>();
+        for(Domain theDomain: myDomainUserMapping.getDomains()) {
+            theDomainSubscriberCounts.put(theDomain.getName(), myDomainUserMapping.getUserCount(theDomain));
+        }
+        return toStringArray(theDomainSubscriberCounts);
+    }
+
+    public long getTotalQueueDepth() {
+        long theTotalQueueDepth = 0;
+        for(UserInfo theUserInfo: myUserManager.getUsers()) {
+            theTotalQueueDepth += theUserInfo.getEventCount();
+        }
+        return theTotalQueueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+        int theMaxQueueDepth = 0;
+        for(UserInfo theUserInfo: myUserManager.getUsers()) {
+            theMaxQueueDepth = Math.max(theMaxQueueDepth, theUserInfo.getEventCount());
+        }
+        return theMaxQueueDepth;
+    }
+
+    public long getPublishedEventCount() {
+        return myPublishedEvents.getCount();
+    }
+
+    public double getPublishedEventsPerSecond() {
+        return myPublishedEvents.getRate(System.nanoTime());
+    }
+
+    public long getDeliveredEventCount() {
+        return myDeliveredEvents.getCount();
+    }
+
+    public double getDeliveredEventsPerSecond() {
+        return myDeliveredEvents.getRate(System.nanoTime());
+    }
+
+    public long getFilteredEventCount() {
+        return myFilteredEvents.getCount();
+    }
+
+    public double getFilteredEventsPerSecond() {
+        return myFilteredEvents.getRate(System.nanoTime());
+    }
+
+    public long getParkedListenCount() {
+        long theParkedListenCount = 0;
+        for(StripedCounter theCounter: myParkedListens.values()) {
+            theParkedListenCount += theCounter.sum();
+        }
+        return theParkedListenCount;
+    }
+
+    public String[] getParkedListenCounts() {
+        return toStringArray(new TreeMap<String, StripedCounter>(myParkedListens));
+    }
+
+    public long getTimeoutCount() {
+        return myTimeouts.sum();
+    }
+
+    public String[] getDomainDeliveryLatencies() {
+        return toStringArray(myDeliveryLatencyStatistics.getDomainWindowSnapshots(WINDOW_TIME));
+    }
+
+    public String[] getConnectorDeliveryLatencies() {
+        return toStringArray(myDeliveryLatencyStatistics.getConnectorWindowSnapshots(WINDOW_TIME));
+    }
+
+    /**
+     * Registers the statistics as an MBean ({@link EventRegistryStatistics#getObjectName()}) at the platform MBean server.
+     * The statistics of other EventRegistry instances (for example of other web applications) are registered with other names.
+     * @return true when the MBean is registered, otherwise false (for example when it isn't allowed by the security manager)
+     */
+    public boolean register() {
+        try {
+            final MBeanServer theMBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName theObjectName = new ObjectName(myObjectName);
+            synchronized(this) {
+                if(!theMBeanServer.isRegistered(theObjectName)) {
+                    theMBeanServer.registerMBean(this, theObjectName);
+                }
+            }
+            LOG.debug("Statistics registered as MBean \"{}\".", myObjectName);
+            return true;
+        } catch(JMException e) {
+            LOG.warn("Error on registering the statistics as MBean \"" + myObjectName + "\"!", e);
+        } catch(SecurityException e) {
+            LOG.warn("Error on registering the statistics as MBean \"" + myObjectName + "\"!", e);
+        }
+        return false;
+    }
+
+    /**
+     * Unregisters the MBean ({@link EventRegistryStatistics#getObjectName()}) when it is registered.
+     */
+    public void unregister() {
+        try {
+            final MBeanServer theMBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName theObjectName = new ObjectName(myObjectName);
+            synchronized(this) {
+                if(theMBeanServer.isRegistered(theObjectName)) {
+                    theMBeanServer.unregisterMBean(theObjectName);
+                }
+            }
+        } catch(JMException e) {
+            LOG.warn("Error on unregistering the MBean \"" + myObjectName + "\"!", e);
+        } catch(SecurityException e) {
+            LOG.warn("Error on unregistering the MBean \"" + myObjectName + "\"!", e);
+        }
+    }
+
+    /**
+     * Returns the counter of the published events of a domain. The counter is created when it doesn't exist.
+     * @param aDomain domain (NULL for user specific events)
+     * @return counter of the domain or the counter of the other domains when the maximum amount of tracked domains is reached
+     */
+    private StripedCounter getDomainCounter(Domain aDomain) {
+        final String theDomainName = DeliveryLatencyStatistics.getDomainName(aDomain);
+        return getCounter(myDomainPublishedEvents, DeliveryLatencyStatistics.getTrackedKey(myDomainPublishedEvents, theDomainName, DeliveryLatencyStatistics.DEFAULT_MAX_TRACKED_DOMAINS));
+    }
+
+    /**
+     * Returns the counter for a key. The counter is created when it doesn't exist.
+     * @param aCounters counters
+     * @param aKey key of the counter (for example the name of a connector)
+     * @return counter for the key
+     */
+    private static StripedCounter getCounter(ConcurrentMap<String, StripedCounter> aCounters, String aKey) {
+        StripedCounter theCounter = aCounters.get(aKey);
+        if(theCounter == null) {
+            theCounter = new StripedCounter();
+            final StripedCounter theExistingCounter = aCounters.putIfAbsent(aKey, theCounter);
+            if(theExistingCounter != null) {
+                theCounter = theExistingCounter;
+            }
+        }
+        return theCounter;
+    }
+
+    /**
+     * Converts the entries of a map to strings ("key=value").
+     * @param aMap map
+     * @return entries of the map as strings
+     */
+    private static String[] toStringArray(SortedMap<String, ?> aMap) {
+        String[] theEntries = new String[aMap.size()];
+        int i = 0;
+        for(Map.Entry<String, ?> theEntry: aMap.entrySet()) {
+            theEntries[i++] = theEntry.getKey() + '=' + theEntry.getValue();
+        }
+        return theEntries;
+    }
+
+    /**
+     * Counter which calculates the rate (per second) of the last completed window. The windows are aligned to the
+     * creation time and a window is completed with the first recording or calculation after the window time is elapsed,
+     * so the rate doesn't depend on how often it is calculated. All calculations within a window return the same rate,
+     * so the rate doesn't depend on the amount of readers either.
+     */
+    static final class Rate
+    {
+        private final StripedCounter myCounter;
+        private final long myWindowTime;
+        private volatile long myWindowStartTime;
+        private long myWindowStartCount;
+        private double myWindowRate;
+        private boolean isWindowCompleted;
+
+        /**
+         * Creates a new rate.
+         * @param aWindowTime time of a window in nanoseconds
+         * @param aTime creation time ({@link System#nanoTime()})
+         */
+        Rate(long aWindowTime, long aTime) {
+            myCounter = new StripedCounter();
+            myWindowTime = aWindowTime;
+            myWindowStartTime = aTime;
+        }
+
+        private Rate() {
+            this(WINDOW_TIME, System.nanoTime());
+        }
+
+        /**
+         * Records values. The current window is completed first when the window time is elapsed, so the values are
+         * counted for the next window.
+         * @param aCount amount to record
+         * @param aTime time of the recording ({@link System#nanoTime()})
+         */
+        void add(long aCount, long aTime) {
+            if(aTime - myWindowStartTime >= myWindowTime) {
+                completeWindow(aTime);
+            }
+            myCounter.add(aCount);
+        }
+
+        /**
+         * Returns the sum of the recorded values.
+         * @return sum of the recorded values
+         */
+        long getCount() {
+            return myCounter.sum();
+        }
+
+        /**
+         * Calculates the rate (per second) of the last completed window. The average since the creation is returned
+         * until the first window is completed.
+         * @param aTime time of the calculation ({@link System#nanoTime()})
+         * @return rate per second
+         */
+        synchronized double getRate(long aTime) {
+            completeWindow(aTime);
+            if(!isWindowCompleted) {
+                final long theElapsedTime = aTime - myWindowStartTime;
+                return (theElapsedTime > 0) ? myCounter.sum() * 1000000000.0 / theElapsedTime : 0;
+            }
+            return myWindowRate;
+        }
+
+        /**
+         * Completes the current window when the window time is elapsed. The values which are recorded since the start
+         * of the window were recorded within the window (the first recording after the window completes the window),
+         * so the windows which are elapsed afterwards are empty.
+         * @param aTime current time ({@link System#nanoTime()})
+         */
+        private synchronized void completeWindow(long aTime) {
+            final long theElapsedWindows = (aTime - myWindowStartTime) / myWindowTime;
+            if(theElapsedWindows > 0) {
+                final long theCount = myCounter.sum();
+                if(theElapsedWindows == 1) {
+                    myWindowRate = (theCount - myWindowStartCount) * 1000000000.0 / myWindowTime;
+                } else {
+                    myWindowRate = 0;
+                }
+                myWindowStartCount = theCount;
+                myWindowStartTime += theElapsedWindows * myWindowTime;
+                isWindowCompleted = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+/**
+ * Management interface (JMX) of the {@link de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics}.
+ * The rates (per second) are calculated for the last completed window ({@link EventRegistryStatistics#WINDOW_TIME}),
+ * so concurrent readers get the same values.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:26:09
+ */
+public interface EventRegistryStatisticsMBean
+{
+    /**
+     * Returns the amount of registered users/clients.
+     * @return amount of registered users/clients
+     */
+    int getUserCount();
+
+    /**
+     * Returns the amount of domains with registered users/clients.
+     * @return amount of domains
+     */
+    int getDomainCount();
+
+    /**
+     * Returns the domains with the amount of registered users/clients ("domain=subscriber count").
+     * @return domains with the amount of registered users/clients
+     */
+    String[] getDomainSubscriberCounts();
+
+    /**
+     * Returns the amount of all events which are queued for the users/clients.
+     * @return amount of all queued events
+     */
+    long getTotalQueueDepth();
+
+    /**
+     * Returns the maximum amount of events which are queued for one user/client.
+     * @return maximum amount of queued events of one user/client
+     */
+    int getMaxQueueDepth();
+
+    /**
+     * Returns the amount of published events (events which are added to a domain or to a user/client directly).
+     * @return amount of published events
+     */
+    long getPublishedEventCount();
+
+    /**
+     * Returns the amount of published events per second.
+     * @return published events per second
+     */
+    double getPublishedEventsPerSecond();
+
+    /**
+     * Returns the amount of events which are delivered to the users/clients.
+     * @return amount of delivered events
+     */
+    long getDeliveredEventCount();
+
+    /**
+     * Returns the amount of delivered events per second.
+     * @return delivered events per second
+     */
+    double getDeliveredEventsPerSecond();
+
+    /**
+     * Returns the amount of events which are filtered by the EventFilters of the users/clients.
+     * @return amount of filtered events
+     */
+    long getFilteredEventCount();
+
+    /**
+     * Returns the amount of filtered events per second.
+     * @return filtered events per second
+     */
+    double getFilteredEventsPerSecond();
+
+    /**
+     * Returns the amount of listen requests which are currently waiting/streaming.
+     * @return amount of parked listen requests
+     */
+    long getParkedListenCount();
+
+    /**
+     * Returns the connectors with the amount of listen requests which are currently waiting/streaming
+     * ("connector=parked listen count").
+     * @return connectors with the amount of parked listen requests
+     */
+    String[] getParkedListenCounts();
+
+    /**
+     * Returns the amount of users/clients which are removed because of a timeout.
+     * @return amount of timeouts
+     */
+    long getTimeoutCount();
+
+    /**
+     * Returns the delivery latencies (count, p50, p99, p99.9 and max. in microseconds) per domain for the last completed
+     * window ({@link EventRegistryStatistics#WINDOW_TIME}, "domain=latencies").
+     * @return delivery latencies per domain
+     */
+    String[] getDomainDeliveryLatencies();
+
+    /**
+     * Returns the delivery latencies (count, p50, p99, p99.9 and max. in microseconds) per connector for the last completed
+     * window ({@link EventRegistryStatistics#WINDOW_TIME}, "connector=latencies").
+     * @return delivery latencies per connector
+     */
+    String[] getConnectorDeliveryLatencies();
+}
@@ -0,0 +1,210 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The LatencyHistogram records latencies (in microseconds) with a high dynamic range (up to about 19 hours) and a constant
+ * relative precision of about 1.5%. The values are counted in buckets with a logarithmic size (every power of two is
+ * divided into 64 equal sub-buckets), so the memory usage is constant and independent from the amount of recorded values.
+ * The recording is lock-free and can be executed concurrently by many threads.
+ *
+ * <br>The recorded values can be read with snapshots ({@link LatencyHistogram#getSnapshot()}) or with window snapshots
+ * ({@link LatencyHistogram#getWindowSnapshot(long)}) which contain only the values which are recorded within the last
+ * completed window.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:34:23
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int MAX_VALUE_BITS = 36;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = getIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray myCounts;
+    private long[] myWindowStartCounts;
+    private long myWindowStartTime;
+    private Snapshot myWindowSnapshot;
+
+    /**
+     * Creates a new empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        myCounts = new AtomicLongArray(BUCKET_COUNT);
+        myWindowStartCounts = new long[BUCKET_COUNT];
+        myWindowStartTime = System.nanoTime();
+    }
+
+    /**
+     * Records a latency. Negative values are recorded as 0 and values which exceed the range are recorded as the maximum value.
+     * @param aLatency latency in microseconds
+     */
+    public void record(long aLatency) {
+        myCounts.incrementAndGet(getIndex(Math.min(Math.max(aLatency, 0), MAX_VALUE)));
+    }
+
+    /**
+     * Returns a snapshot of all recorded values.
+     * @return snapshot of all recorded values
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(getCounts());
+    }
+
+    /**
+     * Returns a snapshot of the values which are recorded within the last completed window. A window is completed with
+     * the first window snapshot after the window time is elapsed. All window snapshots within a window return the same
+     * values, so the values don't depend on the amount of readers. Until the first window is completed, the snapshot
+     * of all recorded values is returned.
+     * @param aWindowTime time of a window in nanoseconds
+     * @return snapshot of the values of the last completed window
+     */
+    public synchronized Snapshot getWindowSnapshot(long aWindowTime) {
+        final long theTime = System.nanoTime();
+        if(theTime - myWindowStartTime >= aWindowTime) {
+            final long[] theCounts = getCounts();
+            final long[] theWindowCounts = new long[BUCKET_COUNT];
+            for(int i = 0; i < BUCKET_COUNT; i++) {
+                theWindowCounts[i] = theCounts[i] - myWindowStartCounts[i];
+            }
+            myWindowStartCounts = theCounts;
+            myWindowStartTime = theTime;
+            myWindowSnapshot = new Snapshot(theWindowCounts);
+        } else if(myWindowSnapshot == null) {
+            return getSnapshot();
+        }
+        return myWindowSnapshot;
+    }
+
+    /**
+     * Copies the current counts.
+     * @return current counts
+     */
+    private long[] getCounts() {
+        final long[] theCounts = new long[BUCKET_COUNT];
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            theCounts[i] = myCounts.get(i);
+        }
+        return theCounts;
+    }
+
+    /**
+     * Returns the index of the bucket of a value. The values below 2 * {@link LatencyHistogram#SUB_BUCKET_HALF_COUNT} are
+     * counted exactly, the larger values are counted in the sub-buckets of their power of two.
+     * @param aValue value
+     * @return index of the bucket
+     */
+    private static int getIndex(long aValue) {
+        final int theShift = Math.max(0, (63 - Long.numberOfLeadingZeros(aValue)) - (SUB_BUCKET_BITS - 1));
+        return (theShift * SUB_BUCKET_HALF_COUNT) + (int)(aValue >>> theShift);
+    }
+
+    /**
+     * Returns the lowest value of a bucket.
+     * @param anIndex index of the bucket
+     * @return lowest value of the bucket
+     */
+    private static long getLowestValue(int anIndex) {
+        final int theShift = Math.max(0, (anIndex / SUB_BUCKET_HALF_COUNT) - 1);
+        return ((long)(anIndex - (theShift * SUB_BUCKET_HALF_COUNT))) << theShift;
+    }
+
+    /**
+     * Returns the highest value of a bucket.
+     * @param anIndex index of the bucket
+     * @return highest value of the bucket
+     */
+    private static long getHighestValue(int anIndex) {
+        final int theShift = Math.max(0, (anIndex / SUB_BUCKET_HALF_COUNT) - 1);
+        return getLowestValue(anIndex) + (1L << theShift) - 1;
+    }
+
+    /**
+     * Snapshot of the recorded values of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot
+    {
+        private final long[] myCounts;
+        private final long myTotalCount;
+
+        private Snapshot(long[] aCounts) {
+            myCounts = aCounts;
+            long theTotalCount = 0;
+            for(long theCount: aCounts) {
+                theTotalCount += theCount;
+            }
+            myTotalCount = theTotalCount;
+        }
+
+        /**
+         * Returns the amount of recorded values.
+         * @return amount of recorded values
+         */
+        public long getCount() {
+            return myTotalCount;
+        }
+
+        /**
+         * Returns the value at a percentile. The returned value is the highest value of the according bucket, so it
+         * isn't lower than the real value.
+         * @param aPercentile percentile (for example 99.9)
+         * @return value at the percentile in microseconds (0 when no values are recorded)
+         */
+        public long getPercentile(double aPercentile) {
+            if(myTotalCount == 0) {
+                return 0;
+            }
+            final long theRank = Math.max(1, (long)Math.ceil(myTotalCount * Math.min(aPercentile, 100.0) / 100.0));
+            long theCount = 0;
+            for(int i = 0; i < myCounts.length; i++) {
+                theCount += myCounts[i];
+                if(theCount >= theRank) {
+                    return getHighestValue(i);
+                }
+            }
+            return getMax();
+        }
+
+        /**
+         * Returns the maximum recorded value (highest value of the bucket of the maximum value).
+         * @return maximum value in microseconds (0 when no values are recorded)
+         */
+        public long getMax() {
+            for(int i = myCounts.length - 1; i >= 0; i--) {
+                if(myCounts[i] > 0) {
+                    return getHighestValue(i);
+                }
+            }
+            return 0;
+        }
+
+        public String toString() {
+            return "count=" + myTotalCount + ", p50=" + getPercentile(50) + "us, p99=" + getPercentile(99)
+                    + "us, p99.9=" + getPercentile(99.9) + "us, max=" + getMax() + "us";
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The StripedCounter is a counter for values which are changed by many threads concurrently and which are read rarely
+ * (like statistics). The value is distributed over several cells and every thread changes the cell which is assigned
+ * to the thread, so the threads don't compete for one value. The cells are placed in separate cache lines to avoid
+ * false sharing. The current value is the sum of all cells and isn't an atomic snapshot when the counter is changed
+ * concurrently.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:26:09
+ */
+public class StripedCounter
+{
+    /**
+     * Amount of long values per cache line (64 bytes), only every n-th value of the array is used as a cell.
+     */
+    private static final int CELL_DISTANCE = 8;
+
+    private final AtomicLongArray myCells;
+    private final int myCellMask;
+
+    /**
+     * Creates a new StripedCounter with a cell count according to the available processors.
+     */
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new StripedCounter. The cell count is rounded up to a power of two.
+     * @param aCellCount amount of cells
+     */
+    public StripedCounter(int aCellCount) {
+        int theCellCount = 1;
+        while(theCellCount < aCellCount) {
+            theCellCount <<= 1;
+        }
+        myCells = new AtomicLongArray(theCellCount * CELL_DISTANCE);
+        myCellMask = theCellCount - 1;
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Decrements the counter by one.
+     */
+    public void decrement() {
+        add(-1);
+    }
+
+    /**
+     * Adds a value to the counter.
+     * @param aValue value to add (can be negative)
+     */
+    public void add(long aValue) {
+        myCells.getAndAdd(getCellIndex(), aValue);
+    }
+
+    /**
+     * Returns the current value of the counter (sum of all cells).
+     * @return current value
+     */
+    public long sum() {
+        long theSum = 0;
+        for(int i = 0; i < myCells.length(); i += CELL_DISTANCE) {
+            theSum += myCells.get(i);
+        }
+        return theSum;
+    }
+
+    /**
+     * Returns the index of the cell which is assigned to the current thread. The thread ids are assigned sequentially,
+     * so the threads are distributed evenly over the cells.
+     * @return index of the cell
+     */
+    private int getCellIndex() {
+        return ((int)Thread.currentThread().getId() & myCellMask) * CELL_DISTANCE;
+    }
+
+    public String toString() {
+        return String.valueOf(sum());
+    }
+}
@@ -39,6 +39,7 @@ public class DefaultUserManager implements UserManager
 {
     private final ConcurrentMap<String, UserInfo> myUserMap;
     private final UserActivityScheduler myUserActivityScheduler;
+    private final UserEventSpillPolicy mySpillPolicy;
 
     /**
      * Creates a new UserManager. To create the UserManager as a singleton (default), the UserManager can be created with
@@ -47,8 +48,20 @@ public class DefaultUserManager implements UserManager
      * needs to be started).
      */
     public DefaultUserManager(long aTimeoutInterval) {
+        this(aTimeoutInterval, null);
+    }
+
+    /**
+     * Creates a new UserManager. To create the UserManager as a singleton (default), the UserManager can be created with
+     * {@link de.novanic.eventservice.service.registry.user.UserManagerFactory#getUserManager(de.novanic.eventservice.config.EventServiceConfiguration)})
+     * @param aTimeoutInterval timeout interval (is only required if the {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler}
+     * needs to be started).
+     * @param aSpillPolicy policy to move the queued events of the users to the disk (optional, can be NULL)
+     */
+    public DefaultUserManager(long aTimeoutInterval, UserEventSpillPolicy aSpillPolicy) {
         myUserMap = new ConcurrentHashMap<String, UserInfo>();
         myUserActivityScheduler = new UserActivityScheduler(myUserMap.values(), aTimeoutInterval);
+        mySpillPolicy = aSpillPolicy;
     }
 
     /**
@@ -59,7 +72,7 @@ public class DefaultUserManager implements UserManager
     public UserInfo addUser(String aUserId) {
         UserInfo theUserInfo = null;
         if(aUserId != null) {
-            UserInfo theNewUserInfo = new UserInfo(aUserId);
+            UserInfo theNewUserInfo = new UserInfo(aUserId, mySpillPolicy);
             theUserInfo = myUserMap.putIfAbsent(aUserId, theNewUserInfo);
             if(theUserInfo == null) {
                 theUserInfo = theNewUserInfo;
@@ -88,6 +101,7 @@ public class DefaultUserManager implements UserManager
             final UserInfo theUserInfo = myUserMap.remove(aUserId);
             if(theUserInfo != null) {
                 theUserInfo.notifyEventListening();
+                theUserInfo.release();
             }
             return theUserInfo;
         }
@@ -111,6 +125,7 @@ public class DefaultUserManager implements UserManager
     public void removeUsers() {
         for(UserInfo theUserInfo: myUserMap.values()) {
             theUserInfo.notifyEventListening();
+            theUserInfo.release();
         }
         myUserMap.clear();
     }
@@ -158,6 +158,19 @@ public class DomainUserMapping
         return null;
     }
 
+    /**
+     * Returns the amount of users of a domain.
+     * @param aDomain domain
+     * @return amount of users of the domain
+     */
+    public int getUserCount(Domain aDomain) {
+        final ConcurrentMap<UserInfo, UserInfo> theUserInfoCollection = myDomainUserInfoMap.get(aDomain);
+        if(theUserInfoCollection != null) {
+            return theUserInfoCollection.size();
+        }
+        return 0;
+    }
+
     /**
      * Checks if a user is added to a domain.
      * @param aUserInfo user
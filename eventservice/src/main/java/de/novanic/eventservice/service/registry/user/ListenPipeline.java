@@ -0,0 +1,128 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The ListenPipeline orders the concurrent listen requests of a user for pipelined long-polling (see
+ * {@link de.novanic.eventservice.service.connection.strategy.connector.longpolling.PipelinedLongPollingServerConnector}).
+ * Only one listen request holds the events of the user at a time. The listen requests get the turn in the order of their
+ * sequence numbers, so the events are returned in the order of the listen requests. A newer listen request parks until
+ * the older listen request has retrieved its events.
+ *
+ * The turn is taken over when the previous listen request doesn't arrive within the waiting time (for example when the
+ * request got lost), so a missing sequence number can't block the pipeline. A sequence number lower than the expected
+ * sequence number (for example from a re-initialized client) restarts the sequence. A listen request which gives up
+ * waiting for the turn is skipped, so the following listen requests don't wait for it.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+public class ListenPipeline
+{
+    private final SortedSet<Long> mySkippedSequenceNumbers;
+    private long myNextSequenceNumber;
+    private boolean isHeld;
+
+    public ListenPipeline() {
+        mySkippedSequenceNumbers = new TreeSet<Long>();
+    }
+
+    /**
+     * Waits for the turn of the listen request. The listen request gets the turn when no other listen request holds
+     * the events and all previous listen requests have got their turn (or the waiting time is exceeded).
+     * @param aSequenceNumber sequence number of the listen request
+     * @param aWaitingTime max. time to wait for the turn in milliseconds
+     * @return true when the listen request got the turn and holds the events, false when another listen request still
+     * holds the events after the waiting time (the sequence number is skipped in that case)
+     * @throws InterruptedException
+     */
+    public synchronized boolean acquire(long aSequenceNumber, long aWaitingTime) throws InterruptedException {
+        final long theEndTime = PlatformUtil.getCurrentTime() + aWaitingTime;
+        long theRemainingTime = aWaitingTime;
+        while(isHeld || aSequenceNumber > myNextSequenceNumber) {
+            if(theRemainingTime <= 0) {
+                if(isHeld) {
+                    skip(aSequenceNumber);
+                    return false;
+                }
+                //the previous listen request didn't arrive, so the turn is taken over
+                break;
+            }
+            wait(theRemainingTime);
+            theRemainingTime = theEndTime - PlatformUtil.getCurrentTime();
+        }
+        isHeld = true;
+        return true;
+    }
+
+    /**
+     * Releases the turn of the listen request after the events were retrieved. The listen request with the next
+     * (not skipped) sequence number gets the turn.
+     * @param aSequenceNumber sequence number of the listen request which holds the events
+     */
+    public synchronized void release(long aSequenceNumber) {
+        isHeld = false;
+        if(aSequenceNumber < myNextSequenceNumber) {
+            //the sequence was restarted, so the skipped sequence numbers of the former sequence are obsolete
+            mySkippedSequenceNumbers.clear();
+        }
+        myNextSequenceNumber = aSequenceNumber + 1;
+        while(mySkippedSequenceNumbers.remove(myNextSequenceNumber)) {
+            myNextSequenceNumber++;
+        }
+        mySkippedSequenceNumbers.headSet(myNextSequenceNumber).clear();
+        notifyAll();
+    }
+
+    /**
+     * Returns the sequence number of the listen request which gets the next turn.
+     * @return next sequence number
+     */
+    public synchronized long getNextSequenceNumber() {
+        return myNextSequenceNumber;
+    }
+
+    /**
+     * Skips the sequence number of a listen request which gave up waiting for the turn, so that the following listen
+     * requests don't wait for it.
+     * @param aSequenceNumber sequence number of the listen request
+     */
+    private void skip(long aSequenceNumber) {
+        if(aSequenceNumber >= myNextSequenceNumber) {
+            mySkippedSequenceNumbers.add(aSequenceNumber);
+        }
+    }
+
+    /**
+     * Checks if a listen request holds the events.
+     * @return true when a listen request holds the events, otherwise false
+     */
+    public synchronized boolean isHeld() {
+        return isHeld;
+    }
+}
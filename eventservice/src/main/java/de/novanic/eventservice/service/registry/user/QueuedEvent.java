@@ -0,0 +1,92 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.client.event.DefaultDomainEvent;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+
+/**
+ * A QueuedEvent is an event which is queued for a user/client ({@link de.novanic.eventservice.service.registry.user.UserInfo})
+ * together with the time of the enqueueing. The time is only known at the server side and is used to measure the
+ * delivery latency (see {@link de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics}),
+ * the {@link de.novanic.eventservice.client.event.DomainEvent} for the client is created when the event is retrieved.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:34:23
+ */
+public final class QueuedEvent
+{
+    private final Domain myDomain;
+    private final Event myEvent;
+    private final long myEnqueueTime;
+
+    /**
+     * Creates a new QueuedEvent.
+     * @param aDomain domain of the event
+     * @param anEvent event
+     * @param anEnqueueTime time of the enqueueing ({@link System#nanoTime()})
+     */
+    public QueuedEvent(Domain aDomain, Event anEvent, long anEnqueueTime) {
+        myDomain = aDomain;
+        myEvent = anEvent;
+        myEnqueueTime = anEnqueueTime;
+    }
+
+    /**
+     * Returns the domain of the event.
+     * @return domain of the event
+     */
+    public Domain getDomain() {
+        return myDomain;
+    }
+
+    /**
+     * Returns the event.
+     * @return event
+     */
+    public Event getEvent() {
+        return myEvent;
+    }
+
+    /**
+     * Returns the time of the enqueueing ({@link System#nanoTime()}).
+     * @return time of the enqueueing
+     */
+    public long getEnqueueTime() {
+        return myEnqueueTime;
+    }
+
+    /**
+     * Creates the {@link de.novanic.eventservice.client.event.DomainEvent} which is transferred to the client.
+     * @return {@link de.novanic.eventservice.client.event.DomainEvent} of the event
+     */
+    public DomainEvent toDomainEvent() {
+        return new DefaultDomainEvent(myEvent, myDomain);
+    }
+
+    public String toString() {
+        return "QueuedEvent (" + myEvent + ", " + myDomain + ')';
+    }
+}
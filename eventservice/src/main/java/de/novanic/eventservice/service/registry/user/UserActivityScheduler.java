@@ -22,6 +22,7 @@
 package de.novanic.eventservice.service.registry.user;
 
 import de.novanic.eventservice.service.UserTimeoutListener;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
 import de.novanic.eventservice.util.PlatformUtil;
 
 import java.util.*;
@@ -45,6 +46,7 @@ public class UserActivityScheduler
     private TimeoutTimerTask myTimeoutTimerTask;
     private boolean myIsAutoClean;
     private boolean isActive;
+    private volatile EventServiceMonitor myMonitor;
 
     /**
      * Creates a new UserActivityScheduler with a reference to a Collection of {@link UserInfo}.
@@ -141,6 +143,58 @@ public class UserActivityScheduler
         aUserInfo.reportUserActivity();
     }
 
+    /**
+     * Sets the monitor which gets informed about the checks for timeouts (see {@link UserActivityScheduler#checkTimeouts()}).
+     * @param aMonitor monitor (NULL to stop the monitoring)
+     */
+    public void setEventServiceMonitor(EventServiceMonitor aMonitor) {
+        myMonitor = aMonitor;
+    }
+
+    /**
+     * Checks all users/clients for a timeout. All added {@link de.novanic.eventservice.service.UserTimeoutListener} get
+     * informed about the occurred timeouts and the users/clients are removed automatically, when auto-clean is switched on
+     * ({@link de.novanic.eventservice.service.registry.user.UserActivityScheduler#start(boolean)}).
+     */
+    void checkTimeouts() {
+        final long theTimeoutCriteriaTime = PlatformUtil.getCurrentTime() - myTimeoutInterval;
+        final EventServiceMonitor theMonitor = myMonitor;
+        final EventServiceMonitor.SweepOperation theSweepOperation = (theMonitor != null) ? theMonitor.startTimeoutSweep() : null;
+        int theUserCount = 0;
+        int theTimeoutCount = 0;
+
+        Iterator<UserInfo> theUserInfoIterator = myUserInfoCollection.iterator();
+        while(theUserInfoIterator.hasNext()) {
+            UserInfo theUserInfo = theUserInfoIterator.next();
+            theUserCount++;
+            if(isTimeout(theUserInfo, theTimeoutCriteriaTime)) {
+                theTimeoutCount++;
+                //report about user timeout
+                for(UserTimeoutListener theTimeoutListener: myTimeoutListeners) {
+                    theTimeoutListener.onTimeout(theUserInfo);
+                }
+                //remove the user/client automatically if auto-clean is switched on
+                if(myIsAutoClean) {
+                    theUserInfoIterator.remove();
+                }
+            }
+        }
+        if(theSweepOperation != null) {
+            theSweepOperation.finish(theUserCount, theTimeoutCount);
+        }
+    }
+
+    /**
+     * Reports a timeout when {@link UserInfo#getLastActivityTime()} is greater than the max. timeout time (the
+     * current time + {@link de.novanic.eventservice.config.EventServiceConfiguration#getTimeoutTime()}).  
+     * @param aUserInfo user/client to check for a timeout
+     * @param aTimeoutCriteriaTime timeout time to compare {@link UserInfo#getLastActivityTime()}
+     * @return True if the {@link UserInfo#getLastActivityTime()} is too long ago, otherwise true
+     */
+    private static boolean isTimeout(UserInfo aUserInfo, long aTimeoutCriteriaTime) {
+        return (aUserInfo.getLastActivityTime() <= aTimeoutCriteriaTime);
+    }
+
     /**
      * That method is used to measure the timeout and it will remove the user automatically, if configured with the start method
      * ({@link de.novanic.eventservice.service.registry.user.UserActivityScheduler#start(boolean)}).
@@ -162,33 +216,7 @@ public class UserActivityScheduler
     private class TimeoutTimerTask extends TimerTask
     {
         public void run() {
-            final long theTimeoutCriteriaTime = PlatformUtil.getCurrentTime() - myTimeoutInterval;
-
-            Iterator<UserInfo> theUserInfoIterator = myUserInfoCollection.iterator();
-            while(theUserInfoIterator.hasNext()) {
-                UserInfo theUserInfo = theUserInfoIterator.next();
-                if(isTimeout(theUserInfo, theTimeoutCriteriaTime)) {
-                    //report about user timeout
-                    for(UserTimeoutListener theTimeoutListener: myTimeoutListeners) {
-                        theTimeoutListener.onTimeout(theUserInfo);
-                    }
-                    //remove the user/client automatically if auto-clean is switched on
-                    if(myIsAutoClean) {
-                        theUserInfoIterator.remove();
-                    }
-                }
-            }
-        }
-
-        /**
-         * Reports a timeout when {@link UserInfo#getLastActivityTime()} is greater than the max. timeout time (the
-         * current time + {@link de.novanic.eventservice.config.EventServiceConfiguration#getTimeoutTime()}).  
-         * @param aUserInfo user/client to check for a timeout
-         * @param aTimeoutCriteriaTime timeout time to compare {@link UserInfo#getLastActivityTime()}
-         * @return True if the {@link UserInfo#getLastActivityTime()} is too long ago, otherwise true
-         */
-        private boolean isTimeout(UserInfo aUserInfo, long aTimeoutCriteriaTime) {
-            return (aUserInfo.getLastActivityTime() <= aTimeoutCriteriaTime);
+            checkTimeouts();
         }
     }
 }
@@ -0,0 +1,273 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.service.EventServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The {@link UserEventSpill} holds the queued events of a user/client within a memory-mapped file (segment) instead of
+ * the heap. The events are stored in the order of arrival (together with the time of the enqueueing) and are read back
+ * in the same order. The file grows when required (up to {@link Integer#MAX_VALUE} bytes) and the space of the already
+ * read events is reused. An event which can't be read anymore is skipped (and logged), so that it doesn't block the
+ * following events. The mapping of the file is released when the file is enlarged or closed (instead of waiting for the
+ * garbage collection).
+ *
+ * <br>A {@link UserEventSpill} isn't thread-safe, the access is synchronized by {@link UserInfo}.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:11:00
+ */
+public class UserEventSpill
+{
+    private static final Logger LOG = LoggerFactory.getLogger(UserEventSpill.class);
+    private static final int LENGTH_BYTES = 4;
+    private static final int TIME_BYTES = 8;
+
+    private final File myFile;
+    private final RandomAccessFile myRandomAccessFile;
+    private final FileChannel myFileChannel;
+    private MappedByteBuffer myBuffer;
+    private int myReadPosition;
+    private int myWritePosition;
+    private int myEventCount;
+
+    /**
+     * Creates a new {@link UserEventSpill} with a file. The file is deleted when the {@link UserEventSpill} is closed.
+     * @param aFile file for the events
+     * @param anInitialSize initial size of the file (in bytes)
+     * @throws EventServiceException occurs when the file couldn't be mapped
+     */
+    public UserEventSpill(File aFile, int anInitialSize) throws EventServiceException {
+        myFile = aFile;
+        try {
+            myRandomAccessFile = new RandomAccessFile(aFile, "rw");
+            myFileChannel = myRandomAccessFile.getChannel();
+            myBuffer = myFileChannel.map(FileChannel.MapMode.READ_WRITE, 0, anInitialSize);
+        } catch(IOException e) {
+            throw new EventServiceException("Error on creating the event file \"" + aFile + "\"!", e);
+        }
+    }
+
+    /**
+     * Appends an event.
+     * @param aQueuedEvent event to append
+     * @throws EventServiceException occurs when the event couldn't be serialized or written
+     */
+    public void add(QueuedEvent aQueuedEvent) throws EventServiceException {
+        final byte[] theData = serialize(aQueuedEvent.toDomainEvent());
+        ensureCapacity((long)LENGTH_BYTES + TIME_BYTES + theData.length);
+        ((Buffer)myBuffer).position(myWritePosition);
+        myBuffer.putInt(theData.length);
+        myBuffer.putLong(aQueuedEvent.getEnqueueTime());
+        myBuffer.put(theData);
+        myWritePosition = myBuffer.position();
+        myEventCount++;
+    }
+
+    /**
+     * Returns and removes the oldest event. Events which can't be read are removed and skipped.
+     * @return oldest (readable) event, NULL when no event is available
+     */
+    public QueuedEvent poll() {
+        while(myEventCount > 0) {
+            ((Buffer)myBuffer).position(myReadPosition);
+            final byte[] theData = new byte[myBuffer.getInt()];
+            final long theEnqueueTime = myBuffer.getLong();
+            myBuffer.get(theData);
+            //the event is removed before it is de-serialized, so that a corrupt event doesn't block the following events
+            myEventCount--;
+            if(myEventCount == 0) {
+                //all events are read, so the whole file can be reused
+                myReadPosition = 0;
+                myWritePosition = 0;
+            } else {
+                myReadPosition = myBuffer.position();
+            }
+            try {
+                final DomainEvent theDomainEvent = deserialize(theData);
+                return new QueuedEvent(theDomainEvent.getDomain(), theDomainEvent.getEvent(), theEnqueueTime);
+            } catch(EventServiceException e) {
+                LOG.error("The event (" + theData.length + " bytes) of the event file \"" + myFile + "\" couldn't be read and is skipped!", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time of the enqueueing of the oldest event without removing the event.
+     * @return time of the enqueueing of the oldest event ({@link System#nanoTime()}), {@link Long#MAX_VALUE} when no event is available
+     */
+    public long peekEnqueueTime() {
+        if(myEventCount == 0) {
+            return Long.MAX_VALUE;
+        }
+        return myBuffer.getLong(myReadPosition + LENGTH_BYTES);
+    }
+
+    /**
+     * Returns the amount of stored events.
+     * @return amount of stored events
+     */
+    public int size() {
+        return myEventCount;
+    }
+
+    /**
+     * Checks if events are stored.
+     * @return true when no events are stored, otherwise false
+     */
+    public boolean isEmpty() {
+        return myEventCount == 0;
+    }
+
+    /**
+     * Returns the file of the events.
+     * @return file
+     */
+    public File getFile() {
+        return myFile;
+    }
+
+    /**
+     * Closes and deletes the file. The stored events get lost.
+     */
+    public void close() {
+        if(myBuffer != null) {
+            unmap(myBuffer);
+            myBuffer = null;
+        }
+        myEventCount = 0;
+        try {
+            myFileChannel.close();
+            myRandomAccessFile.close();
+        } catch(IOException e) {
+            //the file is deleted anyway
+        }
+        if(myFile.exists() && !myFile.delete()) {
+            LOG.warn("The event file \"{}\" couldn't be deleted!", myFile);
+        }
+    }
+
+    /**
+     * Ensures that the required amount of bytes can be written. The unread events are moved to the start of the file
+     * when the space of the read events is required and the file is enlarged when the space is still insufficient.
+     * @param aRequiredBytes amount of bytes to write
+     * @throws EventServiceException occurs when the file couldn't be enlarged
+     */
+    private void ensureCapacity(long aRequiredBytes) throws EventServiceException {
+        if(myWritePosition + aRequiredBytes <= myBuffer.capacity()) {
+            return;
+        }
+        if(myReadPosition > 0) {
+            final byte[] theUnreadData = new byte[myWritePosition - myReadPosition];
+            ((Buffer)myBuffer).position(myReadPosition);
+            myBuffer.get(theUnreadData);
+            ((Buffer)myBuffer).position(0);
+            myBuffer.put(theUnreadData);
+            myReadPosition = 0;
+            myWritePosition = theUnreadData.length;
+        }
+        final long theRequiredCapacity = myWritePosition + aRequiredBytes;
+        if(theRequiredCapacity > myBuffer.capacity()) {
+            if(theRequiredCapacity > Integer.MAX_VALUE) {
+                throw new EventServiceException("The event file \"" + myFile + "\" can't be enlarged to " + theRequiredCapacity + " bytes!");
+            }
+            long theNewCapacity = Math.max(myBuffer.capacity(), 1);
+            while(theRequiredCapacity > theNewCapacity) {
+                theNewCapacity *= 2;
+            }
+            final int theCapacity = (int)Math.min(theNewCapacity, Integer.MAX_VALUE);
+            final MappedByteBuffer theOldBuffer = myBuffer;
+            try {
+                myBuffer = myFileChannel.map(FileChannel.MapMode.READ_WRITE, 0, theCapacity);
+            } catch(IOException e) {
+                throw new EventServiceException("Error on enlarging the event file \"" + myFile + "\" to " + theCapacity + " bytes!", e);
+            }
+            unmap(theOldBuffer);
+        }
+    }
+
+    /**
+     * Releases the mapping of the file. The JDK doesn't offer an API to release a mapping, so the cleaner of the buffer
+     * is invoked via reflection (sun.misc.Unsafe#invokeCleaner since Java 9, the cleaner of the buffer before). When that
+     * isn't possible, the mapping is released with the garbage collection. The buffer mustn't be accessed afterwards.
+     * @param aBuffer buffer to release
+     */
+    private static void unmap(MappedByteBuffer aBuffer) {
+        try {
+            final Class<?> theUnsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method theInvokeCleanerMethod = theUnsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafeField = theUnsafeClass.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            theInvokeCleanerMethod.invoke(theUnsafeField.get(null), aBuffer);
+        } catch(NoSuchMethodException e) {
+            //Java 8 and older
+            try {
+                final Method theCleanerMethod = aBuffer.getClass().getMethod("cleaner");
+                theCleanerMethod.setAccessible(true);
+                final Object theCleaner = theCleanerMethod.invoke(aBuffer);
+                if(theCleaner != null) {
+                    theCleaner.getClass().getMethod("clean").invoke(theCleaner);
+                }
+            } catch(Exception e1) {
+                LOG.debug("The mapping of the event file couldn't be released!", e1);
+            }
+        } catch(Exception e) {
+            LOG.debug("The mapping of the event file couldn't be released!", e);
+        }
+    }
+
+    private static byte[] serialize(DomainEvent aDomainEvent) throws EventServiceException {
+        try {
+            ByteArrayOutputStream theByteArrayOutputStream = new ByteArrayOutputStream(256);
+            ObjectOutputStream theObjectOutputStream = new ObjectOutputStream(theByteArrayOutputStream);
+            theObjectOutputStream.writeObject(aDomainEvent);
+            theObjectOutputStream.close();
+            return theByteArrayOutputStream.toByteArray();
+        } catch(IOException e) {
+            throw new EventServiceException("Error on serializing the event \"" + aDomainEvent + "\"!", e);
+        }
+    }
+
+    private static DomainEvent deserialize(byte[] aData) throws EventServiceException {
+        try {
+            ObjectInputStream theObjectInputStream = new ObjectInputStream(new ByteArrayInputStream(aData));
+            return (DomainEvent)theObjectInputStream.readObject();
+        } catch(IOException e) {
+            throw new EventServiceException("Error on deserializing an event!", e);
+        } catch(ClassNotFoundException e) {
+            throw new EventServiceException("Error on deserializing an event!", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The {@link UserEventSpillPolicy} decides when the queued events of a user/client are moved from the heap to the disk
+ * ({@link de.novanic.eventservice.service.registry.user.UserEventSpill}). The events are moved when the user/client had
+ * no activity (listen call) for the configured time or when the amount of queued events exceeds the configured maximum.
+ * A user/client with an active listen call (for example a listen call which is waiting for events) isn't inactive.
+ *
+ * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_TIME
+ * @see de.novanic.eventservice.config.ConfigParameter#EVENTS_SPILL_MAX
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:11:00
+ */
+public class UserEventSpillPolicy
+{
+    private static final String FILE_PREFIX = "eventservice-spill-";
+    private static final String FILE_SUFFIX = ".events";
+    private static final int INITIAL_FILE_SIZE = 64 * 1024;
+
+    private final long mySpillTime;
+    private final int mySpillMaxEvents;
+    private final File myDirectory;
+
+    /**
+     * Creates a new {@link UserEventSpillPolicy}.
+     * @param aSpillTime time without activity in milliseconds until the events are moved (0 or less to deactivate the criteria)
+     * @param aSpillMaxEvents amount of queued events until the events are moved (0 or less to deactivate the criteria)
+     * @param aDirectory directory for the files (NULL to use the temporary directory of the system)
+     */
+    public UserEventSpillPolicy(long aSpillTime, int aSpillMaxEvents, File aDirectory) {
+        mySpillTime = aSpillTime;
+        mySpillMaxEvents = aSpillMaxEvents;
+        myDirectory = aDirectory;
+    }
+
+    /**
+     * Creates the {@link UserEventSpillPolicy} with the configuration.
+     * @param aConfiguration configuration
+     * @return created {@link UserEventSpillPolicy}, NULL when moving events to the disk isn't configured
+     */
+    public static UserEventSpillPolicy create(EventServiceConfiguration aConfiguration) {
+        final Integer theSpillTime = aConfiguration.getSpillTime();
+        final Integer theSpillMaxEvents = aConfiguration.getSpillMaxEvents();
+        final boolean isSpillTime = theSpillTime != null && theSpillTime > 0;
+        final boolean isSpillMaxEvents = theSpillMaxEvents != null && theSpillMaxEvents > 0;
+        if(!isSpillTime && !isSpillMaxEvents) {
+            return null;
+        }
+        final String theSpillDirectory = aConfiguration.getSpillDirectory();
+        return new UserEventSpillPolicy(isSpillTime ? theSpillTime : 0, isSpillMaxEvents ? theSpillMaxEvents : 0,
+                (theSpillDirectory != null) ? new File(theSpillDirectory) : null);
+    }
+
+    /**
+     * Checks if the events of the user/client should be moved to the disk.
+     * @param aQueuedEventCount amount of the queued events (on the heap)
+     * @param aLastActivityTime last activity time of the user/client
+     * @param isListening true when a listen call of the user/client is active, so the user/client isn't inactive
+     * @return true when the events should be moved to the disk, otherwise false
+     */
+    public boolean isSpill(int aQueuedEventCount, long aLastActivityTime, boolean isListening) {
+        return (mySpillMaxEvents > 0 && aQueuedEventCount >= mySpillMaxEvents)
+                || (mySpillTime > 0 && !isListening && PlatformUtil.getCurrentTime() - aLastActivityTime >= mySpillTime);
+    }
+
+    /**
+     * Creates a new {@link UserEventSpill} with a new file.
+     * @return created {@link UserEventSpill}
+     * @throws EventServiceException occurs when the file couldn't be created
+     */
+    public UserEventSpill createSpill() throws EventServiceException {
+        File theFile;
+        try {
+            theFile = File.createTempFile(FILE_PREFIX, FILE_SUFFIX, myDirectory);
+        } catch(IOException e) {
+            throw new EventServiceException("Error on creating an event file in the directory \"" + myDirectory + "\"!", e);
+        }
+        theFile.deleteOnExit();
+        return new UserEventSpill(theFile, INITIAL_FILE_SIZE);
+    }
+
+    /**
+     * Returns the time without activity until the events are moved to the disk.
+     * @return time without activity in milliseconds (0 when the criteria is deactivated)
+     */
+    public long getSpillTime() {
+        return mySpillTime;
+    }
+
+    /**
+     * Returns the amount of queued events until the events are moved to the disk.
+     * @return amount of queued events (0 when the criteria is deactivated)
+     */
+    public int getSpillMaxEvents() {
+        return mySpillMaxEvents;
+    }
+}
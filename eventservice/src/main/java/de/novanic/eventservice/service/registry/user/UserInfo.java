@@ -28,16 +28,40 @@ import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.DefaultUnlistenEvent;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.service.registry.domain.DomainEventLog;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics;
 import de.novanic.eventservice.util.PlatformUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * UserInfo is a class to represent all users/clients and to manage all their information.
  * It holds the events, the EventFilters ({@link de.novanic.eventservice.client.event.filter.EventFilter}) and the last
  * activity time for the user.
+ * When a {@link de.novanic.eventservice.service.registry.user.UserEventSpillPolicy} is set, the queued events are moved
+ * to the disk ({@link de.novanic.eventservice.service.registry.user.UserEventSpill}) when the user is inactive or too
+ * many events are queued. A user with an active listen call (see {@link UserInfo#startListening()}) isn't inactive.
+ * All following events are appended to the disk until the moved events are retrieved, so the order of the events is kept.
+ * An event which can't be read from the disk anymore is skipped, so it doesn't block the following events.
+ * When the events of a domain are held in a shared log ({@link de.novanic.eventservice.service.registry.domain.DomainEventLog}),
+ * the UserInfo holds only a cursor for the domain and the events are read from the log with
+ * {@link UserInfo#retrieveEvents(int)}. The queued events (for example user specific events) and the events of the shared
+ * logs are merged in the order of their occurrence and the amount of log events which are read with one retrieval is
+ * limited ({@value UserInfo#MAX_SCANNED_LOG_EVENTS}), because the filtered events aren't returned.
+ * The events are queued with the time of the enqueueing ({@link de.novanic.eventservice.service.registry.user.QueuedEvent}),
+ * so the delivery latency can be recorded when the events are retrieved (see {@link UserInfo#setDeliveryLatencyStatistics(de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics)}).
+ * For diagnostics the UserInfo tracks the last time when all events were retrieved (drained) and the time of the
+ * EventFilter evaluations. The time of the EventFilter evaluations is only measured for every
+ * {@value UserInfo#FILTER_TIME_SAMPLE_RATE}th evaluation to keep the measurement cheap.
  *
  * @author sstrohschein
  *         <br>Date: 19.01.2009
@@ -45,21 +69,55 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class UserInfo implements Comparable<UserInfo>
 {
+    private static final Logger LOG = LoggerFactory.getLogger(UserInfo.class);
+    private static final int FILTER_TIME_SAMPLE_RATE = 16;
+    private static final int MAX_SCANNED_LOG_EVENTS = 10000;
+
     private final String myUserId;
-    private final Queue<DomainEvent> myEvents;
+    private final Queue<QueuedEvent> myEvents;
     private final Map<Domain, EventFilter> myDomainEventFilters;
+    private final ConcurrentMap<Domain, DomainEventLog.Cursor> myDomainCursors;
+    private final UserEventSpillPolicy mySpillPolicy;
+    private final Object mySpillLock;
+    private UserEventSpill mySpill;
+    private int myQueuedEventCount;
+    private volatile boolean isSpilled;
     private UnlistenEvent myUnlistenEvent;
     private volatile long myLastActivityTime;
+    private final AtomicInteger myListenCount;
+    private volatile DeliveryLatencyStatistics myDeliveryLatencyStatistics;
+    private volatile EventServiceMonitor myMonitor;
+    private volatile long myLastDrainTime;
+    private final AtomicLong myFilterEvaluationCount;
+    private final AtomicLong myFilterTime;
+    private final ListenPipeline myListenPipeline;
 
     /**
      * Creates a new UserInfo for the user id.
      * @param aUserId user
      */
     public UserInfo(String aUserId) {
+        this(aUserId, null);
+    }
+
+    /**
+     * Creates a new UserInfo for the user id.
+     * @param aUserId user
+     * @param aSpillPolicy policy to move the queued events to the disk (optional, can be NULL)
+     */
+    public UserInfo(String aUserId, UserEventSpillPolicy aSpillPolicy) {
         myUserId = aUserId;
-        myEvents = new ConcurrentLinkedQueue<DomainEvent>();
+        myEvents = new ConcurrentLinkedQueue<QueuedEvent>();
         myDomainEventFilters = new ConcurrentHashMap<Domain, EventFilter>();
+        myDomainCursors = new ConcurrentHashMap<Domain, DomainEventLog.Cursor>();
+        mySpillPolicy = aSpillPolicy;
+        mySpillLock = new Object();
         myLastActivityTime = PlatformUtil.getCurrentTime();
+        myListenCount = new AtomicInteger();
+        myLastDrainTime = myLastActivityTime;
+        myFilterEvaluationCount = new AtomicLong();
+        myFilterTime = new AtomicLong();
+        myListenPipeline = new ListenPipeline();
     }
 
     /**
@@ -76,11 +134,84 @@ public class UserInfo implements Comparable<UserInfo>
      * @param anEvent event
      */
     public void addEvent(Domain aDomain, Event anEvent) {
-        DomainEvent theDomainEvent = new DefaultDomainEvent(anEvent, aDomain);
-        myEvents.add(theDomainEvent);
+        QueuedEvent theQueuedEvent = new QueuedEvent(aDomain, anEvent, System.nanoTime());
+        if(mySpillPolicy == null) {
+            myEvents.add(theQueuedEvent);
+        } else {
+            addEventSpillable(theQueuedEvent);
+        }
         notifyEventListening();
     }
 
+    /**
+     * Adds the events for a domain to the user. The events are enqueued together and the waiting listen request of the
+     * user is only informed once.
+     * @param aDomain domain
+     * @param anEvents events
+     */
+    public void addEvents(Domain aDomain, List<Event> anEvents) {
+        if(!anEvents.isEmpty()) {
+            final long theEnqueueTime = System.nanoTime();
+            List<QueuedEvent> theQueuedEvents = new ArrayList<QueuedEvent>(anEvents.size());
+            for(Event theEvent: anEvents) {
+                theQueuedEvents.add(new QueuedEvent(aDomain, theEvent, theEnqueueTime));
+            }
+            if(mySpillPolicy == null) {
+                myEvents.addAll(theQueuedEvents);
+            } else {
+                synchronized(mySpillLock) {
+                    for(QueuedEvent theQueuedEvent: theQueuedEvents) {
+                        addEventSpillable(theQueuedEvent);
+                    }
+                }
+            }
+            notifyEventListening();
+        }
+    }
+
+    /**
+     * Adds an event and moves the queued events to the disk when it is required by the {@link UserEventSpillPolicy}.
+     * When the events are already moved to the disk, the event is appended to the disk to keep the order.
+     * @param aQueuedEvent event
+     */
+    private void addEventSpillable(QueuedEvent aQueuedEvent) {
+        synchronized(mySpillLock) {
+            if(isSpilled || mySpillPolicy.isSpill(myQueuedEventCount + 1, myLastActivityTime, isListening())) {
+                try {
+                    spill(aQueuedEvent);
+                    return;
+                } catch(EventServiceException e) {
+                    LOG.error("Error on moving the events of user \"" + myUserId + "\" to the disk! The events are hold in memory.", e);
+                }
+            }
+            myEvents.add(aQueuedEvent);
+            myQueuedEventCount++;
+        }
+    }
+
+    /**
+     * Moves the queued events and the new event to the disk. Must be called with the monitor of the spill lock.
+     * @param aQueuedEvent new event
+     * @throws EventServiceException occurs when the events couldn't be written
+     */
+    private void spill(QueuedEvent aQueuedEvent) throws EventServiceException {
+        if(mySpill == null) {
+            mySpill = mySpillPolicy.createSpill();
+            LOG.debug("Events of user \"{}\" are moved to \"{}\".", myUserId, mySpill.getFile());
+        }
+        if(!isSpilled) {
+            //the queued events are older than the new event and have to be moved first
+            QueuedEvent theQueuedEvent;
+            while((theQueuedEvent = myEvents.peek()) != null) {
+                mySpill.add(theQueuedEvent);
+                myEvents.poll();
+                myQueuedEventCount--;
+            }
+            isSpilled = true;
+        }
+        mySpill.add(aQueuedEvent);
+    }
+
     /**
      * doNotifyAll informs all waiting Threads for new events.
      */
@@ -96,20 +227,424 @@ public class UserInfo implements Comparable<UserInfo>
      * @return all events according to the user
      */
     public List<DomainEvent> retrieveEvents(int aMaxEvents) {
-        List<DomainEvent> theEventList = new ArrayList<DomainEvent>(myEvents.size());
-        DomainEvent theEvent;
-        for(int i = 0; i < aMaxEvents && (theEvent = myEvents.poll()) != null; i++) {
-            theEventList.add(theEvent);
+        return retrieveEvents(aMaxEvents, null);
+    }
+
+    /**
+     * Returns and removes all recorded events. The delivery latencies of the events are recorded for the connector
+     * when {@link de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics} are set.
+     * @param aMaxEvents maximum amount of events which should be processed (at once), see {@link UserInfo#retrieveEvents(int)}
+     * @param aConnectorName name of the connector which delivers the events (optional, can be NULL)
+     * @return all events according to the user
+     */
+    public List<DomainEvent> retrieveEvents(int aMaxEvents, String aConnectorName) {
+        final DeliveryLatencyStatistics theDeliveryLatencyStatistics = myDeliveryLatencyStatistics;
+        final long theRetrieveTime = (theDeliveryLatencyStatistics != null) ? System.nanoTime() : 0;
+
+        List<DomainEvent> theEventList = new ArrayList<DomainEvent>();
+        if(myDomainCursors.isEmpty()) {
+            retrieveQueuedEvents(theEventList, aMaxEvents, Long.MAX_VALUE, aConnectorName, theDeliveryLatencyStatistics, theRetrieveTime);
+        } else {
+            //the queued events and the events of the shared logs are merged in the order of their occurrence
+            int theRemainingLogEvents = MAX_SCANNED_LOG_EVENTS;
+            while(theEventList.size() < aMaxEvents) {
+                final long theQueueTime = getOldestQueuedEnqueueTime();
+                final long theLogTime = getNextDomainLogAppendTime();
+                if(theQueueTime == Long.MAX_VALUE && theLogTime == Long.MAX_VALUE) {
+                    break;
+                }
+                if(theQueueTime <= theLogTime) {
+                    retrieveQueuedEvents(theEventList, aMaxEvents, theLogTime, aConnectorName, theDeliveryLatencyStatistics, theRetrieveTime);
+                } else {
+                    theRemainingLogEvents -= retrieveDomainLogEvents(theEventList, aMaxEvents, theQueueTime, theRemainingLogEvents,
+                            aConnectorName, theDeliveryLatencyStatistics, theRetrieveTime);
+                    if(theRemainingLogEvents <= 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        if(isEventsEmpty()) {
+            myLastDrainTime = PlatformUtil.getCurrentTime();
         }
         return theEventList;
     }
 
+    /**
+     * Returns and removes the queued events (in memory and on the disk) which were enqueued up to a time and adds them
+     * to the event list.
+     * @param anEventList event list to add the events to
+     * @param aMaxEvents maximum amount of events of the event list
+     * @param aMaxEnqueueTime time of the enqueueing ({@link System#nanoTime()}) up to which the events are retrieved
+     * @param aConnectorName name of the connector which delivers the events (optional, can be NULL)
+     * @param aDeliveryLatencyStatistics statistics to record the delivery latencies (optional, can be NULL)
+     * @param aRetrieveTime time of the retrieval ({@link System#nanoTime()})
+     */
+    private void retrieveQueuedEvents(List<DomainEvent> anEventList, int aMaxEvents, long aMaxEnqueueTime, String aConnectorName,
+                                      DeliveryLatencyStatistics aDeliveryLatencyStatistics, long aRetrieveTime) {
+        if(mySpillPolicy != null) {
+            for(QueuedEvent theQueuedEvent: retrieveEventsSpillable(aMaxEvents - anEventList.size(), aMaxEnqueueTime)) {
+                addRetrievedEvent(anEventList, theQueuedEvent, aConnectorName, aDeliveryLatencyStatistics, aRetrieveTime);
+            }
+        } else {
+            QueuedEvent theQueuedEvent;
+            while(anEventList.size() < aMaxEvents && (theQueuedEvent = myEvents.peek()) != null
+                    && theQueuedEvent.getEnqueueTime() <= aMaxEnqueueTime && (theQueuedEvent = myEvents.poll()) != null) {
+                addRetrievedEvent(anEventList, theQueuedEvent, aConnectorName, aDeliveryLatencyStatistics, aRetrieveTime);
+            }
+        }
+    }
+
+    /**
+     * Adds a retrieved event to the event list and records the delivery latency of the event.
+     * @param anEventList event list to add the event to
+     * @param aQueuedEvent retrieved event
+     * @param aConnectorName name of the connector which delivers the events (optional, can be NULL)
+     * @param aDeliveryLatencyStatistics statistics to record the delivery latencies (optional, can be NULL)
+     * @param aRetrieveTime time of the retrieval ({@link System#nanoTime()})
+     */
+    private static void addRetrievedEvent(List<DomainEvent> anEventList, QueuedEvent aQueuedEvent, String aConnectorName,
+                                          DeliveryLatencyStatistics aDeliveryLatencyStatistics, long aRetrieveTime) {
+        anEventList.add(aQueuedEvent.toDomainEvent());
+        if(aDeliveryLatencyStatistics != null) {
+            aDeliveryLatencyStatistics.recordDelivery(aQueuedEvent.getDomain(), aConnectorName, aRetrieveTime - aQueuedEvent.getEnqueueTime());
+        }
+    }
+
+    /**
+     * Reads the events from the shared logs of the domains ({@link de.novanic.eventservice.service.registry.domain.DomainEventLog})
+     * and adds them to the event list. The events of all domains are merged in the order of their occurrence and
+     * the EventFilters are evaluated when the events are read. The read events are counted, also when they are filtered,
+     * so the amount of read events is limited even when most of the events are filtered.
+     * @param anEventList event list to add the read events to
+     * @param aMaxEvents maximum amount of events of the event list
+     * @param aMaxAppendTime time ({@link System#nanoTime()}) before which the events were appended to the logs
+     * @param aMaxReadEvents maximum amount of events which should be read from the logs
+     * @param aConnectorName name of the connector which delivers the events (optional, can be NULL)
+     * @param aDeliveryLatencyStatistics statistics to record the delivery latencies (optional, can be NULL)
+     * @param aRetrieveTime time of the retrieval ({@link System#nanoTime()})
+     * @return amount of read events (including the filtered events)
+     */
+    private int retrieveDomainLogEvents(List<DomainEvent> anEventList, int aMaxEvents, long aMaxAppendTime, int aMaxReadEvents,
+                                        String aConnectorName, DeliveryLatencyStatistics aDeliveryLatencyStatistics, long aRetrieveTime) {
+        int theReadEvents = 0;
+        synchronized(myDomainCursors) {
+            while(anEventList.size() < aMaxEvents && theReadEvents < aMaxReadEvents) {
+                final DomainEventLog.Cursor theNextCursor = getNextDomainCursor();
+                if(theNextCursor == null || theNextCursor.getNextAppendTime() >= aMaxAppendTime) {
+                    break;
+                }
+                final Domain theDomain = theNextCursor.getDomain();
+                final Event theEvent = theNextCursor.next();
+                theReadEvents++;
+                if(!isEventFiltered(theDomain, theEvent)) {
+                    anEventList.add(new DefaultDomainEvent(theEvent, theDomain));
+                    if(aDeliveryLatencyStatistics != null) {
+                        aDeliveryLatencyStatistics.recordDelivery(theDomain, aConnectorName, aRetrieveTime - theNextCursor.getAppendTime());
+                    }
+                }
+            }
+        }
+        return theReadEvents;
+    }
+
+    /**
+     * Returns the time when the next unread event of the shared logs of the domains was appended. The next unread event
+     * is the event with the lowest sequence number (see {@link UserInfo#getNextDomainCursor()}).
+     * @return time when the next unread event was appended ({@link System#nanoTime()}), {@link Long#MAX_VALUE} when no unread event is available
+     */
+    private long getNextDomainLogAppendTime() {
+        synchronized(myDomainCursors) {
+            final DomainEventLog.Cursor theNextCursor = getNextDomainCursor();
+            if(theNextCursor == null) {
+                return Long.MAX_VALUE;
+            }
+            return theNextCursor.getNextAppendTime();
+        }
+    }
+
+    /**
+     * Returns the cursor of the shared log which contains the next unread event (the event with the lowest sequence
+     * number of all logs). Must be called with the monitor of the domain cursors.
+     * @return cursor with the next unread event, NULL when no unread event is available
+     */
+    private DomainEventLog.Cursor getNextDomainCursor() {
+        DomainEventLog.Cursor theNextCursor = null;
+        long theNextSequence = Long.MAX_VALUE;
+        for(DomainEventLog.Cursor theCursor: myDomainCursors.values()) {
+            final long theSequence = theCursor.getNextSequence();
+            if(theSequence < theNextSequence) {
+                theNextSequence = theSequence;
+                theNextCursor = theCursor;
+            }
+        }
+        return theNextCursor;
+    }
+
+    /**
+     * Returns and removes the recorded events. The events in memory are older than the events on the disk (see
+     * {@link UserInfo#spill(QueuedEvent)}), so they are returned first.
+     * @param aMaxEvents maximum amount of events which should be processed (at once)
+     * @param aMaxEnqueueTime time of the enqueueing ({@link System#nanoTime()}) up to which the events are retrieved
+     * @return events according to the user
+     */
+    private List<QueuedEvent> retrieveEventsSpillable(int aMaxEvents, long aMaxEnqueueTime) {
+        synchronized(mySpillLock) {
+            List<QueuedEvent> theEventList = new ArrayList<QueuedEvent>(Math.max(0, Math.min(aMaxEvents, myQueuedEventCount + ((mySpill != null) ? mySpill.size() : 0))));
+            QueuedEvent theEvent;
+            while(theEventList.size() < aMaxEvents && (theEvent = myEvents.peek()) != null && theEvent.getEnqueueTime() <= aMaxEnqueueTime) {
+                theEventList.add(myEvents.poll());
+                myQueuedEventCount--;
+            }
+            if(isSpilled) {
+                //events which can't be read from the disk are skipped by the spill
+                while(theEventList.size() < aMaxEvents && mySpill.peekEnqueueTime() <= aMaxEnqueueTime && (theEvent = mySpill.poll()) != null) {
+                    theEventList.add(theEvent);
+                }
+                if(mySpill.isEmpty()) {
+                    isSpilled = false;
+                }
+            }
+            return theEventList;
+        }
+    }
+
+    /**
+     * Returns the amount of queued events (including the events which are moved to the disk and the unread events of
+     * the shared logs of the domains). The EventFilters of the shared logs aren't evaluated, so unread events of the
+     * shared logs could be filtered when they are read. The queued events are counted, so that method should only be
+     * called to collect statistics.
+     * @return amount of queued events
+     */
+    public int getEventCount() {
+        long theEventCount;
+        if(mySpillPolicy != null) {
+            synchronized(mySpillLock) {
+                theEventCount = myQueuedEventCount + ((mySpill != null) ? mySpill.size() : 0);
+            }
+        } else {
+            theEventCount = myEvents.size();
+        }
+        for(DomainEventLog.Cursor theCursor: myDomainCursors.values()) {
+            theEventCount += theCursor.getUnreadEventCount();
+        }
+        return (int)Math.min(theEventCount, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the age of the oldest queued event (including the events which are moved to the disk and the unread events
+     * of the shared logs of the domains).
+     * @return age of the oldest queued event in milliseconds, 0 when no event is queued
+     */
+    public long getOldestEventAge() {
+        long theOldestEnqueueTime = getOldestQueuedEnqueueTime();
+        for(DomainEventLog.Cursor theCursor: myDomainCursors.values()) {
+            theOldestEnqueueTime = Math.min(theOldestEnqueueTime, theCursor.getNextAppendTime());
+        }
+        if(theOldestEnqueueTime == Long.MAX_VALUE) {
+            return 0;
+        }
+        return Math.max(0, (System.nanoTime() - theOldestEnqueueTime) / 1000000);
+    }
+
+    /**
+     * Returns the time of the enqueueing of the oldest queued event (see {@link UserInfo#getOldestEnqueueTime()}).
+     * @return time of the enqueueing of the oldest event ({@link System#nanoTime()}), {@link Long#MAX_VALUE} when no event is queued
+     */
+    private long getOldestQueuedEnqueueTime() {
+        if(mySpillPolicy != null) {
+            synchronized(mySpillLock) {
+                return getOldestEnqueueTime();
+            }
+        }
+        return getOldestEnqueueTime();
+    }
+
+    /**
+     * Returns the time of the enqueueing of the oldest event of the queue or the disk. The events in memory are older
+     * than the events on the disk, so the disk has only to be checked when no events are in memory.
+     * @return time of the enqueueing of the oldest event ({@link System#nanoTime()}), {@link Long#MAX_VALUE} when no event is queued
+     */
+    private long getOldestEnqueueTime() {
+        final QueuedEvent theOldestEvent = myEvents.peek();
+        if(theOldestEvent != null) {
+            return theOldestEvent.getEnqueueTime();
+        }
+        if(isSpilled && mySpill != null) {
+            return mySpill.peekEnqueueTime();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the last time when all events were retrieved (see {@link UserInfo#retrieveEvents(int)}), so the user/client
+     * had caught up with the events. That is initially the creation time of the UserInfo.
+     * @return last time when all events were retrieved (milliseconds)
+     */
+    public long getLastDrainTime() {
+        return myLastDrainTime;
+    }
+
+    /**
+     * Checks if the event is filtered by the EventFilter of the domain. The time of the evaluation is measured for every
+     * {@value UserInfo#FILTER_TIME_SAMPLE_RATE}th evaluation (see {@link UserInfo#getFilterTime()}).
+     * @param aDomain domain of the event
+     * @param anEvent event
+     * @return true when the event is filtered, false when the event is valid or no EventFilter is set for the domain
+     */
+    public boolean isEventFiltered(Domain aDomain, Event anEvent) {
+        final EventFilter theEventFilter = getEventFilter(aDomain);
+        if(theEventFilter == null) {
+            return false;
+        }
+        final EventServiceMonitor theMonitor = myMonitor;
+        final EventServiceMonitor.FilterOperation theFilterOperation = (theMonitor != null)
+                ? theMonitor.startFilterEvaluation(myUserId, aDomain, anEvent)
+                : null;
+        final boolean isFiltered;
+        if(myFilterEvaluationCount.getAndIncrement() % FILTER_TIME_SAMPLE_RATE != 0) {
+            isFiltered = theEventFilter.match(anEvent);
+        } else {
+            final long theStartTime = System.nanoTime();
+            isFiltered = theEventFilter.match(anEvent);
+            myFilterTime.addAndGet((System.nanoTime() - theStartTime) * FILTER_TIME_SAMPLE_RATE);
+        }
+        if(theFilterOperation != null) {
+            theFilterOperation.finish(isFiltered);
+        }
+        return isFiltered;
+    }
+
+    /**
+     * Returns the amount of EventFilter evaluations.
+     * @return amount of EventFilter evaluations
+     */
+    public long getFilterEvaluationCount() {
+        return myFilterEvaluationCount.get();
+    }
+
+    /**
+     * Returns the estimated time of all EventFilter evaluations (extrapolated from the measured evaluations).
+     * @return estimated time of all EventFilter evaluations in nanoseconds
+     */
+    public long getFilterTime() {
+        return myFilterTime.get();
+    }
+
     /**
      * Checks if events are available.
      * @return true when no events recognized, otherwise false
      */
     public boolean isEventsEmpty() {
-        return myEvents.isEmpty();
+        return myEvents.isEmpty() && !isSpilled && !isDomainLogEventAvailable();
+    }
+
+    /**
+     * Checks if an unread event is available in a shared log of a domain. The EventFilters aren't evaluated, so the
+     * event could be filtered when it is read.
+     * @return true when an unread event is available, otherwise false
+     */
+    private boolean isDomainLogEventAvailable() {
+        for(DomainEventLog.Cursor theCursor: myDomainCursors.values()) {
+            if(theCursor.hasNext()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a cursor for the shared log of a domain ({@link de.novanic.eventservice.service.registry.domain.DomainEventLog}).
+     * The cursor isn't replaced when the user has already a cursor for the domain.
+     * @param aCursor cursor for the shared log of the domain
+     * @return true when the cursor is added, false when the user has already a cursor for the domain
+     */
+    public boolean addDomainCursor(DomainEventLog.Cursor aCursor) {
+        return myDomainCursors.putIfAbsent(aCursor.getDomain(), aCursor) == null;
+    }
+
+    /**
+     * Removes the cursor for the shared log of a domain. The unread events of the domain get lost.
+     * @param aDomain domain
+     * @return true when a cursor is removed, otherwise false
+     */
+    public boolean removeDomainCursor(Domain aDomain) {
+        synchronized(myDomainCursors) {
+            return myDomainCursors.remove(aDomain) != null;
+        }
+    }
+
+    /**
+     * Sets the statistics to record the delivery latencies of the events (see {@link UserInfo#retrieveEvents(int, String)}).
+     * @param aDeliveryLatencyStatistics statistics to record the delivery latencies (NULL to stop the recording)
+     */
+    public void setDeliveryLatencyStatistics(DeliveryLatencyStatistics aDeliveryLatencyStatistics) {
+        myDeliveryLatencyStatistics = aDeliveryLatencyStatistics;
+    }
+
+    /**
+     * Sets the monitor which gets informed about the EventFilter evaluations (see {@link UserInfo#isEventFiltered(de.novanic.eventservice.client.event.domain.Domain, de.novanic.eventservice.client.event.Event)}).
+     * @param aMonitor monitor (NULL to stop the monitoring)
+     */
+    public void setEventServiceMonitor(EventServiceMonitor aMonitor) {
+        myMonitor = aMonitor;
+    }
+
+    /**
+     * Checks if the queued events are moved to the disk.
+     * @return true when the events are moved to the disk, otherwise false
+     */
+    public boolean isEventsSpilled() {
+        return isSpilled;
+    }
+
+    /**
+     * Releases the resources of the user (the file of the events which are moved to the disk). That method should be
+     * called when the user is removed. Events which are moved to the disk get lost.
+     */
+    public void release() {
+        if(mySpillPolicy != null) {
+            synchronized(mySpillLock) {
+                if(mySpill != null) {
+                    mySpill.close();
+                    mySpill = null;
+                }
+                isSpilled = false;
+            }
+        }
+    }
+
+    /**
+     * Marks the start of a listen call. While a listen call is active (for example waiting for events), the user isn't
+     * inactive and the queued events aren't moved to the disk because of inactivity. Every call has to be followed
+     * by a call of {@link UserInfo#finishListening()}.
+     */
+    public void startListening() {
+        myListenCount.incrementAndGet();
+    }
+
+    /**
+     * Marks the end of a listen call (see {@link UserInfo#startListening()}).
+     */
+    public void finishListening() {
+        myListenCount.decrementAndGet();
+    }
+
+    /**
+     * Checks if a listen call of the user is active (see {@link UserInfo#startListening()}).
+     * @return true when a listen call is active, otherwise false
+     */
+    public boolean isListening() {
+        return myListenCount.get() > 0;
+    }
+
+    /**
+     * Returns the {@link de.novanic.eventservice.service.registry.user.ListenPipeline} which orders the concurrent
+     * listen requests of the user (pipelined long-polling).
+     * @return {@link de.novanic.eventservice.service.registry.user.ListenPipeline} of the user
+     */
+    public ListenPipeline getListenPipeline() {
+        return myListenPipeline;
     }
 
     /**
@@ -82,7 +82,14 @@ public class UserManagerFactory
      * @return {@link de.novanic.eventservice.service.registry.user.UserManager} (singleton)
      */
     public UserManager getUserManager(EventServiceConfiguration aConfiguration) {
-        return getUserManager(aConfiguration.getTimeoutTime());
+        if(myUserManager == null) {
+            synchronized(this) {
+                if(myUserManager == null) {
+                    myUserManager = new DefaultUserManager(aConfiguration.getTimeoutTime(), UserEventSpillPolicy.create(aConfiguration));
+                }
+            }
+        }
+        return myUserManager;
     }
 
     /**
@@ -31,6 +31,9 @@ package de.novanic.eventservice.util;
 public final class PlatformUtil
 {
     private static final String NEW_LINE_CHAR;
+    private static final TimeSource SYSTEM_TIME_SOURCE = new SystemTimeSource();
+
+    private static volatile TimeSource myTimeSource = SYSTEM_TIME_SOURCE;
 
     static {
         NEW_LINE_CHAR = createNewLineChar();
@@ -47,11 +50,26 @@ public final class PlatformUtil
     }
 
     /**
-     * Returns the current time in milliseconds.
+     * Returns the current time in milliseconds. The time is provided by the installed {@link TimeSource}
+     * (see {@link PlatformUtil#setTimeSource(TimeSource)}), the system time is used by default.
      * @return current time in milliseconds
      */
     public static long getCurrentTime() {
-        return System.currentTimeMillis();
+        return myTimeSource.getCurrentTime();
+    }
+
+    /**
+     * Installs the {@link TimeSource} which provides the current time ({@link PlatformUtil#getCurrentTime()}). That can
+     * be used to run simulations or soak tests with a virtual clock. The time source is replaced for the whole class
+     * loader, so it mustn't be installed while an EventService is running for real users/clients.
+     * @param aTimeSource time source to install, NULL to reset to the system time
+     */
+    public static void setTimeSource(TimeSource aTimeSource) {
+        if(aTimeSource != null) {
+            myTimeSource = aTimeSource;
+        } else {
+            myTimeSource = SYSTEM_TIME_SOURCE;
+        }
     }
 
     /**
@@ -65,4 +83,14 @@ public final class PlatformUtil
         }
         return theNewLineChar;
     }
+
+    /**
+     * The default {@link TimeSource} which provides the system time.
+     */
+    private static final class SystemTimeSource implements TimeSource
+    {
+        public long getCurrentTime() {
+            return System.currentTimeMillis();
+        }
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.util;
+
+/**
+ * The TimeSource provides the current time for the time-dependent functionality of the server side (user timeouts,
+ * event spilling, domain histories and diagnostics). The system time is used by default, a custom TimeSource can be
+ * installed with {@link de.novanic.eventservice.util.PlatformUtil#setTimeSource(TimeSource)}, for example to simulate
+ * hours of traffic with a virtual clock.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:03:51
+ */
+public interface TimeSource
+{
+    /**
+     * Returns the current time in milliseconds.
+     * @return current time in milliseconds
+     */
+    long getCurrentTime();
+}
@@ -26,6 +26,9 @@ import de.novanic.eventservice.service.connection.id.ConnectionIdGenerator;
 import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
 import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
 import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitorTest;
 import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
 import org.junit.After;
 import org.junit.Before;
@@ -134,6 +137,37 @@ public class ConfigurationDependentFactoryTest
         assertNull(theConfigurationDependentFactory.getConnectionIdGenerator());
     }
 
+    @Test
+    public void testGetEventServiceMonitor() {
+        final RemoteEventServiceConfiguration theEventServiceConfiguration = new RemoteEventServiceConfiguration("Test-Config", null, null, null, null, null, null, null, "utf-8", 1000);
+        theEventServiceConfiguration.setMonitorClassName(EventServiceMonitorTest.RecordingMonitor.class.getName());
+        ConfigurationDependentFactory theConfigurationDependentFactory = ConfigurationDependentFactory.getInstance(theEventServiceConfiguration);
+
+        final EventServiceMonitor theEventServiceMonitor = theConfigurationDependentFactory.getEventServiceMonitor();
+        assertTrue(theEventServiceMonitor instanceof EventServiceMonitorTest.RecordingMonitor);
+        assertSame(theEventServiceMonitor, theConfigurationDependentFactory.getEventServiceMonitor());
+    }
+
+    @Test
+    public void testGetEventServiceMonitor_Unconfigured() {
+        final EventServiceConfiguration theEventServiceConfiguration = new RemoteEventServiceConfiguration("Test-Config", null, null, null, null, null, null, null, "utf-8", 1000);
+        ConfigurationDependentFactory theConfigurationDependentFactory = ConfigurationDependentFactory.getInstance(theEventServiceConfiguration);
+        assertNull(theConfigurationDependentFactory.getEventServiceMonitor());
+    }
+
+    @Test
+    public void testGetEventServiceMonitor_Error() {
+        final RemoteEventServiceConfiguration theEventServiceConfiguration = new RemoteEventServiceConfiguration("Test-Config", null, null, null, null, null, null, null, "utf-8", 1000);
+        theEventServiceConfiguration.setMonitorClassName(String.class.getName());
+        ConfigurationDependentFactory theConfigurationDependentFactory = ConfigurationDependentFactory.getInstance(theEventServiceConfiguration);
+        try {
+            theConfigurationDependentFactory.getEventServiceMonitor();
+            fail("Exception expected, because the type isn't a " + EventServiceMonitor.class.getSimpleName() + '!');
+        } catch(ConfigurationException e) {
+            assertTrue(e.getMessage().contains(String.class.getName()));
+        }
+    }
+
     @Test
     public void testGetConnectionIdGenerator_Error() {
         final TestEventServiceConfiguration theConfig = new TestEventServiceConfiguration();
@@ -230,6 +264,24 @@ public class ConfigurationDependentFactoryTest
         assertTrue(theConnectionStrategyServerConnector instanceof LongPollingServerConnector);
     }
 
+    @Test
+    public void testGetConnectionStrategyServerConnector_Typed() {
+        final TestEventServiceConfiguration theConfig = new TestEventServiceConfiguration();
+        theConfig.setConnectionStrategyServerConnectorClassName(LongPollingServerConnector.class.getName());
+
+        ConfigurationDependentFactory theConfigurationDependentFactory = ConfigurationDependentFactory.getInstance(theConfig);
+
+        //the configured connector is returned for the configured type
+        final ConnectionStrategyServerConnector theConnectionStrategyServerConnector = theConfigurationDependentFactory.getConnectionStrategyServerConnector();
+        assertSame(theConnectionStrategyServerConnector, theConfigurationDependentFactory.getConnectionStrategyServerConnector(LongPollingServerConnector.class));
+
+        //another connector is created for another type (once)
+        final StreamingServerConnector theStreamingServerConnector = theConfigurationDependentFactory.getConnectionStrategyServerConnector(StreamingServerConnector.class);
+        assertNotNull(theStreamingServerConnector);
+        assertSame(theStreamingServerConnector, theConfigurationDependentFactory.getConnectionStrategyServerConnector(StreamingServerConnector.class));
+        assertSame(theConnectionStrategyServerConnector, theConfigurationDependentFactory.getConnectionStrategyServerConnector());
+    }
+
     @Test
     public void testGetConnectionStrategyServerConnector_Error() {
         final TestEventServiceConfiguration theConfig = new TestEventServiceConfiguration();
@@ -297,6 +349,66 @@ public class ConfigurationDependentFactoryTest
             return 1000;
         }
 
+        public String getRemoteRegistryAddress() {
+            return null;
+        }
+
+        public Integer getSpillTime() {
+            return null;
+        }
+
+        public Integer getSpillMaxEvents() {
+            return null;
+        }
+
+        public String getSpillDirectory() {
+            return null;
+        }
+
+        public Boolean isSharedEventLog() {
+            return null;
+        }
+
+        public String getMonitorClassName() {
+            return null;
+        }
+
+        public String getRecordFile() {
+            return null;
+        }
+
+        public String getDomainHistories() {
+            return null;
+        }
+
+        public String getRemoteRegistrySecret() {
+            return null;
+        }
+
+        public String getRemoteRegistryClasses() {
+            return null;
+        }
+
+        public String getRelayUpstreamAddress() {
+            return null;
+        }
+
+        public String getRelayDomains() {
+            return null;
+        }
+
+        public Integer getReconnectDelay() {
+            return null;
+        }
+
+        public Integer getReconnectDelayMax() {
+            return null;
+        }
+
+        public Integer getMaxListenRequests() {
+            return null;
+        }
+
         public Map<ConfigParameter, Object> getConfigMap() {
             return new HashMap<ConfigParameter, Object>();
         }
@@ -50,6 +50,22 @@ public class RemoteEventServiceConfigurationTest extends EventServiceTestCase
         assertEquals(SessionConnectionIdGeneratorTest.class.getName(), theConfiguration.getConnectionIdGeneratorClassName());
         assertEquals("client_connector", theConfiguration.getConnectionStrategyClientConnectorClassName());
         assertEquals("server_connector", theConfiguration.getConnectionStrategyServerConnectorClassName());
+        assertNull(theConfiguration.getReconnectDelay());
+        assertNull(theConfiguration.getReconnectDelayMax());
+        assertNull(theConfiguration.getMaxListenRequests());
+    }
+
+    @Test
+    public void testInit_Reconnect() {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration(TEST_CONFIG_DESCRIPTION, 1, 2, 3, 4, SessionConnectionIdGeneratorTest.class.getName(), "client_connector", "server_connector", "utf-8", 1000);
+        theConfiguration.setReconnectDelay(500);
+        theConfiguration.setReconnectDelayMax(30000);
+        theConfiguration.setMaxListenRequests(100);
+        assertEquals(Integer.valueOf(4), theConfiguration.getReconnectAttemptCount());
+        assertEquals(Integer.valueOf(500), theConfiguration.getReconnectDelay());
+        assertEquals(Integer.valueOf(30000), theConfiguration.getReconnectDelayMax());
+        assertEquals(Integer.valueOf(100), theConfiguration.getMaxListenRequests());
+        assertEquals(Integer.valueOf(500), theConfiguration.getConfigMap().get(ConfigParameter.RECONNECT_DELAY));
     }
 
     @Test
@@ -22,12 +22,15 @@
 package de.novanic.eventservice.service;
 
 import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.strategy.connector.streaming.DefaultStreamingClientConnector;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.client.event.listener.unlisten.DefaultUnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
 import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
 import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
 import de.novanic.eventservice.service.connection.id.SessionExtendedConnectionIdGenerator;
 import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
@@ -38,6 +41,8 @@ import de.novanic.eventservice.test.testhelper.*;
 import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
 import de.novanic.eventservice.EventServiceServerThreadingTest;
 import de.novanic.eventservice.config.ConfigParameter;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.exception.ServiceOverloadedException;
 import de.novanic.eventservice.config.EventServiceConfigurationFactory;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.config.loader.PropertyConfigurationLoader;
@@ -145,6 +150,18 @@ public class EventServiceImplTest extends EventServiceServerThreadingTest
         assertEquals("test_user_id", theEventServiceConfigurationTransferable.getConnectionId());
     }
 
+    @Test
+    public void testInitEventService_ReconnectDelay() throws Exception {
+        setUp(createConfiguration(LongPollingServerConnector.class.getName(), 500, 30000, null));
+
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        EventServiceConfigurationTransferable theEventServiceConfigurationTransferable = myEventService.initEventService();
+        assertEquals(Integer.valueOf(500), theEventServiceConfigurationTransferable.getReconnectDelay());
+        assertEquals(Integer.valueOf(30000), theEventServiceConfigurationTransferable.getReconnectDelayMax());
+    }
+
     @Test
     public void testInitEventService_Error() throws Exception {
         setUp(createConfiguration(0, 30000, 90000, SessionExtendedConnectionIdGenerator.class.getName(), LongPollingServerConnector.class.getName()));
@@ -785,6 +802,88 @@ public class EventServiceImplTest extends EventServiceServerThreadingTest
         assertEquals(0, myEventService.getActiveListenDomains().size());
     }
 
+    @Test
+    public void testAddEvents() throws Exception {
+        initEventService();
+
+        tearDownEventServiceConfiguration();
+        setUp(createConfiguration(0, 300, 9999));
+        myEventService = new DummyEventServiceImpl();
+
+        myEventService.register(TEST_DOMAIN);
+
+        List<Event> theEvents = new ArrayList<Event>();
+        theEvents.add(new ListenCycleCancelEvent());
+        theEvents.add(new ListenCycleCancelEvent());
+        theEvents.add(new ListenCycleCancelEvent());
+        myEventService.addEvents(TEST_DOMAIN, theEvents);
+        myEventService.addEvents(TEST_DOMAIN_2, theEvents);
+        //NULL is handled like an empty list
+        myEventService.addEvents(TEST_DOMAIN, null);
+
+        assertEquals(3, myEventService.listen().size());
+        Thread.sleep(400);
+        assertEquals(0, myEventService.listen().size());
+    }
+
+    @Test
+    public void testExecuteBatch() throws Exception {
+        initEventService();
+
+        tearDownEventServiceConfiguration();
+        setUp(createConfiguration(0, 300, 9999));
+        myEventService = new DummyEventServiceImpl();
+
+        List<EventServiceOperation> theOperations = new ArrayList<EventServiceOperation>();
+        theOperations.add(EventServiceOperation.register(TEST_DOMAIN, null));
+        theOperations.add(EventServiceOperation.register(TEST_DOMAIN_2, null));
+        theOperations.add(EventServiceOperation.register(TEST_DOMAIN_3, new EventFilterTestMode()));
+        theOperations.add(EventServiceOperation.addEvent(TEST_DOMAIN, new ListenCycleCancelEvent()));
+
+        List<String> theResults = myEventService.executeBatch(theOperations);
+        assertEquals(4, theResults.size());
+        for(String theResult: theResults) {
+            assertNull(theResult);
+        }
+
+        assertEquals(3, myEventService.getActiveListenDomains().size());
+        assertNull(myEventService.getEventFilter(TEST_DOMAIN));
+        assertNotNull(myEventService.getEventFilter(TEST_DOMAIN_3));
+        assertEquals(1, myEventService.listen().size());
+
+        theOperations.clear();
+        theOperations.add(EventServiceOperation.deregisterEventFilter(TEST_DOMAIN_3));
+        theOperations.add(EventServiceOperation.unlisten(TEST_DOMAIN));
+        theOperations.add(EventServiceOperation.unlisten(new HashSet<Domain>(Arrays.asList(TEST_DOMAIN_2))));
+
+        theResults = myEventService.executeBatch(theOperations);
+        assertEquals(3, theResults.size());
+        for(String theResult: theResults) {
+            assertNull(theResult);
+        }
+
+        assertNull(myEventService.getEventFilter(TEST_DOMAIN_3));
+        assertEquals(1, myEventService.getActiveListenDomains().size());
+        assertEquals(TEST_DOMAIN_3, myEventService.getActiveListenDomains().iterator().next());
+    }
+
+    @Test
+    public void testExecuteBatch_Error() throws Exception {
+        initEventService();
+
+        List<EventServiceOperation> theOperations = new ArrayList<EventServiceOperation>();
+        theOperations.add(new EventServiceOperation()); //invalid operation without a type
+        theOperations.add(EventServiceOperation.register(TEST_DOMAIN, null));
+
+        List<String> theResults = myEventService.executeBatch(theOperations);
+        assertEquals(2, theResults.size());
+        assertNotNull(theResults.get(0));
+        assertNull(theResults.get(1));
+
+        //the following operations are executed although the first operation failed
+        assertEquals(1, myEventService.getActiveListenDomains().size());
+    }
+
     @Test
     public void testDoGet() throws Exception {
         initEventService();
@@ -845,6 +944,132 @@ public class EventServiceImplTest extends EventServiceServerThreadingTest
         assertTrue(theStreamedEvents.contains("DummyEvent"));
     }
 
+    @Test
+    public void testDoGet_Overloaded() throws Exception {
+        setUp(createConfiguration(StreamingServerConnector.class.getName(), null, null, 0));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        HttpServletRequest theRequestMock = mock(HttpServletRequest.class);
+        HttpServletResponse theResponseMock = mock(HttpServletResponse.class);
+        HttpSession theSessionMock = mock(HttpSession.class);
+
+        when(theRequestMock.getSession(false)).thenReturn(theSessionMock);
+        when(theSessionMock.getId()).thenReturn(TEST_USER_ID);
+
+        final ByteArrayOutputStream theByteArrayOutputStream = new ByteArrayOutputStream();
+        ServletOutputStream theOutputStream = new DummyServletOutputStream(theByteArrayOutputStream);
+
+        when(theResponseMock.getOutputStream()).thenReturn(theOutputStream);
+
+        myEventService.register(TEST_DOMAIN);
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        myEventService.doGet(theRequestMock, theResponseMock);
+
+        verify(theResponseMock).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(theResponseMock).setHeader("Retry-After", "1");
+        //the max. waiting time is the retry hint when no max. reconnect delay is configured
+        assertEquals("500", theByteArrayOutputStream.toString());
+    }
+
+    @Test
+    public void testListen_Overloaded() throws Exception {
+        setUp(createConfiguration(LongPollingServerConnector.class.getName(), 500, 4000, 0));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        myEventService.register(TEST_DOMAIN);
+        try {
+            myEventService.listen();
+            fail(ServiceOverloadedException.class.getName() + " expected, because no listen request is allowed!");
+        } catch(ServiceOverloadedException e) {
+            assertEquals(4000, e.getRetryAfter());
+        }
+
+        tearDownEventServiceConfiguration();
+        setUp(createConfiguration(LongPollingServerConnector.class.getName(), 500, 4000, 1));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        myEventService.register(TEST_DOMAIN);
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+        //one listen request is allowed and the request count is released after the listen request
+        assertEquals(1, myEventService.listen().size());
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(1, myEventService.listen().size());
+    }
+
+    @Test
+    public void testDoGet_Streaming_Requested() throws Exception {
+        setUp(createConfiguration(0, 500, 90000, LongPollingServerConnector.class.getName()));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        HttpServletRequest theRequestMock = mock(HttpServletRequest.class);
+        HttpServletResponse theResponseMock = mock(HttpServletResponse.class);
+        HttpSession theSessionMock = mock(HttpSession.class);
+
+        when(theRequestMock.getSession(false)).thenReturn(theSessionMock);
+        when(theRequestMock.getParameter(DefaultStreamingClientConnector.STRATEGY_PARAMETER)).thenReturn(DefaultStreamingClientConnector.STREAMING_STRATEGY);
+        when(theSessionMock.getId()).thenReturn(TEST_USER_ID);
+
+        final ByteArrayOutputStream theByteArrayOutputStream = new ByteArrayOutputStream();
+        ServletOutputStream theOutputStream = new DummyServletOutputStream(theByteArrayOutputStream);
+
+        when(theResponseMock.getOutputStream()).thenReturn(theOutputStream);
+
+        myEventService.register(TEST_DOMAIN);
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //the events are streamed, because the client requests streaming, although long-polling is configured
+        myEventService.doGet(theRequestMock, theResponseMock);
+
+        myEventService.unlisten(TEST_DOMAIN);
+
+        final String theStreamedEvents = theByteArrayOutputStream.toString();
+        assertTrue(theStreamedEvents.contains("test_domain"));
+        assertTrue(theStreamedEvents.contains("DummyEvent"));
+    }
+
+    @Test
+    public void testDoGet_Streaming_NotRequested() throws Exception {
+        setUp(createConfiguration(0, 500, 90000, LongPollingServerConnector.class.getName()));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        HttpServletRequest theRequestMock = mock(HttpServletRequest.class);
+        HttpServletResponse theResponseMock = mock(HttpServletResponse.class);
+        HttpSession theSessionMock = mock(HttpSession.class);
+
+        when(theRequestMock.getSession(false)).thenReturn(theSessionMock);
+        when(theRequestMock.getParameter(DefaultStreamingClientConnector.STRATEGY_PARAMETER)).thenReturn("long-polling");
+        when(theSessionMock.getId()).thenReturn(TEST_USER_ID);
+
+        myEventService.register(TEST_DOMAIN);
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //nothing is streamed, because long-polling is configured and the client doesn't request streaming
+        myEventService.doGet(theRequestMock, theResponseMock);
+        verify(theResponseMock, never()).getOutputStream();
+
+        //the event is still available for the next listen call
+        assertEquals(1, myEventService.listen().size());
+    }
+
+    @Test
+    public void testListen_Streaming_Configured() throws Exception {
+        setUp(createConfiguration(0, 500, 90000, StreamingServerConnector.class.getName()));
+        myEventService = new DummyEventServiceImpl();
+        super.setUp(myEventService);
+
+        myEventService.register(TEST_DOMAIN);
+        myEventService.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //the server call is answered with long-polling, because the events can't be streamed with a server call
+        assertEquals(1, myEventService.listen().size());
+    }
+
     @Test
     public void testDoGet_Streaming_Error() throws Exception {
         initEventService();
@@ -909,6 +1134,15 @@ public class EventServiceImplTest extends EventServiceServerThreadingTest
         }
     }
 
+    private EventServiceConfiguration createConfiguration(String aConnectionStrategyServerConnectorClassName, Integer aReconnectDelay, Integer aReconnectDelayMax, Integer aMaxListenRequests) {
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 500, 90000, 0, SessionConnectionIdGenerator.class.getName(), null,
+                aConnectionStrategyServerConnectorClassName, "utf-8", 100000);
+        theConfiguration.setReconnectDelay(aReconnectDelay);
+        theConfiguration.setReconnectDelayMax(aReconnectDelayMax);
+        theConfiguration.setMaxListenRequests(aMaxListenRequests);
+        return theConfiguration;
+    }
+
     private void initEventService() throws Exception {
         setUp(createConfiguration(0, 30000, 90000));
 
@@ -80,6 +80,7 @@ public class RemoteEventServiceServletTest extends EventExecutorServiceTest_A
 
         try {
             theServletOriginal.addEvent(DomainFactory.getDomain("X"), new Event() {});
+            theServletOriginal.addEvents(DomainFactory.getDomain("X"), null);
         } catch(Exception e) {
             fail("No Exception expected, because the HTTPRequest shouldn't be used!");
         }
@@ -0,0 +1,181 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.connection.strategy.connector.longpolling;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnectorTest;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+@RunWith(JUnit4.class)
+public class PipelinedLongPollingServerConnectorTest extends ConnectionStrategyServerConnectorTest
+{
+    @Test
+    public void testListen() throws Exception {
+        final Domain theDomain = DomainFactory.getDomain("test_domain");
+        final UserInfo theUserInfo = new UserInfo("test_user");
+
+        //without a sequence number, the connector listens like the usual long-polling connector
+        PipelinedLongPollingServerConnector theServerConnector = new PipelinedLongPollingServerConnector(createConfiguration(0, 2000, 90000));
+
+        ListenRunnable theListenRunnable = new ListenRunnable(theServerConnector, theUserInfo);
+        Thread theListenThread = new Thread(theListenRunnable);
+        theListenThread.start();
+
+        theUserInfo.addEvent(theDomain, new DummyEvent());
+
+        theListenThread.join();
+
+        ListenResult theListenResult = theListenRunnable.getListenResult();
+        assertEquals(1, theListenResult.getEvents().size());
+        assertTrue(theListenResult.getDuration() < 500);
+        assertEquals(0, theUserInfo.getListenPipeline().getNextSequenceNumber());
+    }
+
+    @Test
+    public void testListen_Pipelined() throws Exception {
+        final Domain theDomain = DomainFactory.getDomain("test_domain");
+        final UserInfo theUserInfo = new UserInfo("test_user");
+
+        PipelinedLongPollingServerConnector theServerConnector = new PipelinedLongPollingServerConnector(createConfiguration(0, 2000, 90000));
+        PipelinedLongPollingServerConnector theServerConnector_1 = (PipelinedLongPollingServerConnector)theServerConnector.clone();
+        theServerConnector_1.prepare(0);
+        PipelinedLongPollingServerConnector theServerConnector_2 = (PipelinedLongPollingServerConnector)theServerConnector.clone();
+        theServerConnector_2.prepare(1);
+
+        //the second listen request arrives first and parks
+        ListenRunnable theListenRunnable_2 = new ListenRunnable(theServerConnector_2, theUserInfo);
+        Thread theListenThread_2 = new Thread(theListenRunnable_2);
+        theListenThread_2.start();
+        Thread.sleep(100);
+        assertFalse(theUserInfo.getListenPipeline().isHeld());
+
+        ListenRunnable theListenRunnable_1 = new ListenRunnable(theServerConnector_1, theUserInfo);
+        Thread theListenThread_1 = new Thread(theListenRunnable_1);
+        theListenThread_1.start();
+        Thread.sleep(100);
+        assertTrue(theUserInfo.getListenPipeline().isHeld());
+
+        //the first listen request holds the events
+        final DummyEvent theEvent_1 = new DummyEvent();
+        theUserInfo.addEvent(theDomain, theEvent_1);
+        theListenThread_1.join();
+
+        ListenResult theListenResult_1 = theListenRunnable_1.getListenResult();
+        assertEquals(1, theListenResult_1.getEvents().size());
+        assertSame(theEvent_1, theListenResult_1.getEvents().get(0).getEvent());
+        assertTrue(theListenThread_2.isAlive());
+
+        //the second listen request holds the events after the first listen request
+        final DummyEvent theEvent_2 = new DummyEvent();
+        theUserInfo.addEvent(theDomain, theEvent_2);
+        theListenThread_2.join();
+
+        ListenResult theListenResult_2 = theListenRunnable_2.getListenResult();
+        assertEquals(1, theListenResult_2.getEvents().size());
+        assertSame(theEvent_2, theListenResult_2.getEvents().get(0).getEvent());
+        assertTrue(theListenResult_2.getDuration() < 1500);
+
+        assertEquals(2, theUserInfo.getListenPipeline().getNextSequenceNumber());
+        assertFalse(theUserInfo.getListenPipeline().isHeld());
+    }
+
+    @Test
+    public void testListen_Pipelined_MissingRequest() throws Exception {
+        final Domain theDomain = DomainFactory.getDomain("test_domain");
+        final UserInfo theUserInfo = new UserInfo("test_user");
+
+        PipelinedLongPollingServerConnector theServerConnector = new PipelinedLongPollingServerConnector(createConfiguration(0, 300, 90000));
+        theServerConnector.prepare(1);
+
+        theUserInfo.addEvent(theDomain, new DummyEvent());
+
+        //the listen request with the sequence number 0 doesn't arrive, so the turn is taken over after the max. waiting time
+        ListenRunnable theListenRunnable = new ListenRunnable(theServerConnector, theUserInfo);
+        Thread theListenThread = new Thread(theListenRunnable);
+        theListenThread.start();
+        theListenThread.join();
+
+        ListenResult theListenResult = theListenRunnable.getListenResult();
+        assertEquals(1, theListenResult.getEvents().size());
+        assertTrue(theListenResult.getDuration() >= 250);
+        assertEquals(2, theUserInfo.getListenPipeline().getNextSequenceNumber());
+    }
+
+    @Test
+    public void testListen_Pipelined_MissingRequest_NoEvents() throws Exception {
+        final UserInfo theUserInfo = new UserInfo("test_user");
+
+        PipelinedLongPollingServerConnector theServerConnector = new PipelinedLongPollingServerConnector(createConfiguration(0, 300, 90000));
+        theServerConnector.prepare(1);
+
+        //the turn is taken over after the max. waiting time, so the listen request doesn't wait for events again
+        ListenRunnable theListenRunnable = new ListenRunnable(theServerConnector, theUserInfo);
+        Thread theListenThread = new Thread(theListenRunnable);
+        theListenThread.start();
+        theListenThread.join();
+
+        ListenResult theListenResult = theListenRunnable.getListenResult();
+        assertEquals(0, theListenResult.getEvents().size());
+        assertTrue(theListenResult.getDuration() >= 250);
+        assertTrue(theListenResult.getDuration() < 550);
+        assertFalse(theUserInfo.getListenPipeline().isHeld());
+    }
+
+    @Test
+    public void testListen_Pipelined_Held() throws Exception {
+        final UserInfo theUserInfo = new UserInfo("test_user");
+
+        PipelinedLongPollingServerConnector theServerConnector = new PipelinedLongPollingServerConnector(createConfiguration(0, 300, 90000));
+        theServerConnector.prepare(1);
+
+        //another listen request holds the events, so no events are returned after the max. waiting time
+        assertTrue(theUserInfo.getListenPipeline().acquire(0, 0));
+        theUserInfo.addEvent(DomainFactory.getDomain("test_domain"), new DummyEvent());
+
+        ListenRunnable theListenRunnable = new ListenRunnable(theServerConnector, theUserInfo);
+        Thread theListenThread = new Thread(theListenRunnable);
+        theListenThread.start();
+        theListenThread.join();
+
+        ListenResult theListenResult = theListenRunnable.getListenResult();
+        assertEquals(0, theListenResult.getEvents().size());
+        assertEquals(1, theUserInfo.getEventCount());
+        assertTrue(theUserInfo.getListenPipeline().isHeld());
+    }
+
+    @Test
+    public void testGetEncoding() throws Exception {
+        testGetEncoding(PipelinedLongPollingServerConnector.class);
+    }
+}
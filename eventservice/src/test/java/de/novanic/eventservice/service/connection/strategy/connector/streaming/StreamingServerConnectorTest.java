@@ -105,6 +105,8 @@ public class StreamingServerConnectorTest extends ConnectionStrategyServerConnec
         assertFalse(theByteArrayOutputStream.toString().contains("test_domain_2"));
 
         final String theOutput = theByteArrayOutputStream.toString();
+        //the domain is streamed as a header in front of the serialized event
+        assertTrue(theOutput.contains("receiveEvent('#11#test_domain"));
         assertContainsScriptReceivedEvent(theOutput);
         assertContainsScriptCycle(theOutput);
     }
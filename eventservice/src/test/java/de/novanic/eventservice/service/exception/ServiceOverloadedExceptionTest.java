@@ -0,0 +1,59 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.exception;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:00:29
+ */
+@RunWith(JUnit4.class)
+public class ServiceOverloadedExceptionTest
+{
+    @Test
+    public void testInit() {
+        try {
+            throw new ServiceOverloadedException(2500);
+        } catch(ServiceOverloadedException e) {
+            assertEquals("The service is overloaded! Retry after 2500ms.", e.getMessage());
+            assertEquals(2500, e.getRetryAfter());
+            assertNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void testInit_2() {
+        final String theErrorMessage = "testServiceOverloadedExceptionMessage";
+        try {
+            throw new ServiceOverloadedException(theErrorMessage, 100);
+        } catch(ServiceOverloadedException e) {
+            assertEquals(theErrorMessage, e.getMessage());
+            assertEquals(100, e.getRetryAfter());
+        }
+    }
+}
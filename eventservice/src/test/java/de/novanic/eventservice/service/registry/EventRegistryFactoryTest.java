@@ -22,12 +22,22 @@
 package de.novanic.eventservice.service.registry;
 
 import de.novanic.eventservice.client.config.ConfigurationException;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.config.EventServiceConfiguration;
 import de.novanic.eventservice.config.EventServiceConfigurationFactory;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
 import de.novanic.eventservice.config.loader.ConfigurationLoader;
+import de.novanic.eventservice.config.loader.CustomConfigurationLoaderTestMode;
 import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.remote.EventRegistryServer;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
 import de.novanic.eventservice.service.registry.user.UserManager;
 import de.novanic.eventservice.service.registry.user.UserManagerFactory;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
 import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
 import de.novanic.eventservice.util.PlatformUtil;
 import org.junit.After;
@@ -35,10 +45,15 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 import java.util.logging.Level;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import static org.junit.Assert.*;
 
@@ -99,6 +114,20 @@ public class EventRegistryFactoryTest extends EventServiceTestCase
         assertNotNull(theUserManager.getUser(theTestUserId)); //not cleaned-up by the user-activity scheduler, because the EventRegistry got stopped
     }
 
+    @Test
+    public void testStatisticsMBean() throws Exception {
+        MBeanServer theMBeanServer = ManagementFactory.getPlatformMBeanServer();
+        EventRegistry theEventRegistry = EventRegistryFactory.getInstance().getEventRegistry();
+        ObjectName theObjectName = new ObjectName(((DefaultEventRegistry)theEventRegistry).getStatistics().getObjectName());
+        assertTrue(theMBeanServer.isRegistered(theObjectName));
+
+        theEventRegistry.registerUser(null, "TestUser1", null);
+        assertEquals(1, theMBeanServer.getAttribute(theObjectName, "UserCount"));
+
+        EventRegistryFactory.getInstance().resetEventRegistry();
+        assertFalse(theMBeanServer.isRegistered(theObjectName));
+    }
+
     @Test
     public void testInit() {
         EventRegistryFactory theEventRegistryFactory = EventRegistryFactory.getInstance();
@@ -144,6 +173,62 @@ public class EventRegistryFactoryTest extends EventServiceTestCase
         }
     }
 
+    @Test
+    public void testRelay() throws Exception {
+        final Domain theDomain = DomainFactory.getDomain("test_domain");
+        final String theSecret = "test_secret";
+
+        EventServiceConfiguration theUpstreamConfiguration = createConfiguration(0, 300, 90000);
+        UserManager theUpstreamUserManager = new DefaultUserManager(theUpstreamConfiguration.getTimeoutTime());
+        EventRegistry theUpstreamEventRegistry = new DefaultEventRegistry(theUpstreamConfiguration, theUpstreamUserManager) {};
+        EventRegistryServer theEventRegistryServer = new EventRegistryServer(theUpstreamEventRegistry, 0, theSecret);
+        theEventRegistryServer.start();
+        try {
+            setUpRelayConfiguration("localhost:" + theEventRegistryServer.getPort(), "test_domain, test_domain_2", theSecret);
+
+            EventRegistry theEventRegistry = EventRegistryFactory.getInstance().getEventRegistry();
+            assertTrue(theEventRegistry instanceof DefaultEventRegistry);
+            theEventRegistry.registerUser(theDomain, "TestUser1", null);
+
+            //the relay is the only client of the upstream registry
+            assertEquals(1, theUpstreamEventRegistry.getRegisteredUserIds(theDomain).size());
+            for(int i = 0; i < 3; i++) {
+                theUpstreamEventRegistry.addEvent(theDomain, new DummyEvent());
+            }
+
+            //the events are relayed asynchronously
+            List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+            final long theEndTime = PlatformUtil.getCurrentTime() + 5000;
+            while(theEvents.size() < 3 && PlatformUtil.getCurrentTime() < theEndTime) {
+                theEvents.addAll(theEventRegistry.listen(getLongPollingListener(), "TestUser1"));
+                Thread.sleep(10);
+            }
+            assertEquals(3, theEvents.size());
+
+            //the relay is deregistered from the upstream registry
+            EventRegistryFactory.getInstance().resetEventRegistry();
+            assertTrue(theUpstreamEventRegistry.getRegisteredUserIds().isEmpty());
+        } finally {
+            theEventRegistryServer.stop();
+            theUpstreamUserManager.reset();
+        }
+    }
+
+    @Test
+    public void testRelay_Error() {
+        setUpRelayConfiguration("localhost:4712", null, "test_secret");
+        try {
+            EventRegistryFactory.getInstance().getEventRegistry();
+            fail("Exception expected, because no domains to relay are configured!");
+        } catch(ConfigurationException e) {}
+
+        setUpRelayConfiguration("localhost:4712", "test_domain", null);
+        try {
+            EventRegistryFactory.getInstance().getEventRegistry();
+            fail("Exception expected, because the secret is missing!");
+        } catch(ConfigurationException e) {}
+    }
+
     @Test
     public void testGetEventRegistryError() {
         EventServiceConfigurationFactory.getInstance().addCustomConfigurationLoader(new TestErrorConfigurationLoader());
@@ -154,6 +239,17 @@ public class EventRegistryFactoryTest extends EventServiceTestCase
         } catch(ConfigurationException e) {}
     }
 
+    private void setUpRelayConfiguration(String anUpstreamAddress, String aDomains, String aSecret) {
+        tearDownEventServiceConfiguration();
+        FactoryResetService.resetFactory(UserManagerFactory.class);
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 90000, 0, SessionConnectionIdGenerator.class.getName(), null,
+                LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setRemoteRegistrySecret(aSecret);
+        theConfiguration.setRelayUpstreamAddress(anUpstreamAddress);
+        theConfiguration.setRelayDomains(aDomains);
+        EventServiceConfigurationFactory.getInstance().addCustomConfigurationLoader(new CustomConfigurationLoaderTestMode(theConfiguration));
+    }
+
     private class TestLoggingHandler extends Handler
     {
         private String myLastMessage;
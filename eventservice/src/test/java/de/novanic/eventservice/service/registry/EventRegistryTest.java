@@ -21,15 +21,19 @@
  */
 package de.novanic.eventservice.service.registry;
 
+import de.novanic.eventservice.client.config.ConfigurationException;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.Event;
 import de.novanic.eventservice.client.event.DomainEvent;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.DefaultUnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
 import de.novanic.eventservice.service.registry.user.UserInfo;
 import de.novanic.eventservice.service.registry.user.UserManager;
 import de.novanic.eventservice.service.registry.user.UserManagerFactory;
@@ -37,6 +41,9 @@ import de.novanic.eventservice.test.testhelper.DummyEvent;
 import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
 import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
 import de.novanic.eventservice.service.DefaultEventExecutorService;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
 import de.novanic.eventservice.EventServiceServerThreadingTest;
 import de.novanic.eventservice.util.PlatformUtil;
 import org.junit.After;
@@ -2097,6 +2104,225 @@ public class EventRegistryTest extends EventServiceServerThreadingTest
         checkLog(1);
     }
 
+    @Test
+    public void testDomainHistory() {
+        myEventRegistry.registerDomainHistory(TEST_DOMAIN, 2, 0);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(3, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID).size());
+
+        //the late joiner gets the last two events with the registration
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        assertEquals(2, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID_2).size());
+
+        //no replay for a repeated registration
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(1, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID_2).size());
+    }
+
+    @Test
+    public void testDomainHistory_EventFilter() {
+        myEventRegistry.registerDomainHistory(TEST_DOMAIN, 10, 0);
+
+        for(int i = 0; i < 4; i++) {
+            myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        }
+
+        //every second event is filtered by the EventFilter
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, new EventFilterTestMode());
+        assertEquals(2, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID).size());
+    }
+
+    @Test
+    public void testDeregisterDomainHistory() {
+        myEventRegistry.registerDomainHistory(TEST_DOMAIN, 10, 0);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.deregisterDomainHistory(TEST_DOMAIN);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        assertTrue(myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID).isEmpty());
+    }
+
+    @Test
+    public void testDomainHistory_Configured() {
+        EventRegistry theEventRegistry = createEventRegistry(TEST_DOMAIN.getName() + ":2, " + TEST_DOMAIN_2.getName() + ":5:60000");
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener();
+
+        for(int i = 0; i < 3; i++) {
+            theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+            theEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        }
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertEquals(2, theEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+
+        theEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID_2, null);
+        assertEquals(3, theEventRegistry.listen(theServerConnector, TEST_USER_ID_2).size());
+    }
+
+    @Test
+    public void testDomainHistory_Configured_Error() {
+        try {
+            createEventRegistry(TEST_DOMAIN.getName());
+            fail(ConfigurationException.class.getName() + " expected, because the max. events are missing!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            createEventRegistry(TEST_DOMAIN.getName() + ":xy");
+            fail(ConfigurationException.class.getName() + " expected, because the max. events aren't numeric!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            createEventRegistry(TEST_DOMAIN.getName() + ":0");
+            fail(ConfigurationException.class.getName() + " expected, because the max. events have to be greater than 0!");
+        } catch(ConfigurationException e) {}
+    }
+
+    @Test
+    public void testSharedEventLog() {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 99999999, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setSharedEventLog(true);
+        EventRegistry theEventRegistry = new DefaultEventRegistry(theConfiguration, new DefaultUserManager(theConfiguration.getTimeoutTime())) {};
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(theConfiguration);
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        theEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID, null);
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, new EventFilterTestMode());
+
+        DummyEvent theEvent_1 = new DummyEvent();
+        DummyEvent theEvent_2 = new DummyEvent();
+        DummyEvent theEvent_3 = new DummyEvent();
+        theEventRegistry.addEvent(TEST_DOMAIN, theEvent_1);
+        theEventRegistry.addEvent(TEST_DOMAIN_2, theEvent_2);
+        theEventRegistry.addEvent(TEST_DOMAIN, theEvent_3);
+
+        List<DomainEvent> theEvents = theEventRegistry.listen(theServerConnector, TEST_USER_ID);
+        assertEquals(3, theEvents.size());
+        assertEquals(theEvent_1, theEvents.get(0).getEvent());
+        assertEquals(TEST_DOMAIN_2, theEvents.get(1).getDomain());
+        assertEquals(theEvent_2, theEvents.get(1).getEvent());
+        assertEquals(theEvent_3, theEvents.get(2).getEvent());
+
+        //every second event is filtered by the EventFilter
+        assertEquals(1, theEventRegistry.listen(theServerConnector, TEST_USER_ID_2).size());
+
+        //the user doesn't read the log of the domain anymore
+        theEventRegistry.unlisten(TEST_DOMAIN, TEST_USER_ID);
+        theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        theEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        theEvents = theEventRegistry.listen(theServerConnector, TEST_USER_ID);
+        assertEquals(1, theEvents.size());
+        assertEquals(TEST_DOMAIN_2, theEvents.get(0).getDomain());
+    }
+
+    @Test
+    public void testSharedEventLog_DomainHistory() {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 99999999, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setSharedEventLog(true);
+        EventRegistry theEventRegistry = new DefaultEventRegistry(theConfiguration, new DefaultUserManager(theConfiguration.getTimeoutTime())) {};
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(theConfiguration);
+
+        theEventRegistry.registerDomainHistory(TEST_DOMAIN, 2, 0);
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        for(int i = 0; i < 3; i++) {
+            theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        }
+        assertEquals(3, theEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+
+        //the late joiner gets the recorded events once and the following events from the log
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(3, theEventRegistry.listen(theServerConnector, TEST_USER_ID_2).size());
+        assertEquals(1, theEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+    }
+
+    @Test
+    public void testAddEvents() {
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, new EventFilterTestMode());
+        myEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID_3, null);
+
+        List<Event> theEvents = new ArrayList<Event>();
+        for(int i = 0; i < 4; i++) {
+            theEvents.add(new DummyEvent());
+        }
+        final EventRegistryStatistics theStatistics = ((DefaultEventRegistry)myEventRegistry).getStatistics();
+        final long thePublishedEventCount = theStatistics.getPublishedEventCount();
+        myEventRegistry.addEvents(TEST_DOMAIN, theEvents);
+        assertEquals(thePublishedEventCount + 4, theStatistics.getPublishedEventCount());
+
+        List<DomainEvent> theDomainEvents = myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID);
+        assertEquals(4, theDomainEvents.size());
+        for(int i = 0; i < 4; i++) {
+            assertSame(theEvents.get(i), theDomainEvents.get(i).getEvent());
+        }
+
+        //every second event is filtered by the EventFilter
+        assertEquals(2, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID_2).size());
+        //the user isn't registered for the domain
+        assertTrue(myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID_3).isEmpty());
+
+        myEventRegistry.addEvents(TEST_DOMAIN, new ArrayList<Event>());
+        myEventRegistry.addEvents(TEST_DOMAIN, null);
+        assertEquals(thePublishedEventCount + 4, theStatistics.getPublishedEventCount());
+    }
+
+    @Test
+    public void testAddEvents_DomainHistory() {
+        myEventRegistry.registerDomainHistory(TEST_DOMAIN, 10, 0);
+
+        List<Event> theEvents = new ArrayList<Event>();
+        for(int i = 0; i < 3; i++) {
+            theEvents.add(new DummyEvent());
+        }
+        myEventRegistry.addEvents(TEST_DOMAIN, theEvents);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertEquals(3, myEventRegistry.listen(getLongPollingListener(), TEST_USER_ID).size());
+    }
+
+    @Test
+    public void testAddEvents_SharedEventLog() {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 99999999, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setSharedEventLog(true);
+        EventRegistry theEventRegistry = new DefaultEventRegistry(theConfiguration, new DefaultUserManager(theConfiguration.getTimeoutTime())) {};
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(theConfiguration);
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, new EventFilterTestMode());
+
+        List<Event> theEvents = new ArrayList<Event>();
+        for(int i = 0; i < 4; i++) {
+            theEvents.add(new DummyEvent());
+        }
+        theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        theEventRegistry.addEvents(TEST_DOMAIN, theEvents);
+
+        List<DomainEvent> theDomainEvents = theEventRegistry.listen(theServerConnector, TEST_USER_ID);
+        assertEquals(5, theDomainEvents.size());
+        for(int i = 0; i < 4; i++) {
+            assertSame(theEvents.get(i), theDomainEvents.get(i + 1).getEvent());
+        }
+        //every second event of the five events is filtered by the EventFilter
+        assertEquals(3, theEventRegistry.listen(theServerConnector, TEST_USER_ID_2).size());
+    }
+
+    private static EventRegistry createEventRegistry(String aDomainHistories) {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 99999999, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setDomainHistories(aDomainHistories);
+        return new DefaultEventRegistry(theConfiguration, new DefaultUserManager(theConfiguration.getTimeoutTime())) {};
+    }
+
     private void checkLog(int anExpectedLogSize, String... anExpectedLogMessageList) {
         assertEquals(anExpectedLogSize, myTestLoggingHandler.getLogMessageSize());
         assertTrue(myTestLoggingHandler.containsMessage(anExpectedLogMessageList));
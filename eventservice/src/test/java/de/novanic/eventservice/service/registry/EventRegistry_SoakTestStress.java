@@ -0,0 +1,370 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.ConfigurationDependentFactory;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserActivityScheduler;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import de.novanic.eventservice.test.testhelper.SimulatedTimeSource;
+import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
+import de.novanic.eventservice.util.PlatformUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Soak test which drives the register/listen/unlisten/timeout churn of hours of traffic within a few seconds. The time
+ * of the server side is simulated with a {@link de.novanic.eventservice.test.testhelper.SimulatedTimeSource} and the
+ * timeout sweeps of the {@link de.novanic.eventservice.service.registry.user.UserActivityScheduler} are executed by the
+ * test itself. The retained heap is sampled via the {@link java.lang.management.MemoryMXBean} after a forced garbage
+ * collection and the test fails when the live {@link de.novanic.eventservice.service.registry.user.UserInfo} and event
+ * counts or the heap per active user exceed their budgets.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:03:51
+ */
+@RunWith(JUnit4.class)
+public class EventRegistry_SoakTestStress extends EventServiceTestCase
+{
+    private static final int TIMEOUT_TIME = 90000;
+    private static final long SIMULATED_TIME = 6L * 60L * 60L * 1000L;
+    private static final long STEP_TIME = 1000L;
+    private static final long LISTEN_INTERVAL = 10000L;
+    private static final long SAMPLE_INTERVAL = 30L * 60L * 1000L;
+    private static final long MAX_CLIENT_LIFETIME = 20L * 60L * 1000L;
+    private static final int DOMAIN_COUNT = 5;
+    private static final int REGISTRATIONS_PER_STEP = 1;
+    private static final int EVENTS_PER_STEP = 3;
+
+    private static final long MAX_HEAP_PER_USER = 16L * 1024L;
+    private static final long MAX_HEAP_GROWTH = 2L * 1024L * 1024L;
+
+    private SimulatedTimeSource myTimeSource;
+    private UserManager myUserManager;
+    private EventRegistry myEventRegistry;
+    private ConnectionStrategyServerConnector myServerConnector;
+    private Method myCheckTimeoutsMethod;
+    private Domain[] myDomains;
+    private Random myRandom;
+
+    private List<SoakClient> myClients;
+    private LinkedList<Long> myVanishTimes;
+    private List<WeakReference<UserInfo>> myUserInfoReferences;
+    private LinkedList<EventReference> myEventReferences;
+    private int myUserIdSequence;
+
+    @Before
+    public void setUp() throws Exception {
+        myTimeSource = new SimulatedTimeSource(System.currentTimeMillis());
+        PlatformUtil.setTimeSource(myTimeSource);
+
+        myCheckTimeoutsMethod = UserActivityScheduler.class.getDeclaredMethod("checkTimeouts");
+        myCheckTimeoutsMethod.setAccessible(true);
+
+        myDomains = new Domain[DOMAIN_COUNT];
+        for(int i = 0; i < DOMAIN_COUNT; i++) {
+            myDomains[i] = DomainFactory.getDomain("soak_domain_" + i);
+        }
+        myRandom = new Random(4711);
+        myClients = new ArrayList<SoakClient>();
+        myVanishTimes = new LinkedList<Long>();
+        myUserInfoReferences = new ArrayList<WeakReference<UserInfo>>();
+        myEventReferences = new LinkedList<EventReference>();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if(myUserManager != null) {
+            myUserManager.getUserActivityScheduler().stop();
+        }
+        PlatformUtil.setTimeSource(null);
+        FactoryResetService.resetFactory(ConfigurationDependentFactory.class);
+        super.tearDown();
+    }
+
+    @Test
+    public void testSoak() throws Exception {
+        checkSoak(false);
+    }
+
+    @Test
+    public void testSoak_SharedEventLog() throws Exception {
+        checkSoak(true);
+    }
+
+    private void checkSoak(boolean isSharedEventLog) throws Exception {
+        RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 0, TIMEOUT_TIME, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setSharedEventLog(isSharedEventLog);
+        FactoryResetService.resetFactory(ConfigurationDependentFactory.class);
+        myServerConnector = getLongPollingListener(theConfiguration);
+        myUserManager = new DefaultUserManager(theConfiguration.getTimeoutTime());
+        myEventRegistry = new DefaultEventRegistry(theConfiguration, myUserManager) {};
+        //the timeout sweeps are executed with the simulated time
+        myUserManager.deactivateUserActivityScheduler();
+
+        //warm-up to load the classes before the baseline is sampled
+        simulate(TIMEOUT_TIME);
+        finishClients();
+        final long theBaselineHeap = measureHeap();
+
+        long theNextSampleTime = myTimeSource.getCurrentTime() + SAMPLE_INTERVAL;
+        final long theEndTime = myTimeSource.getCurrentTime() + SIMULATED_TIME;
+        while(myTimeSource.getCurrentTime() < theEndTime) {
+            simulate(SAMPLE_INTERVAL);
+            if(myTimeSource.getCurrentTime() >= theNextSampleTime) {
+                final long theHeap = measureHeap();
+                checkBudgets(theBaselineHeap, theHeap);
+                theNextSampleTime += SAMPLE_INTERVAL;
+            }
+        }
+
+        //all clients are gone, so nothing may be retained except the last entries of the domain logs
+        finishClients();
+        assertTrue(myEventRegistry.getRegisteredUserIds().isEmpty());
+        assertEquals(0, myUserManager.getUserCount());
+        final long theHeap = measureHeap();
+        assertEquals(0, getLiveUserInfoCount());
+        assertTrue("Live events: " + getLiveEventCount(), getLiveEventCount() <= DOMAIN_COUNT);
+        assertTrue("Heap growth of " + (theHeap - theBaselineHeap) + " bytes after all clients are gone!",
+                theHeap - theBaselineHeap <= MAX_HEAP_GROWTH);
+    }
+
+    private void simulate(long aTime) throws Exception {
+        final long theEndTime = myTimeSource.getCurrentTime() + aTime;
+        long theNextSweepTime = myTimeSource.getCurrentTime() + TIMEOUT_TIME;
+        while(myTimeSource.getCurrentTime() < theEndTime) {
+            myTimeSource.advance(STEP_TIME);
+            step();
+            if(myTimeSource.getCurrentTime() >= theNextSweepTime) {
+                sweep();
+                theNextSweepTime += TIMEOUT_TIME;
+            }
+        }
+        sweep();
+    }
+
+    private void step() {
+        final long theCurrentTime = myTimeSource.getCurrentTime();
+        for(int i = 0; i < REGISTRATIONS_PER_STEP; i++) {
+            registerClient(theCurrentTime);
+        }
+        for(int i = 0; i < EVENTS_PER_STEP; i++) {
+            Event theEvent = new DummyEvent();
+            myEventRegistry.addEvent(myDomains[myRandom.nextInt(DOMAIN_COUNT)], theEvent);
+            myEventReferences.add(new EventReference(theEvent, theCurrentTime));
+        }
+        if(!myClients.isEmpty()) {
+            Event theEvent = new DummyEvent();
+            myEventRegistry.addEventUserSpecific(myClients.get(myRandom.nextInt(myClients.size())).myUserId, theEvent);
+            myEventReferences.add(new EventReference(theEvent, theCurrentTime));
+        }
+
+        Iterator<SoakClient> theClientIterator = myClients.iterator();
+        while(theClientIterator.hasNext()) {
+            SoakClient theClient = theClientIterator.next();
+            if(theCurrentTime >= theClient.myLeaveTime) {
+                theClientIterator.remove();
+                if(theClient.myIsVanishing) {
+                    //the client disappears without unlisten and has to be removed by the timeout
+                    myVanishTimes.add(theCurrentTime);
+                } else {
+                    myEventRegistry.unlisten(theClient.myUserId);
+                }
+            } else if(theCurrentTime >= theClient.myNextListenTime) {
+                assertNotNull(myEventRegistry.listen(myServerConnector, theClient.myUserId));
+                theClient.myNextListenTime = theCurrentTime + LISTEN_INTERVAL;
+                if(theClient.myUnlistenDomain != null && theCurrentTime >= theClient.myUnlistenTime) {
+                    myEventRegistry.unlisten(theClient.myUnlistenDomain, theClient.myUserId);
+                    theClient.myUnlistenDomain = null;
+                }
+            }
+        }
+    }
+
+    private void registerClient(long aCurrentTime) {
+        final String theUserId = "soak_user_" + myUserIdSequence++;
+        final Domain theDomain = myDomains[myRandom.nextInt(DOMAIN_COUNT)];
+        myEventRegistry.registerUser(theDomain, theUserId, (myRandom.nextInt(4) == 0) ? new EventFilterTestMode() : null);
+
+        final long theLifetime = 1 + (long)(myRandom.nextDouble() * MAX_CLIENT_LIFETIME);
+        SoakClient theClient = new SoakClient(theUserId, aCurrentTime + theLifetime, myRandom.nextInt(3) == 0);
+        if(myRandom.nextBoolean()) {
+            Domain theSecondDomain = myDomains[myRandom.nextInt(DOMAIN_COUNT)];
+            if(!theSecondDomain.equals(theDomain)) {
+                myEventRegistry.registerUser(theSecondDomain, theUserId, null);
+                theClient.myUnlistenDomain = theSecondDomain;
+                theClient.myUnlistenTime = aCurrentTime + theLifetime / 2;
+            }
+        }
+        myClients.add(theClient);
+
+        UserInfo theUserInfo = myUserManager.getUser(theUserId);
+        assertNotNull(theUserInfo);
+        myUserInfoReferences.add(new WeakReference<UserInfo>(theUserInfo));
+    }
+
+    private void sweep() throws Exception {
+        myCheckTimeoutsMethod.invoke(myUserManager.getUserActivityScheduler());
+
+        //every vanished client must be removed at the latest with the second sweep after the vanishing
+        final long theRemovedVanishTime = myTimeSource.getCurrentTime() - 2 * TIMEOUT_TIME;
+        while(!myVanishTimes.isEmpty() && myVanishTimes.getFirst() < theRemovedVanishTime) {
+            myVanishTimes.removeFirst();
+        }
+    }
+
+    private void finishClients() throws Exception {
+        for(SoakClient theClient: myClients) {
+            if(theClient.myIsVanishing) {
+                myVanishTimes.add(myTimeSource.getCurrentTime());
+            } else {
+                myEventRegistry.unlisten(theClient.myUserId);
+            }
+        }
+        myClients.clear();
+        myTimeSource.advance(TIMEOUT_TIME);
+        sweep();
+        myTimeSource.advance(TIMEOUT_TIME + STEP_TIME);
+        sweep();
+        assertTrue(myVanishTimes.isEmpty());
+    }
+
+    private void checkBudgets(long aBaselineHeap, long aHeap) {
+        final int theRegisteredUserCount = myEventRegistry.getRegisteredUserIds().size();
+        assertTrue("Registered users: " + theRegisteredUserCount + ", active: " + myClients.size() + ", vanished: " + myVanishTimes.size(),
+                theRegisteredUserCount <= myClients.size() + myVanishTimes.size());
+        assertEquals(theRegisteredUserCount, myUserManager.getUserCount());
+
+        final int theLiveUserInfoCount = getLiveUserInfoCount();
+        assertTrue("Live UserInfos: " + theLiveUserInfoCount + ", registered: " + theRegisteredUserCount,
+                theLiveUserInfoCount <= theRegisteredUserCount);
+
+        //only the vanished clients may hold events until their timeout, the last entry of every domain log is always referenced
+        final int theOutdatedEventCount = getLiveEventCount(myTimeSource.getCurrentTime() - 2 * TIMEOUT_TIME - STEP_TIME);
+        assertTrue("Outdated live events: " + theOutdatedEventCount, theOutdatedEventCount <= DOMAIN_COUNT);
+
+        final long theHeapPerUser = (aHeap - aBaselineHeap) / Math.max(1, theRegisteredUserCount);
+        assertTrue("Heap per active user: " + theHeapPerUser + " bytes (" + theRegisteredUserCount + " users)",
+                theHeapPerUser <= MAX_HEAP_PER_USER);
+    }
+
+    private int getLiveUserInfoCount() {
+        int theLiveCount = 0;
+        Iterator<WeakReference<UserInfo>> theReferenceIterator = myUserInfoReferences.iterator();
+        while(theReferenceIterator.hasNext()) {
+            if(theReferenceIterator.next().get() != null) {
+                theLiveCount++;
+            } else {
+                theReferenceIterator.remove();
+            }
+        }
+        return theLiveCount;
+    }
+
+    private int getLiveEventCount() {
+        return getLiveEventCount(Long.MAX_VALUE);
+    }
+
+    private int getLiveEventCount(long aMaxPublishTime) {
+        int theLiveCount = 0;
+        Iterator<EventReference> theReferenceIterator = myEventReferences.iterator();
+        while(theReferenceIterator.hasNext()) {
+            EventReference theEventReference = theReferenceIterator.next();
+            if(theEventReference.get() == null) {
+                theReferenceIterator.remove();
+            } else if(theEventReference.myPublishTime <= aMaxPublishTime) {
+                theLiveCount++;
+            }
+        }
+        return theLiveCount;
+    }
+
+    private static long measureHeap() throws InterruptedException {
+        final MemoryMXBean theMemoryBean = ManagementFactory.getMemoryMXBean();
+        long theUsedHeap = Long.MAX_VALUE;
+        //the garbage collection is repeated until the used heap doesn't shrink anymore
+        for(int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(20);
+            final long theCurrentUsedHeap = theMemoryBean.getHeapMemoryUsage().getUsed();
+            if(theCurrentUsedHeap >= theUsedHeap) {
+                break;
+            }
+            theUsedHeap = theCurrentUsedHeap;
+        }
+        return theUsedHeap;
+    }
+
+    private static final class SoakClient
+    {
+        private final String myUserId;
+        private final long myLeaveTime;
+        private final boolean myIsVanishing;
+        private long myNextListenTime;
+        private Domain myUnlistenDomain;
+        private long myUnlistenTime;
+
+        private SoakClient(String aUserId, long aLeaveTime, boolean isVanishing) {
+            myUserId = aUserId;
+            myLeaveTime = aLeaveTime;
+            myIsVanishing = isVanishing;
+        }
+    }
+
+    private static final class EventReference extends WeakReference<Event>
+    {
+        private final long myPublishTime;
+
+        private EventReference(Event anEvent, long aPublishTime) {
+            super(anEvent);
+            myPublishTime = aPublishTime;
+        }
+    }
+}
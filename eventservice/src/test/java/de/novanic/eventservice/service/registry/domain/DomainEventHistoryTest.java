@@ -0,0 +1,106 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.domain;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:02:44
+ */
+@RunWith(JUnit4.class)
+public class DomainEventHistoryTest
+{
+    @Test
+    public void testAddEvent() {
+        DomainEventHistory theDomainEventHistory = new DomainEventHistory(3, 0);
+        assertTrue(theDomainEventHistory.getEvents().isEmpty());
+
+        Event theEvent_1 = new DummyEvent();
+        Event theEvent_2 = new DummyEvent();
+        theDomainEventHistory.addEvent(theEvent_1);
+        theDomainEventHistory.addEvent(theEvent_2);
+
+        List<Event> theEvents = theDomainEventHistory.getEvents();
+        assertEquals(2, theEvents.size());
+        assertSame(theEvent_1, theEvents.get(0));
+        assertSame(theEvent_2, theEvents.get(1));
+
+        //the events are kept after the replay
+        assertEquals(2, theDomainEventHistory.getEvents().size());
+    }
+
+    @Test
+    public void testAddEvent_Overflow() {
+        DomainEventHistory theDomainEventHistory = new DomainEventHistory(3, 0);
+        assertEquals(3, theDomainEventHistory.getMaxEvents());
+
+        Event[] theAddedEvents = new Event[5];
+        for(int i = 0; i < theAddedEvents.length; i++) {
+            theAddedEvents[i] = new DummyEvent();
+            theDomainEventHistory.addEvent(theAddedEvents[i]);
+        }
+
+        //only the last three events are hold in the order of occurrence
+        List<Event> theEvents = theDomainEventHistory.getEvents();
+        assertEquals(3, theEvents.size());
+        assertSame(theAddedEvents[2], theEvents.get(0));
+        assertSame(theAddedEvents[3], theEvents.get(1));
+        assertSame(theAddedEvents[4], theEvents.get(2));
+    }
+
+    @Test
+    public void testAddEvent_Expired() throws Exception {
+        DomainEventHistory theDomainEventHistory = new DomainEventHistory(10, 100);
+        assertEquals(100, theDomainEventHistory.getMaxAge());
+
+        theDomainEventHistory.addEvent(new DummyEvent());
+        theDomainEventHistory.addEvent(new DummyEvent());
+        assertEquals(2, theDomainEventHistory.getEvents().size());
+
+        Thread.sleep(300);
+
+        Event theEvent = new DummyEvent();
+        theDomainEventHistory.addEvent(theEvent);
+
+        List<Event> theEvents = theDomainEventHistory.getEvents();
+        assertEquals(1, theEvents.size());
+        assertSame(theEvent, theEvents.get(0));
+    }
+
+    @Test
+    public void testInit_Error() {
+        try {
+            new DomainEventHistory(0, 0);
+            fail("IllegalArgumentException expected!");
+        } catch(IllegalArgumentException e) {}
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.domain;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:14:48
+ */
+@RunWith(JUnit4.class)
+public class DomainEventLogTest
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    @Test
+    public void testCursor() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        assertEquals(TEST_DOMAIN, theDomainEventLog.getDomain());
+
+        //the event is added before the cursor is created and isn't read
+        theDomainEventLog.addEvent(new DummyEvent());
+
+        DomainEventLog.Cursor theCursor = theDomainEventLog.createCursor();
+        assertEquals(TEST_DOMAIN, theCursor.getDomain());
+        assertFalse(theCursor.hasNext());
+        assertEquals(Long.MAX_VALUE, theCursor.getNextSequence());
+        assertNull(theCursor.next());
+
+        Event theEvent_1 = new DummyEvent();
+        Event theEvent_2 = new DummyEvent();
+        theDomainEventLog.addEvent(theEvent_1);
+        theDomainEventLog.addEvent(theEvent_2);
+
+        assertTrue(theCursor.hasNext());
+        assertSame(theEvent_1, theCursor.next());
+        assertSame(theEvent_2, theCursor.next());
+        assertFalse(theCursor.hasNext());
+        assertNull(theCursor.next());
+    }
+
+    @Test
+    public void testCursor_UnreadEventCount() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        theDomainEventLog.addEvent(new DummyEvent());
+
+        DomainEventLog.Cursor theCursor = theDomainEventLog.createCursor();
+        assertEquals(0, theCursor.getUnreadEventCount());
+
+        theDomainEventLog.addEvent(new DummyEvent());
+        theDomainEventLog.addEvent(new DummyEvent());
+        assertEquals(2, theCursor.getUnreadEventCount());
+
+        final long theTime = System.nanoTime();
+        theCursor.next();
+        assertTrue(theCursor.getAppendTime() <= theTime);
+        assertEquals(1, theCursor.getUnreadEventCount());
+        theCursor.next();
+        assertEquals(0, theCursor.getUnreadEventCount());
+    }
+
+    @Test
+    public void testCursor_NextAppendTime() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        DomainEventLog.Cursor theCursor = theDomainEventLog.createCursor();
+        assertEquals(Long.MAX_VALUE, theCursor.getNextAppendTime());
+
+        final long theTime = System.nanoTime();
+        theDomainEventLog.addEvent(new DummyEvent());
+        theDomainEventLog.addEvent(new DummyEvent());
+        final long theNextAppendTime = theCursor.getNextAppendTime();
+        assertTrue(theNextAppendTime >= theTime);
+
+        theCursor.next();
+        assertEquals(theNextAppendTime, theCursor.getAppendTime());
+        assertTrue(theCursor.getNextAppendTime() >= theNextAppendTime);
+        theCursor.next();
+        assertEquals(Long.MAX_VALUE, theCursor.getNextAppendTime());
+    }
+
+    @Test
+    public void testCursor_Independent() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        DomainEventLog.Cursor theCursor_1 = theDomainEventLog.createCursor();
+        DomainEventLog.Cursor theCursor_2 = theDomainEventLog.createCursor();
+
+        Event theEvent_1 = new DummyEvent();
+        Event theEvent_2 = new DummyEvent();
+        theDomainEventLog.addEvent(theEvent_1);
+        theDomainEventLog.addEvent(theEvent_2);
+
+        //every cursor reads all events
+        assertSame(theEvent_1, theCursor_1.next());
+        assertSame(theEvent_2, theCursor_1.next());
+        assertFalse(theCursor_1.hasNext());
+
+        assertSame(theEvent_1, theCursor_2.next());
+        assertTrue(theCursor_2.hasNext());
+        assertSame(theEvent_2, theCursor_2.next());
+        assertFalse(theCursor_2.hasNext());
+    }
+
+    @Test
+    public void testSequence() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        DomainEventLog theDomainEventLog_2 = new DomainEventLog(TEST_DOMAIN_2);
+        DomainEventLog.Cursor theCursor = theDomainEventLog.createCursor();
+        DomainEventLog.Cursor theCursor_2 = theDomainEventLog_2.createCursor();
+
+        theDomainEventLog_2.addEvent(new DummyEvent());
+        theDomainEventLog.addEvent(new DummyEvent());
+        theDomainEventLog_2.addEvent(new DummyEvent());
+
+        //the sequence numbers are ordered over all logs
+        long theSequence_2 = theCursor_2.getNextSequence();
+        long theSequence = theCursor.getNextSequence();
+        assertTrue(theSequence_2 < theSequence);
+
+        theCursor_2.next();
+        assertTrue(theSequence < theCursor_2.getNextSequence());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.monitor;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.ConfigurationDependentFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import de.novanic.eventservice.test.testhelper.factory.FactoryResetService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+@RunWith(JUnit4.class)
+public class EventServiceMonitorTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_id_2";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+
+    private static final List<String> OPERATIONS = new CopyOnWriteArrayList<String>();
+
+    private DefaultUserManager myUserManager;
+
+    @After
+    public void tearDown() throws Exception {
+        if(myUserManager != null) {
+            myUserManager.getUserActivityScheduler().stop();
+        }
+        OPERATIONS.clear();
+        FactoryResetService.resetFactory(ConfigurationDependentFactory.class);
+        super.tearDown();
+    }
+
+    @Test
+    public void testMonitor() {
+        EventServiceConfiguration theConfiguration = createConfiguration(99999999, RecordingMonitor.class.getName());
+        DefaultEventRegistry theEventRegistry = createEventRegistry(theConfiguration);
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(theConfiguration);
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, new EventFilterTestMode());
+        theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        theEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+        assertEquals(2, theEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+
+        //the first timeout sweep is executed asynchronously with the activation of the UserActivityScheduler (see testMonitor_Timeout)
+        List<String> theOperations = getOperationsWithoutSweeps();
+        assertEquals(theOperations.toString(), 4, theOperations.size());
+        assertEquals("filter test_user_id_2 test_domain false", theOperations.get(0));
+        assertEquals("publish test_domain 2", theOperations.get(1));
+        assertEquals("publish null 1", theOperations.get(2));
+        assertEquals("listen test_user_id " + LongPollingServerConnector.class.getName() + " 2 -1", theOperations.get(3));
+    }
+
+    @Test
+    public void testMonitor_Timeout() throws Exception {
+        EventServiceConfiguration theConfiguration = createConfiguration(100, RecordingMonitor.class.getName());
+        DefaultEventRegistry theEventRegistry = createEventRegistry(theConfiguration);
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        Thread.sleep(400);
+
+        assertFalse(theEventRegistry.isUserRegistered(TEST_USER_ID));
+        assertTrue(OPERATIONS.toString(), OPERATIONS.contains("timeout " + TEST_USER_ID));
+        assertTrue(OPERATIONS.toString(), OPERATIONS.contains("sweep 1 1"));
+    }
+
+    @Test
+    public void testMonitor_NotConfigured() {
+        EventServiceConfiguration theConfiguration = createConfiguration(99999999, null);
+        DefaultEventRegistry theEventRegistry = createEventRegistry(theConfiguration);
+
+        theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        theEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(1, theEventRegistry.listen(getLongPollingListener(theConfiguration), TEST_USER_ID).size());
+        assertTrue(OPERATIONS.toString(), OPERATIONS.isEmpty());
+    }
+
+    private static List<String> getOperationsWithoutSweeps() {
+        List<String> theOperations = new ArrayList<String>();
+        for(String theOperation: OPERATIONS) {
+            if(!theOperation.startsWith("sweep")) {
+                theOperations.add(theOperation);
+            }
+        }
+        return theOperations;
+    }
+
+    private DefaultEventRegistry createEventRegistry(EventServiceConfiguration aConfiguration) {
+        //the monitor is created by the ConfigurationDependentFactory
+        FactoryResetService.resetFactory(ConfigurationDependentFactory.class);
+        myUserManager = new DefaultUserManager(aConfiguration.getTimeoutTime());
+        return new DefaultEventRegistry(aConfiguration, myUserManager) {};
+    }
+
+    private static EventServiceConfiguration createConfiguration(int aTimeoutTime, String aMonitorClassName) {
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 0, aTimeoutTime, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", 100000);
+        theConfiguration.setMonitorClassName(aMonitorClassName);
+        return theConfiguration;
+    }
+
+    public static class RecordingMonitor implements EventServiceMonitor
+    {
+        public PublishOperation startPublish(final Domain aDomain, Event anEvent) {
+            return new PublishOperation() {
+                public void finish(int aUserCount) {
+                    OPERATIONS.add("publish " + getName(aDomain) + ' ' + aUserCount);
+                }
+            };
+        }
+
+        public FilterOperation startFilterEvaluation(final String aUserId, final Domain aDomain, Event anEvent) {
+            return new FilterOperation() {
+                public void finish(boolean isFiltered) {
+                    OPERATIONS.add("filter " + aUserId + ' ' + getName(aDomain) + ' ' + isFiltered);
+                }
+            };
+        }
+
+        public ListenOperation startListen(final String aUserId, final String aConnectorName) {
+            return new ListenOperation() {
+                public void finish(int anEventCount, long aWrittenByteCount) {
+                    OPERATIONS.add("listen " + aUserId + ' ' + aConnectorName + ' ' + anEventCount + ' ' + aWrittenByteCount);
+                }
+            };
+        }
+
+        public SweepOperation startTimeoutSweep() {
+            return new SweepOperation() {
+                public void finish(int aUserCount, int aTimeoutCount) {
+                    OPERATIONS.add("sweep " + aUserCount + ' ' + aTimeoutCount);
+                }
+            };
+        }
+
+        public TimeoutOperation startTimeout(final String aUserId, long anInactiveTime) {
+            return new TimeoutOperation() {
+                public void finish() {
+                    OPERATIONS.add("timeout " + aUserId);
+                }
+            };
+        }
+
+        private static String getName(Domain aDomain) {
+            return (aDomain != null) ? aDomain.getName() : null;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import de.novanic.eventservice.test.testhelper.SimulatedTimeSource;
+import de.novanic.eventservice.util.PlatformUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+@RunWith(JUnit4.class)
+public class EventRegistryRecorderTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_id_2";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+
+    private SimulatedTimeSource myTimeSource;
+    private ByteArrayOutputStream myOutputStream;
+    private EventRegistryRecorder myRecorder;
+
+    @Before
+    public void setUp() throws Exception {
+        myTimeSource = new SimulatedTimeSource(1000000L);
+        PlatformUtil.setTimeSource(myTimeSource);
+        myOutputStream = new ByteArrayOutputStream();
+        myRecorder = new EventRegistryRecorder(myOutputStream);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        PlatformUtil.setTimeSource(null);
+        super.tearDown();
+    }
+
+    @Test
+    public void testRecord() throws Exception {
+        myRecorder.recordRegisterUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myTimeSource.advance(10);
+        myRecorder.recordSetEventFilter(TEST_DOMAIN, TEST_USER_ID, new EventFilterTestMode());
+        myRecorder.recordRemoveEventFilter(TEST_DOMAIN, TEST_USER_ID);
+        myTimeSource.advance(300);
+        myRecorder.recordAddEvent(TEST_DOMAIN, new DummyEvent());
+        myRecorder.recordAddEventUserSpecific(TEST_USER_ID, new DummyEvent());
+        myRecorder.recordListen(TEST_USER_ID, 2);
+        myRecorder.recordListen(TEST_USER_ID_2, -1);
+        myRecorder.recordUnlisten(TEST_DOMAIN, TEST_USER_ID);
+        myRecorder.recordUnlisten(TEST_USER_ID);
+        myRecorder.recordRegisterDomainHistory(TEST_DOMAIN, 50, 60000L);
+        myRecorder.recordDeregisterDomainHistory(TEST_DOMAIN);
+        myTimeSource.advance(90000);
+        myRecorder.onTimeout(new UserInfo(TEST_USER_ID_2));
+        assertEquals(12, myRecorder.getRecordCount());
+        myRecorder.close();
+        assertTrue(myRecorder.isClosed());
+
+        EventRegistryRecording theRecording = openRecording();
+        assertEquals(1000000L, theRecording.getStartTime());
+
+        EventRegistryRecord theRecord = theRecording.next();
+        assertEquals(RecordedOperation.REGISTER_USER, theRecord.getOperation());
+        assertEquals(1000000L, theRecord.getTime());
+        assertEquals(TEST_DOMAIN, theRecord.getDomain());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+        assertNull(theRecord.getEventFilter());
+        assertTrue(theRecord.isComplete());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.SET_EVENT_FILTER, theRecord.getOperation());
+        assertEquals(1000010L, theRecord.getTime());
+        assertTrue(theRecord.getEventFilter() instanceof EventFilterTestMode);
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.REMOVE_EVENT_FILTER, theRecord.getOperation());
+        assertEquals(TEST_DOMAIN, theRecord.getDomain());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.ADD_EVENT, theRecord.getOperation());
+        assertEquals(1000310L, theRecord.getTime());
+        assertEquals(TEST_DOMAIN, theRecord.getDomain());
+        assertTrue(theRecord.getEvent() instanceof DummyEvent);
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.ADD_EVENT_USER_SPECIFIC, theRecord.getOperation());
+        assertNull(theRecord.getDomain());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+        assertTrue(theRecord.getEvent() instanceof DummyEvent);
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.LISTEN, theRecord.getOperation());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+        assertEquals(2, theRecord.getEventCount());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.LISTEN, theRecord.getOperation());
+        assertEquals(TEST_USER_ID_2, theRecord.getUserId());
+        assertEquals(-1, theRecord.getEventCount());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.UNLISTEN_FROM_DOMAIN, theRecord.getOperation());
+        assertEquals(TEST_DOMAIN, theRecord.getDomain());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.UNLISTEN, theRecord.getOperation());
+        assertEquals(TEST_USER_ID, theRecord.getUserId());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.REGISTER_DOMAIN_HISTORY, theRecord.getOperation());
+        assertEquals(TEST_DOMAIN, theRecord.getDomain());
+        assertEquals(50, theRecord.getEventCount());
+        assertEquals(60000L, theRecord.getMaxAge());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.DEREGISTER_DOMAIN_HISTORY, theRecord.getOperation());
+
+        theRecord = theRecording.next();
+        assertEquals(RecordedOperation.TIMEOUT, theRecord.getOperation());
+        assertEquals(1090310L, theRecord.getTime());
+        assertEquals(TEST_USER_ID_2, theRecord.getUserId());
+
+        assertNull(theRecording.next());
+        theRecording.close();
+    }
+
+    @Test
+    public void testRecord_Reset() throws Exception {
+        final int theRecordCount = 2500;
+        for(int i = 0; i < theRecordCount; i++) {
+            myRecorder.recordAddEvent(TEST_DOMAIN, new DummyEvent());
+            myRecorder.recordListen("user_" + (i % 10), i);
+        }
+        myRecorder.close();
+
+        EventRegistryRecording theRecording = openRecording();
+        for(int i = 0; i < theRecordCount; i++) {
+            EventRegistryRecord theRecord = theRecording.next();
+            assertEquals(RecordedOperation.ADD_EVENT, theRecord.getOperation());
+            assertTrue(theRecord.getEvent() instanceof DummyEvent);
+
+            theRecord = theRecording.next();
+            assertEquals(RecordedOperation.LISTEN, theRecord.getOperation());
+            assertEquals("user_" + (i % 10), theRecord.getUserId());
+            assertEquals(i, theRecord.getEventCount());
+        }
+        assertNull(theRecording.next());
+    }
+
+    @Test
+    public void testRecord_Closed() throws Exception {
+        myRecorder.recordRegisterUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myRecorder.close();
+        myRecorder.recordUnlisten(TEST_USER_ID);
+        myRecorder.close();
+        assertEquals(1, myRecorder.getRecordCount());
+
+        EventRegistryRecording theRecording = openRecording();
+        assertEquals(RecordedOperation.REGISTER_USER, theRecording.next().getOperation());
+        assertNull(theRecording.next());
+    }
+
+    @Test
+    public void testRecord_Truncated() throws Exception {
+        myRecorder.recordRegisterUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myRecorder.recordAddEvent(TEST_DOMAIN, new DummyEvent());
+        myRecorder.close();
+
+        byte[] theBytes = myOutputStream.toByteArray();
+        byte[] theTruncatedBytes = new byte[theBytes.length - 10];
+        System.arraycopy(theBytes, 0, theTruncatedBytes, 0, theTruncatedBytes.length);
+
+        EventRegistryRecording theRecording = new EventRegistryRecording(new ByteArrayInputStream(theTruncatedBytes));
+        assertEquals(RecordedOperation.REGISTER_USER, theRecording.next().getOperation());
+        assertNull(theRecording.next());
+    }
+
+    @Test
+    public void testOpenRecording_Error() throws Exception {
+        ByteArrayOutputStream theOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream theObjectOutputStream = new ObjectOutputStream(theOutputStream);
+        theObjectOutputStream.writeInt(12345);
+        theObjectOutputStream.close();
+        try {
+            new EventRegistryRecording(new ByteArrayInputStream(theOutputStream.toByteArray()));
+            fail("Exception expected, because the stream doesn't contain a recording!");
+        } catch(IOException e) {}
+    }
+
+    private EventRegistryRecording openRecording() throws IOException {
+        return new EventRegistryRecording(new ByteArrayInputStream(myOutputStream.toByteArray()));
+    }
+}
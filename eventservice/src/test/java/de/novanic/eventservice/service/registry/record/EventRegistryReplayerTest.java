@@ -0,0 +1,162 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import de.novanic.eventservice.test.testhelper.SimulatedTimeSource;
+import de.novanic.eventservice.util.PlatformUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+@RunWith(JUnit4.class)
+public class EventRegistryReplayerTest extends EventServiceTestCase
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    private EventServiceConfiguration myConfiguration;
+    private ConnectionStrategyServerConnector myServerConnector;
+    private DefaultUserManager myRecordedUserManager;
+    private DefaultUserManager myReplayedUserManager;
+    private DefaultEventRegistry myReplayedEventRegistry;
+    private ByteArrayOutputStream myOutputStream;
+
+    @Before
+    public void setUp() throws Exception {
+        myConfiguration = createConfiguration(0, 0, 90000);
+        myServerConnector = new LongPollingServerConnector(myConfiguration);
+        myRecordedUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myReplayedUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myReplayedEventRegistry = new DefaultEventRegistry(myConfiguration, myReplayedUserManager) {};
+        myOutputStream = new ByteArrayOutputStream();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        PlatformUtil.setTimeSource(null);
+        myRecordedUserManager.reset();
+        myReplayedUserManager.reset();
+        super.tearDown();
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        DefaultEventRegistry theRecordedEventRegistry = new DefaultEventRegistry(myConfiguration, myRecordedUserManager) {};
+        RecordingEventRegistry theRecordingEventRegistry = new RecordingEventRegistry(theRecordedEventRegistry, new EventRegistryRecorder(myOutputStream));
+        for(int i = 0; i < 20; i++) {
+            theRecordingEventRegistry.registerUser(TEST_DOMAIN, "user_" + i, (i % 2 == 0) ? new EventFilterTestMode() : null);
+            theRecordingEventRegistry.registerUser(TEST_DOMAIN_2, "user_" + i, null);
+        }
+        for(int i = 0; i < 100; i++) {
+            theRecordingEventRegistry.addEvent((i % 3 == 0) ? TEST_DOMAIN_2 : TEST_DOMAIN, new DummyEvent());
+            if(i % 10 == 0) {
+                theRecordingEventRegistry.addEventUserSpecific("user_" + (i / 10), new DummyEvent());
+            }
+            for(int j = 0; j < 20; j += 3) {
+                theRecordingEventRegistry.listen(myServerConnector, "user_" + j);
+            }
+        }
+        theRecordingEventRegistry.unlisten(TEST_DOMAIN, "user_1");
+        theRecordingEventRegistry.unlisten("user_2");
+        theRecordingEventRegistry.unlisten("user_3");
+        theRecordingEventRegistry.getRecorder().onTimeout(new UserInfo("user_3"));
+        theRecordingEventRegistry.close();
+
+        EventRegistryReplayer theReplayer = new EventRegistryReplayer(myReplayedEventRegistry, myServerConnector);
+        EventRegistryRecording theRecording = openRecording();
+        theReplayer.replay(theRecording, 0);
+        theRecording.close();
+
+        assertEquals(40, theReplayer.getOperationCount(RecordedOperation.REGISTER_USER));
+        assertEquals(100, theReplayer.getOperationCount(RecordedOperation.ADD_EVENT));
+        assertEquals(10, theReplayer.getOperationCount(RecordedOperation.ADD_EVENT_USER_SPECIFIC));
+        assertEquals(700, theReplayer.getOperationCount(RecordedOperation.LISTEN));
+        assertEquals(2, theReplayer.getOperationCount(RecordedOperation.UNLISTEN));
+        assertEquals(1, theReplayer.getOperationCount(RecordedOperation.UNLISTEN_FROM_DOMAIN));
+        assertEquals(1, theReplayer.getOperationCount(RecordedOperation.TIMEOUT));
+        assertEquals(0, theReplayer.getSkippedRecordCount());
+
+        assertTrue(theReplayer.getRecordedDeliveredEventCount() > 0);
+        assertEquals(theReplayer.getRecordedDeliveredEventCount(), theReplayer.getDeliveredEventCount());
+        assertEquals(theRecordedEventRegistry.getStatistics().getPublishedEventCount(), myReplayedEventRegistry.getStatistics().getPublishedEventCount());
+        assertEquals(theRecordedEventRegistry.getStatistics().getFilteredEventCount(), myReplayedEventRegistry.getStatistics().getFilteredEventCount());
+        assertEquals(theRecordedEventRegistry.getRegisteredUserIds(), myReplayedEventRegistry.getRegisteredUserIds());
+
+        assertEquals(18, myReplayedEventRegistry.getRegisteredUserIds().size());
+        assertFalse(myReplayedEventRegistry.isUserRegistered(TEST_DOMAIN, "user_1"));
+        assertTrue(myReplayedEventRegistry.isUserRegistered(TEST_DOMAIN_2, "user_1"));
+        assertFalse(myReplayedEventRegistry.isUserRegistered("user_2"));
+        assertFalse(myReplayedEventRegistry.isUserRegistered("user_3"));
+    }
+
+    @Test
+    public void testReplay_Speed() throws Exception {
+        SimulatedTimeSource theTimeSource = new SimulatedTimeSource(1000000L);
+        PlatformUtil.setTimeSource(theTimeSource);
+        EventRegistryRecorder theRecorder = new EventRegistryRecorder(myOutputStream);
+        theRecorder.recordRegisterUser(TEST_DOMAIN, "user", null);
+        theTimeSource.advance(1000);
+        theRecorder.recordAddEvent(TEST_DOMAIN, new DummyEvent());
+        theTimeSource.advance(1000);
+        theRecorder.recordListen("user", 1);
+        theRecorder.close();
+        PlatformUtil.setTimeSource(null);
+
+        EventRegistryReplayer theReplayer = new EventRegistryReplayer(myReplayedEventRegistry, myServerConnector);
+        EventRegistryRecording theRecording = openRecording();
+        theReplayer.replay(theRecording, 10);
+        theRecording.close();
+
+        //2 seconds are replayed ten times faster
+        assertTrue(theReplayer.getDuration() >= 190);
+        assertTrue(theReplayer.getDuration() < 2000);
+        assertEquals(1, theReplayer.getDeliveredEventCount());
+        assertEquals(1, theReplayer.getRecordedDeliveredEventCount());
+    }
+
+    private EventRegistryRecording openRecording() throws Exception {
+        return new EventRegistryRecording(new ByteArrayInputStream(myOutputStream.toByteArray()));
+    }
+}
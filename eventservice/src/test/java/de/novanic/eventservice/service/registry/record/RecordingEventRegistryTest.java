@@ -0,0 +1,156 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.record;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:15:26
+ */
+@RunWith(JUnit4.class)
+public class RecordingEventRegistryTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+
+    private EventServiceConfiguration myConfiguration;
+    private UserManager myUserManager;
+    private EventRegistry myEventRegistry;
+    private ByteArrayOutputStream myOutputStream;
+    private RecordingEventRegistry myRecordingEventRegistry;
+
+    @Before
+    public void setUp() throws Exception {
+        myConfiguration = createConfiguration(0, 0, 90000);
+        myUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myEventRegistry = new DefaultEventRegistry(myConfiguration, myUserManager) {};
+        myOutputStream = new ByteArrayOutputStream();
+        myRecordingEventRegistry = new RecordingEventRegistry(myEventRegistry, new EventRegistryRecorder(myOutputStream));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        myRecordingEventRegistry.close();
+        myUserManager.reset();
+        super.tearDown();
+    }
+
+    @Test
+    public void testRecord() throws Exception {
+        assertSame(myEventRegistry, myRecordingEventRegistry.getEventRegistry());
+        assertSame(myConfiguration, myRecordingEventRegistry.getConfiguration());
+
+        myRecordingEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertTrue(myEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+        assertTrue(myRecordingEventRegistry.isUserRegistered(TEST_USER_ID));
+
+        myRecordingEventRegistry.setEventFilter(TEST_DOMAIN, TEST_USER_ID, new EventFilterTestMode());
+        assertNotNull(myRecordingEventRegistry.getEventFilter(TEST_DOMAIN, TEST_USER_ID));
+        myRecordingEventRegistry.removeEventFilter(TEST_DOMAIN, TEST_USER_ID);
+        assertNull(myEventRegistry.getEventFilter(TEST_DOMAIN, TEST_USER_ID));
+
+        myRecordingEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myRecordingEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+        //NULL isn't recorded
+        myRecordingEventRegistry.addEvents(TEST_DOMAIN, null);
+        List<DomainEvent> theEvents = myRecordingEventRegistry.listen(new LongPollingServerConnector(myConfiguration), TEST_USER_ID);
+        assertEquals(2, theEvents.size());
+
+        myRecordingEventRegistry.unlisten(TEST_DOMAIN, TEST_USER_ID);
+        assertFalse(myEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+        myRecordingEventRegistry.unlisten(TEST_USER_ID);
+        assertFalse(myEventRegistry.isUserRegistered(TEST_USER_ID));
+
+        myRecordingEventRegistry.registerDomainHistory(TEST_DOMAIN, 10, 0);
+        myRecordingEventRegistry.deregisterDomainHistory(TEST_DOMAIN);
+        myRecordingEventRegistry.close();
+        assertTrue(myRecordingEventRegistry.getRecorder().isClosed());
+
+        List<RecordedOperation> theOperations = new ArrayList<RecordedOperation>();
+        List<EventRegistryRecord> theRecords = readRecords();
+        for(EventRegistryRecord theRecord: theRecords) {
+            theOperations.add(theRecord.getOperation());
+        }
+        assertEquals(10, theOperations.size());
+        assertEquals(RecordedOperation.REGISTER_USER, theOperations.get(0));
+        assertEquals(RecordedOperation.SET_EVENT_FILTER, theOperations.get(1));
+        assertEquals(RecordedOperation.REMOVE_EVENT_FILTER, theOperations.get(2));
+        assertEquals(RecordedOperation.ADD_EVENT, theOperations.get(3));
+        assertEquals(RecordedOperation.ADD_EVENT_USER_SPECIFIC, theOperations.get(4));
+        assertEquals(RecordedOperation.LISTEN, theOperations.get(5));
+        assertEquals(2, theRecords.get(5).getEventCount());
+        assertEquals(RecordedOperation.UNLISTEN_FROM_DOMAIN, theOperations.get(6));
+        assertEquals(RecordedOperation.UNLISTEN, theOperations.get(7));
+        assertEquals(RecordedOperation.REGISTER_DOMAIN_HISTORY, theOperations.get(8));
+        assertEquals(RecordedOperation.DEREGISTER_DOMAIN_HISTORY, theOperations.get(9));
+    }
+
+    @Test
+    public void testRecord_Query() throws Exception {
+        myRecordingEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertEquals(1, myRecordingEventRegistry.getListenDomains().size());
+        assertEquals(1, myRecordingEventRegistry.getListenDomains(TEST_USER_ID).size());
+        assertEquals(1, myRecordingEventRegistry.getRegisteredUserIds().size());
+        assertEquals(1, myRecordingEventRegistry.getRegisteredUserIds(TEST_DOMAIN).size());
+        assertTrue(myRecordingEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+        myRecordingEventRegistry.close();
+
+        //only the registration is recorded
+        assertEquals(1, readRecords().size());
+    }
+
+    private List<EventRegistryRecord> readRecords() throws Exception {
+        List<EventRegistryRecord> theRecords = new ArrayList<EventRegistryRecord>();
+        EventRegistryRecording theRecording = new EventRegistryRecording(new ByteArrayInputStream(myOutputStream.toByteArray()));
+        EventRegistryRecord theRecord;
+        while((theRecord = theRecording.next()) != null) {
+            theRecords.add(theRecord);
+        }
+        theRecording.close();
+        return theRecords;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.relay;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:02:44
+ */
+@RunWith(JUnit4.class)
+public class EventRelayTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_id_2";
+    private static final String TEST_RELAY_ID = "test_relay_id";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    private EventServiceConfiguration myConfiguration;
+    private UserManager myUpstreamUserManager;
+    private UserManager myLocalUserManager;
+    private EventRegistry myUpstreamEventRegistry;
+    private EventRegistry myLocalEventRegistry;
+    private EventRelay myEventRelay;
+
+    @Before
+    public void setUp() {
+        myConfiguration = createConfiguration(0, 300, 90000);
+        myUpstreamUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myLocalUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myUpstreamEventRegistry = new DefaultEventRegistry(myConfiguration, myUpstreamUserManager) {};
+        myLocalEventRegistry = new DefaultEventRegistry(myConfiguration, myLocalUserManager) {};
+
+        Set<Domain> theRelayDomains = new HashSet<Domain>();
+        theRelayDomains.add(TEST_DOMAIN);
+        myEventRelay = new EventRelay(myUpstreamEventRegistry, myLocalEventRegistry, TEST_RELAY_ID, theRelayDomains);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        myEventRelay.stop();
+        myUpstreamUserManager.reset();
+        myLocalUserManager.reset();
+        super.tearDown();
+    }
+
+    @Test
+    public void testStart() {
+        assertFalse(myEventRelay.isActive());
+        assertFalse(myUpstreamEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_RELAY_ID));
+
+        myEventRelay.start();
+        assertTrue(myEventRelay.isActive());
+        assertTrue(myUpstreamEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_RELAY_ID));
+        assertFalse(myUpstreamEventRegistry.isUserRegistered(TEST_DOMAIN_2, TEST_RELAY_ID));
+        assertEquals(TEST_RELAY_ID, myEventRelay.getRelayId());
+        assertEquals(1, myEventRelay.getDomains().size());
+
+        myEventRelay.stop();
+        assertFalse(myEventRelay.isActive());
+        assertFalse(myUpstreamEventRegistry.isUserRegistered(TEST_RELAY_ID));
+    }
+
+    @Test
+    public void testRelay() throws Exception {
+        myLocalEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myLocalEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        myEventRelay.start();
+
+        myUpstreamEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myUpstreamEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //the upstream node serves only the relay
+        assertEquals(1, myUpstreamEventRegistry.getRegisteredUserIds(TEST_DOMAIN).size());
+
+        assertEquals(2, listen(TEST_USER_ID, 2).size());
+        assertEquals(2, listen(TEST_USER_ID_2, 2).size());
+    }
+
+    @Test
+    public void testRelay_NotRelayedDomain() throws Exception {
+        myLocalEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID, null);
+        myEventRelay.start();
+
+        myUpstreamEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID_2, null);
+        myUpstreamEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+
+        assertEquals(0, listen(TEST_USER_ID, 1).size());
+    }
+
+    @Test
+    public void testRelay_Reregistration() throws Exception {
+        myLocalEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRelay.start();
+
+        //the relay is removed at the upstream node (for example by a timeout) and has to register again
+        myUpstreamEventRegistry.unlisten(TEST_RELAY_ID);
+        waitForRegistration();
+
+        myUpstreamEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertEquals(1, listen(TEST_USER_ID, 1).size());
+    }
+
+    @Test
+    public void testRelay_Batch() throws Exception {
+        final List<Integer> theBatchSizes = new ArrayList<Integer>();
+        EventRegistry theLocalEventRegistry = new DefaultEventRegistry(myConfiguration, myLocalUserManager) {
+            public void addEvent(Domain aDomain, Event anEvent) {
+                fail("The events should be republished as a batch!");
+            }
+
+            public void addEvents(Domain aDomain, List<Event> anEvents) {
+                synchronized(theBatchSizes) {
+                    theBatchSizes.add(anEvents.size());
+                }
+                super.addEvents(aDomain, anEvents);
+            }
+        };
+        Set<Domain> theRelayDomains = new HashSet<Domain>();
+        theRelayDomains.add(TEST_DOMAIN);
+        EventRelay theEventRelay = new EventRelay(myUpstreamEventRegistry, theLocalEventRegistry, TEST_RELAY_ID, theRelayDomains);
+        try {
+            theLocalEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+            theEventRelay.start();
+
+            List<Event> theEvents = new ArrayList<Event>();
+            for(int i = 0; i < 3; i++) {
+                theEvents.add(new DummyEvent());
+            }
+            myUpstreamEventRegistry.addEvents(TEST_DOMAIN, theEvents);
+
+            List<DomainEvent> theRelayedEvents = new ArrayList<DomainEvent>();
+            ConnectionStrategyServerConnector theServerConnector = new LongPollingServerConnector(myConfiguration);
+            for(int i = 0; i < 10 && theRelayedEvents.size() < 3; i++) {
+                theRelayedEvents.addAll(theLocalEventRegistry.listen(theServerConnector, TEST_USER_ID));
+            }
+            assertEquals(3, theRelayedEvents.size());
+            synchronized(theBatchSizes) {
+                assertEquals(1, theBatchSizes.size());
+                assertEquals(Integer.valueOf(3), theBatchSizes.get(0));
+            }
+        } finally {
+            theEventRelay.stop();
+        }
+    }
+
+    private List<DomainEvent> listen(String aUserId, int anExpectedEventCount) {
+        ConnectionStrategyServerConnector theServerConnector = new LongPollingServerConnector(myConfiguration);
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        for(int i = 0; i < 10 && theEvents.size() < anExpectedEventCount; i++) {
+            theEvents.addAll(myLocalEventRegistry.listen(theServerConnector, aUserId));
+        }
+        return theEvents;
+    }
+
+    private void waitForRegistration() throws InterruptedException {
+        for(int i = 0; i < 50 && !myUpstreamEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_RELAY_ID); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(myUpstreamEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_RELAY_ID));
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.remote;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.config.ConfigurationException;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.relay.EventRelay;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.UserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:06:47
+ */
+@RunWith(JUnit4.class)
+public class RemoteEventRegistryTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_id_2";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+    private static final String TEST_SECRET = "test_secret";
+
+    private EventServiceConfiguration myConfiguration;
+    private UserManager myUserManager;
+    private EventRegistry myServerEventRegistry;
+    private EventRegistryServer myEventRegistryServer;
+    private RemoteEventRegistry myRemoteEventRegistry;
+
+    @Before
+    public void setUp() throws Exception {
+        myConfiguration = createConfiguration(0, 300, 90000);
+        myUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myServerEventRegistry = new DefaultEventRegistry(myConfiguration, myUserManager) {};
+
+        myEventRegistryServer = new EventRegistryServer(myServerEventRegistry, 0, TEST_SECRET);
+        myEventRegistryServer.start();
+
+        myRemoteEventRegistry = new RemoteEventRegistry(myConfiguration, "localhost", myEventRegistryServer.getPort(), TEST_SECRET);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        myRemoteEventRegistry.close();
+        myEventRegistryServer.stop();
+        myUserManager.reset();
+        super.tearDown();
+    }
+
+    @Test
+    public void testStart() {
+        assertTrue(myEventRegistryServer.isActive());
+        assertTrue(myEventRegistryServer.getPort() > 0);
+
+        myEventRegistryServer.stop();
+        assertFalse(myEventRegistryServer.isActive());
+    }
+
+    @Test
+    public void testRegisterUser() {
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_DOMAIN_2, TEST_USER_ID));
+        assertTrue(myServerEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+
+        assertEquals(1, myRemoteEventRegistry.getListenDomains().size());
+        assertEquals(1, myRemoteEventRegistry.getListenDomains(TEST_USER_ID).size());
+        assertEquals(1, myRemoteEventRegistry.getRegisteredUserIds().size());
+        assertEquals(1, myRemoteEventRegistry.getRegisteredUserIds(TEST_DOMAIN).size());
+        assertEquals(0, myRemoteEventRegistry.getRegisteredUserIds(TEST_DOMAIN_2).size());
+    }
+
+    @Test
+    public void testEventFilter() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, new EventFilterTestMode());
+        assertNotNull(myRemoteEventRegistry.getEventFilter(TEST_DOMAIN, TEST_USER_ID));
+
+        myRemoteEventRegistry.removeEventFilter(TEST_DOMAIN, TEST_USER_ID);
+        assertNull(myRemoteEventRegistry.getEventFilter(TEST_DOMAIN, TEST_USER_ID));
+
+        myRemoteEventRegistry.setEventFilter(TEST_DOMAIN, TEST_USER_ID, new EventFilterTestMode());
+        assertNotNull(myRemoteEventRegistry.getEventFilter(TEST_DOMAIN, TEST_USER_ID));
+    }
+
+    @Test
+    public void testListen() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+
+        for(int i = 0; i < 5; i++) {
+            myRemoteEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        }
+        myRemoteEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+
+        assertEquals(6, listen(TEST_USER_ID, 6).size());
+        assertEquals(5, listen(TEST_USER_ID_2, 5).size());
+    }
+
+    @Test
+    public void testAddEvents() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+
+        List<Event> theEvents = new ArrayList<Event>();
+        for(int i = 0; i < 5; i++) {
+            theEvents.add(new DummyEvent());
+        }
+        myRemoteEventRegistry.addEvents(TEST_DOMAIN, theEvents);
+        //NULL is handled like an empty list
+        myRemoteEventRegistry.addEvents(TEST_DOMAIN, null);
+
+        assertEquals(5, listen(TEST_USER_ID, 5).size());
+    }
+
+    @Test
+    public void testListen_Waiting() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+
+        List<DomainEvent> theEvents = myRemoteEventRegistry.listen(null, TEST_USER_ID);
+        assertNotNull(theEvents);
+        assertTrue(theEvents.isEmpty());
+        //requests are executed in the meantime
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+    }
+
+    @Test
+    public void testListen_UnknownUser() {
+        assertNull(myRemoteEventRegistry.listen(null, TEST_USER_ID));
+    }
+
+    @Test
+    public void testUnlisten() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID, null);
+
+        myRemoteEventRegistry.unlisten(TEST_DOMAIN, TEST_USER_ID);
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_DOMAIN, TEST_USER_ID));
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_DOMAIN_2, TEST_USER_ID));
+
+        myRemoteEventRegistry.unlisten(TEST_USER_ID);
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+    }
+
+    @Test
+    public void testDomainHistory() {
+        myRemoteEventRegistry.registerDomainHistory(TEST_DOMAIN, 2, 0);
+        for(int i = 0; i < 3; i++) {
+            myRemoteEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        }
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertEquals(2, listen(TEST_USER_ID, 2).size());
+
+        myRemoteEventRegistry.deregisterDomainHistory(TEST_DOMAIN);
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        assertTrue(myRemoteEventRegistry.listen(null, TEST_USER_ID_2).isEmpty());
+    }
+
+    @Test
+    public void testReconnect() {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+
+        myRemoteEventRegistry.close();
+        assertTrue(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+    }
+
+    @Test
+    public void testServerNotAvailable() {
+        myEventRegistryServer.stop();
+        myRemoteEventRegistry.close();
+        try {
+            myRemoteEventRegistry.isUserRegistered(TEST_USER_ID);
+            fail("Exception expected, because the registry process isn't available!");
+        } catch(RemoteEventRegistryException e) {}
+    }
+
+    @Test
+    public void testWrongSecret() {
+        RemoteEventRegistry theRemoteEventRegistry = new RemoteEventRegistry(myConfiguration, "localhost", myEventRegistryServer.getPort(), "wrong_secret");
+        try {
+            theRemoteEventRegistry.isUserRegistered(TEST_USER_ID);
+            fail("Exception expected, because the secret is wrong!");
+        } catch(RemoteEventRegistryException e) {
+        } finally {
+            theRemoteEventRegistry.close();
+        }
+        //the server is still available for authenticated connections
+        assertFalse(myRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+    }
+
+    @Test
+    public void testNotAcceptedClass() throws Exception {
+        myRemoteEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        final List<RemoteEventRegistryRequest> theFailedRequests = new CopyOnWriteArrayList<RemoteEventRegistryRequest>();
+        myRemoteEventRegistry.addFailureListener(new RemoteEventRegistryFailureListener() {
+            public void onFailure(RemoteEventRegistryRequest aRequest, RemoteEventRegistryException aFailure) {
+                theFailedRequests.add(aRequest);
+            }
+        });
+
+        myRemoteEventRegistry.addEvent(TEST_DOMAIN, new ValueEvent(new PriorityQueue<String>()));
+        //the server closes the connection, so the asynchronous request is reported as lost
+        for(int i = 0; i < 100 && theFailedRequests.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, theFailedRequests.size());
+        assertEquals(RemoteEventRegistryOperation.ADD_EVENT, theFailedRequests.get(0).getOperation());
+
+        //the connection is re-established and the event wasn't added
+        myRemoteEventRegistry.addEvent(TEST_DOMAIN, new ValueEvent("accepted"));
+        List<DomainEvent> theEvents = listen(TEST_USER_ID, 1);
+        assertEquals(1, theEvents.size());
+        assertEquals("accepted", ((ValueEvent)theEvents.get(0).getEvent()).getValue());
+    }
+
+    @Test
+    public void testAsynchronousFailure() throws Exception {
+        myEventRegistryServer.stop();
+        myRemoteEventRegistry.close();
+
+        UserManager theUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        EventRegistry theFailingEventRegistry = new DefaultEventRegistry(myConfiguration, theUserManager) {
+            public void addEvent(Domain aDomain, Event anEvent) {
+                throw new IllegalStateException("Test-Exception");
+            }
+        };
+        EventRegistryServer theEventRegistryServer = new EventRegistryServer(theFailingEventRegistry, 0, TEST_SECRET);
+        theEventRegistryServer.start();
+        RemoteEventRegistry theRemoteEventRegistry = new RemoteEventRegistry(myConfiguration, "localhost", theEventRegistryServer.getPort(), TEST_SECRET);
+        final List<RemoteEventRegistryException> theFailures = new CopyOnWriteArrayList<RemoteEventRegistryException>();
+        theRemoteEventRegistry.addFailureListener(new RemoteEventRegistryFailureListener() {
+            public void onFailure(RemoteEventRegistryRequest aRequest, RemoteEventRegistryException aFailure) {
+                theFailures.add(aFailure);
+            }
+        });
+        try {
+            theRemoteEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+            //the requests of other callers are executed
+            for(int i = 0; i < 100 && theFailures.isEmpty(); i++) {
+                assertFalse(theRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+                Thread.sleep(10);
+            }
+            //the failure is reported to the listener instead
+            assertEquals(1, theFailures.size());
+            assertTrue(theFailures.get(0).getMessage().contains("Test-Exception"));
+            assertFalse(theRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+        } finally {
+            theRemoteEventRegistry.close();
+            theEventRegistryServer.stop();
+            theUserManager.reset();
+        }
+    }
+
+    @Test
+    public void testResponseTimeout() throws Exception {
+        final ServerSocket theServerSocket = new ServerSocket(0);
+        final List<Socket> theSockets = new ArrayList<Socket>();
+        Thread theServerThread = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    Socket theSocket = theServerSocket.accept();
+                    theSockets.add(theSocket);
+                    RemoteEventRegistryHandshake.accept(theSocket, RemoteEventRegistryHandshake.readSecret(TEST_SECRET));
+                    new ObjectOutputStream(theSocket.getOutputStream()).flush();
+                    //the requests are never answered
+                } catch(IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        theServerThread.start();
+
+        RemoteEventRegistry theRemoteEventRegistry = new RemoteEventRegistry(createConfiguration(0, 100, 500), "localhost", theServerSocket.getLocalPort(), TEST_SECRET);
+        try {
+            final long theStartTime = System.currentTimeMillis();
+            try {
+                theRemoteEventRegistry.isUserRegistered(TEST_USER_ID);
+                fail("Exception expected, because the registry process doesn't respond!");
+            } catch(RemoteEventRegistryException e) {}
+            assertTrue(System.currentTimeMillis() - theStartTime >= 500);
+        } finally {
+            theRemoteEventRegistry.close();
+            theServerThread.join();
+            for(Socket theSocket: theSockets) {
+                theSocket.close();
+            }
+            theServerSocket.close();
+        }
+    }
+
+    @Test
+    public void testInit() {
+        EventServiceConfiguration theConfiguration = createConfiguration("localhost:" + myEventRegistryServer.getPort(), LongPollingServerConnector.class.getName());
+        RemoteEventRegistry theRemoteEventRegistry = new RemoteEventRegistry(theConfiguration);
+        try {
+            assertSame(theConfiguration, theRemoteEventRegistry.getConfiguration());
+            assertFalse(theRemoteEventRegistry.isUserRegistered(TEST_USER_ID));
+        } finally {
+            theRemoteEventRegistry.close();
+        }
+    }
+
+    @Test
+    public void testInit_Error() {
+        try {
+            new RemoteEventRegistry(createConfiguration("localhost", LongPollingServerConnector.class.getName()));
+            fail("Exception expected, because the port is missing!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            new RemoteEventRegistry(createConfiguration("localhost:port", LongPollingServerConnector.class.getName()));
+            fail("Exception expected, because the port isn't numeric!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            new RemoteEventRegistry(createConfiguration("localhost:4712", StreamingServerConnector.class.getName()));
+            fail("Exception expected, because streaming isn't supported!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            new RemoteEventRegistry(createConfiguration("localhost:4712", LongPollingServerConnector.class.getName(), null));
+            fail("Exception expected, because the secret is missing!");
+        } catch(ConfigurationException e) {}
+
+        try {
+            new EventRegistryServer(myServerEventRegistry, 0, "");
+            fail("Exception expected, because the secret is missing!");
+        } catch(ConfigurationException e) {}
+    }
+
+    @Test
+    public void testRelay() throws Exception {
+        UserManager theLocalUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        EventRegistry theLocalEventRegistry = new DefaultEventRegistry(myConfiguration, theLocalUserManager) {};
+
+        Set<Domain> theDomains = new HashSet<Domain>();
+        theDomains.add(TEST_DOMAIN);
+        EventRelay theEventRelay = new EventRelay(myRemoteEventRegistry, theLocalEventRegistry, "test_relay_id", theDomains);
+        try {
+            theLocalEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+            theEventRelay.start();
+
+            myRemoteEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+            myRemoteEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+
+            List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+            for(int i = 0; i < 10 && theEvents.size() < 2; i++) {
+                theEvents.addAll(theLocalEventRegistry.listen(new LongPollingServerConnector(myConfiguration), TEST_USER_ID));
+            }
+            assertEquals(2, theEvents.size());
+        } finally {
+            theEventRelay.stop();
+            theLocalUserManager.reset();
+        }
+    }
+
+    private List<DomainEvent> listen(String aUserId, int anExpectedEventCount) {
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        for(int i = 0; i < 10 && theEvents.size() < anExpectedEventCount; i++) {
+            theEvents.addAll(myRemoteEventRegistry.listen(null, aUserId));
+        }
+        return theEvents;
+    }
+
+    private EventServiceConfiguration createConfiguration(String aRemoteRegistryAddress, String aConnectionStrategyServerConnectorClassName) {
+        return createConfiguration(aRemoteRegistryAddress, aConnectionStrategyServerConnectorClassName, TEST_SECRET);
+    }
+
+    private EventServiceConfiguration createConfiguration(String aRemoteRegistryAddress, String aConnectionStrategyServerConnectorClassName, String aSecret) {
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("TestConfiguration", 0, 300, 90000, 0, SessionConnectionIdGenerator.class.getName(), null,
+                aConnectionStrategyServerConnectorClassName, "utf-8", 100000);
+        theConfiguration.setRemoteRegistryAddress(aRemoteRegistryAddress);
+        theConfiguration.setRemoteRegistrySecret(aSecret);
+        return theConfiguration;
+    }
+
+    private static class ValueEvent implements Event
+    {
+        private Object myValue;
+
+        private ValueEvent(Object aValue) {
+            myValue = aValue;
+        }
+
+        public Object getValue() {
+            return myValue;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.SortedMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:34:23
+ */
+@RunWith(JUnit4.class)
+public class DeliveryLatencyStatisticsTest
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    @Test
+    public void testRecordDelivery() {
+        DeliveryLatencyStatistics theStatistics = new DeliveryLatencyStatistics();
+        assertNull(theStatistics.getDomainHistogram(TEST_DOMAIN));
+        assertNull(theStatistics.getConnectorHistogram("connector"));
+
+        theStatistics.recordDelivery(TEST_DOMAIN, "connector", 5000);
+        theStatistics.recordDelivery(TEST_DOMAIN_2, "connector", 7000);
+        theStatistics.recordDelivery(TEST_DOMAIN_2, null, 9000);
+        theStatistics.recordDelivery(DomainFactory.USER_SPECIFIC_DOMAIN, "connector_2", 1000);
+
+        assertEquals(1, theStatistics.getDomainHistogram(TEST_DOMAIN).getSnapshot().getCount());
+        assertEquals(5, theStatistics.getDomainHistogram(TEST_DOMAIN).getSnapshot().getMax());
+        assertEquals(2, theStatistics.getDomainHistogram(TEST_DOMAIN_2).getSnapshot().getCount());
+        assertEquals(9, theStatistics.getDomainHistogram(TEST_DOMAIN_2).getSnapshot().getMax());
+        assertEquals(1, theStatistics.getDomainHistogram(DomainFactory.USER_SPECIFIC_DOMAIN).getSnapshot().getCount());
+        assertEquals(2, theStatistics.getConnectorHistogram("connector").getSnapshot().getCount());
+        assertEquals(1, theStatistics.getConnectorHistogram("connector_2").getSnapshot().getCount());
+    }
+
+    @Test
+    public void testRecordDelivery_MaxTrackedDomains() {
+        DeliveryLatencyStatistics theStatistics = new DeliveryLatencyStatistics(2);
+        theStatistics.recordDelivery(TEST_DOMAIN, "connector", 5000);
+        theStatistics.recordDelivery(TEST_DOMAIN_2, "connector", 5000);
+        for(int i = 0; i < 100; i++) {
+            theStatistics.recordDelivery(DomainFactory.getDomain("test_domain_" + (i + 3)), "connector", 5000);
+        }
+        theStatistics.recordDelivery(TEST_DOMAIN, "connector", 5000);
+
+        //the further domains are recorded together
+        SortedMap<String, LatencyHistogram.Snapshot> theDomainSnapshots = theStatistics.getDomainWindowSnapshots(0);
+        assertEquals(3, theDomainSnapshots.size());
+        assertEquals(2, theDomainSnapshots.get("test_domain").getCount());
+        assertEquals(1, theDomainSnapshots.get("test_domain_2").getCount());
+        assertEquals(100, theDomainSnapshots.get(DeliveryLatencyStatistics.OTHER_DOMAINS_NAME).getCount());
+        assertNull(theStatistics.getDomainHistogram(DomainFactory.getDomain("test_domain_3")));
+        assertEquals(103, theStatistics.getConnectorHistogram("connector").getSnapshot().getCount());
+    }
+
+    @Test
+    public void testGetWindowSnapshots() {
+        DeliveryLatencyStatistics theStatistics = new DeliveryLatencyStatistics();
+        theStatistics.recordDelivery(TEST_DOMAIN_2, "connector", 5000);
+        theStatistics.recordDelivery(TEST_DOMAIN, "connector", 5000);
+        theStatistics.recordDelivery(null, "connector", 5000);
+
+        SortedMap<String, LatencyHistogram.Snapshot> theDomainSnapshots = theStatistics.getDomainWindowSnapshots(0);
+        assertEquals(3, theDomainSnapshots.size());
+        assertEquals("test_domain", theDomainSnapshots.firstKey());
+        assertEquals(1, theDomainSnapshots.get(DeliveryLatencyStatistics.USER_SPECIFIC_DOMAIN_NAME).getCount());
+
+        SortedMap<String, LatencyHistogram.Snapshot> theConnectorSnapshots = theStatistics.getConnectorWindowSnapshots(0);
+        assertEquals(1, theConnectorSnapshots.size());
+        assertEquals(3, theConnectorSnapshots.get("connector").getCount());
+
+        //the next window doesn't contain the already reported latencies
+        assertEquals(0, theStatistics.getConnectorWindowSnapshots(0).get("connector").getCount());
+    }
+}
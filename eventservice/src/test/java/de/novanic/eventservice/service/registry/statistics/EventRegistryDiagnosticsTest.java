@@ -0,0 +1,130 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:41:53
+ */
+@RunWith(JUnit4.class)
+public class EventRegistryDiagnosticsTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_\"id\"_2";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    private EventServiceConfiguration myConfiguration;
+    private DefaultUserManager myUserManager;
+    private DefaultEventRegistry myEventRegistry;
+    private EventRegistryDiagnostics myDiagnostics;
+
+    @Before
+    public void setUp() {
+        myConfiguration = createConfiguration(0, 0, 99999999);
+        myUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myEventRegistry = new DefaultEventRegistry(myConfiguration, myUserManager) {};
+        myDiagnostics = myEventRegistry.getDiagnostics();
+    }
+
+    @After
+    public void tearDown() {
+        myUserManager.getUserActivityScheduler().stop();
+    }
+
+    @Test
+    public void testCreateReport_Empty() {
+        String theReport = myDiagnostics.createReport(10, 0);
+        assertTrue(theReport, theReport.startsWith("{\"time\":"));
+        assertTrue(theReport, theReport.endsWith(",\"userCount\":0,\"totalQueueDepth\":0,\"users\":[],\"oldestEvents\":[],\"domains\":[],\"filterTimes\":[],\"slowConsumers\":[]}"));
+    }
+
+    @Test
+    public void testCreateReport() {
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID_2, new EventFilterTestMode());
+        for(int i = 0; i < 4; i++) {
+            myEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        }
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        String theReport = myDiagnostics.createReport(10, 99999999);
+        assertTrue(theReport, theReport.contains("\"userCount\":2,\"totalQueueDepth\":7,"));
+        //sorted by queue depth, the user id is escaped
+        assertTrue(theReport, theReport.contains("\"users\":[{\"userId\":\"test_user_id\",\"queueDepth\":5,"));
+        assertTrue(theReport, theReport.contains("},{\"userId\":\"test_user_\\\"id\\\"_2\",\"queueDepth\":2,"));
+        //sorted by subscriber count
+        assertTrue(theReport, theReport.contains("\"domains\":[{\"domain\":\"test_domain_2\",\"subscribers\":2,\"publishedEvents\":4,\"eventRate\":"));
+        assertTrue(theReport, theReport.contains("},{\"domain\":\"test_domain\",\"subscribers\":1,\"publishedEvents\":1,\"eventRate\":"));
+        //only the user with an EventFilter
+        assertTrue(theReport, theReport.contains("\"filterTimes\":[{\"userId\":\"test_user_\\\"id\\\"_2\",\"filterEvaluations\":4,\"filterTime\":"));
+        assertTrue(theReport, theReport.endsWith("\"slowConsumers\":[]}"));
+
+        //top count
+        theReport = myDiagnostics.createReport(1, 99999999);
+        assertTrue(theReport, theReport.contains("\"users\":[{\"userId\":\"test_user_id\",\"queueDepth\":5,"));
+        assertTrue(theReport, theReport.contains("\"spilled\":false}],\"oldestEvents\":[{"));
+        assertTrue(theReport, theReport.contains("\"domains\":[{\"domain\":\"test_domain_2\",\"subscribers\":2,\"publishedEvents\":4,\"eventRate\":0}],"));
+    }
+
+    @Test
+    public void testCreateReport_SlowConsumers() throws Exception {
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(myConfiguration);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, null);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        Thread.sleep(100);
+
+        //the first user retrieves the events and is therefore no slow consumer
+        assertEquals(2, myEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+
+        String theReport = myDiagnostics.createReport(10, 50);
+        assertTrue(theReport, theReport.contains("\"slowConsumers\":[{\"userId\":\"test_user_\\\"id\\\"_2\",\"queueDepth\":2,"));
+        assertFalse(theReport, theReport.contains("\"slowConsumers\":[{\"userId\":\"test_user_id\""));
+        assertTrue(theReport, theReport.endsWith("}]}"));
+
+        //the slow consumer time isn't reached
+        theReport = myDiagnostics.createReport(10, 99999999);
+        assertTrue(theReport, theReport.endsWith("\"slowConsumers\":[]}"));
+    }
+}
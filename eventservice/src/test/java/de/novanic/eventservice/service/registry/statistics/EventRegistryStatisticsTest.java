@@ -0,0 +1,270 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import de.novanic.eventservice.EventServiceTestCase;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.SortedMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:26:09
+ */
+@RunWith(JUnit4.class)
+public class EventRegistryStatisticsTest extends EventServiceTestCase
+{
+    private static final String TEST_USER_ID = "test_user_id";
+    private static final String TEST_USER_ID_2 = "test_user_id_2";
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    private EventServiceConfiguration myConfiguration;
+    private DefaultUserManager myUserManager;
+    private DefaultEventRegistry myEventRegistry;
+    private EventRegistryStatistics myStatistics;
+
+    @Before
+    public void setUp() {
+        myConfiguration = createConfiguration(0, 0, 99999999);
+        myUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime());
+        myEventRegistry = new DefaultEventRegistry(myConfiguration, myUserManager) {};
+        myStatistics = myEventRegistry.getStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        myStatistics.unregister();
+        myUserManager.getUserActivityScheduler().stop();
+    }
+
+    @Test
+    public void testUsersAndDomains() {
+        assertEquals(0, myStatistics.getUserCount());
+        assertEquals(0, myStatistics.getDomainCount());
+        assertEquals(0, myStatistics.getDomainSubscriberCounts().length);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN_2, TEST_USER_ID_2, null);
+
+        assertEquals(2, myStatistics.getUserCount());
+        assertEquals(2, myStatistics.getDomainCount());
+        String[] theDomainSubscriberCounts = myStatistics.getDomainSubscriberCounts();
+        assertEquals(2, theDomainSubscriberCounts.length);
+        assertEquals("test_domain=1", theDomainSubscriberCounts[0]);
+        assertEquals("test_domain_2=2", theDomainSubscriberCounts[1]);
+    }
+
+    @Test
+    public void testEvents() {
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(myConfiguration);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID_2, new EventFilterTestMode());
+        for(int i = 0; i < 4; i++) {
+            myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        }
+        myEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+
+        assertEquals(5, myStatistics.getPublishedEventCount());
+        //every second event is filtered by the EventFilter
+        assertEquals(2, myStatistics.getFilteredEventCount());
+        assertEquals(7, myStatistics.getTotalQueueDepth());
+        assertEquals(5, myStatistics.getMaxQueueDepth());
+        assertTrue(myStatistics.getPublishedEventsPerSecond() > 0);
+
+        assertEquals(0, myStatistics.getDeliveredEventCount());
+        assertEquals(5, myEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+        assertEquals(5, myStatistics.getDeliveredEventCount());
+        assertEquals(2, myStatistics.getTotalQueueDepth());
+        assertEquals(2, myStatistics.getMaxQueueDepth());
+
+        //no listen request is parked anymore
+        assertEquals(0, myStatistics.getParkedListenCount());
+        String[] theParkedListenCounts = myStatistics.getParkedListenCounts();
+        assertEquals(1, theParkedListenCounts.length);
+        assertEquals(theServerConnector.getClass().getName() + "=0", theParkedListenCounts[0]);
+    }
+
+    @Test
+    public void testDomainPublishedEventCounts() {
+        assertTrue(myStatistics.getDomainPublishedEventCounts().isEmpty());
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        myEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+
+        SortedMap<String, Long> theDomainPublishedEventCounts = myStatistics.getDomainPublishedEventCounts();
+        assertEquals(3, theDomainPublishedEventCounts.size());
+        assertEquals(Long.valueOf(2), theDomainPublishedEventCounts.get("test_domain"));
+        assertEquals(Long.valueOf(1), theDomainPublishedEventCounts.get("test_domain_2"));
+        assertEquals(Long.valueOf(1), theDomainPublishedEventCounts.get("user_specific"));
+    }
+
+    @Test
+    public void testDomainPublishedEventCounts_MaxTrackedDomains() {
+        final int theDomainCount = DeliveryLatencyStatistics.DEFAULT_MAX_TRACKED_DOMAINS + 5;
+        for(int i = 0; i < theDomainCount; i++) {
+            myStatistics.addPublishedEvent(DomainFactory.getDomain("test_domain_" + i));
+        }
+        myStatistics.addPublishedEvents(DomainFactory.getDomain("test_domain_0"), 2);
+
+        //the further domains are counted together
+        SortedMap<String, Long> theDomainPublishedEventCounts = myStatistics.getDomainPublishedEventCounts();
+        assertEquals(DeliveryLatencyStatistics.DEFAULT_MAX_TRACKED_DOMAINS + 1, theDomainPublishedEventCounts.size());
+        assertEquals(Long.valueOf(3), theDomainPublishedEventCounts.get("test_domain_0"));
+        assertEquals(Long.valueOf(5), theDomainPublishedEventCounts.get(DeliveryLatencyStatistics.OTHER_DOMAINS_NAME));
+        assertEquals(theDomainCount + 2, myStatistics.getPublishedEventCount());
+    }
+
+    @Test
+    public void testRate() {
+        EventRegistryStatistics.Rate theRate = new EventRegistryStatistics.Rate(1000, 0);
+        assertEquals(0, theRate.getRate(0), 0);
+
+        //the average is returned until the first window is completed
+        theRate.add(5, 100);
+        assertEquals(10000000, theRate.getRate(500), 0);
+
+        //the first recording after the window time completes the window
+        theRate.add(10, 1500);
+        assertEquals(5000000, theRate.getRate(1600), 0);
+        theRate.add(1, 1999);
+        assertEquals(5000000, theRate.getRate(1999), 0);
+        assertEquals(11000000, theRate.getRate(2500), 0);
+        assertEquals(16, theRate.getCount());
+
+        //the windows without recordings are empty, also when the rate isn't read in between
+        theRate.add(3, 20000);
+        assertEquals(0, theRate.getRate(20500), 0);
+        assertEquals(3000000, theRate.getRate(21500), 0);
+        assertEquals(0, theRate.getRate(22000), 0);
+    }
+
+    @Test
+    public void testDeliveryLatencies() {
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(myConfiguration);
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        myEventRegistry.addEvent(TEST_DOMAIN, new DummyEvent());
+        myEventRegistry.addEventUserSpecific(TEST_USER_ID, new DummyEvent());
+        assertEquals(2, myEventRegistry.listen(theServerConnector, TEST_USER_ID).size());
+
+        String[] theDomainDeliveryLatencies = myStatistics.getDomainDeliveryLatencies();
+        assertEquals(2, theDomainDeliveryLatencies.length);
+        assertTrue(theDomainDeliveryLatencies[0], theDomainDeliveryLatencies[0].startsWith("test_domain=count=1, p50="));
+        assertTrue(theDomainDeliveryLatencies[1], theDomainDeliveryLatencies[1].startsWith("user_specific=count=1, p50="));
+
+        String[] theConnectorDeliveryLatencies = myStatistics.getConnectorDeliveryLatencies();
+        assertEquals(1, theConnectorDeliveryLatencies.length);
+        assertTrue(theConnectorDeliveryLatencies[0], theConnectorDeliveryLatencies[0].startsWith(theServerConnector.getClass().getName() + "=count=2, p50="));
+
+        //the latencies of the window don't depend on the amount of reads
+        assertTrue(myStatistics.getConnectorDeliveryLatencies()[0].startsWith(theServerConnector.getClass().getName() + "=count=2, p50="));
+    }
+
+    @Test
+    public void testParkedListen() {
+        ConnectionStrategyServerConnector theServerConnector = getLongPollingListener(myConfiguration);
+
+        myStatistics.startListen(theServerConnector);
+        myStatistics.startListen(theServerConnector);
+        assertEquals(2, myStatistics.getParkedListenCount());
+        myStatistics.finishListen(theServerConnector);
+        assertEquals(1, myStatistics.getParkedListenCount());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        EventServiceConfiguration theConfiguration = createConfiguration(0, 0, 100);
+        DefaultUserManager theUserManager = new DefaultUserManager(theConfiguration.getTimeoutTime());
+        DefaultEventRegistry theEventRegistry = new DefaultEventRegistry(theConfiguration, theUserManager) {};
+        try {
+            EventRegistryStatistics theStatistics = theEventRegistry.getStatistics();
+            theEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+            assertEquals(0, theStatistics.getTimeoutCount());
+
+            Thread.sleep(400);
+            assertEquals(1, theStatistics.getTimeoutCount());
+            assertEquals(0, theStatistics.getUserCount());
+        } finally {
+            theUserManager.getUserActivityScheduler().stop();
+        }
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        MBeanServer theMBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName theObjectName = new ObjectName(myStatistics.getObjectName());
+        assertEquals("EventRegistryStatistics", theObjectName.getKeyProperty("type"));
+        assertNotNull(theObjectName.getKeyProperty("context"));
+        assertNotNull(theObjectName.getKeyProperty("instance"));
+
+        assertTrue(myStatistics.register());
+        assertTrue(theMBeanServer.isRegistered(theObjectName));
+        //a repeated registration keeps the registration
+        assertTrue(myStatistics.register());
+
+        myEventRegistry.registerUser(TEST_DOMAIN, TEST_USER_ID, null);
+        assertEquals(1, theMBeanServer.getAttribute(theObjectName, "UserCount"));
+
+        //other statistics (for example of another web application) are registered with another name
+        EventRegistryStatistics theOtherStatistics = new EventRegistryStatistics(new DefaultUserManager(99999999), null);
+        ObjectName theOtherObjectName = new ObjectName(theOtherStatistics.getObjectName());
+        assertFalse(theObjectName.equals(theOtherObjectName));
+        assertTrue(theOtherStatistics.register());
+        assertEquals(1, theMBeanServer.getAttribute(theObjectName, "UserCount"));
+        assertEquals(0, theMBeanServer.getAttribute(theOtherObjectName, "UserCount"));
+        Set<ObjectName> theObjectNames = theMBeanServer.queryNames(new ObjectName(EventRegistryStatistics.OBJECT_NAME + ",*"), null);
+        assertTrue(theObjectNames.contains(theObjectName));
+        assertTrue(theObjectNames.contains(theOtherObjectName));
+
+        myStatistics.unregister();
+        assertFalse(theMBeanServer.isRegistered(theObjectName));
+        assertTrue(theMBeanServer.isRegistered(theOtherObjectName));
+
+        theOtherStatistics.unregister();
+        assertFalse(theMBeanServer.isRegistered(theOtherObjectName));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:34:23
+ */
+@RunWith(JUnit4.class)
+public class LatencyHistogramTest
+{
+    @Test
+    public void testRecord() {
+        LatencyHistogram theHistogram = new LatencyHistogram();
+        LatencyHistogram.Snapshot theSnapshot = theHistogram.getSnapshot();
+        assertEquals(0, theSnapshot.getCount());
+        assertEquals(0, theSnapshot.getPercentile(50));
+        assertEquals(0, theSnapshot.getMax());
+
+        for(int i = 1; i <= 100; i++) {
+            theHistogram.record(i);
+        }
+        theSnapshot = theHistogram.getSnapshot();
+        assertEquals(100, theSnapshot.getCount());
+        //small values are recorded exactly
+        assertEquals(50, theSnapshot.getPercentile(50));
+        assertEquals(99, theSnapshot.getPercentile(99));
+        assertEquals(100, theSnapshot.getPercentile(99.9));
+        assertEquals(100, theSnapshot.getPercentile(100));
+        assertEquals(100, theSnapshot.getMax());
+        assertEquals("count=100, p50=50us, p99=99us, p99.9=100us, max=100us", theSnapshot.toString());
+    }
+
+    @Test
+    public void testRecord_HighDynamicRange() {
+        final long[] theValues = {127, 128, 1000, 65432, 1000000, 3600000000L};
+        for(long theValue: theValues) {
+            LatencyHistogram theHistogram = new LatencyHistogram();
+            theHistogram.record(theValue);
+            final long theRecordedValue = theHistogram.getSnapshot().getMax();
+            assertTrue(theValue + " / " + theRecordedValue, theRecordedValue >= theValue);
+            assertTrue(theValue + " / " + theRecordedValue, theRecordedValue <= theValue * 1.016);
+        }
+    }
+
+    @Test
+    public void testRecord_OutOfRange() {
+        LatencyHistogram theHistogram = new LatencyHistogram();
+        theHistogram.record(-5);
+        assertEquals(0, theHistogram.getSnapshot().getMax());
+
+        theHistogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot theSnapshot = theHistogram.getSnapshot();
+        assertEquals(2, theSnapshot.getCount());
+        assertEquals((1L << 36) - 1, theSnapshot.getMax());
+    }
+
+    @Test
+    public void testGetWindowSnapshot() {
+        LatencyHistogram theHistogram = new LatencyHistogram();
+        theHistogram.record(10);
+        theHistogram.record(20);
+
+        //every window snapshot completes a window when the window time is 0
+        LatencyHistogram.Snapshot theSnapshot = theHistogram.getWindowSnapshot(0);
+        assertEquals(2, theSnapshot.getCount());
+        assertEquals(20, theSnapshot.getMax());
+
+        assertEquals(0, theHistogram.getWindowSnapshot(0).getCount());
+
+        theHistogram.record(5);
+        theSnapshot = theHistogram.getWindowSnapshot(0);
+        assertEquals(1, theSnapshot.getCount());
+        assertEquals(5, theSnapshot.getMax());
+
+        //the complete snapshot contains all recorded values
+        assertEquals(3, theHistogram.getSnapshot().getCount());
+    }
+
+    @Test
+    public void testGetWindowSnapshot_Readers() {
+        LatencyHistogram theHistogram = new LatencyHistogram();
+        theHistogram.record(10);
+        theHistogram.record(20);
+
+        //all recorded values are returned until the first window is completed
+        assertEquals(2, theHistogram.getWindowSnapshot(Long.MAX_VALUE).getCount());
+        theHistogram.record(5);
+        assertEquals(3, theHistogram.getWindowSnapshot(Long.MAX_VALUE).getCount());
+
+        //all readers within a window get the same snapshot
+        LatencyHistogram.Snapshot theSnapshot = theHistogram.getWindowSnapshot(0);
+        assertEquals(3, theSnapshot.getCount());
+        theHistogram.record(30);
+        assertSame(theSnapshot, theHistogram.getWindowSnapshot(Long.MAX_VALUE));
+        assertSame(theSnapshot, theHistogram.getWindowSnapshot(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testRecord_Concurrent() throws Exception {
+        final LatencyHistogram theHistogram = new LatencyHistogram();
+        Thread[] theThreads = new Thread[4];
+        for(int i = 0; i < theThreads.length; i++) {
+            theThreads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for(int j = 0; j < 10000; j++) {
+                        theHistogram.record(j);
+                    }
+                }
+            });
+            theThreads[i].start();
+        }
+        for(Thread theThread: theThreads) {
+            theThread.join();
+        }
+        assertEquals(40000, theHistogram.getSnapshot().getCount());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.statistics;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:26:09
+ */
+@RunWith(JUnit4.class)
+public class StripedCounterTest
+{
+    @Test
+    public void testAdd() {
+        StripedCounter theCounter = new StripedCounter(3);
+        assertEquals(0, theCounter.sum());
+
+        theCounter.increment();
+        theCounter.increment();
+        assertEquals(2, theCounter.sum());
+
+        theCounter.add(10);
+        assertEquals(12, theCounter.sum());
+
+        theCounter.decrement();
+        theCounter.add(-5);
+        assertEquals(6, theCounter.sum());
+        assertEquals("6", theCounter.toString());
+    }
+
+    @Test
+    public void testAdd_Concurrent() throws Exception {
+        final StripedCounter theCounter = new StripedCounter();
+        Thread[] theThreads = new Thread[8];
+        for(int i = 0; i < theThreads.length; i++) {
+            theThreads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for(int j = 0; j < 10000; j++) {
+                        theCounter.increment();
+                    }
+                }
+            });
+            theThreads[i].start();
+        }
+        for(Thread theThread: theThreads) {
+            theThread.join();
+        }
+        assertEquals(80000, theCounter.sum());
+    }
+}
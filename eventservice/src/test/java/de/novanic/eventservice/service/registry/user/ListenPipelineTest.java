@@ -0,0 +1,175 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+@RunWith(JUnit4.class)
+public class ListenPipelineTest
+{
+    @Test
+    public void testAcquire() throws Exception {
+        ListenPipeline theListenPipeline = new ListenPipeline();
+        assertEquals(0, theListenPipeline.getNextSequenceNumber());
+        assertFalse(theListenPipeline.isHeld());
+
+        assertTrue(theListenPipeline.acquire(0, 0));
+        assertTrue(theListenPipeline.isHeld());
+
+        //the turn is held by the first listen request
+        assertFalse(theListenPipeline.acquire(1, 50));
+
+        theListenPipeline.release(0);
+        assertFalse(theListenPipeline.isHeld());
+        //the second listen request gave up waiting, so it is skipped
+        assertEquals(2, theListenPipeline.getNextSequenceNumber());
+
+        assertTrue(theListenPipeline.acquire(2, 0));
+        theListenPipeline.release(2);
+        assertEquals(3, theListenPipeline.getNextSequenceNumber());
+    }
+
+    @Test
+    public void testAcquire_Skip() throws Exception {
+        ListenPipeline theListenPipeline = new ListenPipeline();
+        assertTrue(theListenPipeline.acquire(0, 0));
+
+        //the listen requests 1 and 3 give up waiting, while the first listen request holds the events
+        assertFalse(theListenPipeline.acquire(1, 10));
+        assertFalse(theListenPipeline.acquire(3, 10));
+
+        //the following listen request gets the turn directly, without waiting for the skipped listen request
+        AcquireRunnable theAcquireRunnable = new AcquireRunnable(theListenPipeline, 2, 2000);
+        Thread theAcquireThread = new Thread(theAcquireRunnable);
+        theAcquireThread.start();
+        Thread.sleep(50);
+        assertTrue(theAcquireThread.isAlive());
+
+        final long theStartTime = System.currentTimeMillis();
+        theListenPipeline.release(0);
+        theAcquireThread.join();
+        assertTrue(theAcquireRunnable.isAcquired);
+        assertTrue(System.currentTimeMillis() - theStartTime < 1000);
+        assertEquals(2, theListenPipeline.getNextSequenceNumber());
+
+        //the skipped listen request 3 is passed, too
+        theListenPipeline.release(2);
+        assertEquals(4, theListenPipeline.getNextSequenceNumber());
+        assertTrue(theListenPipeline.acquire(4, 0));
+        theListenPipeline.release(4);
+        assertEquals(5, theListenPipeline.getNextSequenceNumber());
+    }
+
+    @Test
+    public void testAcquire_Skip_Restart() throws Exception {
+        ListenPipeline theListenPipeline = new ListenPipeline();
+        assertTrue(theListenPipeline.acquire(0, 0));
+        assertFalse(theListenPipeline.acquire(2, 10));
+        theListenPipeline.release(0);
+        assertEquals(1, theListenPipeline.getNextSequenceNumber());
+
+        //the skipped sequence number of the former sequence isn't skipped after the restart
+        assertTrue(theListenPipeline.acquire(0, 0));
+        theListenPipeline.release(0);
+        assertEquals(1, theListenPipeline.getNextSequenceNumber());
+        assertTrue(theListenPipeline.acquire(1, 0));
+        theListenPipeline.release(1);
+        assertEquals(2, theListenPipeline.getNextSequenceNumber());
+    }
+
+    @Test
+    public void testAcquire_Order() throws Exception {
+        final ListenPipeline theListenPipeline = new ListenPipeline();
+
+        //the second listen request waits for the first listen request
+        AcquireRunnable theAcquireRunnable = new AcquireRunnable(theListenPipeline, 1, 2000);
+        Thread theAcquireThread = new Thread(theAcquireRunnable);
+        theAcquireThread.start();
+        Thread.sleep(100);
+        assertTrue(theAcquireThread.isAlive());
+
+        assertTrue(theListenPipeline.acquire(0, 0));
+        Thread.sleep(100);
+        assertTrue(theAcquireThread.isAlive());
+
+        theListenPipeline.release(0);
+        theAcquireThread.join();
+        assertTrue(theAcquireRunnable.isAcquired);
+        assertTrue(theListenPipeline.isHeld());
+    }
+
+    @Test
+    public void testAcquire_Gap() throws Exception {
+        ListenPipeline theListenPipeline = new ListenPipeline();
+
+        //the previous listen request doesn't arrive, so the turn is taken over after the waiting time
+        final long theStartTime = System.currentTimeMillis();
+        assertTrue(theListenPipeline.acquire(1, 100));
+        assertTrue(System.currentTimeMillis() - theStartTime >= 90);
+        theListenPipeline.release(1);
+        assertEquals(2, theListenPipeline.getNextSequenceNumber());
+    }
+
+    @Test
+    public void testAcquire_Restart() throws Exception {
+        ListenPipeline theListenPipeline = new ListenPipeline();
+        assertTrue(theListenPipeline.acquire(5, 0));
+        theListenPipeline.release(5);
+        assertEquals(6, theListenPipeline.getNextSequenceNumber());
+
+        //a re-initialized client starts with a lower sequence number
+        assertTrue(theListenPipeline.acquire(0, 0));
+        theListenPipeline.release(0);
+        assertEquals(1, theListenPipeline.getNextSequenceNumber());
+    }
+
+    private static class AcquireRunnable implements Runnable
+    {
+        private final ListenPipeline myListenPipeline;
+        private final long mySequenceNumber;
+        private final long myWaitingTime;
+        private volatile boolean isAcquired;
+
+        private AcquireRunnable(ListenPipeline aListenPipeline, long aSequenceNumber, long aWaitingTime) {
+            myListenPipeline = aListenPipeline;
+            mySequenceNumber = aSequenceNumber;
+            myWaitingTime = aWaitingTime;
+        }
+
+        public void run() {
+            try {
+                isAcquired = myListenPipeline.acquire(mySequenceNumber, myWaitingTime);
+            } catch(InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
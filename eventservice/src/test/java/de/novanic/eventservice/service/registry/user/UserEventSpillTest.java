@@ -0,0 +1,175 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.test.testhelper.DummyEvent;
+import de.novanic.eventservice.test.testhelper.UnreadableEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:11:00
+ */
+@RunWith(JUnit4.class)
+public class UserEventSpillTest
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+
+    private UserEventSpill myUserEventSpill;
+
+    @Before
+    public void setUp() throws Exception {
+        File theFile = File.createTempFile("eventservice-spill-test-", ".events");
+        theFile.deleteOnExit();
+        myUserEventSpill = new UserEventSpill(theFile, 64);
+    }
+
+    @After
+    public void tearDown() {
+        myUserEventSpill.close();
+    }
+
+    @Test
+    public void testAddPoll() throws Exception {
+        assertTrue(myUserEventSpill.isEmpty());
+        assertNull(myUserEventSpill.poll());
+
+        DummyEvent theEvent = new DummyEvent();
+        DummyEvent theEvent_2 = new DummyEvent();
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theEvent, 1234567890123L));
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theEvent_2, 1234567890124L));
+        assertFalse(myUserEventSpill.isEmpty());
+        assertEquals(2, myUserEventSpill.size());
+
+        QueuedEvent theQueuedEvent = myUserEventSpill.poll();
+        assertEquals(TEST_DOMAIN, theQueuedEvent.getDomain());
+        assertEquals(theEvent, theQueuedEvent.getEvent());
+        assertEquals(1234567890123L, theQueuedEvent.getEnqueueTime());
+        assertEquals(1, myUserEventSpill.size());
+
+        assertEquals(theEvent_2, myUserEventSpill.poll().getEvent());
+        assertTrue(myUserEventSpill.isEmpty());
+        assertNull(myUserEventSpill.poll());
+    }
+
+    @Test
+    public void testPeekEnqueueTime() throws Exception {
+        assertEquals(Long.MAX_VALUE, myUserEventSpill.peekEnqueueTime());
+
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, new DummyEvent(), 1234567890123L));
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, new DummyEvent(), 1234567890124L));
+        assertEquals(1234567890123L, myUserEventSpill.peekEnqueueTime());
+        assertEquals(2, myUserEventSpill.size());
+
+        myUserEventSpill.poll();
+        assertEquals(1234567890124L, myUserEventSpill.peekEnqueueTime());
+        myUserEventSpill.poll();
+        assertEquals(Long.MAX_VALUE, myUserEventSpill.peekEnqueueTime());
+    }
+
+    @Test
+    public void testAddPoll_Growth() throws Exception {
+        DummyEvent[] theEvents = new DummyEvent[100];
+        for(int i = 0; i < theEvents.length; i++) {
+            theEvents[i] = new DummyEvent();
+            myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theEvents[i], 0));
+        }
+        assertEquals(100, myUserEventSpill.size());
+        assertTrue(myUserEventSpill.getFile().length() > 64);
+
+        //read a part and add further events to compact the buffer
+        for(int i = 0; i < 50; i++) {
+            assertEquals(theEvents[i], myUserEventSpill.poll().getEvent());
+        }
+        DummyEvent[] theFurtherEvents = new DummyEvent[100];
+        for(int i = 0; i < theFurtherEvents.length; i++) {
+            theFurtherEvents[i] = new DummyEvent();
+            myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theFurtherEvents[i], 0));
+        }
+        assertEquals(150, myUserEventSpill.size());
+
+        for(int i = 50; i < theEvents.length; i++) {
+            assertEquals(theEvents[i], myUserEventSpill.poll().getEvent());
+        }
+        for(DummyEvent theFurtherEvent: theFurtherEvents) {
+            assertEquals(theFurtherEvent, myUserEventSpill.poll().getEvent());
+        }
+        assertTrue(myUserEventSpill.isEmpty());
+    }
+
+    @Test
+    public void testPoll_Error() throws Exception {
+        DummyEvent theEvent = new DummyEvent();
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, new UnreadableEvent(), 0));
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theEvent, 0));
+
+        UnreadableEvent.setReadable(false);
+        try {
+            //the unreadable event is skipped and doesn't block the following event
+            assertEquals(theEvent, myUserEventSpill.poll().getEvent());
+        } finally {
+            UnreadableEvent.setReadable(true);
+        }
+        assertTrue(myUserEventSpill.isEmpty());
+        assertNull(myUserEventSpill.poll());
+    }
+
+    @Test
+    public void testPoll_Error_Last() throws Exception {
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, new UnreadableEvent(), 0));
+
+        UnreadableEvent.setReadable(false);
+        try {
+            assertNull(myUserEventSpill.poll());
+        } finally {
+            UnreadableEvent.setReadable(true);
+        }
+        assertTrue(myUserEventSpill.isEmpty());
+
+        //the space of the skipped event is reused
+        DummyEvent theEvent = new DummyEvent();
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, theEvent, 0));
+        assertEquals(theEvent, myUserEventSpill.poll().getEvent());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        myUserEventSpill.add(new QueuedEvent(TEST_DOMAIN, new DummyEvent(), 0));
+        File theFile = myUserEventSpill.getFile();
+        assertTrue(theFile.exists());
+
+        myUserEventSpill.close();
+        assertFalse(theFile.exists());
+        assertTrue(myUserEventSpill.isEmpty());
+    }
+}
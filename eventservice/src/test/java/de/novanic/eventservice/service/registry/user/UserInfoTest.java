@@ -24,14 +24,22 @@ package de.novanic.eventservice.service.registry.user;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.service.registry.domain.DomainEventLog;
+import de.novanic.eventservice.service.registry.statistics.DeliveryLatencyStatistics;
 import de.novanic.eventservice.test.testhelper.DummyEvent;
 import de.novanic.eventservice.test.testhelper.EventFilterTestMode;
+import de.novanic.eventservice.test.testhelper.UnreadableEvent;
 import de.novanic.eventservice.util.PlatformUtil;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -117,6 +125,48 @@ public class UserInfoTest
         assertTrue(myUserInfo.retrieveEvents(1000).isEmpty()); //all events got
     }
 
+    @Test
+    public void testAddEvents() {
+        assertTrue(myUserInfo.retrieveEvents(1000).isEmpty());
+
+        myUserInfo.addEvents(TEST_DOMAIN, Collections.<Event>emptyList());
+        assertTrue(myUserInfo.isEventsEmpty());
+
+        List<Event> theEvents = new ArrayList<Event>();
+        for(int i = 0; i < 10; i++) {
+            theEvents.add(new DummyEvent());
+        }
+        myUserInfo.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        myUserInfo.addEvents(TEST_DOMAIN, theEvents);
+        assertEquals(11, myUserInfo.getEventCount());
+
+        List<DomainEvent> theDomainEvents = myUserInfo.retrieveEvents(1000);
+        assertEquals(11, theDomainEvents.size());
+        assertEquals(TEST_DOMAIN_2, theDomainEvents.get(0).getDomain());
+        for(int i = 0; i < 10; i++) {
+            assertEquals(TEST_DOMAIN, theDomainEvents.get(i + 1).getDomain());
+            assertSame(theEvents.get(i), theDomainEvents.get(i + 1).getEvent());
+        }
+        assertTrue(myUserInfo.retrieveEvents(1000).isEmpty()); //all events got
+    }
+
+    @Test
+    public void testAddEvents_Spill() throws Exception {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 3, null));
+        try {
+            List<Event> theEvents = new ArrayList<Event>();
+            for(int i = 0; i < 5; i++) {
+                theEvents.add(new DummyEvent());
+            }
+            theUserInfo.addEvents(TEST_DOMAIN, theEvents);
+            assertTrue(theUserInfo.isEventsSpilled());
+            assertEquals(5, theUserInfo.getEventCount());
+            assertEquals(5, theUserInfo.retrieveEvents(1000).size());
+        } finally {
+            theUserInfo.release();
+        }
+    }
+
     @Test
     public void testRetrieveEvents() {
         assertEquals(0, myUserInfo.retrieveEvents(1).size());
@@ -246,6 +296,426 @@ public class UserInfoTest
         assertEquals(0, myUserInfo.getLastActivityTime());
     }
 
+    @Test
+    public void testGetEventCount() {
+        assertEquals(0, myUserInfo.getEventCount());
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        myUserInfo.addEvent(TEST_DOMAIN_2, new DummyEvent());
+        assertEquals(2, myUserInfo.getEventCount());
+
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+        theDomainEventLog.addEvent(new DummyEvent());
+        assertEquals(3, myUserInfo.getEventCount());
+
+        assertEquals(1, myUserInfo.retrieveEvents(1).size());
+        assertEquals(2, myUserInfo.getEventCount());
+        assertEquals(2, myUserInfo.retrieveEvents(1000).size());
+        assertEquals(0, myUserInfo.getEventCount());
+    }
+
+    @Test
+    public void testRetrieveEvents_DeliveryLatency() throws Exception {
+        DeliveryLatencyStatistics theDeliveryLatencyStatistics = new DeliveryLatencyStatistics();
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //the latency is only recorded when the statistics are set
+        assertEquals(1, myUserInfo.retrieveEvents(1000, "connector").size());
+        assertNull(theDeliveryLatencyStatistics.getDomainHistogram(TEST_DOMAIN));
+
+        myUserInfo.setDeliveryLatencyStatistics(theDeliveryLatencyStatistics);
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN_2);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        theDomainEventLog.addEvent(new DummyEvent());
+        Thread.sleep(20);
+
+        assertEquals(2, myUserInfo.retrieveEvents(1000, "connector").size());
+        assertEquals(1, theDeliveryLatencyStatistics.getDomainHistogram(TEST_DOMAIN).getSnapshot().getCount());
+        assertTrue(theDeliveryLatencyStatistics.getDomainHistogram(TEST_DOMAIN).getSnapshot().getMax() >= 20000);
+        assertEquals(1, theDeliveryLatencyStatistics.getDomainHistogram(TEST_DOMAIN_2).getSnapshot().getCount());
+        assertTrue(theDeliveryLatencyStatistics.getDomainHistogram(TEST_DOMAIN_2).getSnapshot().getMax() >= 20000);
+        assertEquals(2, theDeliveryLatencyStatistics.getConnectorHistogram("connector").getSnapshot().getCount());
+    }
+
+    @Test
+    public void testGetOldestEventAge() throws Exception {
+        assertEquals(0, myUserInfo.getOldestEventAge());
+
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN_2);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+        theDomainEventLog.addEvent(new DummyEvent());
+        Thread.sleep(50);
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+
+        //the event of the domain log is the oldest event and is retrieved first
+        assertTrue(myUserInfo.getOldestEventAge() >= 50);
+        List<DomainEvent> theDomainEvents = myUserInfo.retrieveEvents(1);
+        assertEquals(1, theDomainEvents.size());
+        assertEquals(TEST_DOMAIN_2, theDomainEvents.get(0).getDomain());
+        assertTrue(myUserInfo.getOldestEventAge() < 50);
+        assertEquals(1, myUserInfo.retrieveEvents(1).size());
+        assertEquals(0, myUserInfo.retrieveEvents(1).size());
+        assertEquals(0, myUserInfo.getOldestEventAge());
+    }
+
+    @Test
+    public void testGetOldestEventAge_Spill() throws Exception {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 1, null));
+        try {
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            Thread.sleep(50);
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            assertTrue(theUserInfo.isEventsSpilled());
+            assertTrue(theUserInfo.getOldestEventAge() >= 50);
+
+            assertEquals(1, theUserInfo.retrieveEvents(1).size());
+            assertTrue(theUserInfo.getOldestEventAge() < 50);
+        } finally {
+            theUserInfo.release();
+        }
+    }
+
+    @Test
+    public void testGetLastDrainTime() throws Exception {
+        final long theCreationDrainTime = myUserInfo.getLastDrainTime();
+        assertTrue(theCreationDrainTime > 0);
+        Thread.sleep(20);
+
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        myUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        //not all events are retrieved
+        assertEquals(1, myUserInfo.retrieveEvents(1).size());
+        assertEquals(theCreationDrainTime, myUserInfo.getLastDrainTime());
+
+        assertEquals(1, myUserInfo.retrieveEvents(1).size());
+        assertTrue(myUserInfo.getLastDrainTime() >= theCreationDrainTime + 20);
+    }
+
+    @Test
+    public void testIsEventFiltered() {
+        assertFalse(myUserInfo.isEventFiltered(TEST_DOMAIN, new DummyEvent()));
+        assertEquals(0, myUserInfo.getFilterEvaluationCount());
+
+        myUserInfo.setEventFilter(TEST_DOMAIN, new EventFilterTestMode());
+        assertFalse(myUserInfo.isEventFiltered(TEST_DOMAIN, new DummyEvent()));
+        assertTrue(myUserInfo.isEventFiltered(TEST_DOMAIN, new DummyEvent()));
+        assertFalse(myUserInfo.isEventFiltered(TEST_DOMAIN_2, new DummyEvent()));
+        assertEquals(2, myUserInfo.getFilterEvaluationCount());
+    }
+
+    @Test
+    public void testIsEventFiltered_Concurrent() throws Exception {
+        myUserInfo.setEventFilter(TEST_DOMAIN, new EventFilterTestMode());
+
+        Thread[] theThreads = new Thread[4];
+        for(int i = 0; i < theThreads.length; i++) {
+            theThreads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for(int j = 0; j < 10000; j++) {
+                        myUserInfo.isEventFiltered(TEST_DOMAIN, new DummyEvent());
+                    }
+                }
+            });
+            theThreads[i].start();
+        }
+        for(Thread theThread: theThreads) {
+            theThread.join();
+        }
+        assertEquals(40000, myUserInfo.getFilterEvaluationCount());
+    }
+
+    @Test
+    public void testGetFilterTime() {
+        assertEquals(0, myUserInfo.getFilterTime());
+
+        myUserInfo.setEventFilter(TEST_DOMAIN, new EventFilter() {
+            public boolean match(Event anEvent) {
+                try {
+                    Thread.sleep(5);
+                } catch(InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return false;
+            }
+        });
+        //the first evaluation is measured and extrapolated to the sampled evaluations
+        myUserInfo.isEventFiltered(TEST_DOMAIN, new DummyEvent());
+        assertTrue(myUserInfo.getFilterTime() >= 5000000L * 16);
+    }
+
+    @Test
+    public void testGetEventCount_Spill() {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 2, null));
+        try {
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            assertEquals(1, theUserInfo.getEventCount());
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            assertTrue(theUserInfo.isEventsSpilled());
+            assertEquals(3, theUserInfo.getEventCount());
+
+            assertEquals(2, theUserInfo.retrieveEvents(2).size());
+            assertEquals(1, theUserInfo.getEventCount());
+        } finally {
+            theUserInfo.release();
+        }
+    }
+
+    @Test
+    public void testAddEvent_Spill_MaxEvents() {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 3, null));
+        DummyEvent[] theEvents = new DummyEvent[5];
+        for(int i = 0; i < theEvents.length; i++) {
+            theEvents[i] = new DummyEvent();
+        }
+
+        theUserInfo.addEvent(TEST_DOMAIN, theEvents[0]);
+        theUserInfo.addEvent(TEST_DOMAIN_2, theEvents[1]);
+        assertFalse(theUserInfo.isEventsSpilled());
+
+        theUserInfo.addEvent(TEST_DOMAIN, theEvents[2]);
+        assertTrue(theUserInfo.isEventsSpilled());
+        assertFalse(theUserInfo.isEventsEmpty());
+        theUserInfo.addEvent(TEST_DOMAIN, theEvents[3]);
+        theUserInfo.addEvent(TEST_DOMAIN_2, theEvents[4]);
+
+        List<DomainEvent> theDomainEvents = theUserInfo.retrieveEvents(2);
+        assertEquals(2, theDomainEvents.size());
+        assertEquals(theEvents[0], theDomainEvents.get(0).getEvent());
+        assertEquals(TEST_DOMAIN_2, theDomainEvents.get(1).getDomain());
+        assertEquals(theEvents[1], theDomainEvents.get(1).getEvent());
+        assertTrue(theUserInfo.isEventsSpilled());
+
+        theDomainEvents = theUserInfo.retrieveEvents(1000);
+        assertEquals(3, theDomainEvents.size());
+        for(int i = 0; i < theDomainEvents.size(); i++) {
+            assertEquals(theEvents[i + 2], theDomainEvents.get(i).getEvent());
+        }
+        assertFalse(theUserInfo.isEventsSpilled());
+        assertTrue(theUserInfo.isEventsEmpty());
+
+        //the events are hold in memory again
+        theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertFalse(theUserInfo.isEventsSpilled());
+        assertEquals(1, theUserInfo.retrieveEvents(1000).size());
+        theUserInfo.release();
+    }
+
+    @Test
+    public void testAddEvent_Spill_Inactive() throws Exception {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(100, 0, null));
+        DummyEvent theEvent = new DummyEvent();
+        DummyEvent theEvent_2 = new DummyEvent();
+
+        theUserInfo.addEvent(TEST_DOMAIN, theEvent);
+        assertFalse(theUserInfo.isEventsSpilled());
+
+        Thread.sleep(200);
+
+        theUserInfo.addEvent(TEST_DOMAIN, theEvent_2);
+        assertTrue(theUserInfo.isEventsSpilled());
+
+        List<DomainEvent> theDomainEvents = theUserInfo.retrieveEvents(1000);
+        assertEquals(2, theDomainEvents.size());
+        assertEquals(theEvent, theDomainEvents.get(0).getEvent());
+        assertEquals(theEvent_2, theDomainEvents.get(1).getEvent());
+        assertTrue(theUserInfo.isEventsEmpty());
+        theUserInfo.release();
+    }
+
+    @Test
+    public void testAddEvent_Spill_Listening() throws Exception {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(100, 0, null));
+
+        //a waiting listen call isn't an inactivity
+        theUserInfo.startListening();
+        assertTrue(theUserInfo.isListening());
+        Thread.sleep(200);
+        theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertFalse(theUserInfo.isEventsSpilled());
+
+        theUserInfo.finishListening();
+        assertFalse(theUserInfo.isListening());
+        theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+        assertTrue(theUserInfo.isEventsSpilled());
+
+        assertEquals(2, theUserInfo.retrieveEvents(1000).size());
+        theUserInfo.release();
+    }
+
+    @Test
+    public void testRetrieveEvents_Spill_Error() {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 1, null));
+        DummyEvent theEvent = new DummyEvent();
+        theUserInfo.addEvent(TEST_DOMAIN, new UnreadableEvent());
+        theUserInfo.addEvent(TEST_DOMAIN, theEvent);
+        assertTrue(theUserInfo.isEventsSpilled());
+
+        UnreadableEvent.setReadable(false);
+        List<DomainEvent> theDomainEvents;
+        try {
+            theDomainEvents = theUserInfo.retrieveEvents(1000);
+        } finally {
+            UnreadableEvent.setReadable(true);
+        }
+        //the unreadable event is skipped and doesn't block the following events
+        assertEquals(1, theDomainEvents.size());
+        assertEquals(theEvent, theDomainEvents.get(0).getEvent());
+        assertFalse(theUserInfo.isEventsSpilled());
+        assertEquals(0, theUserInfo.getEventCount());
+        assertTrue(theUserInfo.isEventsEmpty());
+        theUserInfo.release();
+    }
+
+    @Test
+    public void testRelease() {
+        File theDirectory = new File(System.getProperty("java.io.tmpdir"), "eventservice-spill-test");
+        assertTrue(theDirectory.isDirectory() || theDirectory.mkdirs());
+        try {
+            UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 1, theDirectory));
+            theUserInfo.addEvent(TEST_DOMAIN, new DummyEvent());
+            assertTrue(theUserInfo.isEventsSpilled());
+            assertEquals(1, theDirectory.listFiles().length);
+
+            theUserInfo.release();
+            assertFalse(theUserInfo.isEventsSpilled());
+            assertTrue(theUserInfo.isEventsEmpty());
+            assertEquals(0, theDirectory.listFiles().length);
+        } finally {
+            theDirectory.delete();
+        }
+    }
+
+    @Test
+    public void testRetrieveEvents_DomainLog() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        DomainEventLog theDomainEventLog_2 = new DomainEventLog(TEST_DOMAIN_2);
+        assertTrue(myUserInfo.addDomainCursor(theDomainEventLog.createCursor()));
+        assertTrue(myUserInfo.addDomainCursor(theDomainEventLog_2.createCursor()));
+        assertFalse(myUserInfo.addDomainCursor(theDomainEventLog.createCursor()));
+        assertTrue(myUserInfo.isEventsEmpty());
+
+        DummyEvent theEvent_1 = new DummyEvent();
+        DummyEvent theEvent_2 = new DummyEvent();
+        DummyEvent theEvent_3 = new DummyEvent();
+        DummyEvent theUserEvent = new DummyEvent();
+        theDomainEventLog.addEvent(theEvent_1);
+        theDomainEventLog_2.addEvent(theEvent_2);
+        theDomainEventLog.addEvent(theEvent_3);
+        myUserInfo.addEvent(DomainFactory.USER_SPECIFIC_DOMAIN, theUserEvent);
+        assertFalse(myUserInfo.isEventsEmpty());
+
+        //the events which are added to the user directly and the events of the logs are merged in the order of occurrence
+        List<DomainEvent> theEvents = myUserInfo.retrieveEvents(3);
+        assertEquals(3, theEvents.size());
+        assertEquals(theEvent_1, theEvents.get(0).getEvent());
+        assertEquals(TEST_DOMAIN, theEvents.get(0).getDomain());
+        assertEquals(theEvent_2, theEvents.get(1).getEvent());
+        assertEquals(TEST_DOMAIN_2, theEvents.get(1).getDomain());
+        assertEquals(theEvent_3, theEvents.get(2).getEvent());
+
+        theEvents = myUserInfo.retrieveEvents(1000);
+        assertEquals(1, theEvents.size());
+        assertEquals(theUserEvent, theEvents.get(0).getEvent());
+        assertTrue(myUserInfo.isEventsEmpty());
+
+        //the events of a removed cursor aren't read anymore
+        assertTrue(myUserInfo.removeDomainCursor(TEST_DOMAIN_2));
+        assertFalse(myUserInfo.removeDomainCursor(TEST_DOMAIN_2));
+        theDomainEventLog_2.addEvent(new DummyEvent());
+        assertTrue(myUserInfo.isEventsEmpty());
+        assertTrue(myUserInfo.retrieveEvents(1000).isEmpty());
+    }
+
+    @Test
+    public void testRetrieveEvents_DomainLog_EventFilter() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+
+        for(int i = 0; i < 4; i++) {
+            theDomainEventLog.addEvent(new DummyEvent());
+        }
+        //the EventFilter is evaluated when the events are read
+        myUserInfo.setEventFilter(TEST_DOMAIN, new EventFilterTestMode());
+        assertEquals(2, myUserInfo.retrieveEvents(1000).size());
+    }
+
+    @Test
+    public void testRetrieveEvents_DomainLog_Order() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+
+        Event[] theEvents = new Event[6];
+        for(int i = 0; i < theEvents.length; i++) {
+            theEvents[i] = new DummyEvent();
+            if(i % 3 == 0) {
+                myUserInfo.addEvent(DomainFactory.USER_SPECIFIC_DOMAIN, theEvents[i]);
+            } else {
+                theDomainEventLog.addEvent(theEvents[i]);
+            }
+        }
+        List<DomainEvent> theDomainEvents = myUserInfo.retrieveEvents(1000);
+        assertEquals(theEvents.length, theDomainEvents.size());
+        for(int i = 0; i < theEvents.length; i++) {
+            assertEquals(theEvents[i], theDomainEvents.get(i).getEvent());
+        }
+        assertTrue(myUserInfo.isEventsEmpty());
+    }
+
+    @Test
+    public void testRetrieveEvents_DomainLog_Order_Spill() {
+        UserInfo theUserInfo = new UserInfo("test_user_id", new UserEventSpillPolicy(0, 2, null));
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        theUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+
+        Event[] theEvents = new Event[8];
+        for(int i = 0; i < theEvents.length; i++) {
+            theEvents[i] = new DummyEvent();
+            if(i % 2 == 0) {
+                theUserInfo.addEvent(DomainFactory.USER_SPECIFIC_DOMAIN, theEvents[i]);
+            } else {
+                theDomainEventLog.addEvent(theEvents[i]);
+            }
+        }
+        assertTrue(theUserInfo.isEventsSpilled());
+
+        List<DomainEvent> theDomainEvents = theUserInfo.retrieveEvents(5);
+        theDomainEvents.addAll(theUserInfo.retrieveEvents(1000));
+        assertEquals(theEvents.length, theDomainEvents.size());
+        for(int i = 0; i < theEvents.length; i++) {
+            assertEquals(theEvents[i], theDomainEvents.get(i).getEvent());
+        }
+        assertTrue(theUserInfo.isEventsEmpty());
+        theUserInfo.release();
+    }
+
+    @Test
+    public void testRetrieveEvents_DomainLog_MaxScannedEvents() {
+        DomainEventLog theDomainEventLog = new DomainEventLog(TEST_DOMAIN);
+        myUserInfo.addDomainCursor(theDomainEventLog.createCursor());
+        myUserInfo.setEventFilter(TEST_DOMAIN, new EventFilter() {
+            public boolean match(Event anEvent) {
+                return anEvent instanceof DummyEvent;
+            }
+        });
+        for(int i = 0; i < 15000; i++) {
+            theDomainEventLog.addEvent(new DummyEvent());
+        }
+        Event theValidEvent = new Event() {};
+        theDomainEventLog.addEvent(theValidEvent);
+
+        //the filtered events are counted, so the amount of read events is limited per call
+        assertTrue(myUserInfo.retrieveEvents(1000).isEmpty());
+        assertEquals(5001, myUserInfo.getEventCount());
+        assertFalse(myUserInfo.isEventsEmpty());
+
+        List<DomainEvent> theDomainEvents = myUserInfo.retrieveEvents(1000);
+        assertEquals(1, theDomainEvents.size());
+        assertEquals(theValidEvent, theDomainEvents.get(0).getEvent());
+        assertTrue(myUserInfo.isEventsEmpty());
+    }
+
     @Test
     public void testEquals() {
         UserInfo theOtherUserInfo = new UserInfo("test_user_id");
@@ -163,6 +163,66 @@ public class UserManagerFactoryTest
             return 1000;
         }
 
+        public String getRemoteRegistryAddress() {
+            return null;
+        }
+
+        public Integer getSpillTime() {
+            return null;
+        }
+
+        public Integer getSpillMaxEvents() {
+            return null;
+        }
+
+        public String getSpillDirectory() {
+            return null;
+        }
+
+        public Boolean isSharedEventLog() {
+            return null;
+        }
+
+        public String getMonitorClassName() {
+            return null;
+        }
+
+        public String getRecordFile() {
+            return null;
+        }
+
+        public String getDomainHistories() {
+            return null;
+        }
+
+        public String getRemoteRegistrySecret() {
+            return null;
+        }
+
+        public String getRemoteRegistryClasses() {
+            return null;
+        }
+
+        public String getRelayUpstreamAddress() {
+            return null;
+        }
+
+        public String getRelayDomains() {
+            return null;
+        }
+
+        public Integer getReconnectDelay() {
+            return null;
+        }
+
+        public Integer getReconnectDelayMax() {
+            return null;
+        }
+
+        public Integer getMaxListenRequests() {
+            return null;
+        }
+
         public Map<ConfigParameter, Object> getConfigMap() {
             return new HashMap<ConfigParameter, Object>();
         }
@@ -43,8 +43,10 @@ public class EventFilterTestMode implements EventFilter
 
     public boolean match(Event anEvent) {
         //atomic toggle (every second event is filtered)
-        boolean theOldIsExcluded = isExcluded.get();
-        while(!(isExcluded.compareAndSet(theOldIsExcluded, !theOldIsExcluded))) {}
+        boolean theOldIsExcluded;
+        do {
+            theOldIsExcluded = isExcluded.get();
+        } while(!(isExcluded.compareAndSet(theOldIsExcluded, !theOldIsExcluded)));
         return !theOldIsExcluded;
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.test.testhelper;
+
+import de.novanic.eventservice.util.TimeSource;
+
+/**
+ * A {@link de.novanic.eventservice.util.TimeSource} with a virtual clock which only moves on with
+ * {@link SimulatedTimeSource#advance(long)} (<b>only for testing purposes</b>).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:03:51
+ */
+public class SimulatedTimeSource implements TimeSource
+{
+    private volatile long myCurrentTime;
+
+    public SimulatedTimeSource(long aStartTime) {
+        myCurrentTime = aStartTime;
+    }
+
+    public long getCurrentTime() {
+        return myCurrentTime;
+    }
+
+    public synchronized void advance(long aTime) {
+        myCurrentTime += aTime;
+    }
+}
@@ -22,6 +22,7 @@
 package de.novanic.eventservice.util;
 
 import de.novanic.eventservice.test.testhelper.PrivateMethodExecutor;
+import de.novanic.eventservice.test.testhelper.SimulatedTimeSource;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -76,4 +77,19 @@ public class PlatformUtilTest
         assertTrue(theCurrentTime_2 > 0);
         assertTrue(theCurrentTime_2 > theCurrentTime);
     }
+
+    @Test
+    public void testSetTimeSource() {
+        SimulatedTimeSource theTimeSource = new SimulatedTimeSource(1000L);
+        try {
+            PlatformUtil.setTimeSource(theTimeSource);
+            assertEquals(1000L, PlatformUtil.getCurrentTime());
+
+            theTimeSource.advance(500L);
+            assertEquals(1500L, PlatformUtil.getCurrentTime());
+        } finally {
+            PlatformUtil.setTimeSource(null);
+        }
+        assertTrue(PlatformUtil.getCurrentTime() > 1500L);
+    }
 }
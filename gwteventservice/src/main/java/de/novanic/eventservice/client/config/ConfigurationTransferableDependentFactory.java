@@ -24,6 +24,8 @@ package de.novanic.eventservice.client.config;
 import com.google.gwt.core.client.GWT;
 import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
 import de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.adaptive.AdaptiveClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.pipelined.GWTPipelinedClientConnector;
 import de.novanic.eventservice.client.connection.strategy.connector.streaming.GWTStreamingClientConnector;
 
 /**
@@ -121,6 +123,10 @@ public final class ConfigurationTransferableDependentFactory
             return (T)new DefaultClientConnector();
         } else if(aClassName.equals(GWTStreamingClientConnector.class.getName())) {
             return (T)GWT.create(GWTStreamingClientConnector.class);
+        } else if(aClassName.equals(AdaptiveClientConnector.class.getName())) {
+            return (T)new AdaptiveClientConnector();
+        } else if(aClassName.equals(GWTPipelinedClientConnector.class.getName())) {
+            return (T)new GWTPipelinedClientConnector();
         } else {
             throw new ConfigurationException("The configured class \"" + aClassName + "\" is unknown!");
         }
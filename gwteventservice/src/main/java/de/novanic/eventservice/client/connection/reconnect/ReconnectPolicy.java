@@ -0,0 +1,138 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.reconnect;
+
+import com.google.gwt.user.client.rpc.StatusCodeException;
+import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
+
+/**
+ * The ReconnectPolicy calculates the delay before a reconnect attempt after a connection error. The delay is doubled with
+ * every further reconnect attempt (exponential backoff) up to the max. delay and the client waits a random time between
+ * zero and that delay (full jitter). That spreads the reconnect attempts of many clients (for example after a restart of
+ * the server) instead of reconnecting all clients at the same time.
+ * When the server rejects a request because it is overloaded, it answers with the status code 503 and a retry hint.
+ * The retry hint is added to the delay, so that the client doesn't reconnect before the retry hint is elapsed.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:00:29
+ */
+public class ReconnectPolicy
+{
+    private static final int STATUS_CODE_SERVICE_UNAVAILABLE = 503;
+
+    private final int myDelay;
+    private final int myMaxDelay;
+
+    /**
+     * Creates a ReconnectPolicy with the delays of the configuration
+     * ({@link de.novanic.eventservice.client.config.EventServiceConfigurationTransferable#getReconnectDelay()} and
+     * {@link de.novanic.eventservice.client.config.EventServiceConfigurationTransferable#getReconnectDelayMax()}).
+     * @param aConfiguration configuration
+     */
+    public ReconnectPolicy(EventServiceConfigurationTransferable aConfiguration) {
+        this(aConfiguration.getReconnectDelay(), aConfiguration.getReconnectDelayMax());
+    }
+
+    /**
+     * Creates a ReconnectPolicy.
+     * @param aDelay base delay before a reconnect attempt (in milliseconds), NULL or 0 to reconnect directly
+     * @param aMaxDelay max. delay before a reconnect attempt (in milliseconds), NULL when the backoff isn't limited
+     */
+    public ReconnectPolicy(Integer aDelay, Integer aMaxDelay) {
+        myDelay = (aDelay != null && aDelay > 0) ? aDelay : 0;
+        myMaxDelay = (aMaxDelay != null && aMaxDelay > 0) ? aMaxDelay : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the delay before the reconnect attempt. That is a random time between zero and the backoff of the attempt
+     * (full jitter), added to the retry hint of the server.
+     * @param anAttempt number of the reconnect attempt (starting with 1)
+     * @param aRetryHint retry hint of the server (in milliseconds), 0 when no retry hint was sent
+     * @return delay before the reconnect attempt (in milliseconds)
+     */
+    public int getDelay(int anAttempt, int aRetryHint) {
+        return getDelay(anAttempt, aRetryHint, Math.random());
+    }
+
+    /**
+     * Returns the delay before the reconnect attempt. That is the random part of the backoff of the attempt (full jitter),
+     * added to the retry hint of the server.
+     * @param anAttempt number of the reconnect attempt (starting with 1)
+     * @param aRetryHint retry hint of the server (in milliseconds), 0 when no retry hint was sent
+     * @param aRandomValue random value (0 <= value < 1) which specifies the used part of the backoff
+     * @return delay before the reconnect attempt (in milliseconds)
+     */
+    public int getDelay(int anAttempt, int aRetryHint, double aRandomValue) {
+        final int theJitter = (int)(aRandomValue * getBackoff(anAttempt));
+        final int theRetryHint = Math.max(aRetryHint, 0);
+        if(theRetryHint > Integer.MAX_VALUE - theJitter) {
+            return Integer.MAX_VALUE;
+        }
+        return theRetryHint + theJitter;
+    }
+
+    /**
+     * Returns the backoff of the reconnect attempt. The base delay is doubled with every further attempt and is limited
+     * to the max. delay.
+     * @param anAttempt number of the reconnect attempt (starting with 1)
+     * @return backoff of the reconnect attempt (in milliseconds)
+     */
+    public int getBackoff(int anAttempt) {
+        int theBackoff = Math.min(myDelay, myMaxDelay);
+        for(int i = 1; i < anAttempt && theBackoff < myMaxDelay; i++) {
+            theBackoff = (theBackoff > myMaxDelay / 2) ? myMaxDelay : theBackoff * 2;
+        }
+        return theBackoff;
+    }
+
+    /**
+     * Checks if the server call was rejected, because the server is overloaded (status code 503).
+     * @param aThrowable error of the server call
+     * @return true when the server is overloaded, otherwise false
+     */
+    public static boolean isServiceOverloaded(Throwable aThrowable) {
+        return (aThrowable instanceof StatusCodeException)
+                && ((StatusCodeException)aThrowable).getStatusCode() == STATUS_CODE_SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * Returns the retry hint of the server, when the server call was rejected because the server is overloaded.
+     * The retry hint is sent as the content of the response, because the headers (Retry-After) of a failed server call
+     * can't be accessed.
+     * @param aThrowable error of the server call
+     * @return retry hint of the server (in milliseconds), 0 when no retry hint was sent
+     */
+    public static int getRetryHint(Throwable aThrowable) {
+        if(isServiceOverloaded(aThrowable)) {
+            final String theEncodedResponse = ((StatusCodeException)aThrowable).getEncodedResponse();
+            if(theEncodedResponse != null) {
+                try {
+                    return Math.max(Integer.parseInt(theEncodedResponse.trim()), 0);
+                } catch(NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * The BroadcastTabChannel transfers the messages between the tabs (windows) of the browser with a BroadcastChannel.
+ * The BroadcastChannel isn't supported by all browsers (see {@link BroadcastTabChannel#isSupported()}). The
+ * {@link StorageTabChannel} can be used when the BroadcastChannel isn't supported.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class BroadcastTabChannel implements TabChannel
+{
+    private final String myChannelName;
+    private JavaScriptObject myChannel;
+
+    /**
+     * Creates a new BroadcastTabChannel.
+     * @param aChannelName name of the channel (only tabs with the same channel name receive the messages)
+     */
+    public BroadcastTabChannel(String aChannelName) {
+        myChannelName = aChannelName;
+    }
+
+    /**
+     * Opens the channel to receive the messages of the other tabs.
+     * @param aTabChannelListener listener which is informed about received messages
+     */
+    public void open(TabChannelListener aTabChannelListener) {
+        if(myChannel == null) {
+            myChannel = createChannel(myChannelName, aTabChannelListener);
+        }
+    }
+
+    /**
+     * Posts a message to all other tabs.
+     * @param aMessage message to post
+     */
+    public void post(String aMessage) {
+        if(myChannel != null) {
+            post(myChannel, aMessage);
+        }
+    }
+
+    /**
+     * Closes the channel. No messages are received after the channel is closed.
+     */
+    public void close() {
+        if(myChannel != null) {
+            close(myChannel);
+            myChannel = null;
+        }
+    }
+
+    /**
+     * Checks if the browser supports the BroadcastChannel.
+     * @return true when the BroadcastChannel is supported, otherwise false
+     */
+    public static native boolean isSupported() /*-{
+        return !!$wnd.BroadcastChannel;
+    }-*/;
+
+    private static native JavaScriptObject createChannel(String aChannelName, TabChannelListener aTabChannelListener) /*-{
+        var theChannel = new $wnd.BroadcastChannel(aChannelName);
+        theChannel.onmessage = $entry(function(anEvent) {
+            aTabChannelListener.@de.novanic.eventservice.client.connection.share.TabChannelListener::onMessage(Ljava/lang/String;)(anEvent.data);
+        });
+        return theChannel;
+    }-*/;
+
+    private static native void post(JavaScriptObject aChannel, String aMessage) /*-{
+        aChannel.postMessage(aMessage);
+    }-*/;
+
+    private static native void close(JavaScriptObject aChannel) /*-{
+        aChannel.close();
+    }-*/;
+}
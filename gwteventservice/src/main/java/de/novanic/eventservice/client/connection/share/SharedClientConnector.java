@@ -0,0 +1,221 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.rpc.RpcRequestBuilder;
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamFactory;
+import com.google.gwt.user.client.rpc.ServiceDefTarget;
+import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.creator.DefaultEventServiceCreator;
+import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
+import de.novanic.eventservice.client.logger.ClientLogger;
+import de.novanic.eventservice.client.logger.ClientLoggerFactory;
+
+import java.util.List;
+
+/**
+ * The {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} listens for occurred events ({@link de.novanic.eventservice.client.event.Event})
+ * of the server side and has the task to encode / process the transferred events at the client side.
+ *
+ * The {@link SharedClientConnector} shares one connection to the server side between the tabs (windows) of the browser.
+ * Only the leader tab listens at the server side (long-polling). The encoded server responses are posted to the other
+ * tabs via the {@link TabChannel} and are de-serialized by every tab itself. The other tabs don't call the server side to
+ * listen, they wait for the responses which are posted by the leader tab.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class SharedClientConnector implements ConnectionStrategyClientConnector
+{
+    private static final ClientLogger LOG = ClientLoggerFactory.getClientLogger();
+    private static final String RESPONSE_OK_PREFIX = "//OK";
+
+    private final TabChannel myTabChannel;
+    private final String myTabId;
+    private final EventServiceCreator myEventServiceCreator;
+    private EventServiceAsync myEventService;
+    private SerializationStreamFactory mySerializationStreamFactory;
+    private AsyncCallback<List<DomainEvent>> myCallback;
+    private boolean isLeader;
+
+    /**
+     * Creates a new SharedClientConnector.
+     * @param aTabChannel channel to post the server responses to the other tabs
+     * @param aTabId id of the tab
+     */
+    public SharedClientConnector(TabChannel aTabChannel, String aTabId) {
+        this(aTabChannel, aTabId, DefaultEventServiceCreator.getInstance());
+    }
+
+    /**
+     * Creates a new SharedClientConnector.
+     * @param aTabChannel channel to post the server responses to the other tabs
+     * @param aTabId id of the tab
+     * @param anEventServiceCreator factory to create the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     * for listening (it has to implement {@link com.google.gwt.user.client.rpc.ServiceDefTarget} and
+     * {@link com.google.gwt.user.client.rpc.SerializationStreamFactory})
+     */
+    public SharedClientConnector(TabChannel aTabChannel, String aTabId, EventServiceCreator anEventServiceCreator) {
+        myTabChannel = aTabChannel;
+        myTabId = aTabId;
+        myEventServiceCreator = anEventServiceCreator;
+    }
+
+    /**
+     * Initializes the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} with
+     * the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}.
+     *
+     * That implementation creates a separate {@link de.novanic.eventservice.client.event.service.EventServiceAsync} for listening
+     * which posts the encoded server responses to the other tabs.
+     * @param anEventService the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     */
+    public void init(EventServiceAsync anEventService) {
+        EventServiceAsync theEventService = myEventServiceCreator.createEventService();
+        final ServiceDefTarget theServiceDefTarget = (ServiceDefTarget)theEventService;
+        theServiceDefTarget.setServiceEntryPoint(((ServiceDefTarget)anEventService).getServiceEntryPoint());
+        theServiceDefTarget.setRpcRequestBuilder(new SharingRpcRequestBuilder());
+
+        myEventService = theEventService;
+        mySerializationStreamFactory = (SerializationStreamFactory)theEventService;
+    }
+
+    /**
+     * Deactivates the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector}.
+     */
+    public void deactivate() {
+        myCallback = null;
+    }
+
+    /**
+     * Checks if the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized.
+     * @return true when the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized, otherwise false
+     */
+    public boolean isInitialized() {
+        return myEventService != null;
+    }
+
+    /**
+     * The listen method implements the listen / connection strategy to receive occurred events. The occurred events
+     * will be passed to the {@link de.novanic.eventservice.client.event.listener.EventNotification} and to the callback.
+     * The leader tab listens at the server side. The other tabs wait for the server responses which are posted by the leader tab.
+     * @param anEventNotification {@link de.novanic.eventservice.client.event.listener.EventNotification} which will be notified about occurred / received events
+     * @param aCallback The callback will be notified about occurred / received events.
+     */
+    public void listen(EventNotification anEventNotification, AsyncCallback<List<DomainEvent>> aCallback) {
+        if(isLeader) {
+            myEventService.listen(aCallback);
+        } else {
+            myCallback = aCallback;
+        }
+    }
+
+    /**
+     * Checks if the tab is the leader tab (which listens at the server side).
+     * @return true when the tab is the leader tab, otherwise false
+     */
+    public boolean isLeader() {
+        return isLeader;
+    }
+
+    /**
+     * Changes the role of the tab. A tab which loses the leadership waits for the events of the new leader tab after the
+     * current listen call is finished. A tab which becomes the leader has to resume the listening (see
+     * {@link SharedClientConnector#resumeListening()}) when the domains are registered at the server side.
+     * @param isLeader true when the tab is the leader tab, otherwise false
+     */
+    public void setLeader(boolean isLeader) {
+        this.isLeader = isLeader;
+    }
+
+    /**
+     * Starts to listen at the server side when the tab is the leader tab and waits for the events of a former leader tab.
+     */
+    public void resumeListening() {
+        if(isLeader && myCallback != null) {
+            final AsyncCallback<List<DomainEvent>> theCallback = myCallback;
+            myCallback = null;
+            myEventService.listen(theCallback);
+        }
+    }
+
+    /**
+     * Processes a server response which was posted by the leader tab. The "//OK" prefix of the GWT-RPC response is removed
+     * before the response is de-serialized (like it is done by GWT-RPC).
+     * @param anEncodedResponse encoded server response of a listen call (with the "//OK" prefix)
+     */
+    @SuppressWarnings("unchecked")
+    public void receiveEvents(String anEncodedResponse) {
+        if(!isLeader && myCallback != null) {
+            if(anEncodedResponse == null || !anEncodedResponse.startsWith(RESPONSE_OK_PREFIX)) {
+                LOG.error("Unexpected server response of the leader tab: " + anEncodedResponse);
+                return;
+            }
+            final List<DomainEvent> theEvents;
+            try {
+                final String theEncodedEvents = anEncodedResponse.substring(RESPONSE_OK_PREFIX.length());
+                theEvents = (List<DomainEvent>)mySerializationStreamFactory.createStreamReader(theEncodedEvents).readObject();
+            } catch(SerializationException e) {
+                LOG.error("Error on de-serializing the events of the leader tab!", e);
+                return;
+            }
+            //the leader tab handles the case of an unknown client (NULL), the connection of the other tabs stays active
+            if(theEvents != null) {
+                final AsyncCallback<List<DomainEvent>> theCallback = myCallback;
+                myCallback = null;
+                theCallback.onSuccess(theEvents);
+            }
+        }
+    }
+
+    /**
+     * The SharingRpcRequestBuilder posts the encoded responses of successful listen calls to the other tabs.
+     */
+    private class SharingRpcRequestBuilder extends RpcRequestBuilder
+    {
+        protected void doSetCallback(RequestBuilder aRequestBuilder, final RequestCallback aCallback) {
+            aRequestBuilder.setCallback(new RequestCallback() {
+                public void onResponseReceived(Request aRequest, Response aResponse) {
+                    if(aResponse.getStatusCode() == Response.SC_OK && aResponse.getText() != null && aResponse.getText().startsWith(RESPONSE_OK_PREFIX)) {
+                        myTabChannel.post(new TabMessage(TabMessage.Type.EVENTS, myTabId, aResponse.getText()).encode());
+                    }
+                    aCallback.onResponseReceived(aRequest, aResponse);
+                }
+
+                public void onError(Request aRequest, Throwable anException) {
+                    aCallback.onError(aRequest, anException);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.storage.client.Storage;
+import com.google.gwt.storage.client.StorageEvent;
+
+/**
+ * The StorageTabChannel transfers the messages between the tabs (windows) of the browser with the local storage. A message
+ * is written to a key of the local storage and removed directly. The other tabs receive the message with the storage event.
+ * The message is removed directly to keep the local storage clean and to ensure that the storage event is also
+ * triggered when the same message is posted again.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class StorageTabChannel implements TabChannel
+{
+    private final String myKey;
+    private final Storage myStorage;
+    private HandlerRegistration myHandlerRegistration;
+
+    /**
+     * Creates a new StorageTabChannel.
+     * @param aKey key of the local storage which is used to transfer the messages
+     */
+    public StorageTabChannel(String aKey) {
+        myKey = aKey;
+        myStorage = Storage.getLocalStorageIfSupported();
+    }
+
+    /**
+     * Opens the channel to receive the messages of the other tabs.
+     * @param aTabChannelListener listener which is informed about received messages
+     */
+    public void open(final TabChannelListener aTabChannelListener) {
+        if(myHandlerRegistration == null) {
+            myHandlerRegistration = Storage.addStorageEventHandler(new StorageEvent.Handler() {
+                public void onStorageChange(StorageEvent anEvent) {
+                    //the removal of the message triggers also a storage event (without a value)
+                    if(myKey.equals(anEvent.getKey()) && anEvent.getNewValue() != null) {
+                        aTabChannelListener.onMessage(anEvent.getNewValue());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Posts a message to all other tabs.
+     * @param aMessage message to post
+     */
+    public void post(String aMessage) {
+        if(myStorage != null) {
+            myStorage.setItem(myKey, aMessage);
+            myStorage.removeItem(myKey);
+        }
+    }
+
+    /**
+     * Closes the channel. No messages are received after the channel is closed.
+     */
+    public void close() {
+        if(myHandlerRegistration != null) {
+            myHandlerRegistration.removeHandler();
+            myHandlerRegistration = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import com.google.gwt.storage.client.Storage;
+
+/**
+ * The StorageTabLeaseStore holds the lease of the leader tab in the local storage, so that the lease is visible
+ * to all tabs (windows) of the browser.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class StorageTabLeaseStore implements TabLeaseStore
+{
+    private final String myKey;
+    private final Storage myStorage;
+
+    /**
+     * Creates a new StorageTabLeaseStore.
+     * @param aKey key of the local storage which holds the lease
+     */
+    public StorageTabLeaseStore(String aKey) {
+        myKey = aKey;
+        myStorage = Storage.getLocalStorageIfSupported();
+    }
+
+    /**
+     * Returns the current lease.
+     * @return current lease or NULL when no lease is stored
+     */
+    public String getLease() {
+        if(myStorage != null) {
+            return myStorage.getItem(myKey);
+        }
+        return null;
+    }
+
+    /**
+     * Stores the lease.
+     * @param aLease lease to store
+     */
+    public void setLease(String aLease) {
+        if(myStorage != null) {
+            myStorage.setItem(myKey, aLease);
+        }
+    }
+
+    /**
+     * Removes the lease.
+     */
+    public void removeLease() {
+        if(myStorage != null) {
+            myStorage.removeItem(myKey);
+        }
+    }
+
+    /**
+     * Checks if the local storage is supported by the browser.
+     * @return true when the local storage is supported, otherwise false
+     */
+    public static boolean isSupported() {
+        return Storage.isLocalStorageSupported();
+    }
+}
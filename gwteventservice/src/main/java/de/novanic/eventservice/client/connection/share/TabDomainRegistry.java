@@ -0,0 +1,93 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The TabDomainRegistry holds the domains of all tabs (windows) of the browser which share a connection to the server
+ * side. The leader tab has to listen to the union of the domains of all tabs.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class TabDomainRegistry
+{
+    private final Map<String, Set<String>> myTabDomains;
+
+    /**
+     * Creates an empty TabDomainRegistry.
+     */
+    public TabDomainRegistry() {
+        myTabDomains = new HashMap<String, Set<String>>();
+    }
+
+    /**
+     * Sets the domains of a tab. The domains which were registered for the tab before are replaced.
+     * @param aTabId id of the tab
+     * @param aDomainNames names of the domains of the tab
+     */
+    public void setDomains(String aTabId, Set<String> aDomainNames) {
+        if(aDomainNames.isEmpty()) {
+            myTabDomains.remove(aTabId);
+        } else {
+            myTabDomains.put(aTabId, new HashSet<String>(aDomainNames));
+        }
+    }
+
+    /**
+     * Returns the domains of a tab.
+     * @param aTabId id of the tab
+     * @return names of the domains of the tab
+     */
+    public Set<String> getDomains(String aTabId) {
+        final Set<String> theDomainNames = myTabDomains.get(aTabId);
+        if(theDomainNames != null) {
+            return new HashSet<String>(theDomainNames);
+        }
+        return new HashSet<String>();
+    }
+
+    /**
+     * Returns the domains of all tabs.
+     * @return names of the domains of all tabs
+     */
+    public Set<String> getDomains() {
+        Set<String> theDomainNames = new HashSet<String>();
+        for(Set<String> theTabDomainNames: myTabDomains.values()) {
+            theDomainNames.addAll(theTabDomainNames);
+        }
+        return theDomainNames;
+    }
+
+    /**
+     * Removes a tab with all domains of the tab.
+     * @param aTabId id of the tab
+     */
+    public void removeTab(String aTabId) {
+        myTabDomains.remove(aTabId);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+/**
+ * The TabLeaderElection elects the leader tab of the tabs (windows) of the browser which share a connection to the
+ * server side. The leader holds a lease which expires after the configured lease time and has to be renewed by the
+ * leader before it expires. Another tab can only take over the lease when the lease is expired (for example when the
+ * leader tab was closed or crashed).
+ * When two tabs take over an expired lease at the same time, the last tab wins and the other tab recognizes the lease
+ * of the winner with the next election.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class TabLeaderElection
+{
+    private static final char SEPARATOR = '@';
+
+    private final TabLeaseStore myLeaseStore;
+    private final String myTabId;
+    private final int myLeaseTime;
+
+    /**
+     * Creates a new TabLeaderElection.
+     * @param aLeaseStore store of the lease
+     * @param aTabId id of the tab
+     * @param aLeaseTime time in milliseconds till a lease expires
+     */
+    public TabLeaderElection(TabLeaseStore aLeaseStore, String aTabId, int aLeaseTime) {
+        myLeaseStore = aLeaseStore;
+        myTabId = aTabId;
+        myLeaseTime = aLeaseTime;
+    }
+
+    /**
+     * Returns the id of the tab.
+     * @return tab id
+     */
+    public String getTabId() {
+        return myTabId;
+    }
+
+    /**
+     * Elects the leader. The tab takes over or renews the lease when the lease is expired or already held by the tab.
+     * @param aTime current time in milliseconds
+     * @return true when the tab is the leader, otherwise false
+     */
+    public boolean elect(long aTime) {
+        final String theLeaderId = getLeaderId(aTime);
+        if(theLeaderId == null || theLeaderId.equals(myTabId)) {
+            myLeaseStore.setLease(myTabId + SEPARATOR + (aTime + myLeaseTime));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the id of the current leader tab.
+     * @param aTime current time in milliseconds
+     * @return id of the leader tab or NULL when no valid (not expired) lease exists
+     */
+    public String getLeaderId(long aTime) {
+        final String theLease = myLeaseStore.getLease();
+        if(theLease != null) {
+            final int theSeparatorPosition = theLease.lastIndexOf(SEPARATOR);
+            if(theSeparatorPosition > 0) {
+                try {
+                    final long theExpirationTime = Long.parseLong(theLease.substring(theSeparatorPosition + 1));
+                    if(theExpirationTime > aTime) {
+                        return theLease.substring(0, theSeparatorPosition);
+                    }
+                } catch(NumberFormatException e) {
+                    //an invalid lease is handled like an expired lease
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resigns the leadership, so that another tab can take over the lease without waiting for the expiration. The lease
+     * isn't changed when the tab isn't the leader.
+     */
+    public void resign() {
+        final String theLease = myLeaseStore.getLease();
+        if(theLease != null && theLease.startsWith(myTabId + SEPARATOR)) {
+            myLeaseStore.removeLease();
+        }
+    }
+
+    /**
+     * Creates a unique id for a tab.
+     * @return tab id
+     */
+    public static String createTabId() {
+        return Long.toString(System.currentTimeMillis(), 36) + '-' + Integer.toString((int)(Math.random() * Integer.MAX_VALUE), 36);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+/**
+ * The TabLeaseStore holds the lease of the leader tab. The lease is visible to all tabs (windows) of the browser which
+ * belong to the same application (see {@link TabLeaderElection}).
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public interface TabLeaseStore
+{
+    /**
+     * Returns the current lease.
+     * @return current lease or NULL when no lease is stored
+     */
+    String getLease();
+
+    /**
+     * Stores the lease.
+     * @param aLease lease to store
+     */
+    void setLease(String aLease);
+
+    /**
+     * Removes the lease.
+     */
+    void removeLease();
+}
@@ -0,0 +1,181 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.share;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A TabMessage is exchanged between the tabs (windows) of the browser which share a connection to the server side
+ * (see {@link TabChannel}). The message is encoded as a simple string, because the channels between the tabs can
+ * only transfer strings.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class TabMessage
+{
+    private static final char SEPARATOR = '|';
+    private static final char DOMAIN_SEPARATOR = '\u001F';
+
+    /**
+     * Types of the messages between the tabs.
+     */
+    public enum Type {
+        /**
+         * Announces a new leader tab (the tab which holds the connection to the server side).
+         */
+        LEADER,
+        /**
+         * Transfers all domains of a tab (the content contains the domain names).
+         */
+        DOMAINS,
+        /**
+         * Transfers the events which were received by the leader tab (the content contains the encoded server response).
+         */
+        EVENTS,
+        /**
+         * Informs about a closed tab.
+         */
+        CLOSED
+    }
+
+    private final Type myType;
+    private final String mySenderId;
+    private final String myContent;
+
+    /**
+     * Creates a new TabMessage.
+     * @param aType type of the message
+     * @param aSenderId id of the sending tab (mustn't contain the separator char '|')
+     * @param aContent content of the message (optional)
+     */
+    public TabMessage(Type aType, String aSenderId, String aContent) {
+        myType = aType;
+        mySenderId = aSenderId;
+        myContent = (aContent != null) ? aContent : "";
+    }
+
+    /**
+     * Returns the type of the message.
+     * @return message type
+     */
+    public Type getType() {
+        return myType;
+    }
+
+    /**
+     * Returns the id of the sending tab.
+     * @return id of the sending tab
+     */
+    public String getSenderId() {
+        return mySenderId;
+    }
+
+    /**
+     * Returns the content of the message.
+     * @return content (an empty string when the message has no content)
+     */
+    public String getContent() {
+        return myContent;
+    }
+
+    /**
+     * Encodes the message to a string which can be transferred between the tabs.
+     * @return encoded message
+     */
+    public String encode() {
+        return myType.name() + SEPARATOR + mySenderId + SEPARATOR + myContent;
+    }
+
+    /**
+     * Decodes an encoded message (see {@link TabMessage#encode()}).
+     * @param anEncodedMessage encoded message
+     * @return decoded message or NULL when the message couldn't be decoded (for example a message of another application)
+     */
+    public static TabMessage decode(String anEncodedMessage) {
+        if(anEncodedMessage != null) {
+            final int theTypeEnd = anEncodedMessage.indexOf(SEPARATOR);
+            final int theSenderEnd = (theTypeEnd >= 0) ? anEncodedMessage.indexOf(SEPARATOR, theTypeEnd + 1) : -1;
+            if(theSenderEnd > theTypeEnd + 1) {
+                final Type theType = getType(anEncodedMessage.substring(0, theTypeEnd));
+                if(theType != null) {
+                    return new TabMessage(theType, anEncodedMessage.substring(theTypeEnd + 1, theSenderEnd), anEncodedMessage.substring(theSenderEnd + 1));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Encodes domain names to the content of a message.
+     * @param aDomainNames domain names
+     * @return encoded domain names
+     */
+    public static String encodeDomains(Collection<String> aDomainNames) {
+        StringBuilder theStringBuilder = new StringBuilder();
+        Iterator<String> theDomainNameIterator = aDomainNames.iterator();
+        while(theDomainNameIterator.hasNext()) {
+            theStringBuilder.append(theDomainNameIterator.next());
+            if(theDomainNameIterator.hasNext()) {
+                theStringBuilder.append(DOMAIN_SEPARATOR);
+            }
+        }
+        return theStringBuilder.toString();
+    }
+
+    /**
+     * Decodes domain names from the content of a message (see {@link TabMessage#encodeDomains(java.util.Collection)}).
+     * @param anEncodedDomainNames encoded domain names
+     * @return domain names
+     */
+    public static Set<String> decodeDomains(String anEncodedDomainNames) {
+        Set<String> theDomainNames = new HashSet<String>();
+        if(anEncodedDomainNames != null && anEncodedDomainNames.length() > 0) {
+            int theStart = 0;
+            int theEnd;
+            while((theEnd = anEncodedDomainNames.indexOf(DOMAIN_SEPARATOR, theStart)) >= 0) {
+                theDomainNames.add(anEncodedDomainNames.substring(theStart, theEnd));
+                theStart = theEnd + 1;
+            }
+            theDomainNames.add(anEncodedDomainNames.substring(theStart));
+        }
+        return theDomainNames;
+    }
+
+    /**
+     * Returns the message type of the type name.
+     * @param aTypeName type name
+     * @return message type or NULL when the type is unknown
+     */
+    private static Type getType(String aTypeName) {
+        for(Type theType: Type.values()) {
+            if(theType.name().equals(aTypeName)) {
+                return theType;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.strategy.connector.adaptive;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.streaming.GWTStreamingClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.listener.SelectiveEventNotification;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+
+import java.util.List;
+
+/**
+ * The {@link ConnectionStrategyClientConnector} listens for occurred events ({@link de.novanic.eventservice.client.event.Event})
+ * of the server side and has the task to encode / process the transferred events at the client side.
+ *
+ * The {@link AdaptiveClientConnector} switches between long-polling ({@link de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector})
+ * and streaming ({@link de.novanic.eventservice.client.connection.strategy.connector.streaming.GWTStreamingClientConnector})
+ * depending on the received event rate (see {@link ConnectionStrategySelector}). Long-polling is used for a low event rate
+ * and streaming is used for a high event rate. The connection strategy is only switched between two listen cycles, so no
+ * events can get lost. The server side serves both connection strategies concurrently.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:22:35
+ */
+public class AdaptiveClientConnector implements ConnectionStrategyClientConnector
+{
+    private static final long DEFAULT_WINDOW_TIME = 10000;
+    private static final double DEFAULT_STREAMING_EVENT_RATE = 1d;
+    private static final double DEFAULT_LONG_POLLING_EVENT_RATE = 0.2d;
+
+    private final ConnectionStrategyClientConnector myLongPollingConnector;
+    private final ConnectionStrategyClientConnector myStreamingConnector;
+    private final ConnectionStrategySelector myConnectionStrategySelector;
+    private ConnectionStrategyClientConnector myActiveConnector;
+
+    /**
+     * Creates an {@link AdaptiveClientConnector} with the default thresholds (streaming from one event per second within
+     * ten seconds, long-polling again from one event per five seconds).
+     */
+    public AdaptiveClientConnector() {
+        this(new DefaultClientConnector(), (ConnectionStrategyClientConnector)GWT.create(GWTStreamingClientConnector.class),
+                new ConnectionStrategySelector(DEFAULT_WINDOW_TIME, DEFAULT_STREAMING_EVENT_RATE, DEFAULT_LONG_POLLING_EVENT_RATE));
+    }
+
+    /**
+     * Creates an {@link AdaptiveClientConnector} with specific connectors and a specific selection.
+     * @param aLongPollingConnector connector which is used for a low event rate
+     * @param aStreamingConnector connector which is used for a high event rate
+     * @param aConnectionStrategySelector selection of the connection strategy
+     */
+    public AdaptiveClientConnector(ConnectionStrategyClientConnector aLongPollingConnector, ConnectionStrategyClientConnector aStreamingConnector,
+                                   ConnectionStrategySelector aConnectionStrategySelector) {
+        myLongPollingConnector = aLongPollingConnector;
+        myStreamingConnector = aStreamingConnector;
+        myConnectionStrategySelector = aConnectionStrategySelector;
+        myActiveConnector = aLongPollingConnector;
+    }
+
+    /**
+     * Initializes the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} with
+     * the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}.
+     * @param anEventService the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     */
+    public void init(EventServiceAsync anEventService) {
+        myLongPollingConnector.init(anEventService);
+        myStreamingConnector.init(anEventService);
+    }
+
+    /**
+     * Deactivates the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector}.
+     */
+    public void deactivate() {
+        myActiveConnector.deactivate();
+    }
+
+    /**
+     * Checks if the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized.
+     * @return true when the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} is
+     * initialized, otherwise false
+     */
+    public boolean isInitialized() {
+        return myLongPollingConnector.isInitialized() && myStreamingConnector.isInitialized();
+    }
+
+    /**
+     * The listen method implements the listen / connection strategy to receive occurred events. The occurred events
+     * will be passed to the {@link de.novanic.eventservice.client.event.listener.EventNotification} and to the callback.
+     *
+     * That implementation switches the connection strategy before the next listen cycle is started when the selection
+     * has changed and counts the received events of the listen cycle.
+     * @param anEventNotification {@link de.novanic.eventservice.client.event.listener.EventNotification} which will be notified about occurred / received events
+     * @param aCallback The callback will be notified about occurred / received events.
+     */
+    public void listen(EventNotification anEventNotification, AsyncCallback<List<DomainEvent>> aCallback) {
+        final ConnectionStrategyClientConnector theSelectedConnector = myConnectionStrategySelector.isStreaming()
+                ? myStreamingConnector
+                : myLongPollingConnector;
+        if(theSelectedConnector != myActiveConnector) {
+            myActiveConnector.deactivate();
+            myActiveConnector = theSelectedConnector;
+        }
+        myActiveConnector.listen(new EventCountingNotification(anEventNotification), new EventCountingCallback(aCallback));
+    }
+
+    /**
+     * Checks if the streaming connection strategy is currently used.
+     * @return true when streaming is used, otherwise false (long-polling)
+     */
+    public boolean isStreaming() {
+        return myActiveConnector == myStreamingConnector;
+    }
+
+    /**
+     * Records received events to the {@link ConnectionStrategySelector}.
+     * @param anEventCount count of received events
+     */
+    private void recordEvents(int anEventCount) {
+        myConnectionStrategySelector.recordEvents(anEventCount, System.currentTimeMillis());
+    }
+
+    /**
+     * Counts the events which are notified directly (streaming).
+     */
+    private class EventCountingNotification implements SelectiveEventNotification
+    {
+        private final EventNotification myEventNotification;
+
+        private EventCountingNotification(EventNotification anEventNotification) {
+            myEventNotification = anEventNotification;
+        }
+
+        public boolean isInterested(Domain aDomain) {
+            return !(myEventNotification instanceof SelectiveEventNotification)
+                    || ((SelectiveEventNotification)myEventNotification).isInterested(aDomain);
+        }
+
+        public void onNotify(DomainEvent aDomainEvent) {
+            recordEvents(1);
+            myEventNotification.onNotify(aDomainEvent);
+        }
+
+        public void onAbort() {
+            myEventNotification.onAbort();
+        }
+    }
+
+    /**
+     * Counts the events which are returned with the end of a listen cycle (long-polling). The listen cycles without events
+     * are also recorded, so the event rate can fall.
+     */
+    private class EventCountingCallback implements AsyncCallback<List<DomainEvent>>
+    {
+        private final AsyncCallback<List<DomainEvent>> myCallback;
+
+        private EventCountingCallback(AsyncCallback<List<DomainEvent>> aCallback) {
+            myCallback = aCallback;
+        }
+
+        public void onSuccess(List<DomainEvent> anEvents) {
+            recordEvents((anEvents != null) ? anEvents.size() : 0);
+            myCallback.onSuccess(anEvents);
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            myCallback.onFailure(aThrowable);
+        }
+    }
+}
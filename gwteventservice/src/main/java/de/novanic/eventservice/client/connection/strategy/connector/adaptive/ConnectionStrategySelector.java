@@ -0,0 +1,96 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.strategy.connector.adaptive;
+
+/**
+ * The {@link ConnectionStrategySelector} decides between long-polling and streaming with the measured event rate. The events
+ * are counted within a measuring window. When the window is elapsed, streaming is selected when the event rate reaches
+ * the streaming threshold and long-polling is selected again when the event rate falls to the long-polling threshold.
+ * The gap between both thresholds (hysteresis) avoids a permanent switching with event rates near a single threshold.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:22:35
+ */
+public class ConnectionStrategySelector
+{
+    private final long myWindowTime;
+    private final double myStreamingEventRate;
+    private final double myLongPollingEventRate;
+
+    private long myWindowStartTime;
+    private int myWindowEventCount;
+    private boolean isStreaming;
+
+    /**
+     * Creates a {@link ConnectionStrategySelector} which starts with long-polling.
+     * @param aWindowTime time of the measuring window in milliseconds
+     * @param aStreamingEventRate event rate (events per second) from which streaming is selected
+     * @param aLongPollingEventRate event rate (events per second) to which long-polling is selected again
+     */
+    public ConnectionStrategySelector(long aWindowTime, double aStreamingEventRate, double aLongPollingEventRate) {
+        if(aWindowTime <= 0) {
+            throw new IllegalArgumentException("The window time must be positive!");
+        }
+        if(aLongPollingEventRate > aStreamingEventRate) {
+            throw new IllegalArgumentException("The long-polling event rate must not be higher than the streaming event rate!");
+        }
+        myWindowTime = aWindowTime;
+        myStreamingEventRate = aStreamingEventRate;
+        myLongPollingEventRate = aLongPollingEventRate;
+        myWindowStartTime = -1;
+    }
+
+    /**
+     * Records received events. The selection is re-evaluated when the measuring window is elapsed.
+     * @param anEventCount count of the received events (can be 0 to signal a finished listen cycle without events)
+     * @param aTime current time in milliseconds
+     * @return true when streaming is selected, otherwise false (long-polling)
+     */
+    public boolean recordEvents(int anEventCount, long aTime) {
+        if(myWindowStartTime < 0) {
+            myWindowStartTime = aTime;
+        }
+        myWindowEventCount += anEventCount;
+
+        final long theElapsedTime = aTime - myWindowStartTime;
+        if(theElapsedTime >= myWindowTime) {
+            final double theEventRate = myWindowEventCount * 1000d / theElapsedTime;
+            if(!isStreaming && theEventRate >= myStreamingEventRate) {
+                isStreaming = true;
+            } else if(isStreaming && theEventRate <= myLongPollingEventRate) {
+                isStreaming = false;
+            }
+            myWindowStartTime = aTime;
+            myWindowEventCount = 0;
+        }
+        return isStreaming;
+    }
+
+    /**
+     * Checks if streaming is selected.
+     * @return true when streaming is selected, otherwise false (long-polling)
+     */
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+}
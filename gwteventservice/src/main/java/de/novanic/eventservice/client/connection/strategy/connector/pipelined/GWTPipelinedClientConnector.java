@@ -0,0 +1,91 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.connection.strategy.connector.pipelined;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.rpc.RpcRequestBuilder;
+import com.google.gwt.user.client.rpc.ServiceDefTarget;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.service.EventService;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+
+import java.util.List;
+
+/**
+ * The {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} listens for occurred events ({@link de.novanic.eventservice.client.event.Event})
+ * of the server side and has the task to encode / process the transferred events at the client side.
+ *
+ * The {@link de.novanic.eventservice.client.connection.strategy.connector.pipelined.GWTPipelinedClientConnector} is a
+ * GWT specific implementation of pipelined long-polling. The sequence number of a listen request is sent as a request
+ * header with a separate {@link de.novanic.eventservice.client.event.service.EventServiceAsync} for listening.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:35:43
+ */
+public class GWTPipelinedClientConnector extends DefaultPipelinedClientConnector
+{
+    private EventServiceAsync myEventService;
+    private long myRequestSequenceNumber;
+
+    /**
+     * Initializes the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} with
+     * the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}.
+     *
+     * That implementation creates a separate {@link de.novanic.eventservice.client.event.service.EventServiceAsync} for listening
+     * which adds the sequence number to the listen requests.
+     * @param anEventService the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     */
+    public void init(EventServiceAsync anEventService) {
+        EventServiceAsync theEventService = GWT.create(EventService.class);
+        final ServiceDefTarget theServiceDefTarget = (ServiceDefTarget)theEventService;
+        theServiceDefTarget.setServiceEntryPoint(((ServiceDefTarget)anEventService).getServiceEntryPoint());
+        theServiceDefTarget.setRpcRequestBuilder(new SequenceRpcRequestBuilder());
+
+        myEventService = theEventService;
+        super.init(anEventService);
+    }
+
+    /**
+     * Sends a listen request with the sequence number. The request is built directly with the call, so the sequence number
+     * is only valid for that call.
+     * @param aSequenceNumber sequence number of the listen request
+     * @param aCallback callback for the response of the listen request
+     */
+    protected void listen(long aSequenceNumber, AsyncCallback<List<DomainEvent>> aCallback) {
+        myRequestSequenceNumber = aSequenceNumber;
+        myEventService.listen(aCallback);
+    }
+
+    /**
+     * The SequenceRpcRequestBuilder adds the sequence number of the current listen request as a request header.
+     */
+    private class SequenceRpcRequestBuilder extends RpcRequestBuilder
+    {
+        protected void doFinish(RequestBuilder aRequestBuilder) {
+            super.doFinish(aRequestBuilder);
+            aRequestBuilder.setHeader(SEQUENCE_HEADER, String.valueOf(myRequestSequenceNumber));
+        }
+    }
+}
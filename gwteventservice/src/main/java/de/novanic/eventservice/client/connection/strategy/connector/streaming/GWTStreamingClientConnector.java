@@ -52,6 +52,7 @@ public class GWTStreamingClientConnector extends DefaultStreamingClientConnector
 {
     private Frame myStreamingConnectorFrame;
     private String myServiceURL;
+    private SerializationStreamFactory mySerializationStreamFactory;
 
     /**
      * Initializes the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} with
@@ -61,11 +62,22 @@ public class GWTStreamingClientConnector extends DefaultStreamingClientConnector
      * @param anEventService the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
      */
     public void init(EventServiceAsync anEventService) {
-        myServiceURL = ((ServiceDefTarget)anEventService).getServiceEntryPoint();
+        myServiceURL = createServiceURL(((ServiceDefTarget)anEventService).getServiceEntryPoint());
         initReceiveEventScript(this);
         super.init(anEventService);
     }
 
+    /**
+     * Creates the URL of the forever frame. The streaming connection strategy is requested explicitly with a request parameter,
+     * so the server side streams the events also when another server side connector is configured.
+     * @param aServiceEntryPoint service entry point of the {@link de.novanic.eventservice.client.event.service.EventServiceAsync}
+     * @return URL of the forever frame
+     */
+    private static String createServiceURL(String aServiceEntryPoint) {
+        final char theParameterSeparator = (aServiceEntryPoint.indexOf('?') < 0) ? '?' : '&';
+        return aServiceEntryPoint + theParameterSeparator + STRATEGY_PARAMETER + '=' + STREAMING_STRATEGY;
+    }
+
     /**
      * Deactivates the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector}.
      *
@@ -93,14 +105,17 @@ public class GWTStreamingClientConnector extends DefaultStreamingClientConnector
     }
 
     /**
-     * De-serializes an occurred event with GWT serialization methods.
+     * De-serializes an occurred event with GWT serialization methods. The {@link com.google.gwt.user.client.rpc.SerializationStreamFactory}
+     * is created with the first event and re-used for all further events.
      * @param anEvent event to de-serialize
      * @return de-serialized event
      */
     protected DomainEvent deserializeEvent(String anEvent) {
         try {
-            SerializationStreamFactory theSerializationStreamFactory = GWT.create(EventService.class);
-            SerializationStreamReader theSerializationStreamReader = theSerializationStreamFactory.createStreamReader(anEvent);
+            if(mySerializationStreamFactory == null) {
+                mySerializationStreamFactory = GWT.create(EventService.class);
+            }
+            SerializationStreamReader theSerializationStreamReader = mySerializationStreamFactory.createStreamReader(anEvent);
             return (DomainEvent)theSerializationStreamReader.readObject();
         } catch(SerializationException e) {
             throw new RemoteEventServiceRuntimeException("Error on de-serializing event \"" + anEvent + "\"!", e);
@@ -0,0 +1,110 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.event.command.ClientCommand;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandSchedulerFactory;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.listener.BatchRemoteEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BatchEventDispatcher collects the events for the {@link de.novanic.eventservice.client.event.listener.BatchRemoteEventListener}
+ * instances and dispatches them deferred with one call per domain and listener. The dispatch is scheduled with the first
+ * collected event, so that all events of a server response (or of the stream chunks which arrive until the dispatch)
+ * are dispatched together.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:15:47
+ */
+public class BatchEventDispatcher
+{
+    private Map<Domain, Map<BatchRemoteEventListener, List<Event>>> myPendingEvents;
+
+    /**
+     * Adds an event for a listener. The dispatch is scheduled when it isn't already scheduled.
+     * @param aDomain domain of the event
+     * @param aListener listener which should receive the event
+     * @param anEvent event
+     */
+    public void add(Domain aDomain, BatchRemoteEventListener aListener, Event anEvent) {
+        if(myPendingEvents == null) {
+            myPendingEvents = new LinkedHashMap<Domain, Map<BatchRemoteEventListener, List<Event>>>();
+            ClientCommandSchedulerFactory.getInstance().getClientCommandScheduler().schedule(new DispatchCommand());
+        }
+        Map<BatchRemoteEventListener, List<Event>> theListenerEvents = myPendingEvents.get(aDomain);
+        if(theListenerEvents == null) {
+            theListenerEvents = new LinkedHashMap<BatchRemoteEventListener, List<Event>>();
+            myPendingEvents.put(aDomain, theListenerEvents);
+        }
+        List<Event> theEvents = theListenerEvents.get(aListener);
+        if(theEvents == null) {
+            theEvents = new ArrayList<Event>();
+            theListenerEvents.put(aListener, theEvents);
+        }
+        theEvents.add(anEvent);
+    }
+
+    /**
+     * Checks if events are collected which aren't dispatched yet.
+     * @return true when events are pending, otherwise false
+     */
+    public boolean isPending() {
+        return myPendingEvents != null;
+    }
+
+    /**
+     * Dispatches all collected events. Events which are added while dispatching (for example by a listener) are
+     * dispatched with the next scheduled dispatch.
+     */
+    public void dispatch() {
+        final Map<Domain, Map<BatchRemoteEventListener, List<Event>>> thePendingEvents = myPendingEvents;
+        myPendingEvents = null;
+        if(thePendingEvents != null) {
+            for(Map<BatchRemoteEventListener, List<Event>> theListenerEvents: thePendingEvents.values()) {
+                for(Map.Entry<BatchRemoteEventListener, List<Event>> theListenerEventsEntry: theListenerEvents.entrySet()) {
+                    theListenerEventsEntry.getKey().apply(theListenerEventsEntry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Command to execute the scheduled dispatch.
+     */
+    private class DispatchCommand implements ClientCommand<Void>
+    {
+        public void execute() {
+            dispatch();
+        }
+
+        public AsyncCallback<Void> getCommandCallback() {
+            return null;
+        }
+    }
+}
@@ -29,11 +29,14 @@ import com.google.gwt.user.client.rpc.StatusCodeException;
 import de.novanic.eventservice.client.config.ConfigurationTransferableDependentFactory;
 import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
 import de.novanic.eventservice.client.connection.callback.AsyncCallbackWrapper;
+import de.novanic.eventservice.client.connection.reconnect.ReconnectPolicy;
 import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
 import de.novanic.eventservice.client.event.listener.EventNotification;
 import de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector;
 import de.novanic.eventservice.client.logger.ClientLogger;
 import de.novanic.eventservice.client.logger.ClientLoggerFactory;
+import de.novanic.eventservice.client.event.command.ClientCommand;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandSchedulerFactory;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
 import de.novanic.eventservice.client.event.filter.EventFilter;
@@ -56,7 +59,9 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
     private EventServiceConfigurationTransferable myConfiguration;
     private ConnectionStrategyClientConnector myConnectionStrategyClientConnector;
     private UnlistenEvent myUnlistenEvent;
+    private ReconnectPolicy myReconnectPolicy;
     private int myErrorCount;
+    private int myReconnectAttempt;
 
     /**
      * Initializes the listen method implementation with a {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} from the configuration.
@@ -71,8 +76,19 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
             throw new RemoteEventServiceRuntimeException("Invalid attempt to initialize the listening without a configuration!");
         }
         myConfiguration = aConfiguration;
+        myReconnectPolicy = new ReconnectPolicy(aConfiguration);
+        return (myConnectionStrategyClientConnector = getConnectionStrategyClientConnector(aConfiguration));
+    }
+
+    /**
+     * Returns the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} which
+     * is used to listen. The default implementation returns the connection strategy which is specified by the configuration.
+     * @param aConfiguration configuration
+     * @return connection strategy connector to listen
+     */
+    protected ConnectionStrategyClientConnector getConnectionStrategyClientConnector(EventServiceConfigurationTransferable aConfiguration) {
         ConfigurationTransferableDependentFactory theConfigDependentFactory = ConfigurationTransferableDependentFactory.getInstance(aConfiguration);
-        return (myConnectionStrategyClientConnector = theConfigDependentFactory.getConnectionStrategyClientConnector());
+        return theConfigDependentFactory.getConnectionStrategyClientConnector();
     }
 
     /**
@@ -119,6 +135,18 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
         myUnlistenEvent = anUnlistenEvent;
     }
 
+    /**
+     * Starts collecting the following server calls. The default implementation doesn't support batches and executes
+     * the server calls directly.
+     */
+    public void startBatch() {}
+
+    /**
+     * Executes the collected server calls. The default implementation doesn't support batches and executes
+     * the server calls directly.
+     */
+    public void finishBatch() {}
+
     /**
      * Activates the connector for the domain. An {@link de.novanic.eventservice.client.event.filter.EventFilter}
      * to filter events on the server side is optional.
@@ -195,6 +223,9 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
         /**
          * When an error occurs while listening for events, reconnect attempts are started (when configured) and an unlisten event
          * will be processed when the connection error could not be solved (to clean-up the client side).
+         * The reconnect attempts are delayed by the {@link de.novanic.eventservice.client.connection.reconnect.ReconnectPolicy}
+         * (exponential backoff with jitter). When the server is overloaded, it sends a retry hint and the reconnect
+         * attempt isn't counted as a failed reconnect attempt.
          * @param aThrowable
          */
         public void onFailure(Throwable aThrowable) {
@@ -203,13 +234,17 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
                 //The module is unloaded in this case and it has no negative effects to the application. Therefore it isn't a notable error.
                 LOG.log("The current connection was terminated with status code " + ((StatusCodeException)aThrowable).getStatusCode() + '.');
                 fireUnlistenEvent(myEventNotification); //client side clean-up
+            } else if(ReconnectPolicy.isServiceOverloaded(aThrowable)) {
+                final int theDelay = myReconnectPolicy.getDelay(++myReconnectAttempt, ReconnectPolicy.getRetryHint(aThrowable));
+                LOG.log("The server is overloaded. Reconnecting in " + theDelay + "ms...");
+                reconnect(theDelay);
             } else {
                 LOG.error("Error on processing event!", aThrowable);
                 if(++myErrorCount > myConfiguration.getReconnectAttemptCount()) {
                     fireUnlistenEvent(myEventNotification); //client side clean-up
                 } else {
                     LOG.log("Reconnecting after error...");
-                    callListen();
+                    reconnect(myReconnectPolicy.getDelay(++myReconnectAttempt, 0));
                 }
             }
         }
@@ -222,6 +257,7 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
          */
         public void onSuccess(List<DomainEvent> anEvents) {
             myErrorCount = 0;
+            myReconnectAttempt = 0;
             if(anEvents != null) {
                 for(DomainEvent theEvent: anEvents) {
                     myEventNotification.onNotify(theEvent);
@@ -244,6 +280,24 @@ public abstract class DefaultRemoteEventConnector implements RemoteEventConnecto
             }
         }
 
+        /**
+         * Calls listen after the delay of the reconnect attempt. The listen call is executed directly when no delay is required.
+         * @param aDelay delay before the reconnect attempt (in milliseconds)
+         */
+        private void reconnect(int aDelay) {
+            if(aDelay > 0) {
+                ClientCommandSchedulerFactory.getInstance().getClientCommandScheduler().schedule(new ClientCommand<Void>() {
+                    public void execute() {
+                        callListen();
+                    }
+
+                    public AsyncCallback<Void> getCommandCallback() { return null; }
+                }, aDelay);
+            } else {
+                callListen();
+            }
+        }
+
         /**
          * Checks if the status code is a valid error code. For example status code 0 is rather an informational status code
          * instead of a notable error status code.
@@ -22,7 +22,8 @@
 package de.novanic.eventservice.client.event;
 
 import de.novanic.eventservice.client.connection.callback.AsyncCallbackWrapper;
-import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.listener.BatchRemoteEventListener;
+import de.novanic.eventservice.client.event.listener.SelectiveEventNotification;
 import de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector;
 import de.novanic.eventservice.client.event.listener.RemoteEventListener;
 import de.novanic.eventservice.client.event.filter.EventFilter;
@@ -50,7 +51,8 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
  */
 public class DefaultRemoteEventService extends RemoteEventServiceAccessor implements RemoteEventService
 {
-    private Map<Domain, List<RemoteEventListener>> myDomainListenerMapping;
+    private Map<Domain, EventTypeListenerIndex> myDomainListenerMapping;
+    private BatchEventDispatcher myBatchEventDispatcher;
 
     /**
      * Creates a new RemoteEventService.
@@ -59,7 +61,8 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
      */
     protected DefaultRemoteEventService(RemoteEventConnector aRemoteEventConnector) {
         super(aRemoteEventConnector);
-        myDomainListenerMapping = new HashMap<Domain, List<RemoteEventListener>>();
+        myDomainListenerMapping = new HashMap<Domain, EventTypeListenerIndex>();
+        myBatchEventDispatcher = new BatchEventDispatcher();
     }
 
     /**
@@ -85,6 +88,35 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
         }
     }
 
+    /**
+     * Adds a listener for the events of an event type of a domain. The listener receives only the events of the event type
+     * (including the events of sub-classes of the event type), so that it doesn't have to check the type of the events.
+     * The listeners of a domain are notified in the order of their registration, independent of the event types.
+     * It activates the RemoteEventService if it was inactive.
+     * @param aDomain domain
+     * @param anEventType type of the events to receive (a class, interfaces aren't supported)
+     * @param aRemoteListener new listener
+     */
+    public void addListener(Domain aDomain, Class<? extends Event> anEventType, RemoteEventListener aRemoteListener) {
+        addListener(aDomain, anEventType, aRemoteListener, null);
+    }
+
+    /**
+     * Adds a listener for the events of an event type of a domain. The listener receives only the events of the event type
+     * (including the events of sub-classes of the event type), so that it doesn't have to check the type of the events.
+     * The listeners of a domain are notified in the order of their registration, independent of the event types.
+     * It activates the RemoteEventService if it was inactive.
+     * @param aDomain domain
+     * @param anEventType type of the events to receive (a class, interfaces aren't supported)
+     * @param aRemoteListener new listener
+     * @param aCallback callback (only called when no listener is already registered for the domain)
+     */
+    public void addListener(Domain aDomain, Class<? extends Event> anEventType, RemoteEventListener aRemoteListener, AsyncCallback<Void> aCallback) {
+        if(addListenerLocal(aDomain, anEventType, aRemoteListener, null)) {
+            activate(aDomain, aCallback);
+        }
+    }
+
     /**
      * Adds a listener for a domain. The EventFilter is applied to the domain to filter events before the
      * RemoteEventListener recognizes the event.
@@ -131,15 +163,28 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
      * @return true, when it is a new / unregistered domain for the client, otherwise false
      */
     private boolean addListenerLocal(Domain aDomain, RemoteEventListener aRemoteListener, EventFilter anEventFilter) {
-        List<RemoteEventListener> theListeners = myDomainListenerMapping.get(aDomain);
+        return addListenerLocal(aDomain, null, aRemoteListener, anEventFilter);
+    }
+
+    /**
+     * Adds a listener for a domain. The EventFilter is applied to the domain to filter events before the
+     * RemoteEventListener recognizes the event.
+     * @param aDomain domain
+     * @param anEventType type of the events to receive (NULL to receive all events of the domain)
+     * @param aRemoteListener new listener
+     * @param anEventFilter EventFilter to filter the events before RemoteEventListener
+     * @return true, when it is a new / unregistered domain for the client, otherwise false
+     */
+    private boolean addListenerLocal(Domain aDomain, Class<? extends Event> anEventType, RemoteEventListener aRemoteListener, EventFilter anEventFilter) {
+        EventTypeListenerIndex theListeners = myDomainListenerMapping.get(aDomain);
         final boolean isNewDomain = theListeners == null;
         if(isNewDomain) {
-            theListeners = new ArrayList<RemoteEventListener>();
+            theListeners = new EventTypeListenerIndex();
+            myDomainListenerMapping.put(aDomain, theListeners);
         } else if(anEventFilter != null) {
             registerEventFilter(aDomain, anEventFilter);
         }
-        theListeners = addOnCopy(theListeners, aRemoteListener);
-        myDomainListenerMapping.put(aDomain, theListeners);
+        theListeners.addListener(anEventType, aRemoteListener);
         return isNewDomain;
     }
 
@@ -232,10 +277,9 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
     public void removeListener(Domain aDomain, RemoteEventListener aRemoteListener, AsyncCallback<Void> aCallback) {
         if(aRemoteListener != null && myDomainListenerMapping.containsKey(aDomain)) {
             //remove the listener
-            List<RemoteEventListener> theListeners = myDomainListenerMapping.get(aDomain);
+            final EventTypeListenerIndex theListeners = myDomainListenerMapping.get(aDomain);
             if(theListeners != null) {
-                theListeners = removeOnCopy(theListeners, aRemoteListener);
-                myDomainListenerMapping.put(aDomain, theListeners);
+                theListeners.removeListener(aRemoteListener);
             }
             //When it was the last listener, the domain will be deregistered for listening, because there aren't any listeners registered for the domain.
             if(theListeners == null || theListeners.isEmpty()) {
@@ -319,12 +363,16 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
     }
 
     /**
-     * Returns all registered listeners of a domain.
+     * Returns all registered listeners of a domain in the order of their registration.
      * @param aDomain domain
      * @return all registered listeners of the domain
      */
     public List<RemoteEventListener> getRegisteredListeners(Domain aDomain) {
-        return myDomainListenerMapping.get(aDomain);
+        final EventTypeListenerIndex theListeners = myDomainListenerMapping.get(aDomain);
+        if(theListeners != null) {
+            return theListeners.getListeners();
+        }
+        return null;
     }
 
     /**
@@ -476,52 +524,37 @@ public class DefaultRemoteEventService extends RemoteEventServiceAccessor implem
         return isRemoved;
     }
 
-    /**
-     * Adds an entry to a list and avoids {@link ConcurrentModificationException} when an entry is added while iterating.
-     * @param aList list to add an entry to
-     * @param anEntry entry to add
-     * @param <CT> type of the contained objects
-     * @return new list instance with the added entry
-     */
-    private static <CT> List<CT> addOnCopy(List<CT> aList, CT anEntry) {
-        List<CT> theCollectionCopy = new ArrayList<CT>(aList);
-        if(theCollectionCopy.add(anEntry)) {
-            return theCollectionCopy;
-        }
-        return aList;
-    }
-
-    /**
-     * Removes an entry from a list and avoids {@link ConcurrentModificationException} when an entry is removed while iterating.
-     * @param aList list to remove an entry from
-     * @param anEntry entry to remove
-     * @param <CT> type of the contained objects
-     * @return new list instance without the removed entry
-     */
-    private static <CT> List<CT> removeOnCopy(List<CT> aList, CT anEntry) {
-        List<CT> theCollectionCopy = new ArrayList<CT>(aList);
-        if(theCollectionCopy.remove(anEntry)) {
-            return theCollectionCopy;
-        }
-        return aList;
-    }
-
     /**
      * The ListenEventCallback is used to produce the listen cycle. It is attached as callback for the listen server call.
      */
-    private final class ListenerEventNotification implements EventNotification
+    private final class ListenerEventNotification implements SelectiveEventNotification
     {
+        /**
+        * Checks if the events of the domain are processed by the notification. The events are only processed when
+        * listeners are registered for the domain.
+        * @param aDomain domain of the events, NULL for user-specific events
+        * @return true when listeners are registered for the domain, otherwise false
+        */
+        public boolean isInterested(Domain aDomain) {
+            return myDomainListenerMapping.containsKey(aDomain);
+        }
+
         /**
         * That method will be called when a new event is arriving.
         * @param aDomainEvent incoming event
         */
         public void onNotify(DomainEvent aDomainEvent) {
-            //all listeners for the domain of the event will be executed
-            List<RemoteEventListener> theListeners = myDomainListenerMapping.get(aDomainEvent.getDomain());
+            //all listeners for the domain of the event will be executed (in the order of the registration), which are interested in the type of the event
+            final EventTypeListenerIndex theListeners = myDomainListenerMapping.get(aDomainEvent.getDomain());
             if(theListeners != null) {
                 final Event theEvent = aDomainEvent.getEvent();
-                for(RemoteEventListener theListener: theListeners) {
-                    theListener.apply(theEvent);
+                for(RemoteEventListener theListener: theListeners.getListeners(theEvent)) {
+                    if(theListener instanceof BatchRemoteEventListener) {
+                        //batch listeners receive all events of the response with one deferred call
+                        myBatchEventDispatcher.add(aDomainEvent.getDomain(), (BatchRemoteEventListener)theListener, theEvent);
+                    } else {
+                        theListener.apply(theEvent);
+                    }
                 }
             }
         }
@@ -0,0 +1,205 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event;
+
+import de.novanic.eventservice.client.event.listener.RemoteEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The EventTypeListenerIndex holds the {@link de.novanic.eventservice.client.event.listener.RemoteEventListener} instances
+ * of a domain and resolves the listeners which are interested in an event. Listeners can be registered for all events
+ * of the domain or for a specific event type. A listener which is registered for an event type receives the events of
+ * that type and of the sub-classes of that type. Interfaces can't be used as event types, because the interfaces of a
+ * class aren't available at runtime of the client side (GWT).
+ * The interested listeners are always returned in the order of their registration, independent of the event types.
+ * The resolved listeners are cached per event class, so that every event is dispatched only to the interested
+ * listeners without checking all listeners of the domain. The registrations are held in arrays which are replaced on
+ * every change, so that listeners can be added or removed while an event is dispatched.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:06:53
+ */
+public class EventTypeListenerIndex
+{
+    private static final Registration[] EMPTY_REGISTRATIONS = new Registration[0];
+
+    private Registration[] myRegistrations;
+    private RemoteEventListener[] myListeners;
+    private int myEventTypeRegistrationCount;
+    private final Map<Class<?>, RemoteEventListener[]> myResolvedListeners;
+
+    /**
+     * Creates an empty EventTypeListenerIndex.
+     */
+    public EventTypeListenerIndex() {
+        myRegistrations = EMPTY_REGISTRATIONS;
+        myListeners = new RemoteEventListener[0];
+        myResolvedListeners = new HashMap<Class<?>, RemoteEventListener[]>();
+    }
+
+    /**
+     * Adds a listener for all events.
+     * @param aRemoteListener listener to add
+     */
+    public void addListener(RemoteEventListener aRemoteListener) {
+        addListener(null, aRemoteListener);
+    }
+
+    /**
+     * Adds a listener for the events of the event type (including the events of the sub-classes of the event type).
+     * @param anEventType event type (NULL for all events)
+     * @param aRemoteListener listener to add
+     */
+    public void addListener(Class<? extends Event> anEventType, RemoteEventListener aRemoteListener) {
+        final Registration[] theRegistrations = new Registration[myRegistrations.length + 1];
+        System.arraycopy(myRegistrations, 0, theRegistrations, 0, myRegistrations.length);
+        theRegistrations[myRegistrations.length] = new Registration(anEventType, aRemoteListener);
+        setRegistrations(theRegistrations);
+    }
+
+    /**
+     * Removes the first registration of the listener (in the order of the registrations, independent of the event type).
+     * @param aRemoteListener listener to remove
+     * @return true when the listener was registered, otherwise false
+     */
+    public boolean removeListener(RemoteEventListener aRemoteListener) {
+        for(int i = 0; i < myRegistrations.length; i++) {
+            if(myRegistrations[i].myListener.equals(aRemoteListener)) {
+                final Registration[] theRegistrations = new Registration[myRegistrations.length - 1];
+                System.arraycopy(myRegistrations, 0, theRegistrations, 0, i);
+                System.arraycopy(myRegistrations, i + 1, theRegistrations, i, myRegistrations.length - i - 1);
+                setRegistrations(theRegistrations);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all registered listeners in the order of their registration.
+     * @return all registered listeners
+     */
+    public List<RemoteEventListener> getListeners() {
+        List<RemoteEventListener> theListeners = new ArrayList<RemoteEventListener>(myListeners.length);
+        for(RemoteEventListener theListener: myListeners) {
+            theListeners.add(theListener);
+        }
+        return theListeners;
+    }
+
+    /**
+     * Returns the listeners which are interested in the event in the order of their registration. These are the
+     * listeners for all events and the listeners of the event type and of the super-classes of the event type.
+     * @param anEvent event
+     * @return listeners which are interested in the event
+     */
+    public RemoteEventListener[] getListeners(Event anEvent) {
+        if(myEventTypeRegistrationCount == 0) {
+            return myListeners;
+        }
+        final Class<?> theEventClass = (anEvent != null) ? anEvent.getClass() : null;
+        RemoteEventListener[] theListeners = myResolvedListeners.get(theEventClass);
+        if(theListeners == null) {
+            theListeners = resolveListeners(theEventClass);
+            myResolvedListeners.put(theEventClass, theListeners);
+        }
+        return theListeners;
+    }
+
+    /**
+     * Checks if listeners are registered.
+     * @return true when no listener is registered, otherwise false
+     */
+    public boolean isEmpty() {
+        return myRegistrations.length == 0;
+    }
+
+    /**
+     * Replaces the registrations and resets the resolved listeners.
+     * @param aRegistrations new registrations
+     */
+    private void setRegistrations(Registration[] aRegistrations) {
+        final RemoteEventListener[] theListeners = new RemoteEventListener[aRegistrations.length];
+        int theEventTypeRegistrationCount = 0;
+        for(int i = 0; i < aRegistrations.length; i++) {
+            theListeners[i] = aRegistrations[i].myListener;
+            if(aRegistrations[i].myEventType != null) {
+                theEventTypeRegistrationCount++;
+            }
+        }
+        myRegistrations = aRegistrations;
+        myListeners = theListeners;
+        myEventTypeRegistrationCount = theEventTypeRegistrationCount;
+        myResolvedListeners.clear();
+    }
+
+    /**
+     * Resolves the listeners for the event class with its super-classes.
+     * @param anEventClass event class (NULL when the event is NULL)
+     * @return listeners which are interested in the events of the event class
+     */
+    private RemoteEventListener[] resolveListeners(Class<?> anEventClass) {
+        final List<RemoteEventListener> theListeners = new ArrayList<RemoteEventListener>(myRegistrations.length);
+        for(Registration theRegistration: myRegistrations) {
+            if(theRegistration.myEventType == null || isSubClass(anEventClass, theRegistration.myEventType)) {
+                theListeners.add(theRegistration.myListener);
+            }
+        }
+        return theListeners.toArray(new RemoteEventListener[theListeners.size()]);
+    }
+
+    /**
+     * Checks if the class is the event type or a sub-class of the event type.
+     * @param aClass class to check (can be NULL)
+     * @param anEventType event type
+     * @return true when the class is the event type or a sub-class of the event type, otherwise false
+     */
+    private static boolean isSubClass(Class<?> aClass, Class<?> anEventType) {
+        Class<?> theClass = aClass;
+        while(theClass != null) {
+            if(theClass == anEventType) {
+                return true;
+            }
+            theClass = theClass.getSuperclass();
+        }
+        return false;
+    }
+
+    /**
+     * Registration of a listener for all events or for an event type.
+     */
+    private static final class Registration
+    {
+        private final Class<? extends Event> myEventType;
+        private final RemoteEventListener myListener;
+
+        private Registration(Class<? extends Event> anEventType, RemoteEventListener aListener) {
+            myEventType = anEventType;
+            myListener = aListener;
+        }
+    }
+}
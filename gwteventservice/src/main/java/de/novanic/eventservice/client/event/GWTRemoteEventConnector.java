@@ -27,12 +27,15 @@ import de.novanic.eventservice.client.connection.strategy.connector.ConnectionSt
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.gwt.user.client.rpc.ServiceDefTarget;
 import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -47,6 +50,8 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
 {
     private EventServiceCreator myEventServiceCreator;
     private EventServiceAsync myEventService;
+    private List<EventServiceOperation> myBatchOperations;
+    private List<AsyncCallback<Void>> myBatchCallbacks;
 
     /**
      * Creates a new RemoteEventConnector with a connection to the corresponding EventService.
@@ -108,7 +113,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void activateStart(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> aCallback) {
-        myEventService.register(aDomain, anEventFilter, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.register(aDomain, anEventFilter), aCallback);
+        } else {
+            myEventService.register(aDomain, anEventFilter, aCallback);
+        }
     }
 
     /**
@@ -117,7 +126,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void deactivate(Set<Domain> aDomains, AsyncCallback<Void> aCallback) {
-        myEventService.unlisten(aDomains, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.unlisten(aDomains), aCallback);
+        } else {
+            myEventService.unlisten(aDomains, aCallback);
+        }
     }
 
     /**
@@ -126,7 +139,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void deactivate(Domain aDomain, AsyncCallback<Void> aCallback) {
-        myEventService.unlisten(aDomain, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.unlisten(aDomain), aCallback);
+        } else {
+            myEventService.unlisten(aDomain, aCallback);
+        }
     }
 
     /**
@@ -137,7 +154,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void sendEvent(Domain aDomain, Event anEvent, AsyncCallback<Void> aCallback) {
-        myEventService.addEvent(aDomain, anEvent, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.addEvent(aDomain, anEvent), aCallback);
+        } else {
+            myEventService.addEvent(aDomain, anEvent, aCallback);
+        }
     }
 
     /**
@@ -151,7 +172,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
         super.registerUnlistenEvent(anUnlistenScope, anUnlistenEvent, aCallback);
         //The UnlistenEvent mustn't be registered to the server side, when the scope is local.
         if(UnlistenEventListener.Scope.LOCAL != anUnlistenScope) {
-            myEventService.registerUnlistenEvent(anUnlistenScope, anUnlistenEvent, aCallback);
+            if(isBatchActive()) {
+                addBatchOperation(EventServiceOperation.registerUnlistenEvent(anUnlistenScope, anUnlistenEvent), aCallback);
+            } else {
+                myEventService.registerUnlistenEvent(anUnlistenScope, anUnlistenEvent, aCallback);
+            }
         }
     }
 
@@ -164,7 +189,11 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void registerEventFilter(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> aCallback) {
-        myEventService.registerEventFilter(aDomain, anEventFilter, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.registerEventFilter(aDomain, anEventFilter), aCallback);
+        } else {
+            myEventService.registerEventFilter(aDomain, anEventFilter, aCallback);
+        }
     }
 
     /**
@@ -173,7 +202,58 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
      * @param aCallback callback
      */
     public void deregisterEventFilter(Domain aDomain, AsyncCallback<Void> aCallback) {
-        myEventService.deregisterEventFilter(aDomain, aCallback);
+        if(isBatchActive()) {
+            addBatchOperation(EventServiceOperation.deregisterEventFilter(aDomain), aCallback);
+        } else {
+            myEventService.deregisterEventFilter(aDomain, aCallback);
+        }
+    }
+
+    /**
+     * Starts collecting the following server calls (registrations, events, deactivations, etc.) instead of executing them
+     * directly. The collected calls are executed with one server call by {@link #finishBatch()}.
+     */
+    public void startBatch() {
+        if(!isBatchActive()) {
+            myBatchOperations = new ArrayList<EventServiceOperation>();
+            myBatchCallbacks = new ArrayList<AsyncCallback<Void>>();
+        }
+    }
+
+    /**
+     * Executes all server calls which were collected since {@link #startBatch()} with one server call and
+     * returns to the direct execution of server calls. The callbacks of the collected calls are informed separately
+     * about the result of the corresponding operation.
+     */
+    public void finishBatch() {
+        if(isBatchActive()) {
+            final List<EventServiceOperation> theOperations = myBatchOperations;
+            final List<AsyncCallback<Void>> theCallbacks = myBatchCallbacks;
+            myBatchOperations = null;
+            myBatchCallbacks = null;
+
+            if(!theOperations.isEmpty()) {
+                myEventService.executeBatch(theOperations, new BatchCallback(theCallbacks));
+            }
+        }
+    }
+
+    /**
+     * Checks if the server calls are currently collected for a batch.
+     * @return true when a batch is active, otherwise false
+     */
+    private boolean isBatchActive() {
+        return myBatchOperations != null;
+    }
+
+    /**
+     * Adds an operation with the corresponding callback to the active batch.
+     * @param anOperation operation to execute with the batch
+     * @param aCallback callback of the operation
+     */
+    private void addBatchOperation(EventServiceOperation anOperation, AsyncCallback<Void> aCallback) {
+        myBatchOperations.add(anOperation);
+        myBatchCallbacks.add(aCallback);
     }
 
     /**
@@ -205,4 +285,34 @@ public class GWTRemoteEventConnector extends DefaultRemoteEventConnector
     private ConnectionStrategyClientConnector refreshConnectionStrategyClientConnector(EventServiceConfigurationTransferable aConfiguration, EventServiceAsync anEventService) {
         return initListen(aConfiguration, anEventService, true);
     }
+
+    /**
+     * Callback for a batch which dispatches the results of the executed operations to the callbacks of the single operations.
+     */
+    private static final class BatchCallback implements AsyncCallback<List<String>>
+    {
+        private final List<AsyncCallback<Void>> myCallbacks;
+
+        private BatchCallback(List<AsyncCallback<Void>> aCallbacks) {
+            myCallbacks = aCallbacks;
+        }
+
+        public void onSuccess(List<String> anErrors) {
+            for(int i = 0; i < myCallbacks.size(); i++) {
+                final AsyncCallback<Void> theCallback = myCallbacks.get(i);
+                final String theError = anErrors.get(i);
+                if(theError == null) {
+                    theCallback.onSuccess(null);
+                } else {
+                    theCallback.onFailure(new RemoteEventServiceRuntimeException(theError));
+                }
+            }
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            for(AsyncCallback<Void> theCallback: myCallbacks) {
+                theCallback.onFailure(aThrowable);
+            }
+        }
+    }
 }
\ No newline at end of file
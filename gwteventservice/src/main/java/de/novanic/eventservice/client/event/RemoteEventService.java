@@ -63,6 +63,29 @@ public interface RemoteEventService
      */
     void addListener(Domain aDomain, RemoteEventListener aRemoteListener, AsyncCallback<Void> aCallback);
 
+    /**
+     * Adds a listener for the events of an event type of a domain. The listener receives only the events of the event type
+     * (including the events of sub-classes of the event type), so that it doesn't have to check the type of the events.
+     * The listeners of a domain are notified in the order of their registration, independent of the event types.
+     * It activates the RemoteEventService if it was inactive.
+     * @param aDomain domain
+     * @param anEventType type of the events to receive (a class, interfaces aren't supported)
+     * @param aRemoteListener new listener
+     */
+    void addListener(Domain aDomain, Class<? extends Event> anEventType, RemoteEventListener aRemoteListener);
+
+    /**
+     * Adds a listener for the events of an event type of a domain. The listener receives only the events of the event type
+     * (including the events of sub-classes of the event type), so that it doesn't have to check the type of the events.
+     * The listeners of a domain are notified in the order of their registration, independent of the event types.
+     * It activates the RemoteEventService if it was inactive.
+     * @param aDomain domain
+     * @param anEventType type of the events to receive (a class, interfaces aren't supported)
+     * @param aRemoteListener new listener
+     * @param aCallback callback (only called when no listener is registered for the domain)
+     */
+    void addListener(Domain aDomain, Class<? extends Event> anEventType, RemoteEventListener aRemoteListener, AsyncCallback<Void> aCallback);
+
     /**
      * Adds a listener for a domain. The EventFilter is applied to the domain to filter events before the
      * RemoteEventListener recognizes the event.
@@ -44,6 +44,7 @@ public abstract class RemoteEventServiceAccessor
     private RemoteEventConnector myRemoteEventConnector;
     private Queue<ClientCommand<?>> myClientCommandQueue;
     private boolean isSessionInitialized;
+    private boolean isExecutionScheduled;
 
     /**
      * Constructor of the AbstractRemoteEventService to manage the {@link de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector}.
@@ -64,7 +65,8 @@ public abstract class RemoteEventServiceAccessor
 
     /**
      * Starts the init command and schedules all other commands till the init command is finished. That must be done
-     * to avoid double initialized sessions (race condition GWT issue 1846).
+     * to avoid double initialized sessions (race condition GWT issue 1846). The commands which are scheduled within the
+     * same event loop are executed together at the end of the event loop, so they can be transferred with one server call.
      * @param aClientCommand command to schedule
      * @param <R> Return type of the command callback
      */
@@ -75,22 +77,60 @@ public abstract class RemoteEventServiceAccessor
             theInitCommand.execute();
         }
         myClientCommandQueue.add(aClientCommand);
-        executeCommands();
+        scheduleExecution();
+    }
+
+    /**
+     * Schedules the execution of the queued commands at the end of the current event loop. Further commands which are
+     * scheduled within the same event loop are executed with the same execution.
+     */
+    private void scheduleExecution() {
+        if(isSessionInitialized && !isExecutionScheduled) {
+            isExecutionScheduled = true;
+            ClientCommandSchedulerFactory.getInstance().getClientCommandScheduler().scheduleFinally(new ClientCommand<Void>() {
+                public void execute() {
+                    isExecutionScheduled = false;
+                    executeCommands();
+                }
+
+                public AsyncCallback<Void> getCommandCallback() { return null; }
+            });
+        }
     }
 
     /**
      * Executes the scheduled commands ({@link ClientCommand}. The commands can be scheduled with
      * {@link RemoteEventServiceAccessor#schedule(de.novanic.eventservice.client.event.command.ClientCommand)}.
+     * When more than one command is queued, the server calls of the commands are collected with a batch of the
+     * {@link de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector} and executed with
+     * one server call.
      */
     private void executeCommands() {
-        if(isSessionInitialized) {
-            ClientCommand<?> theClientCommand;
-            while(myClientCommandQueue != null && (theClientCommand = myClientCommandQueue.poll()) != null) {
-                theClientCommand.execute();
+        if(isSessionInitialized && myClientCommandQueue != null) {
+            if(myClientCommandQueue.size() > 1) {
+                final RemoteEventConnector theRemoteEventConnector = getRemoteEventConnector();
+                theRemoteEventConnector.startBatch();
+                try {
+                    executeQueuedCommands();
+                } finally {
+                    theRemoteEventConnector.finishBatch();
+                }
+            } else {
+                executeQueuedCommands();
             }
         }
     }
 
+    /**
+     * Executes and removes all queued commands.
+     */
+    private void executeQueuedCommands() {
+        ClientCommand<?> theClientCommand;
+        while(myClientCommandQueue != null && (theClientCommand = myClientCommandQueue.poll()) != null) {
+            theClientCommand.execute();
+        }
+    }
+
     /**
      * Returns the managed {@link de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector}.
      * @return managed {@link de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector}
@@ -99,7 +139,13 @@ public abstract class RemoteEventServiceAccessor
         return myRemoteEventConnector;
     }
 
+    /**
+     * Resets the session and deactivates the {@link de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector}.
+     * The queued commands (for example the deactivation of the last domain) are executed before, because the scheduled
+     * execution at the end of the event loop would find no commands anymore.
+     */
     protected void reset() {
+        executeCommands();
         isSessionInitialized = false;
         myClientCommandQueue = null;
         getRemoteEventConnector().deactivate();
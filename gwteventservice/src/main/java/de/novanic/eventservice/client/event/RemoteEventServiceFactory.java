@@ -27,6 +27,7 @@ import de.novanic.eventservice.client.ClientHandler;
 import de.novanic.eventservice.client.DefaultClientHandler;
 import de.novanic.eventservice.client.config.ConfigurationTransferableDependentFactory;
 import de.novanic.eventservice.client.connection.callback.AsyncCallbackWrapper;
+import de.novanic.eventservice.client.connection.share.StorageTabLeaseStore;
 import de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector;
 import de.novanic.eventservice.client.event.command.ClientCommand;
 import de.novanic.eventservice.client.event.service.creator.DefaultEventServiceCreator;
@@ -82,6 +83,25 @@ public class RemoteEventServiceFactory
         return getRemoteEventService(new GWTRemoteEventConnector(theEventServiceCreator));
     }
 
+    /**
+     * This method can be used to create an instance of RemoteEventService which shares one connection to the server side
+     * between all tabs (windows) of the browser which belong to the application (see {@link SharedRemoteEventConnector}).
+     * The tabs elect the leader tab via the local storage. When the local storage isn't supported by the browser, every tab
+     * uses its own connection (see {@link RemoteEventServiceFactory#getRemoteEventService()}).
+     * RemoteEventService is a singleton, so this method returns always the same instance of RemoteEventService.
+     * @return RemoteEventService (singleton)
+     */
+    public RemoteEventService getSharedRemoteEventService() {
+        if(myRemoteEventService != null) {
+            return myRemoteEventService;
+        }
+        if(!StorageTabLeaseStore.isSupported()) {
+            return getRemoteEventService();
+        }
+        EventServiceCreator theEventServiceCreator = DefaultEventServiceCreator.getInstance();
+        return getRemoteEventService(new SharedRemoteEventConnector(theEventServiceCreator));
+    }
+
     /**
      * This method should be used to create an instance of RemoteEventService.
      * RemoteEventService is a singleton, so this method returns always the same instance of RemoteEventService.
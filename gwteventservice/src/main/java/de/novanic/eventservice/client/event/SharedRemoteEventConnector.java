@@ -0,0 +1,533 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event;
+
+import com.google.gwt.event.logical.shared.CloseEvent;
+import com.google.gwt.event.logical.shared.CloseHandler;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.share.BroadcastTabChannel;
+import de.novanic.eventservice.client.connection.share.SharedClientConnector;
+import de.novanic.eventservice.client.connection.share.StorageTabChannel;
+import de.novanic.eventservice.client.connection.share.StorageTabLeaseStore;
+import de.novanic.eventservice.client.connection.share.TabChannel;
+import de.novanic.eventservice.client.connection.share.TabChannelListener;
+import de.novanic.eventservice.client.connection.share.TabDomainRegistry;
+import de.novanic.eventservice.client.connection.share.TabLeaderElection;
+import de.novanic.eventservice.client.connection.share.TabMessage;
+import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
+import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
+import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
+import de.novanic.eventservice.client.logger.ClientLogger;
+import de.novanic.eventservice.client.logger.ClientLoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RemoteEventConnector should handle the connections between client- and the server side.
+ * SharedRemoteEventConnector shares one connection to the server side between all tabs (windows) of the browser which
+ * belong to the application. The tabs elect a leader tab ({@link de.novanic.eventservice.client.connection.share.TabLeaderElection})
+ * and only the leader tab registers the domains of all tabs and listens at the server side. The server responses are
+ * posted to the other tabs via a {@link de.novanic.eventservice.client.connection.share.TabChannel}
+ * (BroadcastChannel or local storage). When the leader tab is closed, another tab takes over the connection.
+ *
+ * Because the domains of all tabs are registered for one client at the server side, the
+ * {@link de.novanic.eventservice.client.event.filter.EventFilter} instances are applied by every tab itself instead of
+ * the server side. {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent} instances of the other
+ * tabs are only registered locally.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+public class SharedRemoteEventConnector extends GWTRemoteEventConnector
+{
+    private static final ClientLogger LOG = ClientLoggerFactory.getClientLogger();
+
+    private static final String KEY_PREFIX = "gwteventservice.";
+    private static final int LEASE_TIME = 6000;
+    private static final int ELECTION_PERIOD = 2000;
+
+    private final TabChannel myTabChannel;
+    private final TabLeaderElection myLeaderElection;
+    private final TabDomainRegistry myTabDomainRegistry;
+    private final SharedClientConnector mySharedClientConnector;
+    private final SharedEventNotification mySharedEventNotification;
+    private final Map<Domain, EventFilter> myEventFilters;
+    private final Set<String> myServerDomains;
+    private Timer myElectionTimer;
+    private String myLeaderId;
+
+    /**
+     * Creates a new SharedRemoteEventConnector with a connection to the corresponding EventService. The tabs communicate
+     * via a BroadcastChannel when it is supported by the browser, otherwise via the local storage. The leader tab is
+     * elected periodically and resigns when the window is closed.
+     * @param aGWTEventServiceCreator factory to create the EventService for the connection
+     */
+    protected SharedRemoteEventConnector(EventServiceCreator aGWTEventServiceCreator) {
+        this(aGWTEventServiceCreator, createTabChannel(),
+                new TabLeaderElection(new StorageTabLeaseStore(KEY_PREFIX + "leader"), TabLeaderElection.createTabId(), LEASE_TIME));
+        myElectionTimer = new Timer() {
+            public void run() {
+                elect();
+            }
+        };
+        myElectionTimer.scheduleRepeating(ELECTION_PERIOD);
+        Window.addCloseHandler(new CloseHandler<Window>() {
+            public void onClose(CloseEvent<Window> aCloseEvent) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Creates a new SharedRemoteEventConnector with a connection to the corresponding EventService. The leader tab is
+     * elected on creation and when the leader tab is closed, but not periodically.
+     * @param aGWTEventServiceCreator factory to create the EventService for the connection (and for listening, see
+     * {@link de.novanic.eventservice.client.connection.share.SharedClientConnector})
+     * @param aTabChannel channel to communicate with the other tabs
+     * @param aLeaderElection election of the leader tab
+     */
+    protected SharedRemoteEventConnector(EventServiceCreator aGWTEventServiceCreator, TabChannel aTabChannel, TabLeaderElection aLeaderElection) {
+        super(aGWTEventServiceCreator);
+        myTabChannel = aTabChannel;
+        myLeaderElection = aLeaderElection;
+        myTabDomainRegistry = new TabDomainRegistry();
+        mySharedClientConnector = new SharedClientConnector(aTabChannel, aLeaderElection.getTabId(), aGWTEventServiceCreator);
+        mySharedEventNotification = new SharedEventNotification();
+        myEventFilters = new HashMap<Domain, EventFilter>();
+        myServerDomains = new HashSet<String>();
+
+        myTabChannel.open(new TabChannelListener() {
+            public void onMessage(String aMessage) {
+                final TabMessage theTabMessage = TabMessage.decode(aMessage);
+                if(theTabMessage != null) {
+                    processMessage(theTabMessage);
+                }
+            }
+        });
+        elect();
+    }
+
+    /**
+     * Returns the {@link de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector} which
+     * is used to listen. That implementation returns always the {@link de.novanic.eventservice.client.connection.share.SharedClientConnector},
+     * because the server responses have to be posted to the other tabs.
+     * @param aConfiguration configuration
+     * @return connection strategy connector to listen
+     */
+    protected ConnectionStrategyClientConnector getConnectionStrategyClientConnector(EventServiceConfigurationTransferable aConfiguration) {
+        return mySharedClientConnector;
+    }
+
+    /**
+     * Activates the connector for the domain. The {@link de.novanic.eventservice.client.event.filter.EventFilter} is applied
+     * at the client side, because the domains of all tabs are registered for one client at the server side.
+     * @param aDomain domain to activate
+     * @param anEventFilter EventFilter to filter the events (optional)
+     * @param anEventNotification supports the notification about incoming events
+     * @param aCallback callback
+     */
+    public void activate(Domain aDomain, EventFilter anEventFilter, EventNotification anEventNotification, AsyncCallback<Void> aCallback) {
+        mySharedEventNotification.setEventNotification(anEventNotification);
+        setEventFilter(aDomain, anEventFilter);
+        changeDomains(toSet(aDomain), true);
+        super.activate(aDomain, null, mySharedEventNotification, aCallback);
+    }
+
+    /**
+     * Registers the domain at the server side. Only the leader tab registers the domains at the server side.
+     * @param aDomain domain to activate
+     * @param anEventFilter EventFilter to filter the events on the server side (optional)
+     * @param aCallback callback
+     */
+    public void activateStart(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> aCallback) {
+        if(mySharedClientConnector.isLeader() && myServerDomains.add(aDomain.getName())) {
+            super.activateStart(aDomain, null, aCallback);
+        } else {
+            onSuccess(aCallback);
+        }
+    }
+
+    /**
+     * Deactivates the connector for all domains (no events can be got from the domains). The leader tab keeps listening
+     * as long as other tabs have registered domains.
+     */
+    public void deactivate() {
+        if(!mySharedClientConnector.isLeader() || myTabDomainRegistry.getDomains().isEmpty()) {
+            super.deactivate();
+        }
+    }
+
+    /**
+     * Deactivates the connector for the domains (no events can be got from the domains). The domains are only deregistered
+     * at the server side when no other tab has registered the domains.
+     * @param aDomains domains to deactivate
+     * @param aCallback callback
+     */
+    public void deactivate(Set<Domain> aDomains, AsyncCallback<Void> aCallback) {
+        deactivateDomains(aDomains, aCallback);
+    }
+
+    /**
+     * Deactivates the connector for the domain (no events can be got from the domain). The domain is only deregistered
+     * at the server side when no other tab has registered the domain.
+     * @param aDomain domain to deactivate
+     * @param aCallback callback
+     */
+    public void deactivate(Domain aDomain, AsyncCallback<Void> aCallback) {
+        deactivateDomains(toSet(aDomain), aCallback);
+    }
+
+    /**
+     * Registers an {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent}. Only the leader tab
+     * registers the {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent} at the server side,
+     * the other tabs hold it only locally.
+     * @param anUnlistenScope scope of the unlisten events to receive
+     * @param anUnlistenEvent {@link de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent} which can contain custom data
+     * @param aCallback callback
+     */
+    public void registerUnlistenEvent(UnlistenEventListener.Scope anUnlistenScope, UnlistenEvent anUnlistenEvent, AsyncCallback<Void> aCallback) {
+        if(mySharedClientConnector.isLeader()) {
+            super.registerUnlistenEvent(anUnlistenScope, anUnlistenEvent, aCallback);
+        } else {
+            super.registerUnlistenEvent(UnlistenEventListener.Scope.LOCAL, anUnlistenEvent, aCallback);
+            onSuccess(aCallback);
+        }
+    }
+
+    /**
+     * Registers an {@link de.novanic.eventservice.client.event.filter.EventFilter} for a domain. The
+     * {@link de.novanic.eventservice.client.event.filter.EventFilter} is applied at the client side.
+     * @param aDomain domain
+     * @param anEventFilter EventFilter to filter the events
+     * @param aCallback callback
+     */
+    public void registerEventFilter(Domain aDomain, EventFilter anEventFilter, AsyncCallback<Void> aCallback) {
+        setEventFilter(aDomain, anEventFilter);
+        onSuccess(aCallback);
+    }
+
+    /**
+     * Deregisters the {@link de.novanic.eventservice.client.event.filter.EventFilter} for a domain.
+     * @param aDomain domain to remove the EventFilter from
+     * @param aCallback callback
+     */
+    public void deregisterEventFilter(Domain aDomain, AsyncCallback<Void> aCallback) {
+        myEventFilters.remove(aDomain);
+        onSuccess(aCallback);
+    }
+
+    /**
+     * Closes the connection sharing. The leader tab resigns, so that another tab can take over the connection directly.
+     */
+    public void close() {
+        if(myElectionTimer != null) {
+            myElectionTimer.cancel();
+        }
+        //the closed tab doesn't announce its domains anymore (for the case that messages are received until the channel is closed)
+        myTabDomainRegistry.removeTab(myLeaderElection.getTabId());
+        //the lease is released before the other tabs are informed, so that another tab can take over the connection directly
+        myLeaderElection.resign();
+        myTabChannel.post(new TabMessage(TabMessage.Type.CLOSED, myLeaderElection.getTabId(), null).encode());
+        myTabChannel.close();
+    }
+
+    /**
+     * Elects the leader tab. The tab takes over the connection when it becomes the leader tab.
+     */
+    private void elect() {
+        final long theCurrentTime = System.currentTimeMillis();
+        final boolean isLeader = myLeaderElection.elect(theCurrentTime);
+        if(!isLeader) {
+            //the leader tab could be elected before the tab was opened (without a received LEADER message)
+            final String theLeaderId = myLeaderElection.getLeaderId(theCurrentTime);
+            if(theLeaderId != null) {
+                myLeaderId = theLeaderId;
+            }
+        }
+        if(isLeader != mySharedClientConnector.isLeader()) {
+            final String theTabId = myLeaderElection.getTabId();
+            if(isLeader) {
+                LOG.log("Tab \"" + theTabId + "\" takes over the shared connection.");
+                if(myLeaderId != null && !myLeaderId.equals(theTabId)) {
+                    //the domains of the former leader tab are removed, because it is closed or not responding
+                    myTabDomainRegistry.removeTab(myLeaderId);
+                }
+                myLeaderId = theTabId;
+                mySharedClientConnector.setLeader(true);
+                myTabChannel.post(new TabMessage(TabMessage.Type.LEADER, theTabId, null).encode());
+                synchronizeDomains();
+            } else {
+                LOG.log("Tab \"" + theTabId + "\" hands over the shared connection.");
+                mySharedClientConnector.setLeader(false);
+                myServerDomains.clear();
+            }
+        }
+    }
+
+    /**
+     * Processes a message of another tab.
+     * @param aTabMessage message of another tab
+     */
+    private void processMessage(TabMessage aTabMessage) {
+        final String theSenderId = aTabMessage.getSenderId();
+        switch(aTabMessage.getType()) {
+            case LEADER:
+                myLeaderId = theSenderId;
+                if(mySharedClientConnector.isLeader()) {
+                    elect();
+                }
+                //the domains are announced again for the case that the new leader tab doesn't know them
+                postDomains(myTabDomainRegistry.getDomains(myLeaderElection.getTabId()));
+                break;
+            case DOMAINS:
+                myTabDomainRegistry.setDomains(theSenderId, TabMessage.decodeDomains(aTabMessage.getContent()));
+                synchronizeDomains();
+                break;
+            case CLOSED:
+                myTabDomainRegistry.removeTab(theSenderId);
+                if(theSenderId.equals(myLeaderId)) {
+                    myLeaderId = null;
+                    elect();
+                }
+                synchronizeDomains();
+                break;
+            case EVENTS:
+                mySharedClientConnector.receiveEvents(aTabMessage.getContent());
+                break;
+        }
+    }
+
+    /**
+     * Registers and deregisters the domains of all tabs at the server side. That is only executed by the leader tab.
+     * The leader tab starts to listen at the server side when the domains are registered.
+     */
+    private void synchronizeDomains() {
+        if(mySharedClientConnector.isLeader()) {
+            final Set<String> theDomainNames = myTabDomainRegistry.getDomains();
+
+            final Set<Domain> theRemovedDomains = removeServerDomains(theDomainNames);
+            if(!theRemovedDomains.isEmpty()) {
+                super.deactivate(theRemovedDomains, new DomainSynchronizationCallback(1));
+            }
+
+            theDomainNames.removeAll(myServerDomains);
+            if(theDomainNames.isEmpty()) {
+                if(myTabDomainRegistry.getDomains().isEmpty()) {
+                    super.deactivate();
+                } else {
+                    mySharedClientConnector.resumeListening();
+                }
+            } else {
+                final AsyncCallback<Void> theCallback = new DomainSynchronizationCallback(theDomainNames.size());
+                startBatch();
+                for(String theDomainName: theDomainNames) {
+                    super.activate(DomainFactory.getDomain(theDomainName), null, mySharedEventNotification, theCallback);
+                }
+                finishBatch();
+            }
+        }
+    }
+
+    /**
+     * Handles the abort of the connection (the server side doesn't know the client anymore). The listeners of the tab are
+     * removed and the leader tab registers the domains of the other tabs again.
+     * @param anEventNotification {@link de.novanic.eventservice.client.event.listener.EventNotification} of the tab (optional)
+     */
+    private void abort(EventNotification anEventNotification) {
+        myServerDomains.clear();
+        super.deactivate();
+        if(anEventNotification != null) {
+            anEventNotification.onAbort();
+        }
+        synchronizeDomains();
+    }
+
+    /**
+     * Deactivates the domains of the tab. The domains are only deregistered at the server side by the leader tab and when
+     * no other tab has registered the domains.
+     * @param aDomains domains to deactivate
+     * @param aCallback callback
+     */
+    private void deactivateDomains(Set<Domain> aDomains, AsyncCallback<Void> aCallback) {
+        for(Domain theDomain: aDomains) {
+            myEventFilters.remove(theDomain);
+        }
+        changeDomains(aDomains, false);
+
+        Set<Domain> theRemovedDomains = new HashSet<Domain>();
+        if(mySharedClientConnector.isLeader()) {
+            theRemovedDomains = removeServerDomains(myTabDomainRegistry.getDomains());
+        }
+        if(!theRemovedDomains.isEmpty()) {
+            super.deactivate(theRemovedDomains, aCallback);
+        } else {
+            onSuccess(aCallback);
+        }
+    }
+
+    /**
+     * Removes the domains which are registered at the server side, but aren't registered by a tab anymore.
+     * @param aDomainNames names of the domains of all tabs
+     * @return removed domains (which have to be deregistered at the server side)
+     */
+    private Set<Domain> removeServerDomains(Set<String> aDomainNames) {
+        Set<Domain> theRemovedDomains = new HashSet<Domain>();
+        Iterator<String> theServerDomainIterator = myServerDomains.iterator();
+        while(theServerDomainIterator.hasNext()) {
+            final String theServerDomainName = theServerDomainIterator.next();
+            if(!aDomainNames.contains(theServerDomainName)) {
+                theServerDomainIterator.remove();
+                theRemovedDomains.add(DomainFactory.getDomain(theServerDomainName));
+            }
+        }
+        return theRemovedDomains;
+    }
+
+    /**
+     * Adds or removes domains of the tab and announces the changed domains to the other tabs.
+     * @param aDomains domains to add or remove
+     * @param isAdd true to add the domains, false to remove the domains
+     */
+    private void changeDomains(Collection<Domain> aDomains, boolean isAdd) {
+        final String theTabId = myLeaderElection.getTabId();
+        Set<String> theDomainNames = myTabDomainRegistry.getDomains(theTabId);
+        boolean isChanged = false;
+        for(Domain theDomain: aDomains) {
+            if(isAdd) {
+                isChanged |= theDomainNames.add(theDomain.getName());
+            } else {
+                isChanged |= theDomainNames.remove(theDomain.getName());
+            }
+        }
+        if(isChanged) {
+            myTabDomainRegistry.setDomains(theTabId, theDomainNames);
+            postDomains(theDomainNames);
+        }
+    }
+
+    /**
+     * Announces the domains of the tab to the other tabs.
+     * @param aDomainNames names of the domains of the tab
+     */
+    private void postDomains(Set<String> aDomainNames) {
+        myTabChannel.post(new TabMessage(TabMessage.Type.DOMAINS, myLeaderElection.getTabId(), TabMessage.encodeDomains(aDomainNames)).encode());
+    }
+
+    private void setEventFilter(Domain aDomain, EventFilter anEventFilter) {
+        if(anEventFilter != null) {
+            myEventFilters.put(aDomain, anEventFilter);
+        } else {
+            myEventFilters.remove(aDomain);
+        }
+    }
+
+    private static Set<Domain> toSet(Domain aDomain) {
+        Set<Domain> theDomains = new HashSet<Domain>(1);
+        theDomains.add(aDomain);
+        return theDomains;
+    }
+
+    private static void onSuccess(AsyncCallback<Void> aCallback) {
+        if(aCallback != null) {
+            aCallback.onSuccess(null);
+        }
+    }
+
+    /**
+     * Creates the channel to communicate with the other tabs.
+     * @return BroadcastChannel based channel when it is supported by the browser, otherwise a local storage based channel
+     */
+    private static TabChannel createTabChannel() {
+        if(BroadcastTabChannel.isSupported()) {
+            return new BroadcastTabChannel(KEY_PREFIX + "channel");
+        }
+        return new StorageTabChannel(KEY_PREFIX + "channel");
+    }
+
+    /**
+     * The SharedEventNotification applies the {@link de.novanic.eventservice.client.event.filter.EventFilter} instances
+     * of the tab before the events are notified.
+     */
+    private final class SharedEventNotification implements EventNotification
+    {
+        private EventNotification myEventNotification;
+
+        private void setEventNotification(EventNotification anEventNotification) {
+            myEventNotification = anEventNotification;
+        }
+
+        public void onNotify(DomainEvent aDomainEvent) {
+            if(myEventNotification != null) {
+                final EventFilter theEventFilter = myEventFilters.get(aDomainEvent.getDomain());
+                if(theEventFilter == null || !theEventFilter.match(aDomainEvent.getEvent())) {
+                    myEventNotification.onNotify(aDomainEvent);
+                }
+            }
+        }
+
+        public void onAbort() {
+            abort(myEventNotification);
+        }
+    }
+
+    /**
+     * The DomainSynchronizationCallback resumes the listening of the leader tab when all domains of the other tabs are
+     * registered at the server side.
+     */
+    private final class DomainSynchronizationCallback implements AsyncCallback<Void>
+    {
+        private int myPendingRegistrations;
+
+        private DomainSynchronizationCallback(int aRegistrationCount) {
+            myPendingRegistrations = aRegistrationCount;
+        }
+
+        public void onSuccess(Void aResult) {
+            finishRegistration();
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            LOG.error("Error on synchronizing the domains of the tabs!", aThrowable);
+            finishRegistration();
+        }
+
+        private void finishRegistration() {
+            if(--myPendingRegistrations == 0) {
+                mySharedClientConnector.resumeListening();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.client.event.command.schedule;
+
+import de.novanic.eventservice.client.event.command.ClientCommand;
+
+import java.util.PriorityQueue;
+
+/**
+ * The ClientCommandQueue holds the scheduled {@link de.novanic.eventservice.client.event.command.ClientCommand} instances
+ * ordered by their execution time. Commands with the same execution time are returned in the order of their scheduling.
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:28:31
+ */
+public class ClientCommandQueue
+{
+    private final PriorityQueue<ScheduledCommand> myScheduledCommands;
+    private long mySequence;
+
+    /**
+     * Creates an empty ClientCommandQueue.
+     */
+    public ClientCommandQueue() {
+        myScheduledCommands = new PriorityQueue<ScheduledCommand>();
+    }
+
+    /**
+     * Adds a {@link de.novanic.eventservice.client.event.command.ClientCommand} which should be executed at the specified time.
+     * @param aCommand {@link de.novanic.eventservice.client.event.command.ClientCommand} to schedule
+     * @param anExecutionTime execution time in milliseconds
+     */
+    public void add(ClientCommand<?> aCommand, long anExecutionTime) {
+        myScheduledCommands.add(new ScheduledCommand(aCommand, anExecutionTime, mySequence++));
+    }
+
+    /**
+     * Removes and returns the next {@link de.novanic.eventservice.client.event.command.ClientCommand} which is due at the specified time.
+     * @param aTime current time in milliseconds
+     * @return next due {@link de.novanic.eventservice.client.event.command.ClientCommand}, NULL when no command is due
+     */
+    public ClientCommand<?> poll(long aTime) {
+        final ScheduledCommand theNextCommand = myScheduledCommands.peek();
+        if(theNextCommand != null && theNextCommand.myExecutionTime <= aTime) {
+            myScheduledCommands.poll();
+            return theNextCommand.myCommand;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the execution time of the next {@link de.novanic.eventservice.client.event.command.ClientCommand}.
+     * @return execution time of the next command in milliseconds, -1 when no command is scheduled
+     */
+    public long getNextExecutionTime() {
+        final ScheduledCommand theNextCommand = myScheduledCommands.peek();
+        if(theNextCommand != null) {
+            return theNextCommand.myExecutionTime;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if no {@link de.novanic.eventservice.client.event.command.ClientCommand} is scheduled.
+     * @return true when no command is scheduled, otherwise false
+     */
+    public boolean isEmpty() {
+        return myScheduledCommands.isEmpty();
+    }
+
+    /**
+     * Returns the count of the scheduled {@link de.novanic.eventservice.client.event.command.ClientCommand} instances.
+     * @return count of scheduled commands
+     */
+    public int size() {
+        return myScheduledCommands.size();
+    }
+
+    private static final class ScheduledCommand implements Comparable<ScheduledCommand>
+    {
+        private final ClientCommand<?> myCommand;
+        private final long myExecutionTime;
+        private final long mySequence;
+
+        private ScheduledCommand(ClientCommand<?> aCommand, long anExecutionTime, long aSequence) {
+            myCommand = aCommand;
+            myExecutionTime = anExecutionTime;
+            mySequence = aSequence;
+        }
+
+        public int compareTo(ScheduledCommand aScheduledCommand) {
+            if(myExecutionTime != aScheduledCommand.myExecutionTime) {
+                return (myExecutionTime < aScheduledCommand.myExecutionTime) ? -1 : 1;
+            }
+            return (mySequence < aScheduledCommand.mySequence) ? -1 : ((mySequence == aScheduledCommand.mySequence) ? 0 : 1);
+        }
+    }
+}
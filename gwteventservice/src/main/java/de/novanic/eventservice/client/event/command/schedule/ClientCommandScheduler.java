@@ -46,4 +46,12 @@ public interface ClientCommandScheduler
      * @param aDelay delay in milliseconds
      */
     void schedule(ClientCommand<?> aCommand, int aDelay);
+
+    /**
+     * Schedules the execution of the {@link de.novanic.eventservice.client.event.command.ClientCommand} at the end of
+     * the current event loop (before the control is returned to the browser). That can be used to collect all commands
+     * of the current event loop before they are executed.
+     * @param aCommand {@link de.novanic.eventservice.client.event.command.ClientCommand} to schedule
+     */
+    void scheduleFinally(ClientCommand<?> aCommand);
 }
\ No newline at end of file
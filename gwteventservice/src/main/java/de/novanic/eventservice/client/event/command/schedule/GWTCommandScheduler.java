@@ -22,6 +22,7 @@
 package de.novanic.eventservice.client.event.command.schedule;
 
 import de.novanic.eventservice.client.event.command.ClientCommand;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.user.client.Timer;
 
 /**
@@ -29,12 +30,28 @@ import com.google.gwt.user.client.Timer;
  * instances for a specified time/delay. GWTCommandScheduler is a implementation of {@link de.novanic.eventservice.client.event.command.schedule.ClientCommandScheduler}
  * for GWT.
  *
+ * All scheduled commands share a single {@link com.google.gwt.user.client.Timer}. The timer is scheduled for the next due
+ * command and executes all due commands with one tick, so scheduling many commands at once doesn't create a timer per command.
+ *
  * @author sstrohschein
  *         <br>Date: 04.04.2009
  *         <br>Time: 22:25:02
  */
 public class GWTCommandScheduler implements ClientCommandScheduler
 {
+    private final ClientCommandQueue myCommandQueue;
+    private Timer myTimer;
+    private long myTimerExecutionTime;
+    private boolean isExecuting;
+
+    /**
+     * Creates a new GWTCommandScheduler with a single timer for all scheduled commands.
+     */
+    public GWTCommandScheduler() {
+        myCommandQueue = new ClientCommandQueue();
+        myTimerExecutionTime = -1;
+    }
+
     /**
      * Creates a new thread for the execution of the {@link de.novanic.eventservice.client.event.command.ClientCommand}.
      * @param aCommand {@link de.novanic.eventservice.client.event.command.ClientCommand} to schedule
@@ -50,20 +67,76 @@ public class GWTCommandScheduler implements ClientCommandScheduler
      * @param aDelay delay in milliseconds
      */
     public void schedule(final ClientCommand<?> aCommand, int aDelay) {
-        Timer theTimer = new GWTCommandTimer(aCommand);
-        theTimer.schedule(aDelay);
+        myCommandQueue.add(aCommand, System.currentTimeMillis() + aDelay);
+        if(!isExecuting) {
+            scheduleTimer();
+        }
+    }
+
+    /**
+     * Schedules the execution of the {@link de.novanic.eventservice.client.event.command.ClientCommand} at the end of
+     * the current event loop (before the control is returned to the browser).
+     * @param aCommand {@link de.novanic.eventservice.client.event.command.ClientCommand} to schedule
+     */
+    public void scheduleFinally(final ClientCommand<?> aCommand) {
+        Scheduler.get().scheduleFinally(new Scheduler.ScheduledCommand() {
+            public void execute() {
+                aCommand.execute();
+            }
+        });
+    }
+
+    /**
+     * Executes all due commands. Commands which are scheduled while the due commands are executed are executed with a
+     * later tick. The timer is re-scheduled for the next due command, also when a command fails.
+     */
+    protected void executeDueCommands() {
+        myTimerExecutionTime = -1;
+        isExecuting = true;
+        try {
+            final long theCurrentTime = System.currentTimeMillis();
+            ClientCommand<?> theCommand;
+            while((theCommand = myCommandQueue.poll(theCurrentTime)) != null) {
+                theCommand.execute();
+            }
+        } finally {
+            isExecuting = false;
+            scheduleTimer();
+        }
+    }
+
+    /**
+     * Schedules the timer for the next due command, when the timer isn't already scheduled for an earlier time.
+     */
+    private void scheduleTimer() {
+        final long theNextExecutionTime = myCommandQueue.getNextExecutionTime();
+        if(theNextExecutionTime >= 0 && (myTimerExecutionTime < 0 || theNextExecutionTime < myTimerExecutionTime)) {
+            if(myTimer == null) {
+                myTimer = createTimer();
+            }
+            myTimerExecutionTime = theNextExecutionTime;
+            myTimer.schedule((int)Math.max(1, theNextExecutionTime - System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Creates the single timer which executes the due commands (see {@link GWTCommandTimer}).
+     * @return timer to execute the due commands
+     */
+    protected Timer createTimer() {
+        return new GWTCommandTimer(this);
     }
 
     public static class GWTCommandTimer extends Timer
     {
-        private ClientCommand<?> myClientCommand;
+        private GWTCommandScheduler myCommandScheduler;
 
-        public GWTCommandTimer(ClientCommand<?> aClientCommand) {
-            myClientCommand = aClientCommand;
+        public GWTCommandTimer(GWTCommandScheduler aCommandScheduler) {
+            myCommandScheduler = aCommandScheduler;
         }
 
         public void run() {
-            myClientCommand.execute();
+            myCommandScheduler.executeDueCommands();
         }
     }
 }
\ No newline at end of file
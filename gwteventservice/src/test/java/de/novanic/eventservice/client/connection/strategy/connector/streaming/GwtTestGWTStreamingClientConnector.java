@@ -206,6 +206,14 @@ public class GwtTestGWTStreamingClientConnector extends GWTTestCase
             return 0;
         }
 
+        public Integer getReconnectDelay() {
+            return null;
+        }
+
+        public Integer getReconnectDelayMax() {
+            return null;
+        }
+
         public String getConnectionId() {
             return "12345678";
         }
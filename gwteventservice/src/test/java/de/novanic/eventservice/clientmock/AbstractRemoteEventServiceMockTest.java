@@ -21,6 +21,7 @@
  */
 package de.novanic.eventservice.clientmock;
 
+import com.google.gwt.user.client.rpc.SerializationStreamFactory;
 import com.google.gwt.user.client.rpc.ServiceDefTarget;
 import de.novanic.eventservice.client.config.ConfigurationTransferableDependentFactory;
 import de.novanic.eventservice.client.config.EventServiceConfigurationTransferable;
@@ -29,6 +30,7 @@ import de.novanic.eventservice.client.connection.strategy.connector.DefaultClien
 import de.novanic.eventservice.client.event.Event;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -60,10 +62,16 @@ public abstract class AbstractRemoteEventServiceMockTest
 
     @Before
     public void setUp() {
-        myEventServiceAsyncMock = mock(EventServiceAsync.class, withSettings().extraInterfaces(ServiceDefTarget.class));
+        myEventServiceAsyncMock = mock(EventServiceAsync.class, withSettings().extraInterfaces(ServiceDefTarget.class, SerializationStreamFactory.class));
         ClientCommandSchedulerFactory.getInstance().setClientCommandSchedulerInstance(new DirectCommandScheduler());
     }
 
+    protected DeferringCommandScheduler setUpDeferringCommandScheduler() {
+        DeferringCommandScheduler theCommandScheduler = new DeferringCommandScheduler();
+        ClientCommandSchedulerFactory.getInstance().setClientCommandSchedulerInstance(theCommandScheduler);
+        return theCommandScheduler;
+    }
+
     @After
     public void tearDown() {
         ClientCommandSchedulerFactory.getInstance().reset();
@@ -159,6 +167,14 @@ public abstract class AbstractRemoteEventServiceMockTest
         }
     }
 
+    protected void mockListenRejected(List<DomainEvent> anEvents, int aRejections, Throwable aRejectionException) {
+        Stubber theStubber = doAnswer(new AsyncCallbackThrowableAnswer(aRejectionException));
+        for(int i = 1; i < aRejections; i++) {
+            theStubber.doAnswer(new AsyncCallbackThrowableAnswer(aRejectionException));
+        }
+        theStubber.doAnswer(new AsyncCallbackAnswer<List<DomainEvent>>(anEvents)).doNothing().when(myEventServiceAsyncMock).listen(any(AsyncCallback.class));
+    }
+
     protected void mockUnlisten(Set<Domain> aDomains) {
         mockUnlisten(aDomains, null);
     }
@@ -191,6 +207,10 @@ public abstract class AbstractRemoteEventServiceMockTest
         doAnswer(new AsyncCallbackAnswer<Void>(null)).when(myEventServiceAsyncMock).addEvent(eq(aDomain), any(Event.class), any(AsyncCallback.class));
     }
 
+    protected void mockExecuteBatch(List<String> aResults) {
+        doAnswer(new AsyncCallbackAnswer<List<String>>(aResults)).when(myEventServiceAsyncMock).executeBatch(any(List.class), any(AsyncCallback.class));
+    }
+
     private EventServiceConfigurationTransferable getDefaultConfiguration() {
         return new RemoteEventServiceConfigurationTransferable(0, 20000, 90000, 2, null, DefaultClientConnector.class.getName());
     }
@@ -243,6 +263,31 @@ public abstract class AbstractRemoteEventServiceMockTest
         public void schedule(ClientCommand aCommand, int aDelay) {
             aCommand.execute();
         }
+
+        public void scheduleFinally(ClientCommand aCommand) {
+            aCommand.execute();
+        }
+    }
+
+    /**
+     * Executes the commands of {@link #scheduleFinally(de.novanic.eventservice.client.event.command.ClientCommand)} only
+     * when {@link #finishEventLoop()} is called, like the end of the event loop in the browser.
+     */
+    protected static class DeferringCommandScheduler extends DirectCommandScheduler
+    {
+        private List<ClientCommand> myFinallyCommands = new ArrayList<ClientCommand>();
+
+        public void scheduleFinally(ClientCommand aCommand) {
+            myFinallyCommands.add(aCommand);
+        }
+
+        public void finishEventLoop() {
+            List<ClientCommand> theFinallyCommands = myFinallyCommands;
+            myFinallyCommands = new ArrayList<ClientCommand>();
+            for(ClientCommand theFinallyCommand: theFinallyCommands) {
+                theFinallyCommand.execute();
+            }
+        }
     }
 
     private class AsyncCallbackAnswer<R> implements Answer
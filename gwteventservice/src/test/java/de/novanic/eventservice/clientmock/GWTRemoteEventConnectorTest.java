@@ -29,8 +29,10 @@ import de.novanic.eventservice.client.event.listener.EventNotification;
 import de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector;
 import de.novanic.eventservice.client.event.domain.Domain;
 import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.*;
 import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
 import de.novanic.eventservice.client.logger.ClientLoggerFactory;
 import de.novanic.eventservice.client.logger.AbstractClientLogger;
 import de.novanic.eventservice.test.testhelper.DefaultRemoteEventServiceFactoryTestMode;
@@ -41,6 +43,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -320,6 +323,74 @@ public class GWTRemoteEventConnectorTest extends AbstractRemoteEventServiceMockT
         verify(myEventServiceAsyncMock, times(1)).listen(any(AsyncCallback.class));
     }
 
+    @Test
+    public void testBatch() {
+        assertFalse(myRemoteEventConnector.isActive());
+
+        mockExecuteBatch(Arrays.asList((String)null, null, null));
+
+        final TestEventNotification theEventNotification = new TestEventNotification();
+        final RecordedCallback theActivationCallback = new RecordedCallback();
+        final RecordedCallback theActivationCallback_2 = new RecordedCallback();
+        final RecordedCallback theEventCallback = new RecordedCallback();
+        final Event theEvent = new DummyEvent();
+
+        myRemoteEventConnector.startBatch();
+        myRemoteEventConnector.activate(TEST_DOMAIN, null, theEventNotification, theActivationCallback);
+        myRemoteEventConnector.activate(TEST_DOMAIN_2, null, theEventNotification, theActivationCallback_2);
+        myRemoteEventConnector.sendEvent(TEST_DOMAIN, theEvent, theEventCallback);
+
+        //nothing is sent till the batch is finished
+        assertFalse(myRemoteEventConnector.isActive());
+        assertFalse(theActivationCallback.isOnSuccessCalled());
+        verify(myEventServiceAsyncMock, never()).executeBatch(any(List.class), any(AsyncCallback.class));
+
+        myRemoteEventConnector.finishBatch();
+
+        assertTrue(myRemoteEventConnector.isActive());
+        assertTrue(theActivationCallback.isOnSuccessCalled());
+        assertTrue(theActivationCallback_2.isOnSuccessCalled());
+        assertTrue(theEventCallback.isOnSuccessCalled());
+
+        verify(myEventServiceAsyncMock, times(1)).executeBatch(eq(Arrays.asList(EventServiceOperation.register(TEST_DOMAIN, null),
+                EventServiceOperation.register(TEST_DOMAIN_2, null), EventServiceOperation.addEvent(TEST_DOMAIN, theEvent))), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, never()).register(any(Domain.class), any(EventFilter.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, never()).addEvent(any(Domain.class), any(Event.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(1)).listen(any(AsyncCallback.class));
+
+        //after the batch the calls are executed directly again
+        mockAddEvent(TEST_DOMAIN);
+        myRemoteEventConnector.sendEvent(TEST_DOMAIN, new DummyEvent(), new RecordedCallback());
+        verify(myEventServiceAsyncMock, times(1)).addEvent(eq(TEST_DOMAIN), any(Event.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(1)).executeBatch(any(List.class), any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testBatch_Error() {
+        mockExecuteBatch(Arrays.asList(null, "test_error"));
+
+        final RecordedCallback theFilterCallback = new RecordedCallback();
+        final RecordedCallback theEventCallback = new RecordedCallback();
+
+        myRemoteEventConnector.startBatch();
+        myRemoteEventConnector.deregisterEventFilter(TEST_DOMAIN, theFilterCallback);
+        myRemoteEventConnector.sendEvent(TEST_DOMAIN_2, new DummyEvent(), theEventCallback);
+        myRemoteEventConnector.finishBatch();
+
+        assertTrue(theFilterCallback.isOnSuccessCalled());
+        assertFalse(theFilterCallback.isOnFailureCalled());
+        assertFalse(theEventCallback.isOnSuccessCalled());
+        assertTrue(theEventCallback.isOnFailureCalled());
+    }
+
+    @Test
+    public void testBatch_Empty() {
+        myRemoteEventConnector.startBatch();
+        myRemoteEventConnector.finishBatch();
+
+        verify(myEventServiceAsyncMock, never()).executeBatch(any(List.class), any(AsyncCallback.class));
+    }
+
     private class DummyClientLogger extends AbstractClientLogger
     {
         private static final String MESSAGE_LOG_PREFIX = "Log: ";
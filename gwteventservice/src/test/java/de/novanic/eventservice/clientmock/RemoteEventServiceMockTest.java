@@ -61,6 +61,21 @@ public class RemoteEventServiceMockTest extends AbstractRemoteEventServiceMockTe
         myRemoteEventService = DefaultRemoteEventServiceFactoryTestMode.getInstance().getDefaultRemoteEventService(myEventServiceAsyncMock);
     }
 
+    private static class OrderTestListener implements RemoteEventListener
+    {
+        private final String myName;
+        private final List<String> myNotifications;
+
+        private OrderTestListener(String aName, List<String> aNotifications) {
+            myName = aName;
+            myNotifications = aNotifications;
+        }
+
+        public void apply(Event anEvent) {
+            myNotifications.add(myName);
+        }
+    }
+
     @Test
     public void testInit_Error() {
         try {
@@ -501,6 +516,56 @@ public class RemoteEventServiceMockTest extends AbstractRemoteEventServiceMockTe
         verify(myEventServiceAsyncMock, times(0)).unlisten(any(AsyncCallback.class));
     }
 
+    @Test
+    public void testRemoveListener_Deferred() {
+        DeferringCommandScheduler theCommandScheduler = setUpDeferringCommandScheduler();
+        mockInit();
+        mockRegister(TEST_DOMAIN);
+        mockUnlisten(TEST_DOMAIN);
+
+        final EventListenerTestMode theRemoteListener = new EventListenerTestMode();
+        myRemoteEventService.addListener(TEST_DOMAIN, theRemoteListener);
+        theCommandScheduler.finishEventLoop();
+        assertTrue(myRemoteEventService.isActive());
+        verify(myEventServiceAsyncMock, times(1)).register(eq(TEST_DOMAIN), eq((EventFilter)null), any(AsyncCallback.class));
+
+        //the removal of the last listener resets the session, but the unlisten call is sent before
+        myRemoteEventService.removeListener(TEST_DOMAIN, theRemoteListener);
+        assertFalse(myRemoteEventService.isActive());
+        verify(myEventServiceAsyncMock, times(1)).unlisten(eq(TEST_DOMAIN), any(AsyncCallback.class));
+
+        theCommandScheduler.finishEventLoop();
+        verify(myEventServiceAsyncMock, times(1)).unlisten(any(Domain.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(0)).unlisten(any(Set.class), any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testRemoveListeners_Deferred() {
+        DeferringCommandScheduler theCommandScheduler = setUpDeferringCommandScheduler();
+        mockInit();
+        mockRegister(TEST_DOMAIN);
+        mockRegister(TEST_DOMAIN_2);
+
+        Set<Domain> theDomains = new HashSet<Domain>();
+        theDomains.add(TEST_DOMAIN);
+        theDomains.add(TEST_DOMAIN_2);
+        mockUnlisten(theDomains);
+
+        myRemoteEventService.addListener(TEST_DOMAIN, new EventListenerTestMode());
+        theCommandScheduler.finishEventLoop();
+        myRemoteEventService.addListener(TEST_DOMAIN_2, new EventListenerTestMode());
+        theCommandScheduler.finishEventLoop();
+        assertTrue(myRemoteEventService.isActive());
+
+        //the removal of all domains resets the session, but the unlisten call is sent before
+        myRemoteEventService.removeListeners(theDomains);
+        assertFalse(myRemoteEventService.isActive());
+        verify(myEventServiceAsyncMock, times(1)).unlisten(eq(theDomains), any(AsyncCallback.class));
+
+        theCommandScheduler.finishEventLoop();
+        verify(myEventServiceAsyncMock, times(1)).unlisten(any(Set.class), any(AsyncCallback.class));
+    }
+
     @Test
     public void testRemoveListener_2() {
         mockInit();
@@ -1461,6 +1526,28 @@ public class RemoteEventServiceMockTest extends AbstractRemoteEventServiceMockTe
         verify(myEventServiceAsyncMock, times(0)).unlisten(any(AsyncCallback.class));
     }
 
+    @Test
+    public void testListen_EventType_Order() {
+        DeferringCommandScheduler theCommandScheduler = setUpDeferringCommandScheduler();
+        mockInit();
+        mockRegister(TEST_DOMAIN);
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent(TEST_DOMAIN));
+        theEvents.add(new DummyDomainEvent(new Event() {}, TEST_DOMAIN));
+        mockListen(theEvents, 1);
+
+        final List<String> theNotifications = new ArrayList<String>();
+        myRemoteEventService.addListener(TEST_DOMAIN, DummyEvent.class, new OrderTestListener("typed", theNotifications));
+        myRemoteEventService.addListener(TEST_DOMAIN, new OrderTestListener("all", theNotifications));
+        myRemoteEventService.addListener(TEST_DOMAIN, DummyEvent.class, new OrderTestListener("typed_2", theNotifications));
+        assertContainsListeners(TEST_DOMAIN, 3);
+        theCommandScheduler.finishEventLoop();
+
+        //the listeners are notified in the order of the registration, independent of the event types
+        assertEquals(Arrays.asList("typed", "all", "typed_2", "all"), theNotifications);
+    }
+
     @Test
     public void testListen_UserSpecific() {
         mockInit();
@@ -1681,6 +1768,36 @@ public class RemoteEventServiceMockTest extends AbstractRemoteEventServiceMockTe
         verify(myEventServiceAsyncMock, times(0)).unlisten(any(AsyncCallback.class));
     }
 
+    @Test
+    public void testListen_Error_Overloaded() {
+        mockInit();
+
+        //caused by first addListener / activate
+        mockRegister(TEST_DOMAIN);
+
+        //caused by callback of register
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent(new DummyEvent(), TEST_DOMAIN));
+        //more rejections than reconnect attempts, but the rejections of an overloaded server (with retry hint) aren't counted as errors
+        mockListenRejected(theEvents, 3, new StatusCodeException(503, "1000"));
+
+        assertFalse(myRemoteEventService.isActive());
+        final EventListenerTestMode theRemoteListener = new EventListenerTestMode();
+        myRemoteEventService.addListener(TEST_DOMAIN, theRemoteListener);
+        assertTrue(myRemoteEventService.isActive());
+
+        assertEquals(1, theRemoteListener.getEventCount(DummyEvent.class));
+        assertTrue(myRemoteEventService.isActive());
+
+        assertEqualsActiveDomains(TEST_DOMAIN);
+        assertContainsListeners(TEST_DOMAIN, 1);
+
+        verify(myEventServiceAsyncMock, times(5)).listen(any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(0)).unlisten(any(Set.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(0)).unlisten(any(Domain.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(0)).unlisten(any(AsyncCallback.class));
+    }
+
     @Test
     public void testAddEvent() {
         mockInit();
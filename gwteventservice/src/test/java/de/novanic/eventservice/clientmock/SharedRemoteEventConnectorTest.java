@@ -0,0 +1,316 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.rpc.SerializationStreamFactory;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import de.novanic.eventservice.client.config.RemoteEventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.share.TabLeaderElection;
+import de.novanic.eventservice.client.connection.share.TabMessage;
+import de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.SharedRemoteEventConnector;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.filter.EventFilter;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
+import de.novanic.eventservice.test.testhelper.DefaultRemoteEventServiceFactoryTestMode;
+import de.novanic.eventservice.test.testhelper.DummyDomainEvent;
+import de.novanic.eventservice.test.testhelper.TabChannelTestMode;
+import de.novanic.eventservice.test.testhelper.TabLeaseStoreTestMode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:32:10
+ */
+@RunWith(JUnit4.class)
+public class SharedRemoteEventConnectorTest extends AbstractRemoteEventServiceMockTest
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test-domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test-domain-2");
+    private static final String ENCODED_EVENTS = "[1,[\"java.util.ArrayList/4159755760\"],0,7]";
+
+    private TabLeaseStoreTestMode myLeaseStore;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+        myLeaseStore = new TabLeaseStoreTestMode();
+    }
+
+    @Test
+    public void testActivate_Leader() {
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theConnector = createConnector("tab1", theTabChannel);
+        assertTrue(isPosted(theTabChannel, TabMessage.Type.LEADER));
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent(TEST_DOMAIN));
+        mockRegister(TEST_DOMAIN);
+        mockListen(theEvents, 1);
+
+        TestEventNotification theEventNotification = new TestEventNotification();
+        theConnector.activate(TEST_DOMAIN, null, theEventNotification, null);
+        assertTrue(theConnector.isActive());
+
+        //the leader tab registers the domain and listens at the server side
+        verify(myEventServiceAsyncMock).register(eq(TEST_DOMAIN), (EventFilter)eq(null), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, times(2)).listen(any(AsyncCallback.class));
+        assertEquals(1, theEventNotification.getEvents().size());
+        //the domains are announced to the other tabs
+        assertTrue(isPosted(theTabChannel, TabMessage.Type.DOMAINS));
+    }
+
+    @Test
+    public void testActivate_NotLeader() throws Exception {
+        myLeaseStore.setLease("tab0@" + (System.currentTimeMillis() + 60000));
+
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theConnector = createConnector("tab1", theTabChannel);
+        assertFalse(isPosted(theTabChannel, TabMessage.Type.LEADER));
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent(TEST_DOMAIN));
+        mockReceiveEvents(theEvents);
+
+        TestEventNotification theEventNotification = new TestEventNotification();
+        RecordedCallback theCallback = new RecordedCallback();
+        theConnector.activate(TEST_DOMAIN, null, theEventNotification, theCallback);
+        assertTrue(theConnector.isActive());
+        assertTrue(theCallback.isOnSuccessCalled());
+
+        //only the leader tab registers the domains and listens at the server side
+        verify(myEventServiceAsyncMock, never()).register(any(Domain.class), any(EventFilter.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, never()).listen(any(AsyncCallback.class));
+        assertTrue(isPosted(theTabChannel, TabMessage.Type.DOMAINS));
+
+        //the events are received from the leader tab
+        theTabChannel.receive(createEventsMessage("tab0"));
+        assertEquals(1, theEventNotification.getEvents().size());
+        theTabChannel.receive(createEventsMessage("tab0"));
+        assertEquals(2, theEventNotification.getEvents().size());
+    }
+
+    @Test
+    public void testEventFilter() throws Exception {
+        myLeaseStore.setLease("tab0@" + (System.currentTimeMillis() + 60000));
+
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theConnector = createConnector("tab1", theTabChannel);
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent(TEST_DOMAIN));
+        mockReceiveEvents(theEvents);
+
+        //the EventFilter is applied at the client side
+        TestEventNotification theEventNotification = new TestEventNotification();
+        theConnector.activate(TEST_DOMAIN, new TestEventFilter(), theEventNotification, null);
+        theTabChannel.receive(createEventsMessage("tab0"));
+        assertEquals(0, theEventNotification.getEvents().size());
+
+        RecordedCallback theCallback = new RecordedCallback();
+        theConnector.deregisterEventFilter(TEST_DOMAIN, theCallback);
+        assertTrue(theCallback.isOnSuccessCalled());
+        theTabChannel.receive(createEventsMessage("tab0"));
+        assertEquals(1, theEventNotification.getEvents().size());
+
+        theConnector.registerEventFilter(TEST_DOMAIN, new TestEventFilter(), null);
+        theTabChannel.receive(createEventsMessage("tab0"));
+        assertEquals(1, theEventNotification.getEvents().size());
+
+        verify(myEventServiceAsyncMock, never()).registerEventFilter(any(Domain.class), any(EventFilter.class), any(AsyncCallback.class));
+        verify(myEventServiceAsyncMock, never()).deregisterEventFilter(any(Domain.class), any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testActivate_OtherTab() {
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theLeaderConnector = createConnector("tab1", theTabChannel);
+        SharedRemoteEventConnector theConnector = createConnector("tab2", new TabChannelTestMode(theTabChannel));
+
+        mockRegister(TEST_DOMAIN);
+        BatchRecordingAnswer theBatchRecordingAnswer = mockRecordingExecuteBatch();
+
+        theLeaderConnector.activate(TEST_DOMAIN, null, new TestEventNotification(), null);
+        verify(myEventServiceAsyncMock).register(eq(TEST_DOMAIN), (EventFilter)eq(null), any(AsyncCallback.class));
+
+        //the leader tab registers the domains of the other tab
+        theConnector.activate(TEST_DOMAIN_2, null, new TestEventNotification(), null);
+        assertEquals(Arrays.asList(EventServiceOperation.register(TEST_DOMAIN_2, null)), theBatchRecordingAnswer.getBatch(0));
+
+        //the domain is already registered
+        theConnector.activate(TEST_DOMAIN, null, new TestEventNotification(), null);
+        verify(myEventServiceAsyncMock, times(1)).register(eq(TEST_DOMAIN), (EventFilter)eq(null), any(AsyncCallback.class));
+        assertEquals(1, theBatchRecordingAnswer.getBatchCount());
+    }
+
+    @Test
+    public void testDeactivate_OtherTab() {
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theLeaderConnector = createConnector("tab1", theTabChannel);
+        SharedRemoteEventConnector theConnector = createConnector("tab2", new TabChannelTestMode(theTabChannel));
+
+        mockRegister(TEST_DOMAIN);
+        mockUnlisten(toSet(TEST_DOMAIN));
+
+        theLeaderConnector.activate(TEST_DOMAIN, null, new TestEventNotification(), null);
+        theConnector.activate(TEST_DOMAIN, null, new TestEventNotification(), null);
+
+        //the domain is still required by the other tab
+        RecordedCallback theCallback = new RecordedCallback();
+        theLeaderConnector.deactivate(TEST_DOMAIN, theCallback);
+        assertTrue(theCallback.isOnSuccessCalled());
+        verify(myEventServiceAsyncMock, never()).unlisten(any(Set.class), any(AsyncCallback.class));
+
+        //the domain isn't required by any tab anymore
+        theConnector.deactivate(TEST_DOMAIN, null);
+        verify(myEventServiceAsyncMock).unlisten(eq(toSet(TEST_DOMAIN)), any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testClose_TakeOver() {
+        TabChannelTestMode theTabChannel = new TabChannelTestMode();
+        SharedRemoteEventConnector theLeaderConnector = createConnector("tab1", theTabChannel);
+        TabChannelTestMode theTabChannel_2 = new TabChannelTestMode(theTabChannel);
+        SharedRemoteEventConnector theConnector = createConnector("tab2", theTabChannel_2);
+
+        mockRegister(TEST_DOMAIN);
+        BatchRecordingAnswer theBatchRecordingAnswer = mockRecordingExecuteBatch();
+
+        theLeaderConnector.activate(TEST_DOMAIN, null, new TestEventNotification(), null);
+        theConnector.activate(TEST_DOMAIN_2, null, new TestEventNotification(), null);
+        //only the leader tab listens at the server side
+        verify(myEventServiceAsyncMock, times(1)).listen(any(AsyncCallback.class));
+
+        //the other tab takes over the connection directly and registers only its own domains
+        theLeaderConnector.close();
+        assertFalse(theTabChannel.isOpen());
+        assertTrue(isPosted(theTabChannel_2, TabMessage.Type.LEADER));
+        assertEquals(2, theBatchRecordingAnswer.getBatchCount());
+        assertEquals(Arrays.asList(EventServiceOperation.register(TEST_DOMAIN_2, null)), theBatchRecordingAnswer.getBatch(1));
+        //the waiting listen call of the tab is resumed at the server side
+        verify(myEventServiceAsyncMock, times(2)).listen(any(AsyncCallback.class));
+    }
+
+    private SharedRemoteEventConnector createConnector(String aTabId, TabChannelTestMode aTabChannel) {
+        SharedRemoteEventConnector theConnector = DefaultRemoteEventServiceFactoryTestMode.getInstance().getSharedRemoteEventConnector(myEventServiceAsyncMock,
+                aTabChannel, new TabLeaderElection(myLeaseStore, aTabId, 60000));
+        theConnector.initListen(new RemoteEventServiceConfigurationTransferable(0, 20000, 90000, 2, "dummy-connection-id", DefaultClientConnector.class.getName()));
+        return theConnector;
+    }
+
+    private void mockReceiveEvents(List<DomainEvent> anEvents) throws Exception {
+        SerializationStreamReader theSerializationStreamReaderMock = mock(SerializationStreamReader.class);
+        when(theSerializationStreamReaderMock.readObject()).thenReturn(anEvents);
+        when(((SerializationStreamFactory)myEventServiceAsyncMock).createStreamReader(ENCODED_EVENTS)).thenReturn(theSerializationStreamReaderMock);
+    }
+
+    private BatchRecordingAnswer mockRecordingExecuteBatch() {
+        BatchRecordingAnswer theBatchRecordingAnswer = new BatchRecordingAnswer();
+        doAnswer(theBatchRecordingAnswer).when(myEventServiceAsyncMock).executeBatch(any(List.class), any(AsyncCallback.class));
+        return theBatchRecordingAnswer;
+    }
+
+    private static String createEventsMessage(String aSenderId) {
+        return new TabMessage(TabMessage.Type.EVENTS, aSenderId, "//OK" + ENCODED_EVENTS).encode();
+    }
+
+    private static boolean isPosted(TabChannelTestMode aTabChannel, TabMessage.Type aType) {
+        for(String thePostedMessage: aTabChannel.getPostedMessages()) {
+            if(TabMessage.decode(thePostedMessage).getType() == aType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Domain> toSet(Domain aDomain) {
+        return new HashSet<Domain>(Arrays.asList(aDomain));
+    }
+
+    private static class TestEventNotification implements EventNotification
+    {
+        private List<DomainEvent> myEvents = new ArrayList<DomainEvent>();
+
+        public void onNotify(DomainEvent aDomainEvent) {
+            myEvents.add(aDomainEvent);
+        }
+
+        public void onAbort() {}
+
+        public List<DomainEvent> getEvents() {
+            return myEvents;
+        }
+    }
+
+    private static class TestEventFilter implements EventFilter
+    {
+        public boolean match(Event anEvent) {
+            return true;
+        }
+    }
+
+    private static class BatchRecordingAnswer implements Answer
+    {
+        private List<List<EventServiceOperation>> myBatches = new ArrayList<List<EventServiceOperation>>();
+
+        @SuppressWarnings("unchecked")
+        public Object answer(InvocationOnMock anInvocation) throws Throwable {
+            final List<EventServiceOperation> theOperations = (List<EventServiceOperation>)anInvocation.getArguments()[0];
+            myBatches.add(new ArrayList<EventServiceOperation>(theOperations));
+
+            final List<String> theErrors = new ArrayList<String>();
+            for(int i = 0; i < theOperations.size(); i++) {
+                theErrors.add(null);
+            }
+            ((AsyncCallback<List<String>>)anInvocation.getArguments()[1]).onSuccess(theErrors);
+            return null;
+        }
+
+        public int getBatchCount() {
+            return myBatches.size();
+        }
+
+        public List<EventServiceOperation> getBatch(int anIndex) {
+            return myBatches.get(anIndex);
+        }
+    }
+}
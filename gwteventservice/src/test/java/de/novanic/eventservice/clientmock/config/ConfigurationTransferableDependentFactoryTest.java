@@ -229,6 +229,14 @@ public class ConfigurationTransferableDependentFactoryTest
             return 0;
         }
 
+        public Integer getReconnectDelay() {
+            return null;
+        }
+
+        public Integer getReconnectDelayMax() {
+            return null;
+        }
+
         public String getConnectionId() {
             return "12345678";
         }
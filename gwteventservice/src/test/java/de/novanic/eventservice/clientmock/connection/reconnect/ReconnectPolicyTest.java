@@ -0,0 +1,111 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.reconnect;
+
+import com.google.gwt.user.client.rpc.StatusCodeException;
+import de.novanic.eventservice.client.config.RemoteEventServiceConfigurationTransferable;
+import de.novanic.eventservice.client.connection.strategy.connector.DefaultClientConnector;
+import de.novanic.eventservice.client.connection.reconnect.ReconnectPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:00:29
+ */
+@RunWith(JUnit4.class)
+public class ReconnectPolicyTest
+{
+    @Test
+    public void testGetBackoff() {
+        ReconnectPolicy theReconnectPolicy = new ReconnectPolicy(500, 3000);
+        assertEquals(500, theReconnectPolicy.getBackoff(1));
+        assertEquals(1000, theReconnectPolicy.getBackoff(2));
+        assertEquals(2000, theReconnectPolicy.getBackoff(3));
+        assertEquals(3000, theReconnectPolicy.getBackoff(4));
+        assertEquals(3000, theReconnectPolicy.getBackoff(100));
+    }
+
+    @Test
+    public void testGetBackoff_Unlimited() {
+        ReconnectPolicy theReconnectPolicy = new ReconnectPolicy(1000, null);
+        assertEquals(1000, theReconnectPolicy.getBackoff(1));
+        assertEquals(16000, theReconnectPolicy.getBackoff(5));
+        //no overflow
+        assertEquals(Integer.MAX_VALUE, theReconnectPolicy.getBackoff(100));
+    }
+
+    @Test
+    public void testGetBackoff_NoDelay() {
+        ReconnectPolicy theReconnectPolicy = new ReconnectPolicy(null, null);
+        assertEquals(0, theReconnectPolicy.getBackoff(1));
+        assertEquals(0, theReconnectPolicy.getBackoff(10));
+        assertEquals(0, theReconnectPolicy.getDelay(10, 0));
+
+        theReconnectPolicy = new ReconnectPolicy(new RemoteEventServiceConfigurationTransferable(0, 20000, 90000, 2, "12345678", DefaultClientConnector.class.getName()));
+        assertEquals(0, theReconnectPolicy.getDelay(3, 0));
+    }
+
+    @Test
+    public void testGetDelay() {
+        ReconnectPolicy theReconnectPolicy = new ReconnectPolicy(new RemoteEventServiceConfigurationTransferable(0, 20000, 90000, 2,
+                500, 3000, "12345678", DefaultClientConnector.class.getName()));
+        //full jitter: a random part of the backoff
+        assertEquals(0, theReconnectPolicy.getDelay(1, 0, 0.0));
+        assertEquals(250, theReconnectPolicy.getDelay(1, 0, 0.5));
+        assertEquals(1500, theReconnectPolicy.getDelay(4, 0, 0.5));
+        assertEquals(2999, theReconnectPolicy.getDelay(4, 0, 0.9999));
+
+        for(int i = 0; i < 100; i++) {
+            final int theDelay = theReconnectPolicy.getDelay(3, 0);
+            assertTrue(theDelay >= 0);
+            assertTrue(theDelay < 2000);
+        }
+    }
+
+    @Test
+    public void testGetDelay_RetryHint() {
+        ReconnectPolicy theReconnectPolicy = new ReconnectPolicy(500, 3000);
+        assertEquals(5000, theReconnectPolicy.getDelay(1, 5000, 0.0));
+        assertEquals(5250, theReconnectPolicy.getDelay(1, 5000, 0.5));
+        assertEquals(Integer.MAX_VALUE, theReconnectPolicy.getDelay(1, Integer.MAX_VALUE, 0.5));
+        assertEquals(250, theReconnectPolicy.getDelay(1, -1, 0.5));
+    }
+
+    @Test
+    public void testGetRetryHint() {
+        assertTrue(ReconnectPolicy.isServiceOverloaded(new StatusCodeException(503, "2500")));
+        assertEquals(2500, ReconnectPolicy.getRetryHint(new StatusCodeException(503, "2500")));
+        assertEquals(2500, ReconnectPolicy.getRetryHint(new StatusCodeException(503, " 2500\n")));
+        assertEquals(0, ReconnectPolicy.getRetryHint(new StatusCodeException(503, "<html>Service Unavailable</html>")));
+        assertEquals(0, ReconnectPolicy.getRetryHint(new StatusCodeException(503, null)));
+
+        assertFalse(ReconnectPolicy.isServiceOverloaded(new StatusCodeException(500, "2500")));
+        assertEquals(0, ReconnectPolicy.getRetryHint(new StatusCodeException(500, "2500")));
+        assertFalse(ReconnectPolicy.isServiceOverloaded(new RuntimeException("2500")));
+        assertEquals(0, ReconnectPolicy.getRetryHint(new RuntimeException("2500")));
+    }
+}
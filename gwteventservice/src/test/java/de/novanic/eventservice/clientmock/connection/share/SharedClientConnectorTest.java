@@ -0,0 +1,227 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.share;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.rpc.RpcRequestBuilder;
+import com.google.gwt.user.client.rpc.SerializationStreamFactory;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import com.google.gwt.user.client.rpc.ServiceDefTarget;
+import de.novanic.eventservice.client.connection.share.SharedClientConnector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
+import de.novanic.eventservice.test.testhelper.DummyDomainEvent;
+import de.novanic.eventservice.test.testhelper.TabChannelTestMode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:32:10
+ */
+@RunWith(JUnit4.class)
+public class SharedClientConnectorTest
+{
+    private static final String ENCODED_EVENTS = "[1,[\"java.util.ArrayList/4159755760\"],0,7]";
+
+    private EventServiceAsync myEventServiceMock;
+    private EventServiceAsync myListenEventServiceMock;
+    private SharedClientConnector mySharedClientConnector;
+
+    @Before
+    public void setUp() {
+        myEventServiceMock = mock(EventServiceAsync.class, withSettings().extraInterfaces(ServiceDefTarget.class));
+        when(((ServiceDefTarget)myEventServiceMock).getServiceEntryPoint()).thenReturn("/test/gwteventservice");
+        myListenEventServiceMock = mock(EventServiceAsync.class, withSettings().extraInterfaces(ServiceDefTarget.class, SerializationStreamFactory.class));
+
+        mySharedClientConnector = new SharedClientConnector(new TabChannelTestMode(), "tab1", new EventServiceCreator() {
+            public EventServiceAsync createEventService() {
+                return myListenEventServiceMock;
+            }
+        });
+    }
+
+    @Test
+    public void testInit() {
+        assertFalse(mySharedClientConnector.isInitialized());
+        mySharedClientConnector.init(myEventServiceMock);
+        assertTrue(mySharedClientConnector.isInitialized());
+
+        //the listen calls are executed with a separate service (to the same entry point) which relays the server responses
+        verify((ServiceDefTarget)myListenEventServiceMock).setServiceEntryPoint("/test/gwteventservice");
+        verify((ServiceDefTarget)myListenEventServiceMock).setRpcRequestBuilder(any(RpcRequestBuilder.class));
+    }
+
+    @Test
+    public void testListen_Leader() {
+        mySharedClientConnector.init(myEventServiceMock);
+        mySharedClientConnector.setLeader(true);
+        assertTrue(mySharedClientConnector.isLeader());
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+
+        verify(myListenEventServiceMock).listen(theCallback);
+        verify(myEventServiceMock, never()).listen(any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testListen_NotLeader() throws Exception {
+        mySharedClientConnector.init(myEventServiceMock);
+        assertFalse(mySharedClientConnector.isLeader());
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(new DummyDomainEvent());
+        mockReceiveEvents(theEvents);
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+        verify(myListenEventServiceMock, never()).listen(any(AsyncCallback.class));
+        assertNull(theCallback.getEvents());
+
+        //the "//OK" prefix of the GWT-RPC response is removed before the events are de-serialized
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        verify((SerializationStreamFactory)myListenEventServiceMock).createStreamReader(ENCODED_EVENTS);
+        assertSame(theEvents, theCallback.getEvents());
+
+        //the callback is only notified once (the next listen call registers the callback again)
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        assertEquals(1, theCallback.getCallCount());
+    }
+
+    @Test
+    public void testReceiveEvents_NotOK() throws Exception {
+        mySharedClientConnector.init(myEventServiceMock);
+        mockReceiveEvents(new ArrayList<DomainEvent>());
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+
+        mySharedClientConnector.receiveEvents("//EX" + ENCODED_EVENTS);
+        mySharedClientConnector.receiveEvents(ENCODED_EVENTS);
+        mySharedClientConnector.receiveEvents(null);
+        verify((SerializationStreamFactory)myListenEventServiceMock, never()).createStreamReader(anyString());
+        assertEquals(0, theCallback.getCallCount());
+
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        assertEquals(1, theCallback.getCallCount());
+    }
+
+    @Test
+    public void testReceiveEvents_UnknownClient() throws Exception {
+        mySharedClientConnector.init(myEventServiceMock);
+        mockReceiveEvents(null);
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+
+        //the leader tab handles the unknown client, the other tabs keep waiting for events
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        assertEquals(0, theCallback.getCallCount());
+    }
+
+    @Test
+    public void testReceiveEvents_Leader() throws Exception {
+        mySharedClientConnector.init(myEventServiceMock);
+        mySharedClientConnector.setLeader(true);
+        mockReceiveEvents(new ArrayList<DomainEvent>());
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+
+        //the leader tab receives the events from the server side
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        assertEquals(0, theCallback.getCallCount());
+    }
+
+    @Test
+    public void testResumeListening() {
+        mySharedClientConnector.init(myEventServiceMock);
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+
+        //nothing to resume, because the tab isn't the leader tab
+        mySharedClientConnector.resumeListening();
+        verify(myListenEventServiceMock, never()).listen(any(AsyncCallback.class));
+
+        mySharedClientConnector.setLeader(true);
+        mySharedClientConnector.resumeListening();
+        verify(myListenEventServiceMock).listen(theCallback);
+
+        //the waiting callback was already resumed
+        mySharedClientConnector.resumeListening();
+        verify(myListenEventServiceMock, times(1)).listen(any(AsyncCallback.class));
+    }
+
+    @Test
+    public void testDeactivate() throws Exception {
+        mySharedClientConnector.init(myEventServiceMock);
+        mockReceiveEvents(new ArrayList<DomainEvent>());
+
+        RecordingCallback theCallback = new RecordingCallback();
+        mySharedClientConnector.listen(null, theCallback);
+        mySharedClientConnector.deactivate();
+
+        mySharedClientConnector.receiveEvents("//OK" + ENCODED_EVENTS);
+        assertEquals(0, theCallback.getCallCount());
+    }
+
+    private void mockReceiveEvents(List<DomainEvent> anEvents) throws Exception {
+        SerializationStreamReader theSerializationStreamReaderMock = mock(SerializationStreamReader.class);
+        when(theSerializationStreamReaderMock.readObject()).thenReturn(anEvents);
+        when(((SerializationStreamFactory)myListenEventServiceMock).createStreamReader(ENCODED_EVENTS)).thenReturn(theSerializationStreamReaderMock);
+    }
+
+    private static class RecordingCallback implements AsyncCallback<List<DomainEvent>>
+    {
+        private List<DomainEvent> myEvents;
+        private int myCallCount;
+
+        public void onSuccess(List<DomainEvent> anEvents) {
+            myEvents = anEvents;
+            myCallCount++;
+        }
+
+        public void onFailure(Throwable aThrowable) {
+            fail("Unexpected failure: " + aThrowable.getMessage());
+        }
+
+        public List<DomainEvent> getEvents() {
+            return myEvents;
+        }
+
+        public int getCallCount() {
+            return myCallCount;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.share;
+
+import de.novanic.eventservice.client.connection.share.TabDomainRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+@RunWith(JUnit4.class)
+public class TabDomainRegistryTest
+{
+    @Test
+    public void testSetDomains() {
+        TabDomainRegistry theTabDomainRegistry = new TabDomainRegistry();
+        assertTrue(theTabDomainRegistry.getDomains().isEmpty());
+        assertTrue(theTabDomainRegistry.getDomains("tab1").isEmpty());
+
+        theTabDomainRegistry.setDomains("tab1", createDomainNames("domain_1", "domain_2"));
+        theTabDomainRegistry.setDomains("tab2", createDomainNames("domain_2", "domain_3"));
+
+        assertEquals(createDomainNames("domain_1", "domain_2"), theTabDomainRegistry.getDomains("tab1"));
+        assertEquals(createDomainNames("domain_1", "domain_2", "domain_3"), theTabDomainRegistry.getDomains());
+
+        //the domains of the tab are replaced
+        theTabDomainRegistry.setDomains("tab1", createDomainNames("domain_2"));
+        assertEquals(createDomainNames("domain_2", "domain_3"), theTabDomainRegistry.getDomains());
+
+        theTabDomainRegistry.setDomains("tab2", new HashSet<String>());
+        assertEquals(createDomainNames("domain_2"), theTabDomainRegistry.getDomains());
+        assertTrue(theTabDomainRegistry.getDomains("tab2").isEmpty());
+    }
+
+    @Test
+    public void testSetDomains_Copy() {
+        TabDomainRegistry theTabDomainRegistry = new TabDomainRegistry();
+        Set<String> theDomainNames = createDomainNames("domain_1");
+        theTabDomainRegistry.setDomains("tab1", theDomainNames);
+
+        theDomainNames.add("domain_2");
+        theTabDomainRegistry.getDomains("tab1").add("domain_3");
+        assertEquals(createDomainNames("domain_1"), theTabDomainRegistry.getDomains("tab1"));
+    }
+
+    @Test
+    public void testRemoveTab() {
+        TabDomainRegistry theTabDomainRegistry = new TabDomainRegistry();
+        theTabDomainRegistry.setDomains("tab1", createDomainNames("domain_1", "domain_2"));
+        theTabDomainRegistry.setDomains("tab2", createDomainNames("domain_2"));
+
+        theTabDomainRegistry.removeTab("tab1");
+        assertEquals(createDomainNames("domain_2"), theTabDomainRegistry.getDomains());
+
+        theTabDomainRegistry.removeTab("tab2");
+        theTabDomainRegistry.removeTab("tab3");
+        assertTrue(theTabDomainRegistry.getDomains().isEmpty());
+    }
+
+    private static Set<String> createDomainNames(String... aDomainNames) {
+        Set<String> theDomainNames = new HashSet<String>();
+        for(String theDomainName: aDomainNames) {
+            theDomainNames.add(theDomainName);
+        }
+        return theDomainNames;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.share;
+
+import de.novanic.eventservice.client.connection.share.TabLeaderElection;
+import de.novanic.eventservice.test.testhelper.TabLeaseStoreTestMode;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+@RunWith(JUnit4.class)
+public class TabLeaderElectionTest
+{
+    @Test
+    public void testElect() {
+        TabLeaseStoreTestMode theLeaseStore = new TabLeaseStoreTestMode();
+        TabLeaderElection theElection_1 = new TabLeaderElection(theLeaseStore, "tab1", 1000);
+        TabLeaderElection theElection_2 = new TabLeaderElection(theLeaseStore, "tab2", 1000);
+
+        assertNull(theElection_1.getLeaderId(0));
+        assertTrue(theElection_1.elect(0));
+        assertEquals("tab1", theElection_1.getLeaderId(0));
+        assertEquals("tab1", theElection_2.getLeaderId(0));
+
+        //the lease is valid, so that the second tab can't take over the lease
+        assertFalse(theElection_2.elect(500));
+        //the lease is renewed
+        assertTrue(theElection_1.elect(900));
+        assertFalse(theElection_2.elect(1500));
+        assertEquals("tab1", theElection_2.getLeaderId(1500));
+
+        //the lease is expired (the leader tab doesn't respond), so that the second tab takes over the lease
+        assertNull(theElection_2.getLeaderId(1900));
+        assertTrue(theElection_2.elect(1900));
+        assertFalse(theElection_1.elect(2000));
+        assertEquals("tab2", theElection_1.getLeaderId(2000));
+    }
+
+    @Test
+    public void testElect_Concurrent() {
+        TabLeaseStoreTestMode theLeaseStore = new TabLeaseStoreTestMode();
+        TabLeaderElection theElection_1 = new TabLeaderElection(theLeaseStore, "tab1", 1000);
+        TabLeaderElection theElection_2 = new TabLeaderElection(theLeaseStore, "tab2", 1000);
+
+        //both tabs take over the expired lease at the same time, the last tab wins
+        theLeaseStore.setLease("tab3@0");
+        assertNull(theElection_1.getLeaderId(100));
+        assertNull(theElection_2.getLeaderId(100));
+        assertTrue(theElection_1.elect(100));
+        theLeaseStore.setLease("tab2@1100");
+
+        //the loser recognizes the lease of the winner with the next election
+        assertFalse(theElection_1.elect(200));
+        assertTrue(theElection_2.elect(200));
+    }
+
+    @Test
+    public void testResign() {
+        TabLeaseStoreTestMode theLeaseStore = new TabLeaseStoreTestMode();
+        TabLeaderElection theElection_1 = new TabLeaderElection(theLeaseStore, "tab1", 1000);
+        TabLeaderElection theElection_2 = new TabLeaderElection(theLeaseStore, "tab2", 1000);
+
+        assertTrue(theElection_1.elect(0));
+        //the lease isn't changed, because the second tab isn't the leader
+        theElection_2.resign();
+        assertEquals("tab1", theElection_2.getLeaderId(0));
+
+        //the second tab can take over the lease directly after the leader resigned
+        theElection_1.resign();
+        assertNull(theLeaseStore.getLease());
+        assertTrue(theElection_2.elect(100));
+    }
+
+    @Test
+    public void testGetLeaderId_InvalidLease() {
+        TabLeaseStoreTestMode theLeaseStore = new TabLeaseStoreTestMode();
+        TabLeaderElection theElection = new TabLeaderElection(theLeaseStore, "tab1", 1000);
+
+        theLeaseStore.setLease("tab2");
+        assertNull(theElection.getLeaderId(0));
+        theLeaseStore.setLease("tab2@abc");
+        assertNull(theElection.getLeaderId(0));
+        theLeaseStore.setLease("@1000");
+        assertNull(theElection.getLeaderId(0));
+
+        assertTrue(theElection.elect(0));
+    }
+
+    @Test
+    public void testCreateTabId() {
+        final String theTabId = TabLeaderElection.createTabId();
+        assertNotNull(theTabId);
+        assertFalse(theTabId.equals(TabLeaderElection.createTabId()));
+        assertEquals(-1, theTabId.indexOf('|'));
+        assertEquals(-1, theTabId.indexOf('@'));
+    }
+}
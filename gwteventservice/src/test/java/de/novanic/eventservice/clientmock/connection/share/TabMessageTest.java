@@ -0,0 +1,93 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.share;
+
+import de.novanic.eventservice.client.connection.share.TabMessage;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:14:28
+ */
+@RunWith(JUnit4.class)
+public class TabMessageTest
+{
+    @Test
+    public void testEncode() {
+        TabMessage theTabMessage = new TabMessage(TabMessage.Type.EVENTS, "tab1", "//OK[1,2,[\"a|b\"],0,7]");
+        assertEquals("EVENTS|tab1|//OK[1,2,[\"a|b\"],0,7]", theTabMessage.encode());
+
+        TabMessage theDecodedTabMessage = TabMessage.decode(theTabMessage.encode());
+        assertNotNull(theDecodedTabMessage);
+        assertEquals(TabMessage.Type.EVENTS, theDecodedTabMessage.getType());
+        assertEquals("tab1", theDecodedTabMessage.getSenderId());
+        assertEquals("//OK[1,2,[\"a|b\"],0,7]", theDecodedTabMessage.getContent());
+    }
+
+    @Test
+    public void testEncode_WithoutContent() {
+        TabMessage theTabMessage = new TabMessage(TabMessage.Type.LEADER, "tab1", null);
+        assertEquals("", theTabMessage.getContent());
+        assertEquals("LEADER|tab1|", theTabMessage.encode());
+
+        TabMessage theDecodedTabMessage = TabMessage.decode(theTabMessage.encode());
+        assertNotNull(theDecodedTabMessage);
+        assertEquals(TabMessage.Type.LEADER, theDecodedTabMessage.getType());
+        assertEquals("tab1", theDecodedTabMessage.getSenderId());
+        assertEquals("", theDecodedTabMessage.getContent());
+    }
+
+    @Test
+    public void testDecode_Invalid() {
+        assertNull(TabMessage.decode(null));
+        assertNull(TabMessage.decode(""));
+        assertNull(TabMessage.decode("LEADER"));
+        assertNull(TabMessage.decode("LEADER|tab1"));
+        assertNull(TabMessage.decode("LEADER||"));
+        assertNull(TabMessage.decode("UNKNOWN|tab1|content"));
+    }
+
+    @Test
+    public void testEncodeDomains() {
+        List<String> theDomainNames = new ArrayList<String>();
+        assertEquals("", TabMessage.encodeDomains(theDomainNames));
+        assertTrue(TabMessage.decodeDomains("").isEmpty());
+        assertTrue(TabMessage.decodeDomains(null).isEmpty());
+
+        theDomainNames.add("domain_1");
+        theDomainNames.add("domain|2");
+        theDomainNames.add("domain,3");
+
+        Set<String> theDecodedDomainNames = TabMessage.decodeDomains(TabMessage.encodeDomains(theDomainNames));
+        assertEquals(3, theDecodedDomainNames.size());
+        assertTrue(theDecodedDomainNames.containsAll(theDomainNames));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.strategy.connector.adaptive;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.connection.strategy.connector.ConnectionStrategyClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.adaptive.AdaptiveClientConnector;
+import de.novanic.eventservice.client.connection.strategy.connector.adaptive.ConnectionStrategySelector;
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.listener.EventNotification;
+import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:22:35
+ */
+@RunWith(JUnit4.class)
+public class AdaptiveClientConnectorTest
+{
+    @Test
+    public void testListen() {
+        TestClientConnector theLongPollingConnector = new TestClientConnector();
+        TestClientConnector theStreamingConnector = new TestClientConnector();
+        //every recorded event switches to streaming, listen cycles without events switch to long-polling
+        AdaptiveClientConnector theAdaptiveClientConnector = new AdaptiveClientConnector(theLongPollingConnector, theStreamingConnector,
+                new ConnectionStrategySelector(1, 0.5, 0));
+        theAdaptiveClientConnector.init(null);
+        assertTrue(theAdaptiveClientConnector.isInitialized());
+        assertFalse(theAdaptiveClientConnector.isStreaming());
+
+        TestCallback theCallback = new TestCallback();
+        theAdaptiveClientConnector.listen(null, theCallback);
+        assertEquals(1, theLongPollingConnector.myListenCount);
+        assertEquals(0, theStreamingConnector.myListenCount);
+
+        List<DomainEvent> theEvents = new ArrayList<DomainEvent>();
+        theEvents.add(null);
+        theLongPollingConnector.myCallback.onSuccess(new ArrayList<DomainEvent>());
+        sleep();
+        theLongPollingConnector.myCallback.onSuccess(theEvents);
+        assertEquals(2, theCallback.mySuccessCount);
+
+        //the connection strategy is switched with the next listen cycle
+        assertFalse(theAdaptiveClientConnector.isStreaming());
+        theAdaptiveClientConnector.listen(null, theCallback);
+        assertTrue(theAdaptiveClientConnector.isStreaming());
+        assertTrue(theLongPollingConnector.isDeactivated);
+        assertEquals(1, theLongPollingConnector.myListenCount);
+        assertEquals(1, theStreamingConnector.myListenCount);
+
+        //a cycle without events
+        sleep();
+        theStreamingConnector.myCallback.onSuccess(new ArrayList<DomainEvent>());
+        theAdaptiveClientConnector.listen(null, theCallback);
+        assertFalse(theAdaptiveClientConnector.isStreaming());
+        assertTrue(theStreamingConnector.isDeactivated);
+        assertEquals(2, theLongPollingConnector.myListenCount);
+    }
+
+    @Test
+    public void testListen_Notification() {
+        TestClientConnector theLongPollingConnector = new TestClientConnector();
+        TestClientConnector theStreamingConnector = new TestClientConnector();
+        AdaptiveClientConnector theAdaptiveClientConnector = new AdaptiveClientConnector(theLongPollingConnector, theStreamingConnector,
+                new ConnectionStrategySelector(1, 0.5, 0));
+
+        TestEventNotification theEventNotification = new TestEventNotification();
+        theAdaptiveClientConnector.listen(theEventNotification, new TestCallback());
+        theLongPollingConnector.myEventNotification.onNotify(null);
+        sleep();
+        theLongPollingConnector.myEventNotification.onNotify(null);
+        theLongPollingConnector.myEventNotification.onAbort();
+        assertEquals(2, theEventNotification.myNotifyCount);
+        assertEquals(1, theEventNotification.myAbortCount);
+
+        theAdaptiveClientConnector.listen(theEventNotification, new TestCallback());
+        assertTrue(theAdaptiveClientConnector.isStreaming());
+
+        theAdaptiveClientConnector.deactivate();
+        assertTrue(theStreamingConnector.isDeactivated);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch(InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class TestClientConnector implements ConnectionStrategyClientConnector
+    {
+        private boolean isInitialized;
+        private boolean isDeactivated;
+        private int myListenCount;
+        private EventNotification myEventNotification;
+        private AsyncCallback<List<DomainEvent>> myCallback;
+
+        public void init(EventServiceAsync anEventService) {
+            isInitialized = true;
+        }
+
+        public void deactivate() {
+            isDeactivated = true;
+        }
+
+        public boolean isInitialized() {
+            return isInitialized;
+        }
+
+        public void listen(EventNotification anEventNotification, AsyncCallback<List<DomainEvent>> aCallback) {
+            myListenCount++;
+            myEventNotification = anEventNotification;
+            myCallback = aCallback;
+        }
+    }
+
+    private static class TestCallback implements AsyncCallback<List<DomainEvent>>
+    {
+        private int mySuccessCount;
+
+        public void onSuccess(List<DomainEvent> anEvents) {
+            mySuccessCount++;
+        }
+
+        public void onFailure(Throwable aThrowable) {}
+    }
+
+    private static class TestEventNotification implements EventNotification
+    {
+        private int myNotifyCount;
+        private int myAbortCount;
+
+        public void onNotify(DomainEvent aDomainEvent) {
+            myNotifyCount++;
+        }
+
+        public void onAbort() {
+            myAbortCount++;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.connection.strategy.connector.adaptive;
+
+import de.novanic.eventservice.client.connection.strategy.connector.adaptive.ConnectionStrategySelector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:22:35
+ */
+@RunWith(JUnit4.class)
+public class ConnectionStrategySelectorTest
+{
+    @Test
+    public void testRecordEvents() {
+        ConnectionStrategySelector theSelector = new ConnectionStrategySelector(1000, 10, 2);
+        assertFalse(theSelector.isStreaming());
+
+        //the window isn't elapsed, so the selection isn't changed
+        assertFalse(theSelector.recordEvents(5, 0));
+        assertFalse(theSelector.recordEvents(20, 500));
+        //the window is elapsed with 25 events per second
+        assertTrue(theSelector.recordEvents(0, 1000));
+        assertTrue(theSelector.isStreaming());
+    }
+
+    @Test
+    public void testRecordEvents_Hysteresis() {
+        ConnectionStrategySelector theSelector = new ConnectionStrategySelector(1000, 10, 2);
+        theSelector.recordEvents(0, 0);
+        assertTrue(theSelector.recordEvents(10, 1000));
+
+        //5 events per second are below the streaming threshold, but above the long-polling threshold
+        assertTrue(theSelector.recordEvents(5, 2000));
+        //2 events per second reach the long-polling threshold
+        assertFalse(theSelector.recordEvents(2, 3000));
+        //5 events per second are above the long-polling threshold, but below the streaming threshold
+        assertFalse(theSelector.recordEvents(5, 4000));
+    }
+
+    @Test
+    public void testRecordEvents_LongWindow() {
+        ConnectionStrategySelector theSelector = new ConnectionStrategySelector(1000, 10, 2);
+        theSelector.recordEvents(0, 0);
+        assertTrue(theSelector.recordEvents(10, 1000));
+
+        //the window is elapsed after a long listen cycle without events, so the rate is calculated with the elapsed time
+        assertFalse(theSelector.recordEvents(15, 10000));
+    }
+
+    @Test
+    public void testInit_Error() {
+        try {
+            new ConnectionStrategySelector(0, 10, 2);
+            fail("Exception expected, because the window time isn't positive!");
+        } catch(IllegalArgumentException e) {}
+        try {
+            new ConnectionStrategySelector(1000, 2, 10);
+            fail("Exception expected, because the long-polling rate is higher than the streaming rate!");
+        } catch(IllegalArgumentException e) {}
+    }
+}
@@ -199,6 +199,23 @@ public class GWTStreamingClientConnectorTest
         assertFalse(theEventNotification.isAborted);
     }
 
+    @Test
+    public void testListen_ServiceURL() throws Exception {
+        mockInitJS();
+
+        //the service entry point has already parameters, so the strategy parameter is appended with "&"
+        EventServiceAsyncSuccessDummy theEventService = new EventServiceAsyncSuccessDummy();
+        theEventService.setServiceEntryPoint("dummyurl?module=test");
+        myGWTStreamingClientConnector.init(theEventService);
+
+        Frame theFrameMock = mockInitFrame("dummyurl?module=test&strategy=streaming");
+        mockInitRootPanel(theFrameMock);
+
+        //the mocked frame is only created for the expected URL
+        myGWTStreamingClientConnector.listen(new EventNotificationTestHandler(), null);
+        verify(theFrameMock).setVisible(false);
+    }
+
     @Test
     public void testDeactivate() throws Exception {
         mockInitJS();
@@ -339,10 +356,15 @@ public class GWTStreamingClientConnectorTest
     }
 
     private static Frame mockInitFrame() throws Exception {
+        //the streaming connection strategy is requested explicitly with a request parameter
+        return mockInitFrame("dummyurl?strategy=streaming");
+    }
+
+    private static Frame mockInitFrame(String aServiceURL) throws Exception {
         GWTMockUtilities.disarm();
 
         Frame theFrameMock = mock(Frame.class);
-        PowerMockito.whenNew(Frame.class).withArguments("dummyurl").thenReturn(theFrameMock);
+        PowerMockito.whenNew(Frame.class).withArguments(aServiceURL).thenReturn(theFrameMock);
 
         GWTMockUtilities.restore();
 
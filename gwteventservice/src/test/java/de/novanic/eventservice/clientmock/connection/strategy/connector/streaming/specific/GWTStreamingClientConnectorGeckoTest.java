@@ -127,7 +127,7 @@ public class GWTStreamingClientConnectorGeckoTest
         GWTMockUtilities.disarm();
 
         Frame theFrameMock = mock(Frame.class);
-        PowerMockito.whenNew(Frame.class).withArguments("dummyurl").thenReturn(theFrameMock);
+        PowerMockito.whenNew(Frame.class).withArguments("dummyurl?strategy=streaming").thenReturn(theFrameMock);
 
         GWTMockUtilities.restore();
 
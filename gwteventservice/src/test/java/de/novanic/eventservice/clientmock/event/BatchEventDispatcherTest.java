@@ -0,0 +1,159 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.event;
+
+import de.novanic.eventservice.client.event.BatchEventDispatcher;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.command.ClientCommand;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandScheduler;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandSchedulerFactory;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.client.event.listener.AbstractBatchRemoteEventListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:15:47
+ */
+@RunWith(JUnit4.class)
+public class BatchEventDispatcherTest
+{
+    private static final Domain TEST_DOMAIN = DomainFactory.getDomain("test_domain");
+    private static final Domain TEST_DOMAIN_2 = DomainFactory.getDomain("test_domain_2");
+
+    private CollectingClientCommandScheduler myClientCommandScheduler;
+
+    @Before
+    public void setUp() {
+        myClientCommandScheduler = new CollectingClientCommandScheduler();
+        ClientCommandSchedulerFactory.getInstance().setClientCommandSchedulerInstance(myClientCommandScheduler);
+    }
+
+    @After
+    public void tearDown() {
+        ClientCommandSchedulerFactory.getInstance().reset();
+    }
+
+    @Test
+    public void testDispatch() {
+        BatchEventDispatcher theBatchEventDispatcher = new BatchEventDispatcher();
+        TestBatchListener theListener = new TestBatchListener();
+        TestBatchListener theListener_2 = new TestBatchListener();
+        assertFalse(theBatchEventDispatcher.isPending());
+
+        Event theEvent = new Event() {};
+        Event theEvent_2 = new Event() {};
+        Event theEvent_3 = new Event() {};
+        theBatchEventDispatcher.add(TEST_DOMAIN, theListener, theEvent);
+        theBatchEventDispatcher.add(TEST_DOMAIN, theListener_2, theEvent);
+        theBatchEventDispatcher.add(TEST_DOMAIN, theListener, theEvent_2);
+        theBatchEventDispatcher.add(TEST_DOMAIN_2, theListener, theEvent_3);
+
+        //the events are dispatched deferred, the dispatch is only scheduled once
+        assertTrue(theBatchEventDispatcher.isPending());
+        assertEquals(1, myClientCommandScheduler.myCommands.size());
+        assertTrue(theListener.myBatches.isEmpty());
+
+        myClientCommandScheduler.executeCommands();
+        assertFalse(theBatchEventDispatcher.isPending());
+
+        //one call per domain and listener
+        assertEquals(2, theListener.myBatches.size());
+        assertEquals(2, theListener.myBatches.get(0).size());
+        assertSame(theEvent, theListener.myBatches.get(0).get(0));
+        assertSame(theEvent_2, theListener.myBatches.get(0).get(1));
+        assertEquals(1, theListener.myBatches.get(1).size());
+        assertSame(theEvent_3, theListener.myBatches.get(1).get(0));
+
+        assertEquals(1, theListener_2.myBatches.size());
+        assertEquals(1, theListener_2.myBatches.get(0).size());
+    }
+
+    @Test
+    public void testDispatch_Rescheduled() {
+        BatchEventDispatcher theBatchEventDispatcher = new BatchEventDispatcher();
+        TestBatchListener theListener = new TestBatchListener();
+
+        theBatchEventDispatcher.add(TEST_DOMAIN, theListener, new Event() {});
+        myClientCommandScheduler.executeCommands();
+        assertEquals(1, theListener.myBatches.size());
+
+        //a new dispatch is scheduled for the next events
+        theBatchEventDispatcher.add(TEST_DOMAIN, theListener, new Event() {});
+        assertEquals(1, myClientCommandScheduler.myCommands.size());
+        myClientCommandScheduler.executeCommands();
+        assertEquals(2, theListener.myBatches.size());
+    }
+
+    @Test
+    public void testDispatch_Empty() {
+        BatchEventDispatcher theBatchEventDispatcher = new BatchEventDispatcher();
+        theBatchEventDispatcher.dispatch();
+        assertFalse(theBatchEventDispatcher.isPending());
+        assertTrue(myClientCommandScheduler.myCommands.isEmpty());
+    }
+
+    private static class TestBatchListener extends AbstractBatchRemoteEventListener
+    {
+        private final List<List<Event>> myBatches = new ArrayList<List<Event>>();
+
+        public void apply(List<Event> anEvents) {
+            myBatches.add(anEvents);
+        }
+    }
+
+    private static class CollectingClientCommandScheduler implements ClientCommandScheduler
+    {
+        private final List<ClientCommand<?>> myCommands = new ArrayList<ClientCommand<?>>();
+
+        public void schedule(ClientCommand<?> aCommand) {
+            myCommands.add(aCommand);
+        }
+
+        public void schedule(ClientCommand<?> aCommand, int aDelay) {
+            myCommands.add(aCommand);
+        }
+
+        public void scheduleFinally(ClientCommand<?> aCommand) {
+            myCommands.add(aCommand);
+        }
+
+        private void executeCommands() {
+            List<ClientCommand<?>> theCommands = new ArrayList<ClientCommand<?>>(myCommands);
+            myCommands.clear();
+            for(ClientCommand<?> theCommand: theCommands) {
+                theCommand.execute();
+            }
+        }
+    }
+}
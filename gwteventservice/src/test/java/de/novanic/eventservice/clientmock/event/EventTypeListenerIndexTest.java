@@ -0,0 +1,178 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.event;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.EventTypeListenerIndex;
+import de.novanic.eventservice.client.event.listener.RemoteEventListener;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:06:53
+ */
+@RunWith(JUnit4.class)
+public class EventTypeListenerIndexTest
+{
+    @Test
+    public void testGetListeners() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        assertTrue(theIndex.isEmpty());
+        assertEquals(0, theIndex.getListeners(new TestEvent()).length);
+
+        TestListener theListener = new TestListener();
+        theIndex.addListener(theListener);
+        assertFalse(theIndex.isEmpty());
+        assertEquals(1, theIndex.getListeners(new TestEvent()).length);
+        assertEquals(1, theIndex.getListeners(new OtherTestEvent()).length);
+        assertEquals(1, theIndex.getListeners(null).length);
+    }
+
+    @Test
+    public void testGetListeners_EventType() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theListener = new TestListener();
+        TestListener theTypedListener = new TestListener();
+        TestListener theSubTypedListener = new TestListener();
+        TestListener theOtherTypedListener = new TestListener();
+
+        theIndex.addListener(theListener);
+        theIndex.addListener(TestEvent.class, theTypedListener);
+        theIndex.addListener(SubTestEvent.class, theSubTypedListener);
+        theIndex.addListener(OtherTestEvent.class, theOtherTypedListener);
+
+        assertArrayEquals(new RemoteEventListener[] {theListener, theTypedListener}, theIndex.getListeners(new TestEvent()));
+        assertArrayEquals(new RemoteEventListener[] {theListener, theTypedListener, theSubTypedListener}, theIndex.getListeners(new SubTestEvent()));
+        assertArrayEquals(new RemoteEventListener[] {theListener, theOtherTypedListener}, theIndex.getListeners(new OtherTestEvent()));
+        assertArrayEquals(new RemoteEventListener[] {theListener}, theIndex.getListeners(new Event() {}));
+        assertArrayEquals(new RemoteEventListener[] {theListener}, theIndex.getListeners(null));
+        //resolved from the cache
+        assertSame(theIndex.getListeners(new SubTestEvent()), theIndex.getListeners(new SubTestEvent()));
+    }
+
+    @Test
+    public void testGetListeners_Order() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theTypedListener = new TestListener();
+        TestListener theListener = new TestListener();
+        TestListener theSubTypedListener = new TestListener();
+        TestListener theListener_2 = new TestListener();
+
+        theIndex.addListener(TestEvent.class, theTypedListener);
+        theIndex.addListener(theListener);
+        theIndex.addListener(SubTestEvent.class, theSubTypedListener);
+        theIndex.addListener(theListener_2);
+
+        //the listeners are returned in the order of the registration, independent of the event types
+        assertArrayEquals(new RemoteEventListener[] {theTypedListener, theListener, theSubTypedListener, theListener_2}, theIndex.getListeners(new SubTestEvent()));
+        assertArrayEquals(new RemoteEventListener[] {theTypedListener, theListener, theListener_2}, theIndex.getListeners(new TestEvent()));
+        assertEquals(4, theIndex.getListeners().size());
+        assertSame(theTypedListener, theIndex.getListeners().get(0));
+        assertSame(theListener_2, theIndex.getListeners().get(3));
+    }
+
+    @Test
+    public void testAddListener_NullType() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theListener = new TestListener();
+        theIndex.addListener(null, theListener);
+        assertArrayEquals(new RemoteEventListener[] {theListener}, theIndex.getListeners(new OtherTestEvent()));
+    }
+
+    @Test
+    public void testRemoveListener() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theListener = new TestListener();
+        TestListener theTypedListener = new TestListener();
+
+        theIndex.addListener(theListener);
+        theIndex.addListener(TestEvent.class, theTypedListener);
+        assertEquals(2, theIndex.getListeners(new TestEvent()).length);
+
+        assertTrue(theIndex.removeListener(theTypedListener));
+        assertArrayEquals(new RemoteEventListener[] {theListener}, theIndex.getListeners(new TestEvent()));
+        assertFalse(theIndex.removeListener(theTypedListener));
+        assertFalse(theIndex.isEmpty());
+
+        assertTrue(theIndex.removeListener(theListener));
+        assertEquals(0, theIndex.getListeners(new TestEvent()).length);
+        assertTrue(theIndex.isEmpty());
+    }
+
+    @Test
+    public void testRemoveListener_Registered_Twice() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theListener = new TestListener();
+
+        theIndex.addListener(theListener);
+        theIndex.addListener(TestEvent.class, theListener);
+        assertEquals(2, theIndex.getListeners(new TestEvent()).length);
+
+        //only one registration is removed (the first registration)
+        assertTrue(theIndex.removeListener(theListener));
+        assertEquals(0, theIndex.getListeners(new OtherTestEvent()).length);
+        assertArrayEquals(new RemoteEventListener[] {theListener}, theIndex.getListeners(new TestEvent()));
+
+        assertTrue(theIndex.removeListener(theListener));
+        assertTrue(theIndex.isEmpty());
+    }
+
+    @Test
+    public void testDispatch() {
+        EventTypeListenerIndex theIndex = new EventTypeListenerIndex();
+        TestListener theTypedListener = new TestListener();
+        theIndex.addListener(TestEvent.class, theTypedListener);
+
+        Event[] theEvents = new Event[] {new TestEvent(), new OtherTestEvent(), new SubTestEvent()};
+        for(Event theEvent: theEvents) {
+            for(RemoteEventListener theListener: theIndex.getListeners(theEvent)) {
+                theListener.apply(theEvent);
+            }
+        }
+        assertEquals(2, theTypedListener.myEvents.size());
+        assertSame(theEvents[0], theTypedListener.myEvents.get(0));
+        assertSame(theEvents[2], theTypedListener.myEvents.get(1));
+    }
+
+    private static class TestEvent implements Event {}
+
+    private static class SubTestEvent extends TestEvent {}
+
+    private static class OtherTestEvent implements Event {}
+
+    private static class TestListener implements RemoteEventListener
+    {
+        private final List<Event> myEvents = new ArrayList<Event>();
+
+        public void apply(Event anEvent) {
+            myEvents.add(anEvent);
+        }
+    }
+}
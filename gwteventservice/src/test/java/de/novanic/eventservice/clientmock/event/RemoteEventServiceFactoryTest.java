@@ -226,5 +226,9 @@ public class RemoteEventServiceFactoryTest
         public void schedule(ClientCommand<?> aCommand, int aDelay) {
             aCommand.execute();
         }
+
+        public void scheduleFinally(ClientCommand<?> aCommand) {
+            aCommand.execute();
+        }
     }
 }
\ No newline at end of file
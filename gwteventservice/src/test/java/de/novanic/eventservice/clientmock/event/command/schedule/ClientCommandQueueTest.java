@@ -0,0 +1,98 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.clientmock.event.command.schedule;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import de.novanic.eventservice.client.event.command.ClientCommand;
+import de.novanic.eventservice.client.event.command.schedule.ClientCommandQueue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 00:28:31
+ */
+@RunWith(JUnit4.class)
+public class ClientCommandQueueTest
+{
+    @Test
+    public void testPoll() {
+        ClientCommandQueue theCommandQueue = new ClientCommandQueue();
+        assertTrue(theCommandQueue.isEmpty());
+        assertEquals(-1, theCommandQueue.getNextExecutionTime());
+        assertNull(theCommandQueue.poll(1000));
+
+        final ClientCommand<?> theCommand_1 = new ClientCommandDummy();
+        final ClientCommand<?> theCommand_2 = new ClientCommandDummy();
+        final ClientCommand<?> theCommand_3 = new ClientCommandDummy();
+        theCommandQueue.add(theCommand_1, 300);
+        theCommandQueue.add(theCommand_2, 100);
+        theCommandQueue.add(theCommand_3, 200);
+
+        assertFalse(theCommandQueue.isEmpty());
+        assertEquals(3, theCommandQueue.size());
+        assertEquals(100, theCommandQueue.getNextExecutionTime());
+
+        //no command is due
+        assertNull(theCommandQueue.poll(50));
+
+        //the due commands are returned in the order of their execution time
+        assertSame(theCommand_2, theCommandQueue.poll(250));
+        assertSame(theCommand_3, theCommandQueue.poll(250));
+        assertNull(theCommandQueue.poll(250));
+        assertEquals(300, theCommandQueue.getNextExecutionTime());
+
+        assertSame(theCommand_1, theCommandQueue.poll(300));
+        assertTrue(theCommandQueue.isEmpty());
+        assertEquals(-1, theCommandQueue.getNextExecutionTime());
+    }
+
+    @Test
+    public void testPoll_SameExecutionTime() {
+        ClientCommandQueue theCommandQueue = new ClientCommandQueue();
+
+        final ClientCommand<?>[] theCommands = new ClientCommand<?>[10];
+        for(int i = 0; i < theCommands.length; i++) {
+            theCommands[i] = new ClientCommandDummy();
+            theCommandQueue.add(theCommands[i], 100);
+        }
+
+        //commands with the same execution time are returned in the order of their scheduling
+        for(ClientCommand<?> theCommand: theCommands) {
+            assertSame(theCommand, theCommandQueue.poll(100));
+        }
+        assertTrue(theCommandQueue.isEmpty());
+    }
+
+    private class ClientCommandDummy implements ClientCommand<Void>
+    {
+        public void execute() {}
+
+        public AsyncCallback<Void> getCommandCallback() {
+            return null;
+        }
+    }
+}
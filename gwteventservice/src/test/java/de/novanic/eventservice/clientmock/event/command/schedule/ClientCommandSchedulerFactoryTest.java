@@ -59,6 +59,8 @@ public class ClientCommandSchedulerFactoryTest
             public void schedule(ClientCommand aCommand) {}
 
             public void schedule(ClientCommand aCommand, int aDelay) {}
+
+            public void scheduleFinally(ClientCommand aCommand) {}
         });
 
         ClientCommandScheduler theClientCommandScheduler_2 = theClientCommandSchedulerFactory.getClientCommandScheduler();
@@ -21,16 +21,18 @@
  */
 package de.novanic.eventservice.clientmock.event.command.schedule;
 
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import de.novanic.eventservice.client.event.command.ClientCommand;
 import de.novanic.eventservice.client.event.command.schedule.GWTCommandScheduler;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.powermock.api.mockito.PowerMockito;
-import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 /**
@@ -40,31 +42,121 @@ import static org.junit.Assert.*;
  */
 @RunWith(PowerMockRunner.class)
 @SuppressStaticInitializationFor("com.google.gwt.user.client.Timer")
-@PrepareForTest({GWTCommandScheduler.class, GWTCommandScheduler.GWTCommandTimer.class})
 public class GWTCommandSchedulerTest
 {
     @Test
     public void testSchedule() throws Exception {
-        GWTCommandScheduler theGWTCommandScheduler = new GWTCommandScheduler();
+        GWTCommandSchedulerDummy theGWTCommandScheduler = new GWTCommandSchedulerDummy();
 
         final ClientCommandDummy theClientCommand = new ClientCommandDummy();
 
-        final GWTCommandScheduler.GWTCommandTimer theTimerDummy = new GWTCommandTimerDummy(theClientCommand);
-        PowerMockito.whenNew(GWTCommandScheduler.GWTCommandTimer.class).withArguments(theClientCommand).thenReturn(theTimerDummy);
+        assertFalse(theClientCommand.isExecuted);
 
+        theGWTCommandScheduler.schedule(theClientCommand);
         assertFalse(theClientCommand.isExecuted);
+        assertEquals(1, theGWTCommandScheduler.myTimer.myDelays.size());
+
+        Thread.sleep(5);
+        theGWTCommandScheduler.myTimer.run();
+
+        assertTrue(theClientCommand.isExecuted);
+        //no further command is scheduled, so the timer isn't re-scheduled
+        assertEquals(1, theGWTCommandScheduler.myTimer.myDelays.size());
+    }
+
+    @Test
+    public void testSchedule_SingleTimer() throws Exception {
+        GWTCommandSchedulerDummy theGWTCommandScheduler = new GWTCommandSchedulerDummy();
+
+        final List<ClientCommand<?>> theExecutedCommands = new ArrayList<ClientCommand<?>>();
+        final ClientCommandDummy theClientCommand_1 = new ClientCommandDummy(theExecutedCommands);
+        final ClientCommandDummy theClientCommand_2 = new ClientCommandDummy(theExecutedCommands);
+        final ClientCommandDummy theClientCommand_3 = new ClientCommandDummy(theExecutedCommands);
 
+        theGWTCommandScheduler.schedule(theClientCommand_1, 500);
+        //the timer is re-scheduled, because the second command is due earlier
+        theGWTCommandScheduler.schedule(theClientCommand_2, 10);
+        //the timer is already scheduled for the same time
+        theGWTCommandScheduler.schedule(theClientCommand_3, 10);
+
+        assertEquals(1, theGWTCommandScheduler.myCreatedTimerCount);
+        assertEquals(2, theGWTCommandScheduler.myTimer.myDelays.size());
+        assertTrue(theGWTCommandScheduler.myTimer.myDelays.get(0) > 10);
+        assertTrue(theGWTCommandScheduler.myTimer.myDelays.get(1) <= 10);
+
+        //all due commands are executed with one tick
+        Thread.sleep(20);
+        theGWTCommandScheduler.myTimer.run();
+        assertEquals(2, theExecutedCommands.size());
+        assertSame(theClientCommand_2, theExecutedCommands.get(0));
+        assertSame(theClientCommand_3, theExecutedCommands.get(1));
+
+        //the timer is re-scheduled for the remaining command
+        assertEquals(3, theGWTCommandScheduler.myTimer.myDelays.size());
+        assertTrue(theGWTCommandScheduler.myTimer.myDelays.get(2) > 10);
+        assertEquals(1, theGWTCommandScheduler.myCreatedTimerCount);
+    }
+
+    @Test
+    public void testSchedule_Error() throws Exception {
+        GWTCommandSchedulerDummy theGWTCommandScheduler = new GWTCommandSchedulerDummy();
+
+        final ClientCommandDummy theClientCommand = new ClientCommandDummy();
+        theGWTCommandScheduler.schedule(new ClientCommandErrorDummy());
         theGWTCommandScheduler.schedule(theClientCommand);
 
+        Thread.sleep(5);
+        try {
+            theGWTCommandScheduler.myTimer.run();
+            fail("Exception expected, because the command fails!");
+        } catch(RuntimeException e) {}
+        assertFalse(theClientCommand.isExecuted);
+
+        //the timer is re-scheduled for the remaining command
+        assertEquals(2, theGWTCommandScheduler.myTimer.myDelays.size());
+        theGWTCommandScheduler.myTimer.run();
         assertTrue(theClientCommand.isExecuted);
     }
 
+    private class GWTCommandSchedulerDummy extends GWTCommandScheduler
+    {
+        private GWTCommandTimerDummy myTimer;
+        private int myCreatedTimerCount;
+
+        protected Timer createTimer() {
+            myCreatedTimerCount++;
+            myTimer = new GWTCommandTimerDummy(this);
+            return myTimer;
+        }
+    }
+
     private class ClientCommandDummy implements ClientCommand<Void>
     {
         private boolean isExecuted;
+        private List<ClientCommand<?>> myExecutedCommands;
+
+        private ClientCommandDummy() {
+            this(new ArrayList<ClientCommand<?>>());
+        }
+
+        private ClientCommandDummy(List<ClientCommand<?>> anExecutedCommands) {
+            myExecutedCommands = anExecutedCommands;
+        }
 
         public void execute() {
             isExecuted = true;
+            myExecutedCommands.add(this);
+        }
+
+        public AsyncCallback<Void> getCommandCallback() {
+            return null;
+        }
+    }
+
+    private class ClientCommandErrorDummy implements ClientCommand<Void>
+    {
+        public void execute() {
+            throw new RuntimeException("Test-Exception");
         }
 
         public AsyncCallback<Void> getCommandCallback() {
@@ -74,12 +166,15 @@ public class GWTCommandSchedulerTest
 
     private class GWTCommandTimerDummy extends GWTCommandScheduler.GWTCommandTimer
     {
-        public GWTCommandTimerDummy(ClientCommand<?> aClientCommand) {
-            super(aClientCommand);
+        private List<Integer> myDelays;
+
+        public GWTCommandTimerDummy(GWTCommandScheduler aCommandScheduler) {
+            super(aCommandScheduler);
+            myDelays = new ArrayList<Integer>();
         }
 
         public void schedule(int delayMillis) {
-            run();
+            myDelays.add(delayMillis);
         }
     }
 }
\ No newline at end of file
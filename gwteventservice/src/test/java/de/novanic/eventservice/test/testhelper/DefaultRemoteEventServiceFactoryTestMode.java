@@ -21,10 +21,13 @@
  */
 package de.novanic.eventservice.test.testhelper;
 
+import de.novanic.eventservice.client.connection.share.TabChannel;
+import de.novanic.eventservice.client.connection.share.TabLeaderElection;
 import de.novanic.eventservice.client.connection.strategy.connector.RemoteEventConnector;
 import de.novanic.eventservice.client.event.DefaultRemoteEventService;
 import de.novanic.eventservice.client.event.GWTRemoteEventConnector;
 import de.novanic.eventservice.client.event.RemoteEventService;
+import de.novanic.eventservice.client.event.SharedRemoteEventConnector;
 import de.novanic.eventservice.client.event.service.EventServiceAsync;
 import de.novanic.eventservice.client.event.service.creator.DefaultEventServiceCreator;
 import de.novanic.eventservice.client.event.service.creator.EventServiceCreator;
@@ -69,6 +72,14 @@ public class DefaultRemoteEventServiceFactoryTestMode
         return new GWTRemoteEventConnectorAccessible(anEventServiceCreator);
     }
 
+    public SharedRemoteEventConnector getSharedRemoteEventConnector(final EventServiceAsync anEventService, TabChannel aTabChannel, TabLeaderElection aLeaderElection) {
+        return new SharedRemoteEventConnectorAccessible(new EventServiceCreator() {
+            public EventServiceAsync createEventService() {
+                return anEventService;
+            }
+        }, aTabChannel, aLeaderElection);
+    }
+
     private class GWTRemoteEventConnectorAccessible extends GWTRemoteEventConnector
     {
         protected GWTRemoteEventConnectorAccessible(EventServiceCreator aGWTEventServiceCreator) {
@@ -76,6 +87,13 @@ public class DefaultRemoteEventServiceFactoryTestMode
         }
     }
 
+    private class SharedRemoteEventConnectorAccessible extends SharedRemoteEventConnector
+    {
+        protected SharedRemoteEventConnectorAccessible(EventServiceCreator aGWTEventServiceCreator, TabChannel aTabChannel, TabLeaderElection aLeaderElection) {
+            super(aGWTEventServiceCreator, aTabChannel, aLeaderElection);
+        }
+    }
+
     private class DefaultRemoteEventServiceAccessible extends DefaultRemoteEventService
     {
         protected DefaultRemoteEventServiceAccessible(RemoteEventConnector aRemoteEventConnector) {
@@ -33,6 +33,7 @@ import de.novanic.eventservice.client.event.filter.EventFilter;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEvent;
 import de.novanic.eventservice.client.event.listener.unlisten.UnlistenEventListener;
 import de.novanic.eventservice.client.event.service.EventServiceAsync;
+import de.novanic.eventservice.client.event.service.EventServiceOperation;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -112,6 +113,10 @@ public class EventServiceAsyncSuccessDummy implements EventServiceAsync, Service
         aCallback.onSuccess(null);
     }
 
+    public void addEvents(Domain aDomain, List<Event> anEvents, AsyncCallback<Void> aCallback) {
+        aCallback.onSuccess(null);
+    }
+
     public void addEventUserSpecific(Event anEvent, AsyncCallback<Void> aCallback) {
         aCallback.onSuccess(null);
     }
@@ -120,6 +125,14 @@ public class EventServiceAsyncSuccessDummy implements EventServiceAsync, Service
         aCallback.onSuccess(new HashSet<Domain>());
     }
 
+    public void executeBatch(List<EventServiceOperation> anOperations, AsyncCallback<List<String>> aCallback) {
+        List<String> theResults = new ArrayList<String>(anOperations.size());
+        for(int i = 0; i < anOperations.size(); i++) {
+            theResults.add(null);
+        }
+        aCallback.onSuccess(theResults);
+    }
+
     public String getServiceEntryPoint() {
         return myServiceURL;
     }
@@ -0,0 +1,90 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.test.testhelper;
+
+import de.novanic.eventservice.client.connection.share.TabChannel;
+import de.novanic.eventservice.client.connection.share.TabChannelListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:32:10
+ */
+public class TabChannelTestMode implements TabChannel
+{
+    private final List<TabChannelTestMode> myOpenChannels;
+    private final List<String> myPostedMessages;
+    private TabChannelListener myTabChannelListener;
+
+    public TabChannelTestMode() {
+        this(new ArrayList<TabChannelTestMode>());
+    }
+
+    /**
+     * Creates a channel of another tab, which receives the messages of the connected channel.
+     * @param aConnectedChannel channel of the other tab
+     */
+    public TabChannelTestMode(TabChannelTestMode aConnectedChannel) {
+        this(aConnectedChannel.myOpenChannels);
+    }
+
+    private TabChannelTestMode(List<TabChannelTestMode> anOpenChannels) {
+        myOpenChannels = anOpenChannels;
+        myPostedMessages = new ArrayList<String>();
+    }
+
+    public void open(TabChannelListener aTabChannelListener) {
+        myTabChannelListener = aTabChannelListener;
+        myOpenChannels.add(this);
+    }
+
+    public void post(String aMessage) {
+        myPostedMessages.add(aMessage);
+        for(TabChannelTestMode theChannel: new ArrayList<TabChannelTestMode>(myOpenChannels)) {
+            if(theChannel != this) {
+                theChannel.receive(aMessage);
+            }
+        }
+    }
+
+    public void close() {
+        myOpenChannels.remove(this);
+        myTabChannelListener = null;
+    }
+
+    public void receive(String aMessage) {
+        if(myTabChannelListener != null) {
+            myTabChannelListener.onMessage(aMessage);
+        }
+    }
+
+    public boolean isOpen() {
+        return myTabChannelListener != null;
+    }
+
+    public List<String> getPostedMessages() {
+        return myPostedMessages;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.jfr;
+
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Evaluation of the EventFilter of a user/client. EventFilters are evaluated for every event and user/client of a domain,
+ * so only the evaluations which take at least 1 ms are recorded by default (the threshold can be changed with the
+ * settings of the recording).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+@Name("de.novanic.eventservice.Filter")
+@Label("Filter Evaluation")
+@Category("GWTEventService")
+@Description("Evaluation of the EventFilter of a user/client")
+@Threshold("1 ms")
+class FilterEvent extends jdk.jfr.Event implements EventServiceMonitor.FilterOperation
+{
+    @Label("User")
+    private final String userId;
+
+    @Label("Domain")
+    private final String domain;
+
+    @Label("Event Class")
+    private final Class<?> eventClass;
+
+    @Label("Filtered")
+    private boolean filtered;
+
+    FilterEvent(String aUserId, String aDomain, Class<?> anEventClass) {
+        userId = aUserId;
+        domain = aDomain;
+        eventClass = anEventClass;
+        begin();
+    }
+
+    public void finish(boolean isFiltered) {
+        filtered = isFiltered;
+        commit();
+    }
+}
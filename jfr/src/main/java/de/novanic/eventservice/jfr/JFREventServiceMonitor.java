@@ -0,0 +1,98 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.jfr;
+
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import jdk.jfr.EventType;
+
+/**
+ * The JFREventServiceMonitor records the operations of the {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * as Java Flight Recorder events, so the activity of GWTEventService can be correlated with GC pauses and lock
+ * contention within the same recording. The events are only created when the event type is enabled in an active
+ * recording, otherwise the start methods return NULL and nothing else is done.
+ * <br>
+ * The monitor is activated with the configuration eventservice.monitor=de.novanic.eventservice.jfr.JFREventServiceMonitor
+ * (see {@link de.novanic.eventservice.config.ConfigParameter#MONITOR}).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+public class JFREventServiceMonitor implements EventServiceMonitor
+{
+    private static final EventType PUBLISH_EVENT_TYPE = EventType.getEventType(PublishEvent.class);
+    private static final EventType FILTER_EVENT_TYPE = EventType.getEventType(FilterEvent.class);
+    private static final EventType LISTEN_EVENT_TYPE = EventType.getEventType(ListenEvent.class);
+    private static final EventType TIMEOUT_SWEEP_EVENT_TYPE = EventType.getEventType(TimeoutSweepEvent.class);
+    private static final EventType TIMEOUT_EVENT_TYPE = EventType.getEventType(TimeoutEvent.class);
+
+    static final String USER_SPECIFIC_DOMAIN_NAME = "user_specific";
+
+    public PublishOperation startPublish(Domain aDomain, Event anEvent) {
+        if(PUBLISH_EVENT_TYPE.isEnabled()) {
+            return new PublishEvent(getDomainName(aDomain), anEvent.getClass());
+        }
+        return null;
+    }
+
+    public FilterOperation startFilterEvaluation(String aUserId, Domain aDomain, Event anEvent) {
+        if(FILTER_EVENT_TYPE.isEnabled()) {
+            return new FilterEvent(aUserId, getDomainName(aDomain), anEvent.getClass());
+        }
+        return null;
+    }
+
+    public ListenOperation startListen(String aUserId, String aConnectorName) {
+        if(LISTEN_EVENT_TYPE.isEnabled()) {
+            return new ListenEvent(aUserId, aConnectorName);
+        }
+        return null;
+    }
+
+    public SweepOperation startTimeoutSweep() {
+        if(TIMEOUT_SWEEP_EVENT_TYPE.isEnabled()) {
+            return new TimeoutSweepEvent();
+        }
+        return null;
+    }
+
+    public TimeoutOperation startTimeout(String aUserId, long anInactiveTime) {
+        if(TIMEOUT_EVENT_TYPE.isEnabled()) {
+            return new TimeoutEvent(aUserId, anInactiveTime);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the domain for the recording.
+     * @param aDomain domain (NULL for user specific events)
+     * @return name of the domain
+     */
+    private static String getDomainName(Domain aDomain) {
+        if(aDomain != null) {
+            return aDomain.getName();
+        }
+        return USER_SPECIFIC_DOMAIN_NAME;
+    }
+}
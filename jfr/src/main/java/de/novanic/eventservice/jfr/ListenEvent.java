@@ -0,0 +1,69 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.jfr;
+
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Listen call of a user/client. The duration of the event is the waiting time for events.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+@Name("de.novanic.eventservice.Listen")
+@Label("Listen")
+@Category("GWTEventService")
+@Description("Listen call of a user/client, the duration is the waiting time for events")
+class ListenEvent extends jdk.jfr.Event implements EventServiceMonitor.ListenOperation
+{
+    @Label("User")
+    private final String userId;
+
+    @Label("Connector")
+    private final String connector;
+
+    @Label("Events")
+    private int eventCount;
+
+    @Label("Bytes Written")
+    @Description("Bytes written by the connector, -1 when the events are serialized by GWT-RPC")
+    @DataAmount
+    private long bytesWritten;
+
+    ListenEvent(String aUserId, String aConnector) {
+        userId = aUserId;
+        connector = aConnector;
+        begin();
+    }
+
+    public void finish(int anEventCount, long aWrittenByteCount) {
+        eventCount = anEventCount;
+        bytesWritten = aWrittenByteCount;
+        commit();
+    }
+}
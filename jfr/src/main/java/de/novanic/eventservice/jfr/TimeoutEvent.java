@@ -0,0 +1,60 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.jfr;
+
+import de.novanic.eventservice.service.registry.monitor.EventServiceMonitor;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Timeout handling of a user/client (unlisten of the user/client).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:57:26
+ */
+@Name("de.novanic.eventservice.Timeout")
+@Label("Timeout")
+@Category("GWTEventService")
+@Description("Timeout handling of a user/client")
+class TimeoutEvent extends jdk.jfr.Event implements EventServiceMonitor.TimeoutOperation
+{
+    @Label("User")
+    private final String userId;
+
+    @Label("Inactive Time")
+    @Timespan(Timespan.MILLISECONDS)
+    private final long inactiveTime;
+
+    TimeoutEvent(String aUserId, long anInactiveTime) {
+        userId = aUserId;
+        inactiveTime = anInactiveTime;
+        begin();
+    }
+
+    public void finish() {
+        commit();
+    }
+}
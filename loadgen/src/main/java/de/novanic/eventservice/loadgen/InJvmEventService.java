@@ -0,0 +1,125 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.service.EventServiceImpl;
+import de.novanic.eventservice.service.connection.strategy.connector.streaming.StreamingServerConnector;
+import de.novanic.eventservice.service.registry.EventRegistryFactory;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * In-JVM bridge to {@link de.novanic.eventservice.service.EventServiceImpl}. The simulated clients call the service
+ * methods directly instead of GWT-RPC requests. The client id isn't determined by the session of a request, but is
+ * set per thread of a simulated client ({@link InJvmEventService#setClientId(String)}).
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:19:38
+ */
+public class InJvmEventService extends EventServiceImpl
+{
+    private final ThreadLocal<String> myClientId;
+    private StreamingServerConnector myStreamingServerConnector;
+
+    public InJvmEventService() {
+        myClientId = new ThreadLocal<String>();
+    }
+
+    /**
+     * Initializes the service like a servlet container (without init parameters, so the configuration has to be
+     * registered at the {@link de.novanic.eventservice.config.EventServiceConfigurationFactory} before).
+     * @param aConfiguration configuration which is used for the streaming connections
+     * @throws ServletException occurs when the service couldn't be initialized
+     * @throws EventServiceException occurs when the streaming connection strategy couldn't be initialized
+     */
+    public void init(EventServiceConfiguration aConfiguration) throws ServletException, EventServiceException {
+        init((ServletConfig)createProxy(ServletConfig.class));
+        myStreamingServerConnector = new StreamingServerConnector(aConfiguration);
+    }
+
+    /**
+     * Sets the client id for the current thread.
+     * @param aClientId client id
+     */
+    public void setClientId(String aClientId) {
+        myClientId.set(aClientId);
+    }
+
+    /**
+     * Listens for events with the streaming connection strategy (like a GET request of a streaming client).
+     * @param aResponse response to stream the events to
+     * @return streamed events, NULL when the client isn't registered
+     * @throws EventServiceException occurs when the events couldn't be streamed
+     */
+    public List<DomainEvent> listenStreaming(HttpServletResponse aResponse) throws EventServiceException {
+        final StreamingServerConnector theStreamingServerConnector;
+        try {
+            //The streaming server connector has to be cloned, because it isn't stateless (a prepare method is required).
+            theStreamingServerConnector = (StreamingServerConnector)myStreamingServerConnector.clone();
+        } catch(CloneNotSupportedException e) {
+            throw new EventServiceException("Error on cloning \"" + StreamingServerConnector.class.getName() + "\"!", e);
+        }
+        theStreamingServerConnector.prepare(aResponse);
+        return EventRegistryFactory.getInstance().getEventRegistry().listen(theStreamingServerConnector, getClientId());
+    }
+
+    protected String getClientId() {
+        return myClientId.get();
+    }
+
+    protected String generateClientId() {
+        return myClientId.get();
+    }
+
+    /**
+     * Creates a proxy of a servlet API interface which returns no init parameters.
+     * @param anInterface servlet API interface
+     * @return proxy
+     */
+    private static Object createProxy(Class<?> anInterface) {
+        return Proxy.newProxyInstance(InJvmEventService.class.getClassLoader(), new Class<?>[] {anInterface}, new InvocationHandler() {
+            public Object invoke(Object aProxy, Method aMethod, Object[] anArguments) {
+                final String theMethodName = aMethod.getName();
+                if("getServletContext".equals(theMethodName)) {
+                    return createProxy(ServletContext.class);
+                } else if("getInitParameterNames".equals(theMethodName) || "getAttributeNames".equals(theMethodName)) {
+                    return Collections.enumeration(Collections.emptyList());
+                } else if("getServletName".equals(theMethodName) || "getServletContextName".equals(theMethodName)) {
+                    return "loadgen";
+                }
+                return null;
+            }
+        });
+    }
+}
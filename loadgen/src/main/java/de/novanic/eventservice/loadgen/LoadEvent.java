@@ -0,0 +1,76 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.client.event.Event;
+
+/**
+ * Event which is published by the load generator. The payload starts with the publish time (see {@link System#nanoTime()})
+ * enclosed by {@link LoadEvent#TIME_MARKER}, so the end-to-end latency can also be determined from the serialized
+ * event of a streaming connection.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:19:38
+ */
+public class LoadEvent implements Event
+{
+    static final char TIME_MARKER = '@';
+
+    private String myPayload;
+
+    public LoadEvent() {}
+
+    private LoadEvent(String aPayload) {
+        myPayload = aPayload;
+    }
+
+    /**
+     * Creates a new LoadEvent with the current time as the publish time.
+     * @param aPayloadSize minimum size of the payload (the payload is filled up to that size)
+     * @return new LoadEvent
+     */
+    public static LoadEvent create(int aPayloadSize) {
+        StringBuilder thePayload = new StringBuilder(Math.max(aPayloadSize, 24));
+        thePayload.append(TIME_MARKER).append(System.nanoTime()).append(TIME_MARKER);
+        while(thePayload.length() < aPayloadSize) {
+            thePayload.append('x');
+        }
+        return new LoadEvent(thePayload.toString());
+    }
+
+    /**
+     * Returns the publish time of the event.
+     * @return publish time (see {@link System#nanoTime()})
+     */
+    public long getPublishTime() {
+        return Long.parseLong(myPayload.substring(1, myPayload.indexOf(TIME_MARKER, 1)));
+    }
+
+    public String getPayload() {
+        return myPayload;
+    }
+
+    public String toString() {
+        return "LoadEvent";
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.EventServiceConfigurationFactory;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.config.loader.ConfigurationLoader;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.statistics.LatencyHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless load generator for capacity planning. It simulates long-polling and streaming clients
+ * ({@link SimulatedClient}) and publishers ({@link Publisher}) against an {@link de.novanic.eventservice.service.EventServiceImpl}
+ * within the same JVM ({@link InJvmEventService}) and reports the throughput, the end-to-end latency percentiles,
+ * the amount of threads and the used heap in an interval.
+ * <br>Options (with default values):
+ * <ul>
+ * <li>-clients 1000: amount of long-polling clients</li>
+ * <li>-streaming 0: amount of streaming clients</li>
+ * <li>-publishers 2: amount of publisher threads</li>
+ * <li>-rate 100: events per second per publisher</li>
+ * <li>-domains 1: amount of domains (the clients and events are distributed round robin)</li>
+ * <li>-payload 64: size of the payload of the events</li>
+ * <li>-waiting 20000: max. waiting time of a listen call in milliseconds</li>
+ * <li>-shared false: activates the shared event log of the domains</li>
+ * <li>-duration 60: duration of the load in seconds</li>
+ * <li>-interval 5: report interval in seconds</li>
+ * </ul>
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:19:38
+ */
+public class LoadGenerator
+{
+    private final Map<String, String> myOptions;
+    private final AtomicBoolean myRunning;
+    private final LatencyHistogram myLatencyHistogram;
+    private final AtomicLong myPublishedEventCount;
+    private final AtomicLong myReceivedEventCount;
+    private final AtomicLong myReconnectCount;
+
+    /**
+     * Creates a new LoadGenerator.
+     * @param anOptions options (see {@link LoadGenerator})
+     */
+    public LoadGenerator(Map<String, String> anOptions) {
+        myOptions = anOptions;
+        myRunning = new AtomicBoolean(true);
+        myLatencyHistogram = new LatencyHistogram();
+        myPublishedEventCount = new AtomicLong();
+        myReceivedEventCount = new AtomicLong();
+        myReconnectCount = new AtomicLong();
+    }
+
+    public static void main(String[] aArguments) throws Exception {
+        Map<String, String> theOptions = new HashMap<String, String>();
+        for(int i = 0; i + 1 < aArguments.length; i += 2) {
+            if(!aArguments[i].startsWith("-")) {
+                throw new IllegalArgumentException("Option expected, but was \"" + aArguments[i] + "\"!");
+            }
+            theOptions.put(aArguments[i].substring(1), aArguments[i + 1]);
+        }
+        new LoadGenerator(theOptions).execute();
+    }
+
+    /**
+     * Executes the load and prints the reports.
+     * @throws Exception occurs when the service couldn't be initialized
+     */
+    public void execute() throws Exception {
+        final int theClientCount = getOption("clients", 1000);
+        final int theStreamingClientCount = getOption("streaming", 0);
+        final int thePublisherCount = getOption("publishers", 2);
+        final int theRate = getOption("rate", 100);
+        final int theDomainCount = getOption("domains", 1);
+        final int thePayloadSize = getOption("payload", 64);
+        final int theMaxWaitingTime = getOption("waiting", 20000);
+        final boolean isSharedEventLog = Boolean.valueOf(getOption("shared", "false"));
+        final int theDuration = getOption("duration", 60);
+        final int theInterval = getOption("interval", 5);
+
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("LoadGenerator", 0, theMaxWaitingTime,
+                theMaxWaitingTime * 3, 0, SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(),
+                "utf-8", 1000);
+        theConfiguration.setSharedEventLog(isSharedEventLog);
+        EventServiceConfigurationFactory.getInstance().addCustomConfigurationLoader(new LoadConfigurationLoader(theConfiguration));
+
+        final InJvmEventService theEventService = new InJvmEventService();
+        theEventService.init(theConfiguration);
+
+        Domain[] theDomains = new Domain[theDomainCount];
+        for(int i = 0; i < theDomainCount; i++) {
+            theDomains[i] = DomainFactory.getDomain("load_domain_" + i);
+        }
+
+        System.out.println("Starting " + theClientCount + " long-polling clients, " + theStreamingClientCount + " streaming clients and "
+                + thePublisherCount + " publishers (" + theRate + " events/s each) on " + theDomainCount + " domain(s) for " + theDuration + " s.");
+
+        List<Thread> theThreads = new ArrayList<Thread>(theClientCount + theStreamingClientCount + thePublisherCount);
+        for(int i = 0; i < theClientCount + theStreamingClientCount; i++) {
+            final boolean isStreaming = i >= theClientCount;
+            theThreads.add(startThread(new SimulatedClient(theEventService, "client_" + i, theDomains[i % theDomainCount], isStreaming,
+                    myRunning, myLatencyHistogram, myReceivedEventCount, myReconnectCount), "client_" + i));
+        }
+        for(int i = 0; i < thePublisherCount; i++) {
+            theThreads.add(startThread(new Publisher(theEventService, theDomains, theRate, thePayloadSize, myRunning, myPublishedEventCount), "publisher_" + i));
+        }
+
+        final long theStartTime = System.currentTimeMillis();
+        final long theEndTime = theStartTime + theDuration * 1000L;
+        long theLastReportTime = theStartTime;
+        long theLastPublishedEventCount = 0;
+        long theLastReceivedEventCount = 0;
+        while(System.currentTimeMillis() < theEndTime) {
+            Thread.sleep(Math.min(theInterval * 1000L, Math.max(theEndTime - System.currentTimeMillis(), 1L)));
+            final long theReportTime = System.currentTimeMillis();
+            final long thePublishedEventCount = myPublishedEventCount.get();
+            final long theReceivedEventCount = myReceivedEventCount.get();
+            report(theReportTime - theStartTime, theReportTime - theLastReportTime,
+                    thePublishedEventCount - theLastPublishedEventCount, theReceivedEventCount - theLastReceivedEventCount);
+            theLastReportTime = theReportTime;
+            theLastPublishedEventCount = thePublishedEventCount;
+            theLastReceivedEventCount = theReceivedEventCount;
+        }
+
+        myRunning.set(false);
+        for(Thread theThread: theThreads) {
+            theThread.join(theMaxWaitingTime + 1000L);
+        }
+        final long theTotalTime = System.currentTimeMillis() - theStartTime;
+        System.out.println("Total: " + myPublishedEventCount.get() + " events published, " + myReceivedEventCount.get()
+                + " events received, " + myReconnectCount.get() + " reconnects");
+        report(theTotalTime, theTotalTime, myPublishedEventCount.get(), myReceivedEventCount.get());
+        theEventService.destroy();
+    }
+
+    /**
+     * Prints a report line.
+     * @param anElapsedTime time since the start in milliseconds
+     * @param anIntervalTime time since the last report in milliseconds
+     * @param aPublishedEventCount events which are published in the interval
+     * @param aReceivedEventCount events which are received in the interval
+     */
+    private void report(long anElapsedTime, long anIntervalTime, long aPublishedEventCount, long aReceivedEventCount) {
+        final ThreadMXBean theThreadMXBean = ManagementFactory.getThreadMXBean();
+        final MemoryMXBean theMemoryMXBean = ManagementFactory.getMemoryMXBean();
+        final double theIntervalSeconds = Math.max(anIntervalTime, 1L) / 1000.0;
+        final LatencyHistogram.Snapshot theLatencies = myLatencyHistogram.getSnapshot();
+        System.out.println(String.format("[%6.1f s] published %10.1f/s | received %10.1f/s | latency ms p50 %8.1f p99 %8.1f p99.9 %8.1f max %8.1f | threads %5d | heap %6d MB",
+                anElapsedTime / 1000.0,
+                aPublishedEventCount / theIntervalSeconds,
+                aReceivedEventCount / theIntervalSeconds,
+                theLatencies.getPercentile(50) / 1000.0, theLatencies.getPercentile(99) / 1000.0,
+                theLatencies.getPercentile(99.9) / 1000.0, theLatencies.getMax() / 1000.0,
+                theThreadMXBean.getThreadCount(),
+                theMemoryMXBean.getHeapMemoryUsage().getUsed() / (1024 * 1024)));
+    }
+
+    private int getOption(String anOptionName, int aDefaultValue) {
+        return Integer.parseInt(getOption(anOptionName, String.valueOf(aDefaultValue)));
+    }
+
+    private String getOption(String anOptionName, String aDefaultValue) {
+        final String theValue = myOptions.get(anOptionName);
+        if(theValue != null) {
+            return theValue;
+        }
+        return aDefaultValue;
+    }
+
+    private static Thread startThread(Runnable aRunnable, String aName) {
+        Thread theThread = new Thread(aRunnable, aName);
+        theThread.setDaemon(true);
+        theThread.start();
+        return theThread;
+    }
+
+    /**
+     * Provides the configuration of the load generator to the {@link de.novanic.eventservice.config.EventServiceConfigurationFactory}.
+     */
+    private static class LoadConfigurationLoader implements ConfigurationLoader
+    {
+        private final EventServiceConfiguration myConfiguration;
+
+        private LoadConfigurationLoader(EventServiceConfiguration aConfiguration) {
+            myConfiguration = aConfiguration;
+        }
+
+        public boolean isAvailable() {
+            return true;
+        }
+
+        public EventServiceConfiguration load() {
+            return myConfiguration;
+        }
+    }
+}
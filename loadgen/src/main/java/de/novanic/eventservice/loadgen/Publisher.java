@@ -0,0 +1,82 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.client.event.domain.Domain;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes {@link LoadEvent}s with a fixed rate to the domains (round robin). When the publisher falls behind the
+ * schedule (for example because adding the events takes too long), the events are published without a pause until
+ * the schedule is reached again, so the configured rate is kept as long as possible.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:19:38
+ */
+public class Publisher implements Runnable
+{
+    private final InJvmEventService myEventService;
+    private final Domain[] myDomains;
+    private final long myIntervalNanos;
+    private final int myPayloadSize;
+    private final AtomicBoolean myRunning;
+    private final AtomicLong myPublishedEventCount;
+
+    /**
+     * Creates a new publisher.
+     * @param anEventService service to add the events to
+     * @param aDomains domains to publish the events to
+     * @param aRate events per second
+     * @param aPayloadSize size of the payload of the events
+     * @param aRunning running flag of the load generator (the publisher stops when it is set to false)
+     * @param aPublishedEventCount counter of the published events
+     */
+    public Publisher(InJvmEventService anEventService, Domain[] aDomains, int aRate, int aPayloadSize,
+                     AtomicBoolean aRunning, AtomicLong aPublishedEventCount) {
+        myEventService = anEventService;
+        myDomains = aDomains;
+        myIntervalNanos = 1000000000L / Math.max(aRate, 1);
+        myPayloadSize = aPayloadSize;
+        myRunning = aRunning;
+        myPublishedEventCount = aPublishedEventCount;
+    }
+
+    public void run() {
+        long theNextPublishTime = System.nanoTime();
+        int theDomainIndex = 0;
+        while(myRunning.get()) {
+            final long theWaitingTime = theNextPublishTime - System.nanoTime();
+            if(theWaitingTime > 0) {
+                LockSupport.parkNanos(theWaitingTime);
+                continue;
+            }
+            myEventService.addEvent(myDomains[theDomainIndex], LoadEvent.create(myPayloadSize));
+            myPublishedEventCount.incrementAndGet();
+            theDomainIndex = (theDomainIndex + 1) % myDomains.length;
+            theNextPublishTime += myIntervalNanos;
+        }
+    }
+}
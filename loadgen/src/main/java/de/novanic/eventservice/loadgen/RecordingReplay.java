@@ -0,0 +1,117 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.EventServiceConfigurationFactory;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.record.EventRegistryRecording;
+import de.novanic.eventservice.service.registry.record.EventRegistryReplayer;
+import de.novanic.eventservice.service.registry.record.RecordedOperation;
+import de.novanic.eventservice.service.registry.statistics.EventRegistryStatistics;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Command line tool which replays a recording of an {@link de.novanic.eventservice.service.registry.EventRegistry}
+ * (see {@link de.novanic.eventservice.config.ConfigParameter#RECORD_FILE}) with the {@link EventRegistryReplayer}
+ * and prints the metrics of the replay.
+ * <br>Arguments: recording file and optionally the speed (default 1, 0 replays as fast as possible)
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:31:05
+ */
+public final class RecordingReplay
+{
+    private RecordingReplay() {}
+
+    /**
+     * Replays a recording into a new {@link de.novanic.eventservice.service.registry.DefaultEventRegistry} and prints
+     * the metrics. The configuration is loaded like for the {@link de.novanic.eventservice.service.registry.EventRegistryFactory},
+     * but the listen calls return immediately, the timeouts are only replayed as recorded and the replay isn't recorded.
+     * @param anArguments recording file and optionally the speed (default 1, 0 replays as fast as possible)
+     * @throws IOException when the recording couldn't be read
+     */
+    public static void main(String[] anArguments) throws IOException {
+        if(anArguments.length < 1) {
+            System.out.println("Usage: " + RecordingReplay.class.getName() + " <recording file> [speed]");
+            return;
+        }
+        double theSpeed = 1;
+        if(anArguments.length > 1) {
+            theSpeed = Double.parseDouble(anArguments[1]);
+        }
+
+        final EventServiceConfiguration theReplayConfiguration = createReplayConfiguration(EventServiceConfigurationFactory.getInstance().loadEventServiceConfiguration());
+        final DefaultUserManager theUserManager = new DefaultUserManager(theReplayConfiguration.getTimeoutTime());
+        final DefaultEventRegistry theEventRegistry = new DefaultEventRegistry(theReplayConfiguration, theUserManager) {};
+        final EventRegistryReplayer theReplayer = new EventRegistryReplayer(theEventRegistry, new LongPollingServerConnector(theReplayConfiguration));
+
+        final EventRegistryRecording theRecording = new EventRegistryRecording(new File(anArguments[0]));
+        try {
+            theReplayer.replay(theRecording, theSpeed);
+        } finally {
+            theRecording.close();
+            theUserManager.deactivateUserActivityScheduler();
+        }
+
+        final EventRegistryStatistics theStatistics = theEventRegistry.getStatistics();
+        System.out.println("Duration: " + theReplayer.getDuration() + "ms (max. lag " + theReplayer.getMaxLag() + "ms)");
+        for(RecordedOperation theOperation: RecordedOperation.values()) {
+            System.out.println(theOperation + ": " + theReplayer.getOperationCount(theOperation));
+        }
+        System.out.println("Skipped records: " + theReplayer.getSkippedRecordCount());
+        System.out.println("Delivered events: " + theReplayer.getDeliveredEventCount() + " (recorded " + theReplayer.getRecordedDeliveredEventCount() + ')');
+        System.out.println("Published events: " + theStatistics.getPublishedEventCount() + " (" + theStatistics.getPublishedEventsPerSecond() + "/s)");
+        System.out.println("Filtered events: " + theStatistics.getFilteredEventCount());
+        System.out.println("Users: " + theStatistics.getUserCount() + ", domains: " + theStatistics.getDomainCount());
+        System.out.println("Max. queue depth: " + theStatistics.getMaxQueueDepth());
+        for(String theDeliveryLatency: theStatistics.getDomainDeliveryLatencies()) {
+            System.out.println(theDeliveryLatency);
+        }
+    }
+
+    /**
+     * Creates the configuration for a replay from the configuration of the recorded environment.
+     * @param aConfiguration configuration of the recorded environment
+     * @return configuration for the replay
+     */
+    private static EventServiceConfiguration createReplayConfiguration(EventServiceConfiguration aConfiguration) {
+        final RemoteEventServiceConfiguration theConfiguration = new RemoteEventServiceConfiguration("Replay of a recording",
+                0, 0, Integer.MAX_VALUE, aConfiguration.getReconnectAttemptCount(),
+                aConfiguration.getConnectionIdGeneratorClassName(),
+                aConfiguration.getConnectionStrategyClientConnectorClassName(),
+                aConfiguration.getConnectionStrategyServerConnectorClassName(),
+                aConfiguration.getConnectionStrategyEncoding(),
+                aConfiguration.getMaxEvents());
+        theConfiguration.setSpillTime(aConfiguration.getSpillTime());
+        theConfiguration.setSpillMaxEvents(aConfiguration.getSpillMaxEvents());
+        theConfiguration.setSpillDirectory(aConfiguration.getSpillDirectory());
+        theConfiguration.setSharedEventLog(aConfiguration.isSharedEventLog());
+        return theConfiguration;
+    }
+}
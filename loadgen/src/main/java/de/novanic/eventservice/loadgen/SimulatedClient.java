@@ -0,0 +1,195 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.service.EventServiceException;
+import de.novanic.eventservice.service.registry.statistics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A simulated client which initializes the EventService, registers for a domain and listens for events in a loop like
+ * the GWT client. The client listens with long-polling or with streaming. The end-to-end latency of every received
+ * event is recorded. A long-polling client records the latency when the listen call returns, a streaming client
+ * records the latency when the event is written to the stream.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 22:19:38
+ */
+public class SimulatedClient implements Runnable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatedClient.class);
+
+    private final InJvmEventService myEventService;
+    private final String myClientId;
+    private final Domain myDomain;
+    private final boolean isStreaming;
+    private final AtomicBoolean myRunning;
+    private final LatencyHistogram myLatencyHistogram;
+    private final AtomicLong myReceivedEventCount;
+    private final AtomicLong myReconnectCount;
+
+    /**
+     * Creates a new simulated client.
+     * @param anEventService service to connect to
+     * @param aClientId client id
+     * @param aDomain domain to listen to
+     * @param isStreaming true when the client listens with streaming, false for long-polling
+     * @param aRunning running flag of the load generator (the client stops when it is set to false)
+     * @param aLatencyHistogram histogram to record the latencies (in microseconds)
+     * @param aReceivedEventCount counter of the received events
+     * @param aReconnectCount counter of the registrations after the client was removed by the server
+     */
+    public SimulatedClient(InJvmEventService anEventService, String aClientId, Domain aDomain, boolean isStreaming,
+                           AtomicBoolean aRunning, LatencyHistogram aLatencyHistogram, AtomicLong aReceivedEventCount, AtomicLong aReconnectCount) {
+        myEventService = anEventService;
+        myClientId = aClientId;
+        myDomain = aDomain;
+        this.isStreaming = isStreaming;
+        myRunning = aRunning;
+        myLatencyHistogram = aLatencyHistogram;
+        myReceivedEventCount = aReceivedEventCount;
+        myReconnectCount = aReconnectCount;
+    }
+
+    public void run() {
+        myEventService.setClientId(myClientId);
+        myEventService.initEventService();
+        myEventService.register(myDomain);
+        final HttpServletResponse theStreamingResponse = (isStreaming) ? createStreamingResponse() : null;
+        try {
+            while(myRunning.get()) {
+                final List<DomainEvent> theEvents;
+                if(isStreaming) {
+                    theEvents = myEventService.listenStreaming(theStreamingResponse);
+                } else {
+                    theEvents = myEventService.listen();
+                    if(theEvents != null) {
+                        recordEvents(theEvents);
+                    }
+                }
+                if(theEvents == null && myRunning.get()) {
+                    //the client was removed by the server (timeout)
+                    myReconnectCount.incrementAndGet();
+                    myEventService.register(myDomain);
+                }
+            }
+        } catch(EventServiceException e) {
+            LOG.error("Client \"" + myClientId + "\" stopped with an error!", e);
+        } finally {
+            myEventService.unlisten();
+        }
+    }
+
+    /**
+     * Records the latencies of the events which are received with long-polling.
+     * @param anEvents received events
+     */
+    private void recordEvents(List<DomainEvent> anEvents) {
+        final long theReceiveTime = System.nanoTime();
+        for(DomainEvent theDomainEvent: anEvents) {
+            final Event theEvent = theDomainEvent.getEvent();
+            if(theEvent instanceof LoadEvent) {
+                myLatencyHistogram.record((theReceiveTime - ((LoadEvent)theEvent).getPublishTime()) / 1000);
+                myReceivedEventCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Creates a response for the streaming connection which reads the publish times from the streamed events.
+     * @return response
+     */
+    private HttpServletResponse createStreamingResponse() {
+        final ServletOutputStream theOutputStream = new LatencyOutputStream();
+        return (HttpServletResponse)Proxy.newProxyInstance(SimulatedClient.class.getClassLoader(),
+                new Class<?>[] {HttpServletResponse.class}, new InvocationHandler() {
+                    public Object invoke(Object aProxy, Method aMethod, Object[] anArguments) {
+                        if("getOutputStream".equals(aMethod.getName())) {
+                            return theOutputStream;
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    /**
+     * Stream which reads the publish times of the streamed events (see {@link LoadEvent}) with every flush.
+     */
+    private class LatencyOutputStream extends ServletOutputStream
+    {
+        private final ByteArrayOutputStream myBuffer = new ByteArrayOutputStream(1024);
+
+        public void write(int aByte) throws IOException {
+            myBuffer.write(aByte);
+        }
+
+        public void write(byte[] aBytes, int anOffset, int aLength) throws IOException {
+            myBuffer.write(aBytes, anOffset, aLength);
+        }
+
+        public void flush() throws IOException {
+            final long theReceiveTime = System.nanoTime();
+            final String theStatement;
+            try {
+                theStatement = myBuffer.toString("utf-8");
+            } catch(UnsupportedEncodingException e) {
+                throw new IOException(e.getMessage());
+            }
+            myBuffer.reset();
+
+            int theStartIndex = theStatement.indexOf(LoadEvent.TIME_MARKER);
+            while(theStartIndex >= 0) {
+                final int theEndIndex = theStatement.indexOf(LoadEvent.TIME_MARKER, theStartIndex + 1);
+                if(theEndIndex < 0) {
+                    break;
+                }
+                try {
+                    final long thePublishTime = Long.parseLong(theStatement.substring(theStartIndex + 1, theEndIndex));
+                    myLatencyHistogram.record((theReceiveTime - thePublishTime) / 1000);
+                    myReceivedEventCount.incrementAndGet();
+                    theStartIndex = theStatement.indexOf(LoadEvent.TIME_MARKER, theEndIndex + 1);
+                } catch(NumberFormatException e) {
+                    theStartIndex = theEndIndex;
+                }
+            }
+        }
+
+        public void close() {}
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen.simulation;
+
+import de.novanic.eventservice.client.event.DomainEvent;
+import de.novanic.eventservice.client.event.Event;
+import de.novanic.eventservice.client.event.domain.Domain;
+import de.novanic.eventservice.client.event.domain.DomainFactory;
+import de.novanic.eventservice.config.EventServiceConfiguration;
+import de.novanic.eventservice.config.RemoteEventServiceConfiguration;
+import de.novanic.eventservice.service.UserTimeoutListener;
+import de.novanic.eventservice.service.connection.id.SessionConnectionIdGenerator;
+import de.novanic.eventservice.service.connection.strategy.connector.ConnectionStrategyServerConnector;
+import de.novanic.eventservice.service.connection.strategy.connector.longpolling.LongPollingServerConnector;
+import de.novanic.eventservice.service.registry.DefaultEventRegistry;
+import de.novanic.eventservice.service.registry.EventRegistry;
+import de.novanic.eventservice.service.registry.user.DefaultUserManager;
+import de.novanic.eventservice.service.registry.user.TimeoutSweep;
+import de.novanic.eventservice.service.registry.user.UserInfo;
+import de.novanic.eventservice.util.PlatformUtil;
+
+import java.util.*;
+
+/**
+ * The {@link CapacitySimulator} simulates clients and publishers ({@link de.novanic.eventservice.loadgen.simulation.SimulationScenario})
+ * against a {@link de.novanic.eventservice.service.registry.DefaultEventRegistry} with a virtual clock, to compare
+ * configurations (waiting times, timeout time and max. events) without trials in production. Hours of traffic of
+ * a huge amount of clients can be simulated in seconds.
+ *
+ * <br>The simulation is a discrete event simulation within one thread. The registry, the user queues and the timeout
+ * checks ({@link de.novanic.eventservice.service.registry.user.TimeoutSweep}) are the real
+ * implementations which work with the virtual clock ({@link de.novanic.eventservice.util.PlatformUtil#setTimeSource(de.novanic.eventservice.util.TimeSource)}).
+ * The waiting of the long-polling connector (min. waiting time, max. waiting time and the notification about new events)
+ * is simulated by scheduled actions instead of blocked threads. Therefore no other EventService should run within
+ * the same JVM while a simulation is running.
+ *
+ * <br>Options of {@link CapacitySimulator#main(String[])} (with default values, the configuration parameters can contain
+ * comma separated values to simulate all combinations):
+ * <ul>
+ * <li>-clients 10000: amount of concurrent clients</li>
+ * <li>-domains 10: amount of domains</li>
+ * <li>-rate 100: published events per second (over all domains)</li>
+ * <li>-polldelay 50: time between a response and the next listen call in milliseconds</li>
+ * <li>-session 600: mean session time of a client in seconds (0 for endless sessions)</li>
+ * <li>-vanish 0.3: ratio of the leaving clients which vanish without a logout</li>
+ * <li>-duration 3600: simulated time in seconds</li>
+ * <li>-seed 1: seed of the random numbers</li>
+ * <li>-time.waiting.min 0: min. waiting time in milliseconds</li>
+ * <li>-time.waiting.max 20000: max. waiting time in milliseconds</li>
+ * <li>-time.timeout 90000: timeout time in milliseconds</li>
+ * <li>-events.max 1000: max. events per listen response</li>
+ * </ul>
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:34:00
+ */
+public class CapacitySimulator
+{
+    private static final long SAMPLE_INTERVAL = 10000L;
+    private static final Event SIMULATED_EVENT = new SimulatedEvent();
+
+    private final SimulationScenario myScenario;
+
+    /**
+     * Creates a new {@link CapacitySimulator}.
+     * @param aScenario simulated clients and publishers
+     */
+    public CapacitySimulator(SimulationScenario aScenario) {
+        myScenario = aScenario;
+    }
+
+    /**
+     * Simulates the scenario with a configuration. The virtual clock is installed for the time of the simulation.
+     * @param aConfiguration configuration to simulate (waiting times, timeout time and max. events)
+     * @return metrics of the simulation
+     */
+    public SimulationResult simulate(EventServiceConfiguration aConfiguration) {
+        return new Simulation(aConfiguration).run();
+    }
+
+    public static void main(String[] anArguments) {
+        Map<String, String> theOptions = new HashMap<String, String>();
+        for(int i = 0; i + 1 < anArguments.length; i += 2) {
+            if(!anArguments[i].startsWith("-")) {
+                throw new IllegalArgumentException("Option expected, but was \"" + anArguments[i] + "\"!");
+            }
+            theOptions.put(anArguments[i].substring(1), anArguments[i + 1]);
+        }
+
+        final SimulationScenario theScenario = new SimulationScenario(
+                Integer.parseInt(getOption(theOptions, "clients", "10000")),
+                Integer.parseInt(getOption(theOptions, "domains", "10")),
+                Double.parseDouble(getOption(theOptions, "rate", "100")),
+                Long.parseLong(getOption(theOptions, "polldelay", "50")),
+                Long.parseLong(getOption(theOptions, "session", "600")) * 1000L,
+                Double.parseDouble(getOption(theOptions, "vanish", "0.3")),
+                Long.parseLong(getOption(theOptions, "duration", "3600")) * 1000L,
+                Long.parseLong(getOption(theOptions, "seed", "1")));
+        final CapacitySimulator theSimulator = new CapacitySimulator(theScenario);
+
+        System.out.println("Simulation of " + theScenario);
+        for(int theMinWaitingTime: getOptionValues(theOptions, "time.waiting.min", "0")) {
+            for(int theMaxWaitingTime: getOptionValues(theOptions, "time.waiting.max", "20000")) {
+                for(int theTimeoutTime: getOptionValues(theOptions, "time.timeout", "90000")) {
+                    for(int theMaxEvents: getOptionValues(theOptions, "events.max", "1000")) {
+                        System.out.println(theSimulator.simulate(createConfiguration(theMinWaitingTime, theMaxWaitingTime, theTimeoutTime, theMaxEvents)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a configuration for the simulation of a long-polling connection.
+     * @param aMinWaitingTime min. waiting time in milliseconds
+     * @param aMaxWaitingTime max. waiting time in milliseconds
+     * @param aTimeoutTime timeout time in milliseconds
+     * @param aMaxEvents max. events per listen response
+     * @return configuration
+     */
+    public static EventServiceConfiguration createConfiguration(int aMinWaitingTime, int aMaxWaitingTime, int aTimeoutTime, int aMaxEvents) {
+        return new RemoteEventServiceConfiguration("Simulation", aMinWaitingTime, aMaxWaitingTime, aTimeoutTime, 0,
+                SessionConnectionIdGenerator.class.getName(), null, LongPollingServerConnector.class.getName(), "utf-8", aMaxEvents);
+    }
+
+    private static String getOption(Map<String, String> anOptions, String anOptionName, String aDefaultValue) {
+        final String theValue = anOptions.get(anOptionName);
+        if(theValue != null) {
+            return theValue;
+        }
+        return aDefaultValue;
+    }
+
+    private static List<Integer> getOptionValues(Map<String, String> anOptions, String anOptionName, String aDefaultValue) {
+        List<Integer> theValues = new ArrayList<Integer>();
+        for(String theValue: getOption(anOptions, anOptionName, aDefaultValue).split(",")) {
+            theValues.add(Integer.parseInt(theValue.trim()));
+        }
+        return theValues;
+    }
+
+    /**
+     * A run of the simulation with one configuration.
+     */
+    private class Simulation implements UserTimeoutListener
+    {
+        private final EventServiceConfiguration myConfiguration;
+        private final Random myRandom;
+        private final PriorityQueue<ScheduledAction> myActions;
+        private final Map<String, SimulatedClient> myClients;
+        private final Map<Domain, Set<SimulatedClient>> myParkedClients;
+        private final Domain[] myDomains;
+        private VirtualTimeSource myClock;
+        private DefaultUserManager myUserManager;
+        private EventRegistry myEventRegistry;
+        private ConnectionStrategyServerConnector myServerConnector;
+        private long mySequence;
+        private long myRequestCount;
+        private long myEmptyResponseCount;
+        private long myPublishedEventCount;
+        private long myDeliveredEventCount;
+        private long mySessionCount;
+        private long myTimeoutCount;
+        private long myActiveTimeoutCount;
+        private long myQueueDepthSum;
+        private long mySampleCount;
+        private int myMaxQueueDepth;
+
+        private Simulation(EventServiceConfiguration aConfiguration) {
+            myConfiguration = aConfiguration;
+            myRandom = new Random(myScenario.getSeed());
+            myActions = new PriorityQueue<ScheduledAction>();
+            myClients = new HashMap<String, SimulatedClient>();
+            myParkedClients = new HashMap<Domain, Set<SimulatedClient>>();
+            myDomains = new Domain[Math.max(myScenario.getDomainCount(), 1)];
+            for(int i = 0; i < myDomains.length; i++) {
+                myDomains[i] = DomainFactory.getDomain("simulation_domain_" + i);
+                myParkedClients.put(myDomains[i], new LinkedHashSet<SimulatedClient>());
+            }
+        }
+
+        private SimulationResult run() {
+            final long theRealStartTime = System.currentTimeMillis();
+            myClock = new VirtualTimeSource(theRealStartTime);
+            PlatformUtil.setTimeSource(myClock);
+            try {
+                //the timeout checks are triggered by the simulation instead of a timer
+                myUserManager = new DefaultUserManager(myConfiguration.getTimeoutTime()) {
+                    public void activateUserActivityScheduler(boolean isAutoClean) {}
+                };
+                myEventRegistry = new DefaultEventRegistry(myConfiguration, myUserManager) {};
+                myUserManager.getUserActivityScheduler().addTimeoutListener(this);
+                //the listen calls return immediately, the waiting is simulated
+                myServerConnector = new LongPollingServerConnector(new RemoteEventServiceConfiguration("Simulation connector", 0, 0,
+                        myConfiguration.getTimeoutTime(), 0, null, null, null, myConfiguration.getConnectionStrategyEncoding(), myConfiguration.getMaxEvents()));
+
+                final long theStartTime = myClock.getCurrentTime();
+                final long theEndTime = theStartTime + myScenario.getDuration();
+                for(int i = 0; i < myScenario.getClientCount(); i++) {
+                    startSession(theStartTime + (long)(myRandom.nextDouble() * myScenario.getPollDelay()));
+                }
+                if(myScenario.getEventRate() > 0) {
+                    schedule(ActionType.PUBLISH, theStartTime + nextExponential(1000.0 / myScenario.getEventRate()), null);
+                }
+                schedule(ActionType.TIMEOUT_CHECK, theStartTime, null);
+                schedule(ActionType.SAMPLE, theStartTime + SAMPLE_INTERVAL, null);
+
+                ScheduledAction theAction;
+                while((theAction = myActions.poll()) != null && theAction.myTime <= theEndTime) {
+                    myClock.setCurrentTime(theAction.myTime);
+                    execute(theAction);
+                }
+                myClock.setCurrentTime(theEndTime);
+
+                return new SimulationResult(myConfiguration, theEndTime - theStartTime, System.currentTimeMillis() - theRealStartTime,
+                        myRequestCount, myEmptyResponseCount, myPublishedEventCount, myDeliveredEventCount,
+                        mySessionCount, myTimeoutCount, myActiveTimeoutCount,
+                        (mySampleCount > 0) ? (double)myQueueDepthSum / mySampleCount : 0, myMaxQueueDepth);
+            } finally {
+                if(myUserManager != null) {
+                    myUserManager.reset();
+                }
+                PlatformUtil.setTimeSource(null);
+            }
+        }
+
+        private void execute(ScheduledAction anAction) {
+            final SimulatedClient theClient = anAction.myClient;
+            switch(anAction.myType) {
+                case REQUEST:
+                    if(theClient.isActive) {
+                        request(theClient);
+                    }
+                    break;
+                case MIN_WAITING_TIME_ELAPSED:
+                    if(theClient.isActive && theClient.myRequestNumber == anAction.myRequestNumber) {
+                        waitForEvents(theClient);
+                    }
+                    break;
+                case MAX_WAITING_TIME_ELAPSED:
+                    if(theClient.isActive && theClient.isParked && theClient.myRequestNumber == anAction.myRequestNumber) {
+                        unpark(theClient);
+                        respond(theClient);
+                    }
+                    break;
+                case SESSION_END:
+                    if(theClient.isActive) {
+                        endSession(theClient);
+                        startSession(myClock.getCurrentTime() + (long)(myRandom.nextDouble() * myScenario.getPollDelay()));
+                    }
+                    break;
+                case PUBLISH:
+                    publish();
+                    schedule(ActionType.PUBLISH, myClock.getCurrentTime() + nextExponential(1000.0 / myScenario.getEventRate()), null);
+                    break;
+                case TIMEOUT_CHECK:
+                    TimeoutSweep.checkTimeouts(myUserManager.getUserActivityScheduler());
+                    schedule(ActionType.TIMEOUT_CHECK, myClock.getCurrentTime() + Math.max(myConfiguration.getTimeoutTime(), 1), null);
+                    break;
+                case SAMPLE:
+                    sample();
+                    schedule(ActionType.SAMPLE, myClock.getCurrentTime() + SAMPLE_INTERVAL, null);
+                    break;
+            }
+        }
+
+        /**
+         * A client sends a listen request. A client which was removed (timeout) registers again.
+         * @param aClient client
+         */
+        private void request(SimulatedClient aClient) {
+            myRequestCount++;
+            if(!myEventRegistry.isUserRegistered(aClient.myUserId)) {
+                myEventRegistry.registerUser(aClient.myDomain, aClient.myUserId, null);
+            }
+            aClient.myUserInfo = myUserManager.getUser(aClient.myUserId);
+            if(aClient.myUserInfo != null) {
+                myUserManager.getUserActivityScheduler().reportUserActivity(aClient.myUserInfo);
+            }
+            aClient.myRequestNumber++;
+            if(myConfiguration.getMinWaitingTime() > 0) {
+                schedule(ActionType.MIN_WAITING_TIME_ELAPSED, myClock.getCurrentTime() + myConfiguration.getMinWaitingTime(), aClient);
+            } else {
+                waitForEvents(aClient);
+            }
+        }
+
+        /**
+         * Responds directly when events are available, otherwise the listen request is parked until an event occurs
+         * or the max. waiting time is exceeded.
+         * @param aClient client
+         */
+        private void waitForEvents(SimulatedClient aClient) {
+            if(myConfiguration.getMaxWaitingTime() <= 0 || hasEvents(aClient)) {
+                respond(aClient);
+            } else {
+                aClient.isParked = true;
+                myParkedClients.get(aClient.myDomain).add(aClient);
+                schedule(ActionType.MAX_WAITING_TIME_ELAPSED, myClock.getCurrentTime() + myConfiguration.getMaxWaitingTime(), aClient);
+            }
+        }
+
+        private void respond(SimulatedClient aClient) {
+            final List<DomainEvent> theEvents = myEventRegistry.listen(myServerConnector, aClient.myUserId);
+            if(theEvents == null || theEvents.isEmpty()) {
+                myEmptyResponseCount++;
+            } else {
+                myDeliveredEventCount += theEvents.size();
+            }
+            schedule(ActionType.REQUEST, myClock.getCurrentTime() + myScenario.getPollDelay(), aClient);
+        }
+
+        private void publish() {
+            final Domain theDomain = myDomains[myRandom.nextInt(myDomains.length)];
+            myEventRegistry.addEvent(theDomain, SIMULATED_EVENT);
+            myPublishedEventCount++;
+
+            //notify the parked listen requests
+            Iterator<SimulatedClient> theParkedClientIterator = myParkedClients.get(theDomain).iterator();
+            List<SimulatedClient> theNotifiedClients = new ArrayList<SimulatedClient>();
+            while(theParkedClientIterator.hasNext()) {
+                SimulatedClient theClient = theParkedClientIterator.next();
+                if(hasEvents(theClient)) {
+                    theParkedClientIterator.remove();
+                    theClient.isParked = false;
+                    theNotifiedClients.add(theClient);
+                }
+            }
+            for(SimulatedClient theClient: theNotifiedClients) {
+                respond(theClient);
+            }
+        }
+
+        private void startSession(long aStartTime) {
+            SimulatedClient theClient = new SimulatedClient("simulated_client_" + mySessionCount++,
+                    myDomains[myRandom.nextInt(myDomains.length)]);
+            myClients.put(theClient.myUserId, theClient);
+            schedule(ActionType.REQUEST, aStartTime, theClient);
+            if(myScenario.getMeanSessionTime() > 0) {
+                schedule(ActionType.SESSION_END, aStartTime + nextExponential(myScenario.getMeanSessionTime()), theClient);
+            }
+        }
+
+        /**
+         * The client leaves. It logs out or it vanishes without a logout (which results in a timeout).
+         * @param aClient client
+         */
+        private void endSession(SimulatedClient aClient) {
+            aClient.isActive = false;
+            if(aClient.isParked) {
+                unpark(aClient);
+            }
+            if(myRandom.nextDouble() >= myScenario.getVanishRatio()) {
+                myClients.remove(aClient.myUserId);
+                myEventRegistry.unlisten(aClient.myUserId);
+            }
+        }
+
+        private void unpark(SimulatedClient aClient) {
+            aClient.isParked = false;
+            myParkedClients.get(aClient.myDomain).remove(aClient);
+        }
+
+        /**
+         * Checks if events are available for the listen request. A user which was removed (timeout) while waiting
+         * doesn't get events anymore, like the listen request of a removed user at the server side.
+         * @param aClient client
+         * @return true when events are available, otherwise false
+         */
+        private boolean hasEvents(SimulatedClient aClient) {
+            return aClient.myUserInfo != null && !aClient.myUserInfo.isEventsEmpty();
+        }
+
+        private void sample() {
+            long theQueueDepth = 0;
+            for(UserInfo theUserInfo: myUserManager.getUsers()) {
+                final int theEventCount = theUserInfo.getEventCount();
+                theQueueDepth += theEventCount;
+                myMaxQueueDepth = Math.max(myMaxQueueDepth, theEventCount);
+            }
+            myQueueDepthSum += theQueueDepth;
+            mySampleCount++;
+        }
+
+        public void onTimeout(UserInfo aUserInfo) {
+            myTimeoutCount++;
+            final SimulatedClient theClient = myClients.get(aUserInfo.getUserId());
+            if(theClient != null) {
+                if(theClient.isActive) {
+                    myActiveTimeoutCount++;
+                } else {
+                    myClients.remove(aUserInfo.getUserId());
+                }
+            }
+        }
+
+        private void schedule(ActionType aType, long aTime, SimulatedClient aClient) {
+            myActions.add(new ScheduledAction(aType, aTime, mySequence++, aClient));
+        }
+
+        private long nextExponential(double aMean) {
+            return (long)(-aMean * Math.log(1.0 - myRandom.nextDouble()));
+        }
+    }
+
+    private enum ActionType
+    {
+        REQUEST, MIN_WAITING_TIME_ELAPSED, MAX_WAITING_TIME_ELAPSED, SESSION_END, PUBLISH, TIMEOUT_CHECK, SAMPLE
+    }
+
+    /**
+     * An action which is executed at a point in time of the virtual clock. Actions of the same point in time are
+     * executed in the order of their scheduling.
+     */
+    private static final class ScheduledAction implements Comparable<ScheduledAction>
+    {
+        private final ActionType myType;
+        private final long myTime;
+        private final long mySequence;
+        private final SimulatedClient myClient;
+        private final int myRequestNumber;
+
+        private ScheduledAction(ActionType aType, long aTime, long aSequence, SimulatedClient aClient) {
+            myType = aType;
+            myTime = aTime;
+            mySequence = aSequence;
+            myClient = aClient;
+            myRequestNumber = (aClient != null) ? aClient.myRequestNumber : 0;
+        }
+
+        public int compareTo(ScheduledAction anAction) {
+            if(myTime != anAction.myTime) {
+                return (myTime < anAction.myTime) ? -1 : 1;
+            }
+            return (mySequence < anAction.mySequence) ? -1 : ((mySequence == anAction.mySequence) ? 0 : 1);
+        }
+    }
+
+    private static final class SimulatedClient
+    {
+        private final String myUserId;
+        private final Domain myDomain;
+        private UserInfo myUserInfo;
+        private boolean isActive;
+        private boolean isParked;
+        private int myRequestNumber;
+
+        private SimulatedClient(String aUserId, Domain aDomain) {
+            myUserId = aUserId;
+            myDomain = aDomain;
+            isActive = true;
+        }
+    }
+
+    private static final class SimulatedEvent implements Event {}
+}
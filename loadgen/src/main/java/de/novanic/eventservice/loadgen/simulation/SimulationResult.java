@@ -0,0 +1,190 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen.simulation;
+
+import de.novanic.eventservice.config.EventServiceConfiguration;
+
+/**
+ * The {@link SimulationResult} contains the metrics of a {@link de.novanic.eventservice.loadgen.simulation.CapacitySimulator}
+ * run for one configuration. The rates are calculated with the simulated (virtual) time.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:34:00
+ */
+public class SimulationResult
+{
+    private final EventServiceConfiguration myConfiguration;
+    private final long mySimulatedTime;
+    private final long myRuntime;
+    private final long myRequestCount;
+    private final long myEmptyResponseCount;
+    private final long myPublishedEventCount;
+    private final long myDeliveredEventCount;
+    private final long mySessionCount;
+    private final long myTimeoutCount;
+    private final long myActiveTimeoutCount;
+    private final double myMeanQueueDepth;
+    private final int myMaxQueueDepth;
+
+    public SimulationResult(EventServiceConfiguration aConfiguration, long aSimulatedTime, long aRuntime,
+                            long aRequestCount, long anEmptyResponseCount, long aPublishedEventCount, long aDeliveredEventCount,
+                            long aSessionCount, long aTimeoutCount, long anActiveTimeoutCount,
+                            double aMeanQueueDepth, int aMaxQueueDepth) {
+        myConfiguration = aConfiguration;
+        mySimulatedTime = aSimulatedTime;
+        myRuntime = aRuntime;
+        myRequestCount = aRequestCount;
+        myEmptyResponseCount = anEmptyResponseCount;
+        myPublishedEventCount = aPublishedEventCount;
+        myDeliveredEventCount = aDeliveredEventCount;
+        mySessionCount = aSessionCount;
+        myTimeoutCount = aTimeoutCount;
+        myActiveTimeoutCount = anActiveTimeoutCount;
+        myMeanQueueDepth = aMeanQueueDepth;
+        myMaxQueueDepth = aMaxQueueDepth;
+    }
+
+    /**
+     * Returns the simulated configuration.
+     * @return simulated configuration
+     */
+    public EventServiceConfiguration getConfiguration() {
+        return myConfiguration;
+    }
+
+    /**
+     * Returns the simulated (virtual) time in milliseconds.
+     * @return simulated time in milliseconds
+     */
+    public long getSimulatedTime() {
+        return mySimulatedTime;
+    }
+
+    /**
+     * Returns the real time which was required for the simulation in milliseconds.
+     * @return runtime in milliseconds
+     */
+    public long getRuntime() {
+        return myRuntime;
+    }
+
+    /**
+     * Returns the amount of the listen requests of all clients.
+     * @return amount of the listen requests
+     */
+    public long getRequestCount() {
+        return myRequestCount;
+    }
+
+    /**
+     * Returns the listen requests per (simulated) second.
+     * @return listen requests per second
+     */
+    public double getRequestRate() {
+        return perSecond(myRequestCount);
+    }
+
+    /**
+     * Returns the amount of the listen responses without events (max. waiting time exceeded).
+     * @return amount of the empty responses
+     */
+    public long getEmptyResponseCount() {
+        return myEmptyResponseCount;
+    }
+
+    public long getPublishedEventCount() {
+        return myPublishedEventCount;
+    }
+
+    public long getDeliveredEventCount() {
+        return myDeliveredEventCount;
+    }
+
+    /**
+     * Returns the mean amount of events per listen response.
+     * @return mean amount of events per response
+     */
+    public double getEventsPerResponse() {
+        return (myRequestCount > 0) ? (double)myDeliveredEventCount / myRequestCount : 0;
+    }
+
+    /**
+     * Returns the amount of the client sessions (including the replacements of the leaving clients).
+     * @return amount of the client sessions
+     */
+    public long getSessionCount() {
+        return mySessionCount;
+    }
+
+    /**
+     * Returns the amount of the timeouts.
+     * @return amount of the timeouts
+     */
+    public long getTimeoutCount() {
+        return myTimeoutCount;
+    }
+
+    /**
+     * Returns the timeouts per (simulated) second.
+     * @return timeouts per second
+     */
+    public double getTimeoutRate() {
+        return perSecond(myTimeoutCount);
+    }
+
+    /**
+     * Returns the amount of the timeouts of clients which were still active. That shows a timeout time which is too
+     * short for the waiting times (the clients have to register again).
+     * @return amount of the timeouts of active clients
+     */
+    public long getActiveTimeoutCount() {
+        return myActiveTimeoutCount;
+    }
+
+    /**
+     * Returns the mean amount of the queued events (of all users, sampled in an interval).
+     * @return mean amount of the queued events
+     */
+    public double getMeanQueueDepth() {
+        return myMeanQueueDepth;
+    }
+
+    /**
+     * Returns the max. amount of queued events of one user (sampled in an interval).
+     * @return max. amount of queued events of one user
+     */
+    public int getMaxQueueDepth() {
+        return myMaxQueueDepth;
+    }
+
+    private double perSecond(long aCount) {
+        return (mySimulatedTime > 0) ? aCount * 1000.0 / mySimulatedTime : 0;
+    }
+
+    public String toString() {
+        return String.format("waiting min %6d max %6d | timeout %6d | events.max %5d | requests %10.1f/s | events/response %6.2f | empty %10d | timeouts %8.3f/s (active %d) | queue mean %10.1f max %6d | runtime %6d ms",
+                myConfiguration.getMinWaitingTime(), myConfiguration.getMaxWaitingTime(), myConfiguration.getTimeoutTime(),
+                myConfiguration.getMaxEvents(), getRequestRate(), getEventsPerResponse(), myEmptyResponseCount,
+                getTimeoutRate(), myActiveTimeoutCount, myMeanQueueDepth, myMaxQueueDepth, myRuntime);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen.simulation;
+
+/**
+ * The {@link SimulationScenario} describes the simulated clients and publishers of a
+ * {@link de.novanic.eventservice.loadgen.simulation.CapacitySimulator} run. The amount of clients is constant,
+ * a client which leaves (after a random session time) is replaced by a new client. A leaving client logs out
+ * (unlisten) or vanishes without a logout, which results in a timeout at the server side.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:34:00
+ */
+public class SimulationScenario
+{
+    private final int myClientCount;
+    private final int myDomainCount;
+    private final double myEventRate;
+    private final long myPollDelay;
+    private final long myMeanSessionTime;
+    private final double myVanishRatio;
+    private final long myDuration;
+    private final long mySeed;
+
+    /**
+     * Creates a new {@link SimulationScenario}.
+     * @param aClientCount amount of the concurrent clients
+     * @param aDomainCount amount of domains (every client is registered to one random domain)
+     * @param anEventRate published events per second (over all domains)
+     * @param aPollDelay time between a response and the next listen call of a client in milliseconds (network round trip)
+     * @param aMeanSessionTime mean time a client stays in milliseconds (exponential distribution, 0 or less for endless sessions)
+     * @param aVanishRatio ratio of the leaving clients which vanish without a logout (0.0 to 1.0)
+     * @param aDuration simulated time in milliseconds
+     * @param aSeed seed of the random numbers (the same seed results in the same simulation)
+     */
+    public SimulationScenario(int aClientCount, int aDomainCount, double anEventRate, long aPollDelay,
+                              long aMeanSessionTime, double aVanishRatio, long aDuration, long aSeed) {
+        myClientCount = aClientCount;
+        myDomainCount = aDomainCount;
+        myEventRate = anEventRate;
+        myPollDelay = aPollDelay;
+        myMeanSessionTime = aMeanSessionTime;
+        myVanishRatio = aVanishRatio;
+        myDuration = aDuration;
+        mySeed = aSeed;
+    }
+
+    public int getClientCount() {
+        return myClientCount;
+    }
+
+    public int getDomainCount() {
+        return myDomainCount;
+    }
+
+    public double getEventRate() {
+        return myEventRate;
+    }
+
+    public long getPollDelay() {
+        return myPollDelay;
+    }
+
+    public long getMeanSessionTime() {
+        return myMeanSessionTime;
+    }
+
+    public double getVanishRatio() {
+        return myVanishRatio;
+    }
+
+    public long getDuration() {
+        return myDuration;
+    }
+
+    public long getSeed() {
+        return mySeed;
+    }
+
+    public String toString() {
+        return myClientCount + " clients, " + myDomainCount + " domain(s), " + myEventRate + " events/s, poll delay "
+                + myPollDelay + "ms, mean session " + myMeanSessionTime + "ms, vanish ratio " + myVanishRatio
+                + ", duration " + myDuration + "ms";
+    }
+}
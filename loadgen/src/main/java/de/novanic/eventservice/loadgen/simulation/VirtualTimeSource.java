@@ -0,0 +1,59 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen.simulation;
+
+import de.novanic.eventservice.util.TimeSource;
+
+/**
+ * A {@link de.novanic.eventservice.util.TimeSource} with a virtual clock which is moved on by the
+ * {@link de.novanic.eventservice.loadgen.simulation.CapacitySimulator}. The clock never moves backwards.
+ *
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:34:00
+ */
+public class VirtualTimeSource implements TimeSource
+{
+    private volatile long myCurrentTime;
+
+    /**
+     * Creates a new {@link VirtualTimeSource}.
+     * @param aStartTime start time of the virtual clock in milliseconds
+     */
+    public VirtualTimeSource(long aStartTime) {
+        myCurrentTime = aStartTime;
+    }
+
+    public long getCurrentTime() {
+        return myCurrentTime;
+    }
+
+    /**
+     * Moves the virtual clock on to a point in time. An earlier point in time is ignored.
+     * @param aTime point in time in milliseconds
+     */
+    public void setCurrentTime(long aTime) {
+        if(aTime > myCurrentTime) {
+            myCurrentTime = aTime;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.service.registry.user;
+
+/**
+ * Triggers a timeout sweep of the {@link UserActivityScheduler} ({@link UserActivityScheduler#checkTimeouts()})
+ * without the timer of the scheduler, so a simulation with a virtual clock can control the sweeps
+ * (see {@link de.novanic.eventservice.loadgen.simulation.CapacitySimulator}).
+ *
+ * @author agent
+ *         <br>Date: 19.10.2026
+ *         <br>Time: 14:12:40
+ */
+public final class TimeoutSweep
+{
+    private TimeoutSweep() {}
+
+    /**
+     * Checks all users/clients of the {@link UserActivityScheduler} for a timeout.
+     * @param aUserActivityScheduler {@link UserActivityScheduler} to check
+     */
+    public static void checkTimeouts(UserActivityScheduler aUserActivityScheduler) {
+        aUserActivityScheduler.checkTimeouts();
+    }
+}
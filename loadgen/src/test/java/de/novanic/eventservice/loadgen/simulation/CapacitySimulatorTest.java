@@ -0,0 +1,146 @@
+/*
+ * GWTEventService
+ * Copyright (c) 2014 and beyond, GWTEventService Committers
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 3 of
+ * the License, or (at your option) any later version.
+ * Other licensing for GWTEventService may also be possible on request.
+ * Please view the license.txt of the project for more information.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package de.novanic.eventservice.loadgen.simulation;
+
+import de.novanic.eventservice.util.PlatformUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ *         <br>Date: 18.10.2026
+ *         <br>Time: 23:34:00
+ */
+@RunWith(JUnit4.class)
+public class CapacitySimulatorTest
+{
+    private static final long MINUTE = 60L * 1000L;
+
+    @Test
+    public void testSimulate() {
+        //100 clients without session ends, 10 events per second
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(100, 2, 10, 50, 0, 0.0, 10 * MINUTE, 1));
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 20000, 90000, 1000));
+
+        assertEquals(10 * MINUTE, theResult.getSimulatedTime());
+        assertEquals(100, theResult.getSessionCount());
+        assertEquals(0, theResult.getTimeoutCount());
+        assertEquals(0, theResult.getActiveTimeoutCount());
+        //about 6000 events are published in 10 minutes
+        assertTrue(theResult.getPublishedEventCount() > 5500);
+        assertTrue(theResult.getPublishedEventCount() < 6500);
+        //every client receives the events of its domain (one event per response, because the events are rare compared to the poll delay)
+        assertTrue(theResult.getDeliveredEventCount() > theResult.getPublishedEventCount() * 100 / 2 * 95 / 100);
+        assertTrue(theResult.getEventsPerResponse() > 0.9);
+        assertTrue(theResult.getRequestRate() > 400);
+        assertTrue(theResult.getMaxQueueDepth() <= 1);
+
+        //the virtual clock is removed
+        assertTrue(Math.abs(PlatformUtil.getCurrentTime() - System.currentTimeMillis()) < 10000);
+    }
+
+    @Test
+    public void testSimulate_MaxWaitingTime() {
+        //rare events: the request rate is determined by the max. waiting time
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(100, 1, 0, 50, 0, 0.0, 10 * MINUTE, 1));
+
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 10000, 90000, 1000));
+        assertEquals(0, theResult.getPublishedEventCount());
+        assertEquals(100.0 / 10.05, theResult.getRequestRate(), 0.3);
+        assertEquals(theResult.getRequestCount() - 100, theResult.getEmptyResponseCount(), 100);
+
+        SimulationResult theResult_2 = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 30000, 90000, 1000));
+        assertEquals(100.0 / 30.05, theResult_2.getRequestRate(), 0.3);
+
+        //polling without waiting
+        SimulationResult theResult_3 = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 0, 90000, 1000));
+        assertEquals(100.0 / 0.05, theResult_3.getRequestRate(), 10.0);
+    }
+
+    @Test
+    public void testSimulate_MinWaitingTime() {
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(100, 1, 100, 50, 0, 0.0, 10 * MINUTE, 1));
+
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 20000, 90000, 1000));
+        SimulationResult theResult_2 = theSimulator.simulate(CapacitySimulator.createConfiguration(1000, 20000, 90000, 1000));
+
+        //the min. waiting time collects the events, so less requests are required
+        assertTrue(theResult_2.getRequestRate() < theResult.getRequestRate() / 5);
+        assertTrue(theResult_2.getEventsPerResponse() > 50);
+        assertEquals(theResult.getPublishedEventCount(), theResult_2.getPublishedEventCount());
+    }
+
+    @Test
+    public void testSimulate_MaxEvents() {
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(10, 1, 10, 50, 0, 0.0, 10 * MINUTE, 1));
+
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(5000, 20000, 90000, 10));
+        assertTrue(theResult.getEventsPerResponse() <= 10);
+        assertTrue(theResult.getMaxQueueDepth() > 10);
+    }
+
+    @Test
+    public void testSimulate_Timeout() {
+        //all leaving clients vanish without a logout
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(200, 5, 10, 50, 2 * MINUTE, 1.0, 30 * MINUTE, 1));
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 20000, 90000, 1000));
+
+        //about 3000 sessions end in 30 minutes
+        assertTrue(theResult.getSessionCount() > 2800);
+        assertTrue(theResult.getTimeoutCount() > 2500);
+        assertEquals(theResult.getTimeoutCount() * 1000.0 / (30 * MINUTE), theResult.getTimeoutRate(), 0.001);
+        assertEquals(0, theResult.getActiveTimeoutCount());
+
+        //all leaving clients log out
+        theSimulator = new CapacitySimulator(new SimulationScenario(200, 5, 10, 50, 2 * MINUTE, 0.0, 30 * MINUTE, 1));
+        theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 20000, 90000, 1000));
+        assertTrue(theResult.getSessionCount() > 2800);
+        assertEquals(0, theResult.getTimeoutCount());
+    }
+
+    @Test
+    public void testSimulate_Timeout_Active() {
+        //the timeout time is shorter than the max. waiting time, so waiting clients are removed
+        CapacitySimulator theSimulator = new CapacitySimulator(new SimulationScenario(100, 1, 0, 50, 0, 0.0, 10 * MINUTE, 1));
+        SimulationResult theResult = theSimulator.simulate(CapacitySimulator.createConfiguration(0, 60000, 30000, 1000));
+
+        assertTrue(theResult.getActiveTimeoutCount() > 0);
+        assertEquals(theResult.getTimeoutCount(), theResult.getActiveTimeoutCount());
+    }
+
+    @Test
+    public void testSimulate_Deterministic() {
+        SimulationScenario theScenario = new SimulationScenario(100, 3, 20, 50, 5 * MINUTE, 0.5, 10 * MINUTE, 42);
+        SimulationResult theResult = new CapacitySimulator(theScenario).simulate(CapacitySimulator.createConfiguration(0, 20000, 60000, 1000));
+        SimulationResult theResult_2 = new CapacitySimulator(theScenario).simulate(CapacitySimulator.createConfiguration(0, 20000, 60000, 1000));
+
+        assertEquals(theResult.getRequestCount(), theResult_2.getRequestCount());
+        assertEquals(theResult.getPublishedEventCount(), theResult_2.getPublishedEventCount());
+        assertEquals(theResult.getDeliveredEventCount(), theResult_2.getDeliveredEventCount());
+        assertEquals(theResult.getTimeoutCount(), theResult_2.getTimeoutCount());
+        assertEquals(theResult.getSessionCount(), theResult_2.getSessionCount());
+        assertNotNull(theResult.toString());
+    }
+}